@@ -0,0 +1,101 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.internals.kerberos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests remembering the session cookies of Kerberos protected servers with {@link SessionCookies}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SessionCookiesTest {
+
+    private static final URI API = URI.create("https://example.com/api/items?id=1");
+
+    @Test
+    void cookiesAreSentToTheirOriginOnly() {
+        final var cookies = new SessionCookies();
+        assertFalse(cookies.isInUse());
+        assertFalse(cookies.hasSession(API));
+        cookies.received(API, "SESSION=abc; Path=/; HttpOnly");
+        assertTrue(cookies.isInUse());
+        assertEquals("SESSION=abc", cookies.getCookieHeader(API));
+        assertTrue(cookies.hasSession(URI.create("https://EXAMPLE.com/other")), "Hosts are case-insensitive");
+        assertFalse(cookies.hasSession(URI.create("https://example.com:8443/api")), "Another port");
+        assertFalse(cookies.hasSession(URI.create("https://other.com/api")), "Another host");
+    }
+
+    @Test
+    void pathAndSecureAttributesAreRespected() {
+        final var cookies = new SessionCookies();
+        cookies.received(API, "SESSION=abc; Path=/api");
+        cookies.received(URI.create("http://example.com/"), "TRACKING=1; Path=/; Secure");
+        assertNull(cookies.getCookieHeader(URI.create("https://example.com/other")));
+        assertNull(cookies.getCookieHeader(URI.create("http://example.com/")), "Secure cookies require HTTPS");
+        assertEquals("SESSION=abc", cookies.getCookieHeader(URI.create("https://example.com/api/x")));
+    }
+
+    @Test
+    void expiredCookiesEndTheSession() {
+        final var cookies = new SessionCookies();
+        cookies.received(API, "SESSION=abc; Path=/");
+        cookies.received(API, "SESSION=abc; Path=/; Max-Age=0");
+        assertFalse(cookies.hasSession(API));
+        cookies.received(API, "not a cookie");
+        assertFalse(cookies.hasSession(API), "Malformed cookies are ignored");
+    }
+}
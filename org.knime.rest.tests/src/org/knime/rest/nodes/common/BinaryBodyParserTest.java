@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Tests parsing response bodies into binary object cells with {@link BinaryBodyParser}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BinaryBodyParserTest {
+
+    private static final MediaType MEDIA_TYPE = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+
+    private static final int THRESHOLD = 64;
+
+    private BinaryBodyParser m_parser;
+
+    @BeforeEach
+    void createParser() {
+        m_parser = new BinaryBodyParser(MEDIA_TYPE, TestExecutionContexts.create(), THRESHOLD);
+    }
+
+    private static byte[] body(final int length) {
+        final var body = new byte[length];
+        for (var i = 0; i < length; i++) {
+            body[i] = (byte)i;
+        }
+        return body;
+    }
+
+    private static byte[] content(final DataCell cell) throws IOException {
+        try (var in = assertInstanceOf(BinaryObjectDataValue.class, cell, "Body not parsed into a binary object")
+            .openInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private DataCell parse(final int announcedLength, final String contentEncoding, final byte[] body) {
+        return m_parser.create(TestExecutionContexts.response(MEDIA_TYPE, announcedLength, contentEncoding, body));
+    }
+
+    @Test
+    void bodiesUpToThresholdAreRead() throws IOException {
+        for (final var length : new int[]{0, 1, THRESHOLD - 1, THRESHOLD}) {
+            assertArrayEquals(body(length), content(parse(length, null, body(length))),
+                "Unexpected content of a body of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void bodiesAnnouncedAboveThresholdAreStreamed() throws IOException {
+        final var body = body(4 * THRESHOLD);
+        assertArrayEquals(body, content(parse(body.length, null, body)), "Unexpected content");
+        assertEquals(body.length, m_parser.getReceivedBytes(), "Unexpected number of received bytes");
+    }
+
+    @Test
+    void bodiesShorterThanAnnouncedAreKept() throws IOException {
+        final var body = body(THRESHOLD / 2);
+        assertArrayEquals(body, content(parse(THRESHOLD, null, body)), "Unexpected content of a shorter body");
+        assertArrayEquals(body, content(parse(4 * THRESHOLD, null, body)),
+            "Unexpected content of a shorter body announced above the threshold");
+    }
+
+    @Test
+    void bodiesLongerThanAnnouncedAreReadCompletely() throws IOException {
+        final var small = body(THRESHOLD / 2);
+        assertArrayEquals(small, content(parse(THRESHOLD / 4, null, small)), "Unexpected content of a longer body");
+        final var large = body(4 * THRESHOLD);
+        assertArrayEquals(large, content(parse(THRESHOLD / 4, null, large)),
+            "Unexpected content of a longer body exceeding the threshold");
+    }
+
+    @Test
+    void bodiesOfUnknownLengthAreRead() throws IOException {
+        for (final var length : new int[]{0, THRESHOLD, THRESHOLD + 1, 4 * THRESHOLD}) {
+            assertArrayEquals(body(length), content(parse(-1, null, body(length))),
+                "Unexpected content of a body of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void encodedBodiesAreDecoded() throws IOException {
+        for (final var length : new int[]{THRESHOLD / 2, 4 * THRESHOLD}) {
+            final var body = body(length);
+            final var gzipped = new ByteArrayOutputStream();
+            try (var out = new GZIPOutputStream(gzipped)) {
+                out.write(body);
+            }
+            final var encoded = gzipped.toByteArray();
+            // the announced length is the one of the encoded body
+            assertArrayEquals(body, content(parse(encoded.length, "gzip", encoded)),
+                "Unexpected content of an encoded body of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void receivedBytesAreCounted() throws IOException {
+        final var bodies = Arrays.asList(body(THRESHOLD / 2), body(4 * THRESHOLD));
+        for (final var body : bodies) {
+            content(parse(-1, null, body));
+        }
+        assertEquals(bodies.stream().mapToLong(b -> b.length).sum(), m_parser.getReceivedBytes(),
+            "Unexpected number of received bytes");
+    }
+}
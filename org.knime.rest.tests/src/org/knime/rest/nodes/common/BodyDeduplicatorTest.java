@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.rest.nodes.common.RestSettings.HttpMethod;
+import org.knime.rest.util.ContentEncodings;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests hashing and sharing identical response bodies with {@link BodyDeduplicator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyDeduplicatorTest {
+
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    /** Parses the whole body as string, creating a new cell for every response. */
+    private static final Function<Response, DataCell> PARSER = response -> {
+        try {
+            return new StringCell(
+                new String(((InputStream)response.getEntity()).readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+
+    /** Parses the whole decoded body as string. */
+    private static final Function<Response, DataCell> DECODING_PARSER = response -> {
+        try (var body = ContentEncodings.decode((InputStream)response.getEntity(),
+            response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER))) {
+            return new StringCell(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+
+    private static BodyDeduplicator deduplicator(final boolean share, final boolean outputHash) {
+        final var settings = new RestSettings(HttpMethod.GET);
+        settings.setDeduplicateBodies(share);
+        settings.setOutputBodyHash(outputHash);
+        return BodyDeduplicator.create(settings);
+    }
+
+    private static Response response(final String body, final String mediaType) {
+        return Response.ok(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), mediaType).build();
+    }
+
+    private static Response gzippedResponse(final String body) throws IOException {
+        final var gzipped = new ByteArrayOutputStream();
+        try (var out = new GZIPOutputStream(gzipped)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return Response.ok(new ByteArrayInputStream(gzipped.toByteArray()), "text/plain")
+            .header(ContentEncodings.CONTENT_ENCODING_HEADER, "gzip").build();
+    }
+
+    @Test
+    void deduplicationIsOnlyEnabledIfRequested() {
+        assertNull(BodyDeduplicator.create(new RestSettings(HttpMethod.GET)), "Disabled by default");
+        final var settings = new RestSettings(HttpMethod.HEAD);
+        settings.setOutputBodyHash(true);
+        assertNull(BodyDeduplicator.create(settings), "HEAD responses have no body");
+        assertTrue(deduplicator(true, false).getColumns().isEmpty(), "No hash column unless requested");
+        assertEquals(1, deduplicator(false, true).getColumns().size());
+    }
+
+    @Test
+    void identicalBodiesShareTheirCell() {
+        final var deduplicator = deduplicator(true, true);
+        final var first = deduplicator.parse(response("hello", "text/plain"), PARSER, true);
+        final var second = deduplicator.parse(response("hello", "text/plain"), PARSER, true);
+        assertSame(first[0], second[0]);
+        assertEquals(new StringCell(HELLO_SHA256), first[1]);
+        assertEquals(first[1], second[1]);
+        assertNotSame(first[0], deduplicator.parse(response("hello", "application/json"), PARSER, true)[0],
+            "Bodies of other media types result in other cells");
+        assertNotSame(first[0], deduplicator.parse(response("world", "text/plain"), PARSER, true)[0]);
+        assertEquals(3, deduplicator.getSharedCount());
+    }
+
+    @Test
+    void hashCoversTheBodyNotReadByTheParser() {
+        final var deduplicator = deduplicator(false, true);
+        final var cells = deduplicator.parse(response("hello", "text/plain"), response -> {
+            try {
+                return new StringCell(String.valueOf((char)((InputStream)response.getEntity()).read()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, true);
+        assertEquals(new StringCell("h"), cells[0]);
+        assertEquals(new StringCell(HELLO_SHA256), cells[1]);
+        assertEquals(0, deduplicator.getSharedCount(), "Bodies are not shared unless requested");
+    }
+
+    @Test
+    void failedRequestsAreNotHashed() {
+        final var deduplicator = deduplicator(true, true);
+        final var error = deduplicator.parse(response("hello", "text/plain"), PARSER, false);
+        assertTrue(error[1].isMissing());
+        final var failed = deduplicator.parse(null, response -> null, false);
+        assertNull(failed[0], "The missing cell of the failed request is used instead");
+        assertTrue(failed[1].isMissing());
+        assertEquals(0, deduplicator.getSharedCount());
+    }
+
+    @Test
+    void hashCoversTheDecodedBody() throws IOException {
+        final var deduplicator = deduplicator(true, true);
+        final var plain = deduplicator.parse(response("hello", "text/plain"), DECODING_PARSER, true);
+        final var gzipped = deduplicator.parse(gzippedResponse("hello"), DECODING_PARSER, true);
+        assertEquals(new StringCell(HELLO_SHA256), gzipped[1], "The hash does not depend on the encoding");
+        assertSame(plain[0], gzipped[0]);
+        final var unread = deduplicator.parse(gzippedResponse("hello"), response -> new StringCell("unread"), true);
+        assertEquals(new StringCell(HELLO_SHA256), unread[1], "A body not read by the parser is decoded to hash it");
+        final var raw = deduplicator.parse(gzippedResponse("hello"), PARSER, true);
+        assertTrue(raw[1].isMissing(), "The hash of a body read without decoding it is unknown");
+    }
+
+    @Test
+    void largeBodiesAreNotShared() {
+        final var deduplicator = deduplicator(true, true);
+        final var large = "x".repeat(BodyDeduplicator.MAX_SHARED_BODY_SIZE + 1);
+        final var first = deduplicator.parse(response(large, "text/plain"), PARSER, true);
+        final var second = deduplicator.parse(response(large, "text/plain"), PARSER, true);
+        assertNotSame(first[0], second[0], "Cells of large bodies are not held in memory");
+        assertEquals(first[1], second[1]);
+        assertEquals(0, deduplicator.getSharedCount());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.rest.nodes.common.RestSettings.HttpMethod;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests naming the files of downloaded response bodies and splitting them into byte ranges with
+ * {@link BodyDownloader}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyDownloaderTest {
+
+    private static BodyDownloader downloader(final HttpMethod method, final Path directory, final String fileName)
+        throws InvalidSettingsException {
+        final var settings = new RestSettings(method);
+        settings.setDownloadBodies(true);
+        settings.setDownloadDirectory(directory.toString());
+        settings.setDownloadFileName(fileName);
+        return BodyDownloader.create(settings);
+    }
+
+    @Test
+    void bodiesAreOnlyDownloadedIfEnabled(@TempDir final Path dir) throws InvalidSettingsException {
+        assertNull(BodyDownloader.create(new RestSettings(HttpMethod.GET)), "Downloading is disabled by default");
+        assertNull(downloader(HttpMethod.HEAD, dir, "{name}"), "HEAD responses have no body");
+    }
+
+    @Test
+    void placeholdersAreReplacedBySanitizedNames(@TempDir final Path dir) throws Exception {
+        final var downloader = downloader(HttpMethod.GET, dir, "files/{row}-{name}");
+        final var absolute = dir.toAbsolutePath().normalize();
+        assertEquals(absolute.resolve("files/Row0-report.pdf"), downloader.resolve("Row0", "report.pdf"));
+        assertEquals(absolute.resolve("files/Row_1-a_b_.txt"), downloader.resolve("Row/1", "a:b?.txt"));
+        assertEquals(absolute.resolve("files/Row0-Row0"), downloader.resolve("Row0", null));
+        assertEquals(absolute.resolve("files/Row0-_"), downloader.resolve("Row0", ".."));
+        assertThrows(IOException.class, () -> downloader(HttpMethod.GET, dir, "../{name}").resolve("Row0", "x"),
+            "Files outside the download directory");
+    }
+
+    @Test
+    void directoryMustBeAbsolute() {
+        assertThrows(InvalidSettingsException.class, () -> downloader(HttpMethod.GET, Path.of(" "), "{name}"),
+            "A blank directory would resolve to the working directory");
+        assertThrows(InvalidSettingsException.class,
+            () -> downloader(HttpMethod.GET, Path.of("downloads"), "{name}"));
+    }
+
+    @Test
+    void rowsDoNotOverwriteEachOthersFiles(@TempDir final Path dir) throws Exception {
+        final var downloader = downloader(HttpMethod.GET, dir, "{name}");
+        final var report = downloader.resolve("Row0", "report.pdf");
+        assertEquals(report, downloader.claim(report, "Row0"));
+        assertEquals(report.resolveSibling("report-Row1.pdf"), downloader.claim(report, "Row1"),
+            "The row key is appended to a name already used");
+        assertThrows(IOException.class, () -> downloader.claim(report, "Row1"));
+        final var data = downloader.resolve("Row0", "data");
+        assertEquals(data, downloader.claim(data, "Row0"));
+        assertEquals(data.resolveSibling("data-Row1"), downloader.claim(data, "Row1"));
+    }
+
+    @Test
+    void fileNamesAreTakenFromTheContentDispositionOrTheURL() throws Exception {
+        final var url = new URL("https://example.com/files/annual%20report.pdf?version=2");
+        assertEquals("annual report.pdf", BodyDownloader.getFileName(Response.ok().build(), url));
+        assertEquals("a b.csv", BodyDownloader.getFileName(
+            Response.ok().header("Content-Disposition", "attachment; filename=\"a b.csv\"").build(), url));
+        assertEquals("\u20AC rates.txt", BodyDownloader.getFileName(
+            Response.ok().header("Content-Disposition", "attachment; filename*=UTF-8''%E2%82%AC%20rates.txt").build(),
+            url));
+        assertNull(BodyDownloader.getFileName(Response.ok().build(), new URL("https://example.com/")));
+    }
+
+    @Test
+    void largeBodiesAreSplitIntoRangesOfTheMinimumSize() {
+        assertEquals(1, BodyDownloader.getRangeCount(-1L, 4), "Unknown length");
+        assertEquals(1, BodyDownloader.getRangeCount(BodyDownloader.MIN_RANGE_SIZE, 4));
+        assertEquals(2, BodyDownloader.getRangeCount(3 * BodyDownloader.MIN_RANGE_SIZE - 1, 4));
+        assertEquals(4, BodyDownloader.getRangeCount(100 * BodyDownloader.MIN_RANGE_SIZE, 4));
+        assertEquals(4, BodyDownloader.getRangeCount(Long.MAX_VALUE, 4));
+    }
+
+    @Test
+    void rangesAreOnlyRequestedIfTheServerSupportsThem() {
+        final var length = String.valueOf(10 * BodyDownloader.MIN_RANGE_SIZE);
+        final var ranged = Response.ok().header("Accept-Ranges", "bytes").header("Content-Length", length)
+            .header("ETag", "\"abc\"");
+        assertEquals(4, BodyDownloader.getRangeCount(ranged.clone().build(), 4));
+        assertEquals(1, BodyDownloader.getRangeCount(ranged.clone().build(), 1), "Disabled");
+        assertEquals(4, BodyDownloader.getRangeCount(ranged.clone().header("ETag", null)
+            .header("Last-Modified", "Wed, 21 Oct 2026 07:28:00 GMT").build(), 4), "Modification date as validator");
+        assertEquals(1,
+            BodyDownloader.getRangeCount(ranged.clone().header("ETag", null).header("ETag", "W/\"abc\"").build(), 4),
+            "Weak entity tags cannot be used in If-Range");
+        assertEquals(1, BodyDownloader.getRangeCount(
+            ranged.clone().header("Accept-Ranges", null).header("Accept-Ranges", "none").build(), 4));
+        assertEquals(1, BodyDownloader.getRangeCount(ranged.clone().header("Content-Encoding", "gzip").build(), 4),
+            "The length of an encoded body is not the length of the resource");
+        assertEquals(1, BodyDownloader.getRangeCount(ranged.clone().status(206).build(), 4));
+    }
+}
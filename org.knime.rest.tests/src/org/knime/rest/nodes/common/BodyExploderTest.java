@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.rest.util.BodyExplodeMode;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+/**
+ * Tests splitting response bodies into elements with {@link BodyExploder}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyExploderTest {
+
+    private static List<String> split(final BodyExplodeMode mode, final String body, final String pointer)
+        throws IOException {
+        final List<String> elements = new ArrayList<>();
+        BodyExploder.split(mode, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+            JsonPointer.compile(pointer), StandardCharsets.UTF_8, elements::add);
+        return elements;
+    }
+
+    @Test
+    void ndjsonIsSplitIntoValues() throws IOException {
+        assertEquals(List.of("{\"a\":1}", "{\"a\":[2,3]}", "\"x\""),
+            split(BodyExplodeMode.NDJSON, "{\"a\":1}\n\n{\"a\": [2, 3]}\r\n\"x\"\n", ""));
+    }
+
+    @Test
+    void jsonArrayIsSplitIntoElements() throws IOException {
+        assertEquals(List.of("1", "{\"b\":[2]}", "\"s\""),
+            split(BodyExplodeMode.JSON_ARRAY, "[1, {\"b\": [2]}, \"s\"]", ""));
+        assertEquals(List.of("{\"id\":1}", "{\"id\":2}"), split(BodyExplodeMode.JSON_ARRAY,
+            "{\"meta\": {\"items\": [0]}, \"data\": {\"items\": [{\"id\": 1}, {\"id\": 2}]}}", "/data/items"));
+        assertEquals(List.of("1", "2"), split(BodyExplodeMode.JSON_ARRAY, "{\"d\": [[0], [1, 2]]}", "/d/1"));
+        assertEquals(List.of(), split(BodyExplodeMode.JSON_ARRAY, "{\"d\": []}", "/d"));
+        assertThrows(IOException.class, () -> split(BodyExplodeMode.JSON_ARRAY, "{\"d\": {}}", "/d"),
+            "Splitting a value that is not an array");
+        assertThrows(IOException.class, () -> split(BodyExplodeMode.JSON_ARRAY, "{\"d\": [1]}", "/e"),
+            "Splitting a missing array");
+    }
+
+    @Test
+    void csvIsSplitIntoRecords() throws IOException {
+        assertEquals(List.of("{\"a\":\"1\",\"b\":\"x,\\\"y\\\"\\nz\"}", "{\"a\":\"2\",\"b\":\"3\",\"Column2\":\"4\"}"),
+            split(BodyExplodeMode.CSV, "\uFEFFa,b\r\n1,\"x,\"\"y\"\"\nz\"\r\n\r\n2,3,4\n", ""));
+        assertEquals(List.of(), split(BodyExplodeMode.CSV, "", ""));
+        assertThrows(IOException.class, () -> split(BodyExplodeMode.CSV, "a\n\"unterminated", ""),
+            "Splitting an unterminated quoted value");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.blob.BinaryObjectDataCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.rest.generic.ResponseBodyParser;
+import org.knime.rest.generic.ResponseBodyParser.Default;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Tests the resolution of body parsers per content type by {@link BodyParserDispatch}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class BodyParserDispatchTest {
+
+    private final ResponseBodyParser m_json = new Default(MediaType.APPLICATION_JSON_TYPE, StringCell.TYPE);
+
+    private final ResponseBodyParser m_text = new Default(MediaType.TEXT_PLAIN_TYPE, StringCell.TYPE);
+
+    private final ResponseBodyParser m_binary = new Default(MediaType.WILDCARD_TYPE, BinaryObjectDataCell.TYPE);
+
+    private final ResponseBodyParser m_error = new Default(MediaType.WILDCARD_TYPE, StringCell.TYPE);
+
+    private final BodyParserDispatch m_dispatch =
+        new BodyParserDispatch(List.of(m_json, m_text, m_binary), List.of(m_error));
+
+    @Test
+    void testResolvesTheFirstMatchingParserAndCharset() {
+        final var resolution = m_dispatch.resolve("application/json; charset=ISO-8859-1", false, null);
+        assertSame(m_json, resolution.parser());
+        assertEquals(StandardCharsets.ISO_8859_1, resolution.charset());
+        assertSame(m_text, m_dispatch.resolve("text/plain", false, StringCell.TYPE).parser());
+        assertNull(m_dispatch.resolve("text/plain", false, null).charset());
+        assertNull(m_dispatch.resolve("text/plain; charset=unknown", false, null).charset(),
+            "An unsupported charset should be ignored");
+    }
+
+    @Test
+    void testExpectedTypeAndErrorsAreRespected() {
+        assertSame(m_binary, m_dispatch.resolve("application/json", false, BinaryObjectDataCell.TYPE).parser());
+        assertSame(m_error, m_dispatch.resolve("application/json", true, null).parser());
+        final var none = m_dispatch.resolve("application/json", true, BinaryObjectDataCell.TYPE);
+        assertNull(none.parser());
+        assertNotNull(none.error());
+    }
+
+    @Test
+    void testResolutionsAreCached() {
+        final var resolution = m_dispatch.resolve("application/json; charset=UTF-8", false, StringCell.TYPE);
+        assertSame(resolution, m_dispatch.resolve("application/json; charset=UTF-8", false, StringCell.TYPE));
+        assertEquals(1, m_dispatch.getCachedCount());
+        m_dispatch.resolve("application/json; charset=UTF-8", true, StringCell.TYPE);
+        assertEquals(2, m_dispatch.getCachedCount(), "Error responses should be resolved separately");
+    }
+
+    @Test
+    void testNumberOfCachedContentTypesIsLimited() {
+        for (var i = 0; i < 2 * BodyParserDispatch.MAX_CACHED_CONTENT_TYPES; i++) {
+            assertSame(m_binary,
+                m_dispatch.resolve("multipart/mixed; boundary=b" + i, false, BinaryObjectDataCell.TYPE).parser());
+        }
+        assertEquals(BodyParserDispatch.MAX_CACHED_CONTENT_TYPES, m_dispatch.getCachedCount());
+    }
+}
@@ -116,6 +116,30 @@ void chunkedIfBodyIsLarge() {
         assertRetryable(() -> assertChunkingForBody(jsonBody, true), RETRIES, REQUEST_DELAY);
     }
 
+    @SuppressWarnings("static-method")
+    @Test
+    void notChunkedIfChunkingIsDisabled() {
+        client.setAllowChunking(false);
+        try {
+            assertRetryable(() -> assertChunkingForBody(jsonBody, false), RETRIES, REQUEST_DELAY);
+        } finally {
+            client.setAllowChunking(true);
+        }
+    }
+
+    @SuppressWarnings("static-method")
+    @Test
+    void notChunkedIfChunkingIsDisabledForEncodedBody() {
+        // the Content-Length is the size of the encoded body, which exceeds the length of the string
+        client.setAllowChunking(false);
+        try {
+            assertRetryable(() -> assertChunkingForBody(jsonBody.replace('a', '\u00e4'), false), RETRIES,
+                REQUEST_DELAY);
+        } finally {
+            client.setAllowChunking(true);
+        }
+    }
+
     /**
      * Asserts tests that can be retried up a certain number of times. This is useful for testing REST requests, which
      * may not succeed if sent in short intervals due to rate limiting. Each retry is followed by specified delay.
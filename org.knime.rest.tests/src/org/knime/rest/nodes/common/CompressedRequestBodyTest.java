@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Tests the on-the-fly compression of request bodies by {@link CompressedRequestBody}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CompressedRequestBodyTest {
+
+    private static final String LARGE_BODY = "{\"key\":\"value\"}".repeat(1000);
+
+    @Test
+    void smallBodiesAreNotCompressed() {
+        assertFalse(CompressedRequestBody.isWorthCompressing("{}", -1), "Small string body should not be compressed");
+        assertFalse(CompressedRequestBody.isWorthCompressing(new byte[16], 16),
+            "Small binary body should not be compressed");
+        assertTrue(CompressedRequestBody.isWorthCompressing(LARGE_BODY, -1), "Large body should be compressed");
+        assertTrue(CompressedRequestBody.isWorthCompressing(new ByteArrayInputStream(new byte[0]), -1),
+            "Body of unknown size should be compressed");
+    }
+
+    @Test
+    void compressedBodyRoundTrip() throws IOException {
+        final var output = new ByteArrayOutputStream();
+        new CompressedRequestBody(LARGE_BODY, MediaType.APPLICATION_JSON_TYPE).write(output);
+        assertTrue(output.size() < LARGE_BODY.length(), "Body should have been compressed");
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(LARGE_BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8),
+                "Decompressed body differs");
+        }
+    }
+
+    @Test
+    void serializedLengthIsExact() {
+        final var random = new byte[100_000];
+        new Random(42).nextBytes(random);
+        final var output = new ByteArrayOutputStream();
+        final var body = new CompressedRequestBody(random, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        assertDoesNotThrow(() -> body.write(output));
+        assertEquals(output.size(), RequestBodies.serializedLength(body, MediaType.APPLICATION_OCTET_STREAM_TYPE),
+            "Length of the compressed body differs");
+        assertEquals(2000, RequestBodies.serializedLength("\u00e4".repeat(1000), MediaType.APPLICATION_JSON_TYPE),
+            "Length of the UTF-8 encoded string differs");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.rest.nodes.common.proxy.ProxyMode;
+
+/**
+ * Tests the error cause which {@link RestNodeModel#computeFinalOutputCells} appends to the rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ErrorCauseTest {
+
+    private TestGetNodeModel m_model;
+
+    @BeforeEach
+    void createModel() {
+        m_model = new TestGetNodeModel(ProxyMode.NONE);
+        m_model.m_settings.setOutputErrorCause(true);
+    }
+
+    private DataCell errorCause(final List<DataCell> headerCells, final DataCell... bodyCells) {
+        final var cells = m_model.computeFinalOutputCells(null, headerCells, bodyCells);
+        return cells.get(cells.size() - 1);
+    }
+
+    @Test
+    void errorsOfSeveralMissingCellsAreKeptInOrder() {
+        final var cause = errorCause(
+            List.of(new MissingCell("Header missing"), new StringCell("value"), new MissingCell("Header missing")),
+            new MissingCell("Timeout"), new MissingCell(null), new MissingCell("Header missing"));
+        assertEquals(new StringCell("Header missing\nHeader missing\nTimeout\nHeader missing"), cause,
+            "Unexpected error cause");
+    }
+
+    @Test
+    void missingCellsWithoutErrorAreUnknownErrors() {
+        assertEquals(new StringCell("Unknown error"),
+            errorCause(List.of(new MissingCell(null)), new MissingCell(null)), "Unexpected error cause");
+    }
+
+    @Test
+    void rowsWithoutMissingCellsHaveNoErrorCause() {
+        final var cause = errorCause(List.of(new StringCell("value")), new StringCell("body"));
+        assertTrue(cause.isMissing(), "Unexpected error cause");
+        assertEquals(DataType.getMissingCell(), cause, "Unexpected error cause");
+    }
+}
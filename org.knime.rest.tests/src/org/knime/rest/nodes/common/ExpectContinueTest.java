@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.client.utils.URIBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.util.proxy.testing.HttpbinTestContext;
+
+/**
+ * Tests whether large request bodies are sent with the {@code Expect: 100-continue} header, such that the body of a
+ * rejected request is not uploaded.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ExpectContinueTest {
+
+    // request body size in bytes, above the chunking threshold
+    private static final int BODY_SIZE = 4 << 10;
+
+    // size of the body of rejected requests, far more than fits into the buffers of the HTTP client
+    private static final long REJECTED_BODY_SIZE = 64L << 20;
+
+    private static final int DEFAULT_THRESHOLD = RestWithBodyNodeModel.chunkingThreshold;
+
+    private TestPostNodeModel m_client;
+
+    @BeforeEach
+    void setup() {
+        m_client = new TestPostNodeModel();
+        m_client.setChunkingThreshold(1 << 10);
+        m_client.setExpectContinue(true);
+    }
+
+    private List<String> post(final String path) {
+        m_client.setRequestTarget(new URIBuilder(HttpbinTestContext.getURI("https")).setPath(path).toString());
+        assertDoesNotThrow(() -> m_client.makeRequest(), "Making POST request should not have thrown an exception.");
+        final List<String> responses = Arrays.stream(m_client.getResponses())//
+            .filter(x -> Objects.nonNull(x) && !x.isMissing())//
+            .map(DataCell::toString)//
+            .toList();
+        assertFalse(responses.isEmpty(), "POST request should have gotten a response but got only missing values.");
+        return responses;
+    }
+
+    @Test
+    void headerIsSentForLargeBody() {
+        m_client.setRequestBody("{\"a\":\"%s\"}".formatted("a".repeat(BODY_SIZE)));
+        final var responses = post("anything");
+        assertEquals("200", responses.get(0), "The HTTP request should have gotten a 200 OK response.");
+        // httpbin echoes the received request headers in the response body
+        assertTrue(responses.stream().anyMatch(r -> r.contains("100-continue")),
+            "The 'Expect: 100-continue' header should have reached the server.");
+    }
+
+    @Test
+    void headerIsNotSentForSmallBody() {
+        m_client.setRequestBody("{}");
+        final var responses = post("anything");
+        assertEquals("200", responses.get(0), "The HTTP request should have gotten a 200 OK response.");
+        assertTrue(responses.stream().noneMatch(r -> r.contains("100-continue")),
+            "The 'Expect: 100-continue' header should not be sent for a small body of unknown size.");
+    }
+
+    @Test
+    void headerIsSentWithConfiguredTimeout() {
+        m_client.setExpectContinueTimeout(1);
+        m_client.setRequestBody("{\"a\":\"%s\"}".formatted("a".repeat(BODY_SIZE)));
+        final var responses = post("anything");
+        assertEquals("200", responses.get(0), "The HTTP request should have gotten a 200 OK response.");
+        assertTrue(responses.stream().anyMatch(r -> r.contains("100-continue")),
+            "The 'Expect: 100-continue' header should have reached the server.");
+    }
+
+    @Test
+    void bodyOfRejectedRequestIsNotUploaded() {
+        final var written = new AtomicLong();
+        m_client.setRequestBody("{}");
+        m_client.setRequestBodyOutput(output -> {
+            final var block = new byte[1 << 20];
+            while (written.get() < REJECTED_BODY_SIZE) {
+                output.write(block);
+                written.addAndGet(block.length);
+            }
+        });
+        final var responses = post("status/401");
+        assertEquals("401", responses.get(0), "The HTTP request should have been rejected.");
+        assertTrue(written.get() < REJECTED_BODY_SIZE,
+            "The body of the rejected request should not have been uploaded, but %d bytes were written."
+                .formatted(written.get()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        m_client = null;
+        RestWithBodyNodeModel.chunkingThreshold = DEFAULT_THRESHOLD;
+    }
+}
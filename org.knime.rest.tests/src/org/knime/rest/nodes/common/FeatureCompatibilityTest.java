@@ -0,0 +1,102 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.rest.util.BodyExplodeMode;
+
+/**
+ * Tests rejecting settings which enable features that cannot be combined with
+ * {@link RestNodeModel#checkCompatibility(RestSettings, boolean)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class FeatureCompatibilityTest {
+
+    private static TestPostNodeModel batching() {
+        final var model = new TestPostNodeModel();
+        model.m_settings.setUseConstantRequestBody(false);
+        model.m_settings.setUseBatching(true);
+        return model;
+    }
+
+    @Test
+    void defaultSettingsAreCompatible() {
+        final var model = new TestPostNodeModel();
+        assertDoesNotThrow(() -> model.checkCompatibility(model.m_settings, false));
+        assertDoesNotThrow(() -> model.checkCompatibility(model.m_settings, true));
+    }
+
+    @Test
+    void batchingIsOnlyCombinedWithCompatibleFeatures() {
+        final var model = batching();
+        assertDoesNotThrow(() -> model.checkCompatibility(model.m_settings, false));
+        assertThrows(InvalidSettingsException.class, () -> model.checkCompatibility(model.m_settings, true),
+            "Batching in streaming mode");
+        model.m_settings.setDiscardResponseBodies(true);
+        assertThrows(InvalidSettingsException.class, () -> model.checkCompatibility(model.m_settings, false));
+        model.m_settings.setDiscardResponseBodies(false);
+        model.m_settings.setBatchSize(1);
+        model.m_settings.setDiscardResponseBodies(true);
+        assertDoesNotThrow(() -> model.checkCompatibility(model.m_settings, false), "Batches of single rows");
+    }
+
+    @Test
+    void splittingBodiesIsNotCombinedWithIncrementalExecution() {
+        final var model = new TestPostNodeModel();
+        model.m_settings.setExplodeBodyMode(BodyExplodeMode.JSON_ARRAY);
+        assertDoesNotThrow(() -> model.checkCompatibility(model.m_settings, false));
+        model.m_settings.setIncrementalExecution(true);
+        assertThrows(InvalidSettingsException.class, () -> model.checkCompatibility(model.m_settings, false));
+    }
+}
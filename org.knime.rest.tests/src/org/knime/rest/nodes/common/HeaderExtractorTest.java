@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.rest.nodes.common.RestSettings.ResponseHeaderItem;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests sharing the cells of repeated response header values by the extractors of
+ * {@link RestNodeModel#compileHeaderExtractor(ResponseHeaderItem)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HeaderExtractorTest {
+
+    private static final String HEADER = "Server";
+
+    private static Response response(final String value) {
+        final var response = mock(Response.class);
+        when(response.getHeaderString(HEADER)).thenReturn(value);
+        when(response.getStatus()).thenReturn(200);
+        return response;
+    }
+
+    @Test
+    void repeatedValuesShareCells() {
+        final var extractor = RestNodeModel.compileHeaderExtractor(new ResponseHeaderItem(HEADER, StringCell.TYPE));
+        final var first = extractor.extract(response("nginx"));
+        assertEquals(new StringCell("nginx"), first, "Unexpected cell");
+        assertSame(first, extractor.extract(response("nginx")), "Cell of a repeated value not shared");
+        final var other = extractor.extract(response("Apache"));
+        assertEquals(new StringCell("Apache"), other, "Unexpected cell of another value");
+        assertSame(other, extractor.extract(response("Apache")), "Cell of a repeated value not shared");
+    }
+
+    @Test
+    void cellsAreInternedPerColumn() {
+        final var item = new ResponseHeaderItem(HEADER, StringCell.TYPE);
+        final var cell = RestNodeModel.compileHeaderExtractor(item).extract(response("nginx"));
+        assertNotSame(cell, RestNodeModel.compileHeaderExtractor(item).extract(response("nginx")),
+            "Cell shared by the extractors of different executions");
+    }
+
+    @Test
+    void missingHeadersAreMissingCells() {
+        final var extractor = RestNodeModel.compileHeaderExtractor(new ResponseHeaderItem(HEADER, StringCell.TYPE));
+        assertTrue(extractor.extract(response(null)).isMissing(), "Missing header not a missing cell");
+    }
+
+    @Test
+    void numberOfInternedValuesIsLimited() {
+        final var extractor = RestNodeModel.compileHeaderExtractor(new ResponseHeaderItem(HEADER, StringCell.TYPE));
+        for (var i = 0; i < RestNodeModel.MAX_INTERNED_HEADER_VALUES; i++) {
+            extractor.extract(response("value " + i));
+        }
+        final var interned = extractor.extract(response("value 0"));
+        assertSame(interned, extractor.extract(response("value 0")), "Cell of an interned value not shared");
+        final var notInterned = extractor.extract(response("another value"));
+        assertEquals(new StringCell("another value"), notInterned, "Unexpected cell of a value beyond the limit");
+        assertNotSame(notInterned, extractor.extract(response("another value")),
+            "Value beyond the limit interned");
+    }
+
+    @Test
+    void statusIsExtracted() {
+        final var extractor =
+            RestNodeModel.compileHeaderExtractor(new ResponseHeaderItem(RestNodeModel.STATUS, IntCell.TYPE));
+        assertEquals(new IntCell(200), extractor.extract(response(null)), "Unexpected status cell");
+    }
+}
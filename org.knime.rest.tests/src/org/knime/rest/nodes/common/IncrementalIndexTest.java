@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.FileStoreCell;
+import org.knime.core.node.ExecutionMonitor;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Tests the fingerprints and persistence of {@link IncrementalIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class IncrementalIndexTest {
+
+    private static final DataColumnSpec[] COLUMNS = {new DataColumnSpecCreator("body", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("Status", IntCell.TYPE).createSpec()};
+
+    @Test
+    void fingerprintDependsOnAllParts() {
+        final var fingerprint = IncrementalIndex.fingerprint(List.of("GET", "https://example.com"), "a");
+        assertEquals(fingerprint, IncrementalIndex.fingerprint(List.of("GET", "https://example.com"), "a"),
+            "Fingerprint is not deterministic");
+        assertNotEquals(fingerprint, IncrementalIndex.fingerprint(List.of("GET", "https://example.org"), "a"),
+            "URL not part of the fingerprint");
+        assertNotEquals(fingerprint, IncrementalIndex.fingerprint(List.of("GET", "https://example.com"), "b"),
+            "Header not part of the fingerprint");
+        assertNotEquals(fingerprint, IncrementalIndex.fingerprint(List.of("GET"), "https://example.com", "a"),
+            "Nesting not part of the fingerprint");
+        assertEquals(64, fingerprint.length(), "Unexpected fingerprint length");
+    }
+
+    @Test
+    void fingerprintOfCellsDependsOnContent() {
+        final var exec = TestExecutionContexts.create();
+        final var parser = new BinaryBodyParser(MediaType.APPLICATION_OCTET_STREAM_TYPE, exec);
+        final var body = parser.create(
+            TestExecutionContexts.response(MediaType.APPLICATION_OCTET_STREAM_TYPE, 3, null, new byte[]{1, 2, 3}));
+        final var sameBody = parser.create(
+            TestExecutionContexts.response(MediaType.APPLICATION_OCTET_STREAM_TYPE, 3, null, new byte[]{1, 2, 3}));
+        final var otherBody = parser.create(
+            TestExecutionContexts.response(MediaType.APPLICATION_OCTET_STREAM_TYPE, 3, null, new byte[]{1, 2, 4}));
+        assertEquals(IncrementalIndex.fingerprint(body), IncrementalIndex.fingerprint(sameBody),
+            "Fingerprint of equal binary objects differs");
+        assertNotEquals(IncrementalIndex.fingerprint(body), IncrementalIndex.fingerprint(otherBody),
+            "Content of binary objects not part of the fingerprint");
+        assertNotEquals(IncrementalIndex.fingerprint(new StringCell("1")), IncrementalIndex.fingerprint(new IntCell(1)),
+            "Type of cells not part of the fingerprint");
+        assertEquals(IncrementalIndex.fingerprint(CollectionCellFactory.createListCell(List.of(new StringCell("a")))),
+            IncrementalIndex.fingerprint(CollectionCellFactory.createListCell(List.of(new StringCell("a")))),
+            "Fingerprint of equal collections differs");
+    }
+
+    @Test
+    void failedResponsesAreNotReusable() {
+        assertTrue(IncrementalIndex.isReusable(new DataCell[]{new StringCell("a"), new IntCell(200)}),
+            "Successful response not reusable");
+        assertTrue(IncrementalIndex.isReusable(new DataCell[]{DataType.getMissingCell(), new IntCell(204)}),
+            "Empty response not reusable");
+        assertFalse(IncrementalIndex.isReusable(new DataCell[]{new MissingCell("Not found"), new IntCell(404)}),
+            "Failed response reusable");
+    }
+
+    @Test
+    void responsesInFileStoresAreNotReusable() {
+        // above the default threshold of 1 MB
+        final var length = 2 * 1024 * 1024;
+        final var parser =
+            new BinaryBodyParser(MediaType.APPLICATION_OCTET_STREAM_TYPE, TestExecutionContexts.create());
+        final var large = parser.create(
+            TestExecutionContexts.response(MediaType.APPLICATION_OCTET_STREAM_TYPE, length, null, new byte[length]));
+        assertInstanceOf(FileStoreCell.class, large, "Body above the threshold not stored in a file store");
+        assertFalse(IncrementalIndex.isReusable(new DataCell[]{large, new IntCell(200)}),
+            "Response in a file store reusable");
+        assertFalse(IncrementalIndex.isReusable(
+            new DataCell[]{CollectionCellFactory.createListCell(List.of(large)), new IntCell(200)}),
+            "Response in a file store reusable");
+
+        final var small = parser.create(
+            TestExecutionContexts.response(MediaType.APPLICATION_OCTET_STREAM_TYPE, 16, null, new byte[16]));
+        assertTrue(IncrementalIndex.isReusable(new DataCell[]{small, new IntCell(200)}),
+            "Response in memory not reusable");
+    }
+
+    @Test
+    void readReturnsWrittenEntries(@TempDir final File dir) throws Exception {
+        final var file = new File(dir, IncrementalIndex.FILE_NAME);
+        final var a = new DataCell[]{new StringCell("a"), new IntCell(200)};
+        final var b = new DataCell[]{new StringCell("b"), new IntCell(201)};
+        final var writer = IncrementalIndex.writer("settings", COLUMNS);
+        writer.add("old", a, 1000);
+        writer.add("new", a, 3000);
+        writer.add("other", b, 4000);
+        writer.add("other", a, 5000);
+        writer.write(file, new ExecutionMonitor());
+
+        try (final var index = IncrementalIndex.read(file, "settings", 2000)) {
+            assertArrayEquals(COLUMNS, index.getColumns(), "Unexpected response columns");
+            assertEquals(2, index.size(), "Expired entry not ignored");
+            assertNull(index.get("old"), "Expired entry not ignored");
+            assertEquals(3000, index.get("new").timestamp(), "Unexpected timestamp");
+            assertEquals(4000, index.get("other").timestamp(), "Duplicate entry not ignored");
+
+            // the cells are returned in the requested order, not in the order of the stored table
+            final var cells = index.readCells(List.of(index.get("other"), index.get("new"), index.get("other")),
+                TestExecutionContexts.create());
+            final List<List<DataCell>> rows = new ArrayList<>();
+            try (var it = cells.iterator()) {
+                it.forEachRemaining(row -> rows.add(row.stream().limit(COLUMNS.length).toList()));
+            }
+            assertEquals(List.of(Arrays.asList(b), Arrays.asList(a), Arrays.asList(b)), rows,
+                "Unexpected response cells");
+        }
+
+        assertEquals(0, IncrementalIndex.read(file, "other settings", 0).size(),
+            "Index with different settings not ignored");
+        assertEquals(0, IncrementalIndex.read(new File(dir, "missing.zip"), "settings", 0).size(),
+            "Missing index not empty");
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.xml.XMLCellFactory;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.rest.nodes.common.RestSettings.JSONField;
+import org.knime.rest.util.JSONFieldType;
+
+/**
+ * Tests extracting values of JSON bodies into typed cells with {@link JSONFieldExtractor}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONFieldExtractorTest {
+
+    private static final String BODY = """
+            {"id": 7, "skipped": {"nested": [1, 2, {"id": 0}]},
+             "data": {"name": "n", "tags": ["a", "b"], "a/b": "true", "none": null, "big": 10000000000},
+             "items": [{"v": 1.5}, {"v": "2"}]}
+            """;
+
+    private static DataCell[] extract(final String body, final Object... pointersAndTypes)
+        throws InvalidSettingsException, IOException {
+        final var fields = new JSONField[pointersAndTypes.length / 2];
+        for (var i = 0; i < fields.length; i++) {
+            fields[i] = new JSONField((String)pointersAndTypes[2 * i], "Column " + i,
+                (JSONFieldType)pointersAndTypes[2 * i + 1], false);
+        }
+        return new JSONFieldExtractor(List.of(fields))
+            .extract(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void valuesAreConvertedIntoTheirTypes() throws InvalidSettingsException, IOException {
+        assertEquals(Arrays.asList(new IntCell(7), new StringCell("n"), new LongCell(10000000000L),
+            new DoubleCell(1.5), new DoubleCell(2), BooleanCell.TRUE, new StringCell("7")),
+            Arrays.asList(extract(BODY, "/id", JSONFieldType.INT, "/data/name", JSONFieldType.STRING, "/data/big",
+                JSONFieldType.LONG, "/items/0/v", JSONFieldType.DOUBLE, "/items/1/v", JSONFieldType.DOUBLE,
+                "/data/a~1b", JSONFieldType.BOOLEAN, "/id", JSONFieldType.STRING)));
+    }
+
+    @Test
+    void objectsAndArraysAreOutputAsJSONText() throws InvalidSettingsException, IOException {
+        assertEquals(Arrays.asList(new StringCell("[\"a\",\"b\"]"), new StringCell("b"), new StringCell("{\"v\":1.5}")),
+            Arrays.asList(extract(BODY, "/data/tags", JSONFieldType.STRING, "/data/tags/1", JSONFieldType.STRING,
+                "/items/0", JSONFieldType.STRING)));
+        assertEquals(new StringCell("[1,2]"), extract("[1, 2]", "", JSONFieldType.STRING)[0]);
+    }
+
+    @Test
+    void missingAndInconvertibleValuesBecomeMissingCells() throws InvalidSettingsException, IOException {
+        final var cells = extract(BODY, "/unknown", JSONFieldType.STRING, "/data/none", JSONFieldType.STRING,
+            "/data/name", JSONFieldType.INT, "/data/big", JSONFieldType.INT, "/data/tags", JSONFieldType.DOUBLE);
+        assertTrue(Arrays.stream(cells).allMatch(DataCell::isMissing), "All values should be missing");
+        assertTrue(((MissingCell)cells[0]).getError().contains("/unknown"), "The error should name the pointer");
+        assertTrue(((MissingCell)cells[2]).getError().contains("Cannot convert \"n\""),
+            "The error should name the value");
+    }
+
+    @Test
+    void valuesBeforeAnInvalidPartAreKept() throws InvalidSettingsException, IOException {
+        final var cells = extract("{\"a\": 1, \"b\": {\"c\": tru", "/a", JSONFieldType.INT, "/b/c",
+            JSONFieldType.BOOLEAN);
+        assertEquals(new IntCell(1), cells[0]);
+        assertTrue(((MissingCell)cells[1]).getError().startsWith("Could not parse the response body"),
+            "The error should describe the parse error");
+    }
+
+    @Test
+    void invalidPointersAreRejected() {
+        assertThrows(InvalidSettingsException.class, () -> extract(BODY, "id", JSONFieldType.INT),
+            "A pointer not starting with a slash");
+    }
+
+    @Test
+    void xpathsAreOnlyEvaluatedOnXMLBodies() throws Exception {
+        final var extractor = new JSONFieldExtractor(List.of(new JSONField("/id", "JSON", JSONFieldType.INT, false),
+            new JSONField("//item/@id", "XML", JSONFieldType.STRING, true)));
+        final var json = extractor.extract(new StringCell(BODY));
+        assertEquals(new IntCell(7), json[0]);
+        assertTrue(((MissingCell)json[1]).getError().contains("is an XPath"), "XPaths do not apply to JSON bodies");
+        final var xml = extractor.extract(XMLCellFactory.create("<r><item id=\"a\"/></r>"));
+        assertTrue(((MissingCell)xml[0]).getError().contains("is a JSON pointer"),
+            "JSON pointers do not apply to XML bodies");
+        assertEquals(new StringCell("a"), xml[1]);
+    }
+
+    @Test
+    void invalidXPathsAreRejected() {
+        assertThrows(InvalidSettingsException.class,
+            () -> new JSONFieldExtractor(List.of(new JSONField("item", "XML", JSONFieldType.STRING, true))),
+            "An XPath which is not absolute");
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.rest.nodes.common.Pagination.PageRow;
+import org.knime.rest.nodes.common.RestSettings.HttpMethod;
+import org.knime.rest.util.PaginationMode;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests determining the URLs and the end of the pages of a {@link Pagination}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PaginationTest {
+
+    private static final DefaultRow ROW = new DefaultRow("Row0", new StringCell("https://example.com/items"));
+
+    private static RestSettings settings(final PaginationMode mode) {
+        final var settings = new RestSettings(HttpMethod.GET);
+        settings.setPaginationMode(mode);
+        return settings;
+    }
+
+    private static DataCell[] body(final String json) {
+        return new DataCell[]{new StringCell(json)};
+    }
+
+    /** Requests the page and records the given response. */
+    private static URL request(final Pagination pagination, final PageRow page, final Response response)
+        throws Exception {
+        final var url = pagination.getURL(new URL("https://example.com/items?q=a%20b"), page);
+        page.setResponse(response);
+        return url;
+    }
+
+    @Test
+    void nextLinkIsFound() {
+        assertEquals("https://example.com/items?page=2",
+            Pagination.findNextLink(List.of("<https://example.com/items?page=1>; rel=\"prev\", "
+                + "<https://example.com/items?page=2>; rel=\"next\"")));
+        assertEquals("/items?page=3", Pagination.findNextLink(List.of("<https://example.com>; rel=first",
+            "</items?page=3>; title=\"a, b\"; rel=\"last next\"")));
+        assertNull(Pagination.findNextLink(List.of("<https://example.com/items?page=1>; rel=\"prev\"")));
+        assertNull(Pagination.findNextLink(List.of()));
+    }
+
+    @Test
+    void parametersAreReplacedAndEncoded() throws Exception {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("offset", "20");
+        parameters.put("cursor", "a b&c");
+        assertEquals("https://example.com/items?q=x&offset=20&cursor=a+b%26c#top", Pagination
+            .withParameters(new URL("https://example.com/items?offset=10&q=x#top"), parameters).toString());
+        assertEquals("https://example.com/items?page=1",
+            Pagination.withParameters(new URL("https://example.com/items"), Map.of("page", "1")).toString());
+    }
+
+    @Test
+    void offsetPaginationStopsAtShortPage() throws Exception {
+        final var settings = settings(PaginationMode.OFFSET);
+        settings.setPaginationPageSize(2);
+        settings.setPaginationItemsPointer("/data");
+        final var pagination = Pagination.create(settings);
+
+        final var first = pagination.firstPage(ROW);
+        assertEquals("https://example.com/items?q=a%20b&offset=0&limit=2",
+            request(pagination, first, Response.ok().build()).toString());
+        final var second = pagination.next(first, body("{\"data\": [1, 2]}"), 0);
+        assertEquals("Row0#2", second.getKey().getString());
+        assertEquals(2, second.getPage());
+        assertEquals("https://example.com/items?q=a%20b&offset=2&limit=2",
+            request(pagination, second, Response.ok().build()).toString());
+        assertNull(pagination.next(second, body("{\"data\": [3]}"), 0), "Page after short page");
+    }
+
+    @Test
+    void pageNumberPaginationStopsAtMaximumAndOnError() throws Exception {
+        final var settings = settings(PaginationMode.PAGE_NUMBER);
+        settings.setPaginationFirstPage(0);
+        settings.setPaginationMaxPages(2);
+        final var pagination = Pagination.create(settings);
+
+        final var first = pagination.firstPage(ROW);
+        assertEquals("https://example.com/items?q=a%20b&page=0",
+            request(pagination, first, Response.status(500).build()).toString());
+        assertNull(pagination.next(first, body("[1]"), 0), "Page after failed request");
+
+        request(pagination, first, Response.ok().build());
+        final var second = pagination.next(first, body("[1]"), 0);
+        assertEquals("https://example.com/items?q=a%20b&page=1",
+            request(pagination, second, Response.ok().build()).toString());
+        assertNull(pagination.next(second, body("[2]"), 0), "Page after maximum number of pages");
+    }
+
+    @Test
+    void pagesWithoutItemsPointerStopAtEmptyArray() throws Exception {
+        final var pagination = Pagination.create(settings(PaginationMode.PAGE_NUMBER));
+
+        final var first = pagination.firstPage(ROW);
+        request(pagination, first, Response.ok().build());
+        final var second = pagination.next(first, body("{\"items\": [1], \"total\": 1}"), 0);
+        assertEquals(2, second.getPage(), "The only array of the body contains the items");
+        request(pagination, second, Response.ok().build());
+        assertNull(pagination.next(second, body("{\"items\": [], \"total\": 1}"), 0), "Page with empty array");
+        assertNull(pagination.next(second, body("{\"a\": [1], \"b\": [2]}"), 0), "Page with several arrays");
+        assertNull(pagination.next(second, body("{\"total\": 1}"), 0), "Page without array");
+    }
+
+    @Test
+    void cursorPaginationStopsWithoutNewCursor() throws Exception {
+        final var pagination = Pagination.create(settings(PaginationMode.CURSOR));
+
+        final var first = pagination.firstPage(ROW);
+        assertEquals("https://example.com/items?q=a%20b", request(pagination, first, Response.ok().build()).toString());
+        final var second = pagination.next(first, body("{\"items\": [1], \"next_cursor\": \"abc\"}"), 0);
+        assertEquals("https://example.com/items?q=a%20b&cursor=abc",
+            request(pagination, second, Response.ok().build()).toString());
+        assertNull(pagination.next(second, body("{\"items\": [2], \"next_cursor\": \"abc\"}"), 0),
+            "Page with unchanged cursor");
+        assertNull(pagination.next(second, body("{\"items\": []}"), 0), "Page without cursor");
+    }
+
+    @Test
+    void linkHeaderIsResolvedAgainstPageURL() throws Exception {
+        final var pagination = Pagination.create(settings(PaginationMode.LINK_HEADER));
+
+        final var first = pagination.firstPage(ROW);
+        request(pagination, first, Response.ok().header("link", "</items?page=2>; rel=\"next\"").build());
+        final var second = pagination.next(first, new DataCell[0], -1);
+        assertEquals("https://example.com/items?page=2",
+            request(pagination, second, Response.ok().build()).toString());
+        assertNull(pagination.next(second, new DataCell[0], -1), "Page without next link");
+        assertNull(Pagination.create(settings(PaginationMode.NONE)), "Pagination without mode");
+    }
+}
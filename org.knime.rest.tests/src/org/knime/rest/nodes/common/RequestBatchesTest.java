@@ -0,0 +1,115 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Tests building batch request bodies and splitting batch responses by {@link RequestBatches}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestBatchesTest {
+
+    private static final List<JsonNode> ROWS = List.of( //
+        RequestBatches.toJson(new StringCell("{\"id\":1}")), //
+        RequestBatches.toJson(new StringCell("{\"id\":\"2\"}")));
+
+    @Test
+    void bodyIsArrayOfRows() throws IOException {
+        assertEquals("[{\"id\":1},{\"id\":\"2\"}]", RequestBatches.createBody(ROWS, ""), "Unexpected batch body");
+        assertEquals("{\"items\":[{\"id\":1},{\"id\":\"2\"}]}",
+            RequestBatches.createBody(ROWS, "{\"items\":" + RequestBatches.ROWS_PLACEHOLDER + "}"),
+            "Template not applied");
+    }
+
+    @Test
+    void rowValuesAreConverted() throws IOException {
+        final var rows = List.of(RequestBatches.toJson(new StringCell("text")),
+            RequestBatches.toJson(new IntCell(42)), RequestBatches.toJson(DataType.getMissingCell()));
+        assertEquals("[\"text\",42,null]", RequestBatches.createBody(rows, null), "Unexpected batch body");
+    }
+
+    @Test
+    void splitByPosition() throws IOException, InvalidSettingsException {
+        final var root = RequestBatches.compilePointer("", "path");
+        assertEquals(List.of("{\"a\":1}", "{\"b\":2}"),
+            RequestBatches.split("[{\"a\":1},{\"b\":2}]", root, ROWS, null), "Unexpected elements");
+        assertThrows(IOException.class, () -> RequestBatches.split("[{\"a\":1}]", root, ROWS, null),
+            "Size mismatch not detected");
+        assertThrows(IOException.class, () -> RequestBatches.split("{\"a\":1}", root, ROWS, null),
+            "Missing array not detected");
+    }
+
+    @Test
+    void splitByKey() throws IOException, InvalidSettingsException {
+        final var elements = RequestBatches.split("{\"results\":[{\"id\":2,\"v\":\"b\"},{\"id\":3}]}",
+            RequestBatches.compilePointer("/results", "path"), ROWS, RequestBatches.compilePointer("/id", "key"));
+        assertEquals(Arrays.asList(null, "{\"id\":2,\"v\":\"b\"}"), elements, "Unexpected elements");
+    }
+
+    @Test
+    void invalidPointer() {
+        assertThrows(InvalidSettingsException.class, () -> RequestBatches.compilePointer("results", "path"),
+            "Pointer without leading slash accepted");
+    }
+}
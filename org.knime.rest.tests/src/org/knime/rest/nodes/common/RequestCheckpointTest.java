@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.blob.BinaryObjectDataCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Tests writing, resuming from and truncating {@link RequestCheckpoint}s.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestCheckpointTest {
+
+    private static final DataColumnSpec URL = new DataColumnSpecCreator("url", StringCell.TYPE).createSpec();
+
+    private static final DataColumnSpec[] COLUMNS = {new DataColumnSpecCreator("body", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("Status", IntCell.TYPE).createSpec()};
+
+    /** Creates completed rows with keys {@code Row<from>} to {@code Row<to - 1>}. */
+    private static BufferedDataTable completedRows(final int from, final int to) {
+        final var container = TestExecutionContexts.create()
+            .createDataContainer(new DataTableSpec(new DataTableSpec(URL), new DataTableSpec(COLUMNS)));
+        for (var i = from; i < to; i++) {
+            container.addRowToTable(new DefaultRow("Row" + i, new StringCell("https://example.com/" + i),
+                new StringCell("body " + i), new IntCell(200)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static List<String> fingerprints(final int from, final int to) {
+        final List<String> fingerprints = new ArrayList<>();
+        for (var i = from; i < to; i++) {
+            fingerprints.add(i % 2 == 0 ? ("fingerprint " + i) : null);
+        }
+        return fingerprints;
+    }
+
+    private static List<RequestCheckpoint.Row> readAll(final RequestCheckpoint checkpoint) throws Exception {
+        final List<RequestCheckpoint.Row> rows = new ArrayList<>();
+        try (var reader = checkpoint.read()) {
+            while (reader.hasNext()) {
+                rows.add(reader.next());
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void checkpointsAreReadInOrder(@TempDir final Path dir) throws Exception {
+        final var checkpoint = RequestCheckpoint.open(dir, "settings");
+        assertTrue(checkpoint.isEmpty(), "New checkpoint not empty");
+        assertTrue(checkpoint.setColumns(COLUMNS), "Columns of empty checkpoint rejected");
+        checkpoint.write(completedRows(0, 3), 1, fingerprints(0, 3), new ExecutionMonitor());
+        checkpoint.write(completedRows(3, 5), 1, fingerprints(3, 5), new ExecutionMonitor());
+
+        final var reopened = RequestCheckpoint.open(dir, "settings");
+        assertFalse(reopened.isEmpty(), "Checkpoint not persisted");
+        assertArrayEquals(COLUMNS, reopened.getColumns(), "Unexpected response columns");
+        final var rows = readAll(reopened);
+        assertEquals(5, rows.size(), "Unexpected number of checkpointed rows");
+        for (var i = 0; i < rows.size(); i++) {
+            assertEquals("Row" + i, rows.get(i).key().getString(), "Unexpected row order");
+            assertEquals(fingerprints(i, i + 1).get(0), rows.get(i).fingerprint(), "Unexpected fingerprint");
+            assertEquals(Arrays.asList(new StringCell("body " + i), new IntCell(200)),
+                Arrays.asList(rows.get(i).cells()), "Unexpected response cells");
+        }
+    }
+
+    @Test
+    void truncateKeepsPrefix(@TempDir final Path dir) throws Exception {
+        final var checkpoint = RequestCheckpoint.open(dir, "settings");
+        checkpoint.setColumns(COLUMNS);
+        checkpoint.write(completedRows(0, 3), 1, fingerprints(0, 3), new ExecutionMonitor());
+        checkpoint.write(completedRows(3, 5), 1, fingerprints(3, 5), new ExecutionMonitor());
+        checkpoint.truncate(2, new ExecutionMonitor());
+
+        final var rows = readAll(RequestCheckpoint.open(dir, "settings"));
+        assertEquals(List.of("Row0", "Row1"), rows.stream().map(r -> r.key().getString()).toList(),
+            "Unexpected rows after truncation");
+
+        checkpoint.truncate(0, new ExecutionMonitor());
+        assertTrue(checkpoint.isEmpty(), "Checkpoint not empty after truncation");
+        assertNull(checkpoint.getColumns(), "Columns not reset after truncation");
+    }
+
+    @Test
+    void rowsInFileStoresEndCheckpoint(@TempDir final Path dir) throws Exception {
+        final var columns = new DataColumnSpec[]{
+            new DataColumnSpecCreator("body", BinaryObjectDataCell.TYPE).createSpec(), COLUMNS[1]};
+        final var exec = TestExecutionContexts.create();
+        // above the default threshold of 1 MB
+        final var length = 2 * 1024 * 1024;
+        final var parser = new BinaryBodyParser(MediaType.APPLICATION_OCTET_STREAM_TYPE, exec);
+        final var container = exec.createDataContainer(new DataTableSpec(new DataTableSpec(URL),
+            new DataTableSpec(columns)));
+        for (var i = 0; i < 4; i++) {
+            final var bodyLength = i == 2 ? length : 16;
+            container.addRowToTable(new DefaultRow("Row" + i, new StringCell("https://example.com/" + i),
+                parser.create(TestExecutionContexts.response(MediaType.APPLICATION_OCTET_STREAM_TYPE, bodyLength,
+                    null, new byte[bodyLength])),
+                new IntCell(200)));
+        }
+        container.close();
+
+        final var checkpoint = RequestCheckpoint.open(dir, "settings");
+        checkpoint.setColumns(columns);
+        checkpoint.write(container.getTable(), 1, fingerprints(0, 4), new ExecutionMonitor());
+        checkpoint.write(completedRows(4, 5), 1, fingerprints(4, 5), new ExecutionMonitor());
+
+        final var rows = readAll(RequestCheckpoint.open(dir, "settings"));
+        assertEquals(List.of("Row0", "Row1"), rows.stream().map(r -> r.key().getString()).toList(),
+            "Rows following a body in a file store checkpointed");
+    }
+
+    @Test
+    void changedSettingsOrColumnsDiscardCheckpoints(@TempDir final Path dir) throws Exception {
+        final var checkpoint = RequestCheckpoint.open(dir, "settings");
+        checkpoint.setColumns(COLUMNS);
+        checkpoint.write(completedRows(0, 3), 1, fingerprints(0, 3), new ExecutionMonitor());
+        assertFalse(RequestCheckpoint.open(dir, "settings").isEmpty(), "Checkpoint discarded");
+        assertFalse(checkpoint.setColumns(new DataColumnSpec[]{COLUMNS[1]}), "Changed columns accepted");
+        assertTrue(checkpoint.isEmpty(), "Checkpoint with changed columns not discarded");
+
+        checkpoint.setColumns(COLUMNS);
+        checkpoint.write(completedRows(0, 3), 1, fingerprints(0, 3), new ExecutionMonitor());
+        assertTrue(RequestCheckpoint.open(dir, "other settings").isEmpty(),
+            "Checkpoint with different settings not discarded");
+        assertTrue(RequestCheckpoint.open(dir, "settings").isEmpty(), "Discarded checkpoint not deleted");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the coalescing and caching of identical requests by {@link RequestDeduplicator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestDeduplicatorTest {
+
+    private static DataCell[] response(final String body) {
+        return new DataCell[]{new StringCell(body)};
+    }
+
+    @Test
+    void identicalRequestsAreSentOnce() {
+        final var deduplicator = new RequestDeduplicator(10);
+        final var sent = new AtomicInteger();
+        for (var i = 0; i < 3; i++) {
+            final var cells = deduplicator.get(List.of("GET", "https://example.com"), () -> {
+                sent.incrementAndGet();
+                return response("a");
+            });
+            assertArrayEquals(response("a"), cells, "Unexpected response");
+        }
+        deduplicator.get(List.of("GET", "https://example.org"), () -> {
+            sent.incrementAndGet();
+            return response("b");
+        });
+        assertEquals(2, sent.get(), "Identical request sent again");
+        assertEquals(2, deduplicator.getHits(), "Unexpected number of hits");
+        assertEquals(2, deduplicator.getMisses(), "Unexpected number of misses");
+    }
+
+    @Test
+    void leastRecentlyUsedResponsesAreEvicted() {
+        final var deduplicator = new RequestDeduplicator(1);
+        final var sent = new AtomicInteger();
+        for (var key : List.of("a", "b", "a")) {
+            deduplicator.get(key, () -> {
+                sent.incrementAndGet();
+                return response(key);
+            });
+        }
+        assertEquals(3, sent.get(), "Evicted response has been reused");
+    }
+
+    @Test
+    void concurrentRequestsWaitForSingleRequest() throws Exception {
+        final var deduplicator = new RequestDeduplicator(10);
+        final var sent = new AtomicInteger();
+        final var requestStarted = new CountDownLatch(1);
+        final var releaseRequest = new CountDownLatch(1);
+        final var pool = Executors.newFixedThreadPool(2);
+        try {
+            final Future<DataCell[]> first = pool.submit(() -> deduplicator.get("key", () -> {
+                sent.incrementAndGet();
+                requestStarted.countDown();
+                try {
+                    releaseRequest.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) { // NOSONAR
+                    Thread.currentThread().interrupt();
+                }
+                return response("a");
+            }));
+            requestStarted.await(10, TimeUnit.SECONDS);
+            final Future<DataCell[]> second = pool.submit(() -> deduplicator.get("key", () -> {
+                sent.incrementAndGet();
+                return response("b");
+            }));
+            releaseRequest.countDown();
+            assertArrayEquals(response("a"), first.get(10, TimeUnit.SECONDS), "Unexpected response");
+            assertArrayEquals(response("a"), second.get(10, TimeUnit.SECONDS), "Response not shared");
+            assertEquals(1, sent.get(), "Concurrent identical request sent again");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
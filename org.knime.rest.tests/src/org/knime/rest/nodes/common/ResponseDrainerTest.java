@@ -0,0 +1,178 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.LongCell;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests discarding the response bodies and measuring the latency with {@link ResponseDrainer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ResponseDrainerTest {
+
+    private static Response response(final InputStream body) {
+        final var response = mock(Response.class);
+        when(response.getEntity()).thenReturn(body);
+        return response;
+    }
+
+    @Test
+    void bodyIsDrainedAndClosed() {
+        final var closed = new AtomicBoolean();
+        final var body = new ByteArrayInputStream(new byte[100_000]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        final var drainer = new ResponseDrainer();
+        drainer.sending();
+        drainer.received();
+        final var cells = drainer.drain(response(body), null);
+        assertEquals(0, body.available(), "Body not drained");
+        assertTrue(closed.get(), "Body not closed");
+        assertEquals(1, cells.length, "Unexpected number of cells");
+        assertTrue(assertInstanceOf(LongCell.class, cells[0], "Latency not measured").getLongValue() >= 0,
+            "Negative latency");
+    }
+
+    @Test
+    void latencyIsMeasuredUntilReceived() throws InterruptedException {
+        final var drainer = new ResponseDrainer();
+        final var start = System.nanoTime();
+        drainer.sending();
+        Thread.sleep(20); // NOSONAR the latency has to be measurable
+        drainer.received();
+        final var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Thread.sleep(50); // NOSONAR draining the body is not part of the latency
+        final var latency = ((LongCell)drainer.drain(response(null), null)[0]).getLongValue();
+        assertTrue(latency >= 20 && latency <= elapsed, "Unexpected latency: " + latency);
+    }
+
+    @Test
+    void latencyIsResetAfterEachResponse() {
+        final var drainer = new ResponseDrainer();
+        drainer.sending();
+        drainer.received();
+        drainer.drain(response(null), null);
+        assertArrayEquals(new DataCell[]{DataType.getMissingCell()}, drainer.drain(response(null), null),
+            "Latency of a previous request reused");
+        // a response received without a request being sent by this thread has no latency either
+        drainer.received();
+        assertArrayEquals(new DataCell[]{DataType.getMissingCell()}, drainer.drain(response(null), null),
+            "Latency without a sent request");
+    }
+
+    @Test
+    void latencyIsMeasuredPerThread() throws InterruptedException {
+        final var drainer = new ResponseDrainer();
+        drainer.sending();
+        final var other = new Thread(() -> {
+            drainer.sending();
+            drainer.received();
+            drainer.drain(response(null), null);
+        });
+        other.start();
+        other.join();
+        drainer.received();
+        assertInstanceOf(LongCell.class, drainer.drain(response(null), null)[0],
+            "Latency affected by the request of another thread");
+    }
+
+    @Test
+    void failedRequestsKeepTheirError() {
+        final var drainer = new ResponseDrainer();
+        drainer.sending();
+        final var missing = new MissingCell("Connection refused");
+        assertArrayEquals(new DataCell[]{missing}, drainer.drain(null, missing), "Error not kept");
+        assertArrayEquals(new DataCell[]{DataType.getMissingCell()}, drainer.drain(null, null),
+            "Unexpected cell of a failed request without error");
+    }
+
+    @Test
+    void failureWhileDrainingKeepsLatency() {
+        final var body = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        final var drainer = new ResponseDrainer();
+        drainer.sending();
+        drainer.received();
+        assertInstanceOf(LongCell.class, drainer.drain(response(body), null)[0], "Latency lost");
+    }
+
+    @Test
+    void latencyIsOutputAsColumn() {
+        final var columns = new ResponseDrainer().getColumns();
+        assertEquals(1, columns.size(), "Unexpected number of columns");
+        assertEquals(LongCell.TYPE, columns.get(0).getType(), "Unexpected column type");
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.rest.nodes.get.RestGetNodeFactory;
+import org.knime.rest.util.ContentEncodings;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Creates the execution contexts and responses of tests which parse response bodies outside of a workflow.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TestExecutionContexts {
+
+    private TestExecutionContexts() {
+    }
+
+    /**
+     * @return an execution context of a node outside of a workflow which can create file stores
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static ExecutionContext create() {
+        final var node = new Node((NodeFactory<NodeModel>)(NodeFactory)new RestGetNodeFactory());
+        node.setFileStoreHandler(NotInWorkflowWriteFileStoreHandler.create());
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), node, MemoryPolicy.CacheOnDisc,
+            NotInWorkflowDataRepository.newInstance());
+    }
+
+    /**
+     * @param mediaType the media type of the body
+     * @param length the announced length of the body, -1 if unknown
+     * @param contentEncoding the value of the {@code Content-Encoding} header, may be {@code null}
+     * @param body the (encoded) body
+     * @return a response with the body
+     */
+    static Response response(final MediaType mediaType, final int length, final String contentEncoding,
+        final byte[] body) {
+        final var response = Mockito.mock(Response.class);
+        final InputStream entity = new ByteArrayInputStream(body);
+        Mockito.when(response.hasEntity()).thenReturn(true);
+        Mockito.when(response.getMediaType()).thenReturn(mediaType);
+        Mockito.when(response.getLength()).thenReturn(length);
+        Mockito.when(response.getHeaderString(Mockito.anyString())).thenReturn(null);
+        Mockito.when(response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER)).thenReturn(contentEncoding);
+        Mockito.when(response.readEntity(InputStream.class)).thenReturn(entity);
+        return response;
+    }
+}
@@ -56,6 +56,7 @@
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.Invocation.Builder;
+import jakarta.ws.rs.core.StreamingOutput;
 
 /**
  * REST model for testing requests with a body (always uses POST). Makes the request method available.
@@ -64,6 +65,8 @@
  */
 public final class TestPostNodeModel extends RestWithBodyNodeModel<RestWithBodySettings> {
 
+    private StreamingOutput m_requestBodyOutput;
+
     /**
      * Simplified REST node model always using a POST request.
      */
@@ -82,7 +85,8 @@ protected RestWithBodySettings createSettings() {
      */
     @Override
     protected Invocation invocationWithEntity(final Builder request, final Entity<?> entity) {
-        return request.buildPost(entity);
+        return request.buildPost(m_requestBodyOutput == null ? entity
+            : Entity.entity(m_requestBodyOutput, entity.getVariant()));
     }
 
     /**
@@ -105,6 +109,34 @@ public void setRequestBody(final String requestBodyAsString) {
         m_settings.setConstantRequestBody(requestBodyAsString);
     }
 
+    /**
+     * Replaces the request body of this REST request by the given output, e.g. to observe how much of it is sent.
+     * The request is prepared for the body set by {@link #setRequestBody(String)}.
+     *
+     * @param output the output writing the body, {@code null} to send the request body
+     */
+    public void setRequestBodyOutput(final StreamingOutput output) {
+        m_requestBodyOutput = output;
+    }
+
+    /**
+     * Sets whether large request bodies are only sent after the server confirmed the request.
+     *
+     * @param expectContinue whether to send the {@code Expect: 100-continue} header
+     */
+    public void setExpectContinue(final boolean expectContinue) {
+        m_settings.setExpectContinue(expectContinue);
+    }
+
+    /**
+     * Sets how long to wait for the confirmation of the server before the body is sent anyway.
+     *
+     * @param timeoutInSeconds the timeout in seconds
+     */
+    public void setExpectContinueTimeout(final int timeoutInSeconds) {
+        m_settings.setExpectContinueTimeoutInSeconds(timeoutInSeconds);
+    }
+
     /**
      * Sets the chunking threshold of this REST request to the given byte size.
      *
@@ -115,6 +147,15 @@ public void setChunkingThreshold(final int newThreshold) {
         chunkingThreshold = newThreshold;
     }
 
+    /**
+     * Sets whether chunked transfer encoding is allowed.
+     *
+     * @param allowChunking whether chunking is allowed
+     */
+    public void setAllowChunking(final boolean allowChunking) {
+        m_settings.setAllowChunking(allowChunking);
+    }
+
     /**
      * Performs a simple POST request without any context.
      *
@@ -0,0 +1,134 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * Tests splitting XML bodies and extracting values of them with {@link XMLStreams} and {@link XMLPath}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class XMLStreamsTest {
+
+    private static final String SOAP = """
+            <?xml version="1.0"?>
+            <soap:Envelope xmlns:soap="http://s" xmlns="http://d"><soap:Body><r:Resp xmlns:r="http://r">\
+            <item id="1"><name>A<![CDATA[&b]]></name><v>1.5</v></item><!-- c -->\
+            <item id="2"><name>B</name><item id="n"/></item><other>x<b>y</b>z</other>\
+            </r:Resp></soap:Body></soap:Envelope>
+            """;
+
+    private static final String NAMESPACES = "xmlns:soap=\"http://s\" xmlns=\"http://d\" xmlns:r=\"http://r\"";
+
+    private static InputStream in(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> split(final String path) throws InvalidSettingsException, IOException {
+        final var elements = new ArrayList<String>();
+        XMLStreams.split(in(SOAP), XMLPath.compile(path, "element path"), elements::add);
+        return elements;
+    }
+
+    @Test
+    void selectedElementsAreCopiedWithTheirNamespaces() throws InvalidSettingsException, IOException {
+        assertEquals(List.of("<item " + NAMESPACES + " id=\"1\"><name>A&amp;b</name><v>1.5</v></item>",
+            "<item " + NAMESPACES + " id=\"2\"><name>B</name><item id=\"n\"></item></item>"),
+            split("/soap:Envelope/Body/Resp/item"));
+        assertEquals(2, split("//item").size(), "Nested matches should be part of the outer element");
+        assertEquals(List.of("<v " + NAMESPACES + ">1.5</v>",
+            "<item " + NAMESPACES + " id=\"2\"><name>B</name><item id=\"n\"></item></item>"), split("//*[2]"));
+        assertEquals(List.of(), split("/Envelope/item"));
+    }
+
+    @Test
+    void valuesOfTheFirstMatchesAreExtracted() throws InvalidSettingsException, IOException {
+        final var expressions = new String[]{"//item[2]/@id", "/Envelope/Body/Resp/item/name", "//other",
+            "//other/text()", "//v", "//missing", "/soap:Envelope/*/*/item[1]/@id", "//item/@missing"};
+        final var paths = new XMLPath[expressions.length + 1];
+        for (var i = 0; i < expressions.length; i++) {
+            paths[i] = XMLPath.compile(expressions[i], "path");
+        }
+        final var expected = new String[]{"2", "A&b", "xyz", "xz", "1.5", null, "1", null, null};
+        assertArrayEquals(expected, XMLStreams.extract(in(SOAP), paths));
+        assertArrayEquals(expected, XMLStreams.extract(new StringReader(SOAP), paths));
+    }
+
+    @Test
+    void unsupportedPathsAreRejected() {
+        for (final var path : new String[]{"a/b", "/", "/a/", "/a[0]", "/a/@b/c", "//@x", "/a[last()]", "/a/b::c"}) {
+            final var e = assertThrows(InvalidSettingsException.class, () -> XMLPath.compile(path, "path"), path);
+            assertTrue(e.getMessage().contains('"' + path + '"'), "The error should name the path: " + e.getMessage());
+        }
+    }
+
+    @Test
+    void malformedDocumentsAndEntitiesFail() throws InvalidSettingsException {
+        final var paths = new XMLPath[]{XMLPath.compile("/a/c", "path")};
+        assertThrows(IOException.class, () -> XMLStreams.extract(in("<a><b>"), paths));
+        assertThrows(IOException.class, () -> XMLStreams.extract(
+            in("<!DOCTYPE a [<!ENTITY x SYSTEM \"file:///etc/passwd\">]><a>&x;</a>"), paths),
+            "External entities must not be resolved");
+    }
+}
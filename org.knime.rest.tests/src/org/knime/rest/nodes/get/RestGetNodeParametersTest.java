@@ -11,7 +11,6 @@
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.webui.node.dialog.SettingsType;
 import org.knime.core.webui.node.dialog.defaultdialog.NodeParametersUtil;
-import org.knime.rest.nodes.common.webui.RestNodeParameters;
 import org.knime.testing.node.dialog.DefaultNodeSettingsSnapshotTest;
 import org.knime.testing.node.dialog.SnapshotTestConfiguration;
 
@@ -33,20 +32,20 @@ final class RestGetNodeParametersTest extends DefaultNodeSettingsSnapshotTest {
     private static SnapshotTestConfiguration getConfig() {
         return SnapshotTestConfiguration.builder() //
             .withInputPortObjectSpecs(INPUT_PORT_SPECS) //
-            .testJsonFormsForModel(RestNodeParameters.class) //
+            .testJsonFormsForModel(RestGetNodeParameters.class) //
             .testJsonFormsWithInstance(SettingsType.MODEL, () -> readSettings()) //
             .testNodeSettingsStructure(() -> readSettings()) //
             .build();
     }
 
-    private static RestNodeParameters readSettings() {
+    private static RestGetNodeParameters readSettings() {
         try {
-            var path = getSnapshotPath(RestNodeParameters.class).getParent().resolve("node_settings")
+            var path = getSnapshotPath(RestGetNodeParameters.class).getParent().resolve("node_settings")
                 .resolve("RestGetNodeParameters.xml");
             try (var fis = new FileInputStream(path.toFile())) {
                 var nodeSettings = NodeSettings.loadFromXML(fis);
                 return NodeParametersUtil.loadSettings(nodeSettings.getNodeSettings(SettingsType.MODEL.getConfigKey()),
-                    RestNodeParameters.class);
+                    RestGetNodeParameters.class);
             }
         } catch (IOException | InvalidSettingsException e) {
             throw new IllegalStateException(e);
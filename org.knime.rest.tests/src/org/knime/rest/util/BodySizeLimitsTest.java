@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+/**
+ * Tests limiting the size of response bodies with {@link BodySizeLimits}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class BodySizeLimitsTest {
+
+    private static final byte[] PAYLOAD = "0123456789".repeat(10).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testAnnouncedOversizedBodyIsRejectedWithoutReading() throws IOException {
+        final var closed = new AtomicBoolean();
+        final var body = new ByteArrayInputStream(PAYLOAD) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        final var headers = new MultivaluedHashMap<String, String>();
+        headers.putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(PAYLOAD.length));
+        final var limited = filter(new BodySizeLimits(10, 0, OversizedBodyPolicy.MISSING), body, headers);
+        assertTrue(closed.get(), "The connection should be aborted");
+        assertFalse(headers.containsKey(HttpHeaders.CONTENT_LENGTH), "The length does not describe the body");
+        final var e = assertThrows(IOException.class, () -> read(limited, null));
+        assertTrue(e.getMessage().contains("100 bytes"), "The announced size should be reported");
+        assertEquals(PAYLOAD.length, body.available(), "No byte should have been read");
+    }
+
+    @Test
+    void testBodyIsLimitedWhileReading() throws IOException {
+        final var limits = new BodySizeLimits(10, 0, OversizedBodyPolicy.MISSING);
+        final var e = assertThrows(IOException.class, () -> read(filter(limits, PAYLOAD), null));
+        assertTrue(e.getMessage().contains("10 bytes"), "The limit should be reported");
+        assertArrayEquals(Arrays.copyOf(PAYLOAD, 10), read(filter(limits, Arrays.copyOf(PAYLOAD, 10)), null),
+            "A body of exactly the maximum size is allowed");
+    }
+
+    @Test
+    void testBodyIsTruncated() throws IOException {
+        final var headers = new MultivaluedHashMap<String, String>();
+        headers.putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(PAYLOAD.length));
+        final var limited = filter(new BodySizeLimits(10, 0, OversizedBodyPolicy.TRUNCATE),
+            new ByteArrayInputStream(PAYLOAD), headers);
+        assertArrayEquals(Arrays.copyOf(PAYLOAD, 10), read(limited, null));
+        assertFalse(headers.containsKey(HttpHeaders.CONTENT_LENGTH), "The length does not describe the body");
+    }
+
+    @Test
+    void testDecompressedBodyIsLimited() throws IOException {
+        final var gzipped = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(gzipped)) {
+            out.write(PAYLOAD);
+        }
+        final var encoded = gzipped.toByteArray();
+        assertThrows(IOException.class,
+            () -> read(filter(new BodySizeLimits(0, 10, OversizedBodyPolicy.MISSING), encoded), "gzip"));
+        assertArrayEquals(Arrays.copyOf(PAYLOAD, 10),
+            read(filter(new BodySizeLimits(0, 10, OversizedBodyPolicy.TRUNCATE), encoded), "gzip"));
+        assertArrayEquals(PAYLOAD,
+            read(filter(new BodySizeLimits(encoded.length, PAYLOAD.length, OversizedBodyPolicy.MISSING), encoded),
+                "gzip"));
+    }
+
+    private static InputStream filter(final BodySizeLimits limits, final byte[] body) throws IOException {
+        return filter(limits, new ByteArrayInputStream(body), new MultivaluedHashMap<>());
+    }
+
+    private static InputStream filter(final BodySizeLimits limits, final InputStream body,
+        final MultivaluedHashMap<String, String> headers) throws IOException {
+        final var entity = new AtomicReference<InputStream>(body);
+        final var response = mock(ClientResponseContext.class);
+        when(response.hasEntity()).thenReturn(true);
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getHeaderString(Mockito.anyString())).thenAnswer(i -> headers.getFirst(i.getArgument(0)));
+        when(response.getEntityStream()).thenAnswer(i -> entity.get());
+        Mockito.doAnswer(i -> {
+            entity.set(i.getArgument(0));
+            return null;
+        }).when(response).setEntityStream(Mockito.any());
+        limits.filter(mock(ClientRequestContext.class), response);
+        return entity.get();
+    }
+
+    private static byte[] read(final InputStream entity, final String contentEncoding) throws IOException {
+        try (final var in = ContentEncodings.decode(entity, contentEncoding)) {
+            return in.readAllBytes();
+        }
+    }
+}
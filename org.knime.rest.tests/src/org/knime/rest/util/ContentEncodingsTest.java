@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the decoding of {@code Content-Encoding}s in {@link ContentEncodings}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class ContentEncodingsTest {
+
+    private static final byte[] PAYLOAD =
+        "{\"key\": \"value\", \"list\": [1, 2, 3]}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testIdentity() throws IOException {
+        assertArrayEquals(PAYLOAD, readDecoded(PAYLOAD, null));
+        assertArrayEquals(PAYLOAD, readDecoded(PAYLOAD, "identity"));
+    }
+
+    @Test
+    void testGzip() throws IOException {
+        assertArrayEquals(PAYLOAD, readDecoded(gzip(PAYLOAD), "gzip"));
+        assertArrayEquals(PAYLOAD, readDecoded(gzip(PAYLOAD), "X-GZIP"));
+    }
+
+    @Test
+    void testFalselyClaimedGzip() throws IOException {
+        assertArrayEquals(PAYLOAD, readDecoded(PAYLOAD, "gzip"), "Plain body should be returned as is");
+    }
+
+    @Test
+    void testDeflate() throws IOException {
+        assertArrayEquals(PAYLOAD, readDecoded(deflate(PAYLOAD, false), "deflate"));
+        assertArrayEquals(PAYLOAD, readDecoded(deflate(PAYLOAD, true), "deflate"), "Raw deflate not supported");
+    }
+
+    @Test
+    void testMultipleEncodings() throws IOException {
+        assertArrayEquals(PAYLOAD, readDecoded(gzip(deflate(PAYLOAD, false)), "deflate, gzip"));
+    }
+
+    @Test
+    void testUnsupportedEncoding() {
+        final var e = assertThrows(IOException.class, () -> readDecoded(PAYLOAD, "br"));
+        assertTrue(e.getMessage().contains("br"), "Encoding should be reported");
+    }
+
+    @Test
+    void testDecompressionBomb() throws IOException {
+        final var zeros = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(zeros)) {
+            writeZeros(out, 64L << 20);
+        }
+        final var bomb = gzip(zeros.toByteArray());
+        assertThrows(IOException.class, () -> readDecoded(bomb, "gzip, gzip"));
+    }
+
+    private static byte[] readDecoded(final byte[] encoded, final String contentEncoding) throws IOException {
+        try (final InputStream in = ContentEncodings.decode(new ByteArrayInputStream(encoded), contentEncoding)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] deflate(final byte[] data, final boolean raw) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (final var out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(data);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeZeros(final OutputStream out, final long count) throws IOException {
+        final var buffer = new byte[1 << 16];
+        for (long written = 0; written < count; written += buffer.length) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tests freshness, revalidation and eviction of the {@link HttpResponseCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HttpResponseCacheTest {
+
+    @TempDir
+    Path m_directory;
+
+    private static MultivaluedMap<String, String> headers(final String... nameValuePairs) {
+        final var headers = new MultivaluedHashMap<String, String>();
+        for (var i = 0; i < nameValuePairs.length; i += 2) {
+            headers.add(nameValuePairs[i], nameValuePairs[i + 1]);
+        }
+        return headers;
+    }
+
+    private static InputStream body(final int size) {
+        return new ByteArrayInputStream(new byte[size]);
+    }
+
+    private void makeAllEntriesOld() throws IOException {
+        try (var files = Files.list(m_directory)) {
+            for (final var file : (Iterable<Path>)files::iterator) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000L));
+            }
+        }
+    }
+
+    @Test
+    void storedResponseIsServedUnchanged() throws IOException {
+        final var cache = new HttpResponseCache(m_directory, 1 << 20);
+        final var content = "{\"a\": 1}".getBytes(StandardCharsets.UTF_8);
+        cache.put("GET https://example.com", 200, "OK",
+            headers("Content-Type", "application/json", "Cache-Control", "max-age=60"),
+            new ByteArrayInputStream(content));
+
+        final var entry = cache.get("GET https://example.com").orElseThrow();
+        assertTrue(entry.isUsable(System.currentTimeMillis()), "Fresh entry is not usable");
+        try (var response = entry.toResponse()) {
+            assertEquals(200, response.getStatus(), "Unexpected status");
+            assertEquals("application/json", response.getHeaderString("content-type"), "Unexpected header");
+            assertTrue(response.hasEntity(), "Body is missing");
+            try (var is = response.readEntity(InputStream.class)) {
+                assertArrayEquals(content, is.readAllBytes(), "Unexpected body");
+            }
+        }
+        assertTrue(cache.get("GET https://example.org").isEmpty(), "Unknown request found in cache");
+    }
+
+    @Test
+    void onlyStorableResponsesAreStored() {
+        assertTrue(HttpResponseCache.isStorable(200, headers("Cache-Control", "max-age=10")), "max-age");
+        assertTrue(HttpResponseCache.isStorable(200, headers("ETag", "\"v1\"")), "ETag");
+        assertTrue(HttpResponseCache.isStorable(404, headers("Last-Modified", "Wed, 21 Oct 2026 07:28:00 GMT")),
+            "Last-Modified");
+        assertFalse(HttpResponseCache.isStorable(200, headers("Cache-Control", "no-store, max-age=10")),
+            "no-store");
+        assertFalse(HttpResponseCache.isStorable(200, headers()), "No freshness and no validator");
+        assertFalse(HttpResponseCache.isStorable(500, headers("Cache-Control", "max-age=10")), "Server error");
+    }
+
+    @Test
+    void staleEntriesAreUsableWhileRevalidating() throws IOException {
+        final var cache = new HttpResponseCache(m_directory, 1 << 20);
+        final var now = System.currentTimeMillis();
+        final var entry = cache.put("key", 200, null,
+            headers("Cache-Control", "max-age=10, stale-while-revalidate=30", "ETag", "\"v1\""), body(10));
+        assertTrue(entry.isUsable(now + 5_000L), "Fresh entry is not usable");
+        assertTrue(entry.isUsable(now + 20_000L), "Entry within stale-while-revalidate is not usable");
+        assertFalse(entry.isUsable(now + 50_000L), "Stale entry is usable");
+        assertEquals(Map.of("If-None-Match", "\"v1\""), entry.getConditionalHeaders(), "Unexpected validators");
+
+        final var mustRevalidate = cache.put("other", 200, null,
+            headers("Cache-Control", "max-age=10, stale-while-revalidate=30, must-revalidate"), body(10));
+        assertFalse(mustRevalidate.isUsable(now + 20_000L), "must-revalidate is ignored");
+    }
+
+    @Test
+    void ageAndExpiresAreConsidered() throws IOException {
+        final var cache = new HttpResponseCache(m_directory, 1 << 20);
+        final var now = System.currentTimeMillis();
+        assertFalse(cache.put("aged", 200, null, headers("Cache-Control", "max-age=10", "Age", "20"), body(1))
+            .isUsable(now), "Age reported by the server is ignored");
+        assertTrue(cache.put("expires", 200, null,
+            headers("Date", "Wed, 21 Oct 2026 07:28:00 GMT", "Expires", "Wed, 21 Oct 2026 07:29:00 GMT"), body(1))
+            .isUsable(now), "Expires is ignored");
+        assertFalse(cache.put("no-cache", 200, null, headers("Cache-Control", "no-cache, max-age=10",
+            "Last-Modified", "Wed, 21 Oct 2026 07:28:00 GMT"), body(1)).isUsable(now), "no-cache is ignored");
+    }
+
+    @Test
+    void notModifiedUpdatesHeaders() throws IOException {
+        final var cache = new HttpResponseCache(m_directory, 1 << 20);
+        final var entry = cache.put("key", 200, null, headers("Cache-Control", "max-age=0", "ETag", "\"v1\"",
+            "Content-Length", "10", "X-Version", "1"), body(10));
+        assertFalse(entry.isUsable(System.currentTimeMillis() + 1_000L), "Stale entry is usable");
+
+        cache.update(entry, headers("Cache-Control", "max-age=60", "Content-Length", "0", "X-Version", "2"));
+        final var updated = cache.get("key").orElseThrow();
+        assertTrue(updated.isUsable(System.currentTimeMillis()), "Revalidated entry is not usable");
+        try (var response = updated.toResponse()) {
+            assertEquals("2", response.getHeaderString("X-Version"), "Header not updated");
+            assertEquals("10", response.getHeaderString("Content-Length"), "Content-Length must not be updated");
+            assertEquals("\"v1\"", response.getHeaderString("ETag"), "Header missing after update");
+            assertEquals(10, response.readEntity(byte[].class).length, "Body changed");
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvicted() throws IOException {
+        final var cache = new HttpResponseCache(m_directory, 2500);
+        final var freshHeaders = headers("Cache-Control", "max-age=60");
+        cache.put("a", 200, null, freshHeaders, body(1000));
+        cache.put("b", 200, null, freshHeaders, body(1000));
+        makeAllEntriesOld();
+        // marks "a" as recently used, such that "b" is evicted
+        assertTrue(cache.get("a").isPresent(), "Entry evicted too early");
+        cache.put("c", 200, null, freshHeaders, body(1000));
+
+        assertTrue(cache.get("a").isPresent(), "Recently used entry evicted");
+        assertTrue(cache.get("b").isEmpty(), "Least recently used entry not evicted");
+        assertTrue(cache.get("c").isPresent(), "New entry evicted");
+    }
+
+    @Test
+    void responsesWithoutBodyHaveNoEntity() throws IOException {
+        final var cache = new HttpResponseCache(m_directory, 1 << 20);
+        cache.put("HEAD https://example.com", 200, null, headers("Cache-Control", "max-age=60"), null);
+        try (var response = cache.get("HEAD https://example.com").orElseThrow().toResponse()) {
+            assertFalse(response.hasEntity(), "Empty body reported as entity");
+            assertNull(response.getEntity(), "Empty body returned");
+        }
+    }
+}
@@ -79,6 +79,17 @@ public void modify(final WidgetGroupModifier group) {
             group.find(ResponseBodyColumnModRef.class).removeAnnotation(Widget.class);
             group.find(ResponseHeaderPolicyModRef.class).removeAnnotation(Widget.class);
             group.find(ResponseHeadersModRef.class).removeAnnotation(Widget.class);
+            group.find(ExplodeBodyModeModRef.class).removeAnnotation(Widget.class);
+            group.find(ExplodeBodyPointerModRef.class).removeAnnotation(Widget.class);
+            group.find(ExplodeBodyElementPathModRef.class).removeAnnotation(Widget.class);
+            group.find(JSONFieldsModRef.class).removeAnnotation(Widget.class);
+            group.find(OutputBodyModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadBodiesModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadDirectoryModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadFileNameModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadRangesModRef.class).removeAnnotation(Widget.class);
+            group.find(DeduplicateBodiesModRef.class).removeAnnotation(Widget.class);
+            group.find(OutputBodyHashModRef.class).removeAnnotation(Widget.class);
         }
 
     }
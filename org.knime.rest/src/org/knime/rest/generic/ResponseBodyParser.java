@@ -48,16 +48,13 @@
  */
 package org.knime.rest.generic;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.InflaterInputStream;
 
 import org.apache.commons.io.ByteOrderMark;
 import org.apache.commons.io.input.BOMInputStream;
@@ -68,9 +65,8 @@
 import org.knime.core.data.DataCellFactory.FromReader;
 import org.knime.core.data.DataType;
 import org.knime.core.data.MissingCell;
-import org.knime.core.data.MissingValue;
-import org.knime.core.data.StringValue;
 import org.knime.core.node.ExecutionContext;
+import org.knime.rest.util.ContentEncodings;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -175,31 +171,44 @@ public DataType producedDataType() {
         public DataCell create(final Response response) {
             final MediaType mediaType = response.getMediaType();
             if (supportedMediaType().isCompatible(mediaType)) {
-                final DataCellFactory dataCellFactory = getCellFactory();
-                final String charset = mediaType.getParameters().get("charset");
-                if (isKnownCharset(charset) && (dataCellFactory instanceof FromReader)) {
-                    final FromReader fromReader = (FromReader)dataCellFactory;
-                    try (final Reader reader = new InputStreamReader(responseInputStream(response), charset)) {
-                        return fromReader.createCell(reader);
-                    } catch (IOException | ParseException e) {
-                        return new MissingCell(e.getMessage());
-                    }
-                } else if (dataCellFactory instanceof FromInputStream) {
-                    final FromInputStream fromInputStream = (FromInputStream)dataCellFactory;
-                    try (final InputStream is = responseInputStream(response)) {
-                        return fromInputStream.createCell(is);
-                    } catch (IOException | RuntimeException e) {
-                        return new MissingCell(e.getMessage());
-                    }
-                } else {
-                    return new MissingCell("Cannot produce the requested type from the read input.");
-                }
+                return create(response, getCharset(mediaType));
             } else {
                 return new MissingCell(
                     "The value in the body has " + mediaType + ", but was expecting " + valueDescriptor() + " value.");
             }
         }
 
+        /**
+         * Creates the {@link DataCell} from a {@link Response} whose media type is known to be supported, e.g.
+         * because this parser has been looked up for it before. Unlike {@link #create(Response)}, the media type is
+         * neither parsed nor checked again.
+         *
+         * @param response The {@link Response} object.
+         * @param charset The charset of the body, {@code null} if none or an unsupported one is specified.
+         * @return The converted {@link DataCell}.
+         * @since 5.12
+         */
+        public DataCell create(final Response response, final Charset charset) {
+            final DataCellFactory dataCellFactory = getCellFactory();
+            if (charset != null && (dataCellFactory instanceof FromReader)) {
+                final FromReader fromReader = (FromReader)dataCellFactory;
+                try (final Reader reader = new InputStreamReader(responseInputStream(response), charset)) {
+                    return fromReader.createCell(reader);
+                } catch (IOException | ParseException e) {
+                    return new MissingCell(e.getMessage());
+                }
+            } else if (dataCellFactory instanceof FromInputStream) {
+                final FromInputStream fromInputStream = (FromInputStream)dataCellFactory;
+                try (final InputStream is = responseInputStream(response)) {
+                    return fromInputStream.createCell(is);
+                } catch (IOException | RuntimeException e) {
+                    return new MissingCell(e.getMessage());
+                }
+            } else {
+                return new MissingCell("Cannot produce the requested type from the read input.");
+            }
+        }
+
         private DataCellFactory getCellFactory() {
             if (m_cellFactory == null) {
                 m_cellFactory = m_produced.getCellFactory(m_exec).get();
@@ -212,41 +221,18 @@ private DataCellFactory getCellFactory() {
          *
          * @param response The {@link Response} from the REST call.
          * @return The {@link InputStream} that can handle {@code Content-Encoding}.
-         * @throws IOException
+         * @throws IOException if there is no entity, or its content encoding is not supported
+         * @since 5.12
          */
-        private static InputStream responseInputStream(final Response response) throws IOException {
+        protected static InputStream responseInputStream(final Response response) throws IOException {
             if (!response.hasEntity()) {
                 throw new IOException(response.getStatusInfo().getReasonPhrase());
             }
-            final var entity =
-                new BufferedInputStream(new BOMInputStream(response.readEntity(InputStream.class), ByteOrderMark.UTF_8,
-                    ByteOrderMark.UTF_16BE, ByteOrderMark.UTF_16LE, ByteOrderMark.UTF_32BE, ByteOrderMark.UTF_32LE));
-            final var contentEncoding = response.getHeaderString("Content-Encoding");
-            if (contentEncoding != null) {
-                //https://en.wikipedia.org/wiki/HTTP_compression#Content-Encoding_tokens
-                switch (contentEncoding) {
-                    case "gzip": // NOSONAR too complex case block
-                        try {
-                            entity.mark(1024);
-                            return new GZIPInputStream(entity);
-                        } catch (final IOException e) {
-                            // seen this with some web pages - claiming gzip in header but really aren't.
-                            try {
-                                entity.reset();
-                                return entity;
-                            } catch (IOException e2) { // NOSONAR - report the more severe problem
-                                throw new UncheckedIOException(e);
-                            }
-                        }
-                    case "deflate":
-                        return new InflaterInputStream(entity);
-                    case "identity":
-                        return entity;
-                    default:
-                        throw new UnsupportedOperationException("Not supported content encoding: " + contentEncoding);
-                }
-            }
-            return entity;
+            //https://en.wikipedia.org/wiki/HTTP_compression#Content-Encoding_tokens
+            final var decoded = ContentEncodings.decode(response.readEntity(InputStream.class),
+                response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER));
+            return new BOMInputStream(decoded, ByteOrderMark.UTF_8, ByteOrderMark.UTF_16BE, ByteOrderMark.UTF_16LE,
+                ByteOrderMark.UTF_32BE, ByteOrderMark.UTF_32LE);
         }
 
         /**
@@ -257,33 +243,43 @@ public String valueDescriptor() {
             return m_produced.getName();
         }
 
-        private static boolean isKnownCharset(final String charset) {
+        /**
+         * @param mediaType A {@link MediaType}, may be {@code null}.
+         * @return The charset specified by the media type, {@code null} if none or an unsupported one is specified.
+         * @since 5.12
+         */
+        public static Charset getCharset(final MediaType mediaType) {
+            final var charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
             if (StringUtils.isEmpty(charset)) {
-                return false;
+                return null;
             }
 
             try {
-                Charset.forName(charset);
-                return true;
+                return Charset.forName(charset);
             } catch (IllegalArgumentException ex) {
-                return false;
+                return null;
             }
         }
     }
 
     /**
-     * Always produces missing values.
+     * Always produces missing values. Their message is the beginning of the (error) body, which is read as text
+     * without being parsed, at most {@value #MAX_MESSAGE_SIZE} bytes of it, or else the reason phrase of the status.
      */
     public static class Missing extends Default {
 
-        private ResponseBodyParser m_wrapped;
+        /**
+         * The maximum number of bytes of the body read for the message of the missing value.
+         *
+         * @since 5.12
+         */
+        public static final int MAX_MESSAGE_SIZE = 8 * 1024;
 
         /**
          * @param wrapped The {@link ResponseBodyParser} to wrap.
          */
         public Missing(final ResponseBodyParser wrapped) {
             super(wrapped.supportedMediaType(), wrapped.producedDataType());
-            m_wrapped = wrapped;
         }
 
         /**
@@ -291,15 +287,33 @@ public Missing(final ResponseBodyParser wrapped) {
          */
         @Override
         public DataCell create(final Response response) {
-            final DataCell orig = m_wrapped.create(response);
-            if (orig instanceof StringValue) {
-                final StringValue sv = (StringValue)orig;
-                return new MissingCell(sv.getStringValue());
-            } else if (orig instanceof MissingValue) {
-                return orig;
-            } else {
+            if (!response.hasEntity()) {
                 return new MissingCell(response.getStatusInfo().getReasonPhrase());
             }
+            final var charset = getCharset(response.getMediaType());
+            try (final InputStream is = responseInputStream(response)) {
+                final var message = readMessage(is, charset != null ? charset : StandardCharsets.UTF_8);
+                return new MissingCell(StringUtils.isBlank(message) ? response.getStatusInfo().getReasonPhrase()
+                    : message);
+            } catch (IOException | RuntimeException e) {
+                return new MissingCell(e.getMessage());
+            }
+        }
+
+        /**
+         * Reads the beginning of a body as text, the rest of the body is not read.
+         *
+         * @param body the decoded body
+         * @param charset the charset of the body
+         * @return at most {@value #MAX_MESSAGE_SIZE} bytes of the body as text, followed by {@code ...} if the body is
+         *         longer
+         * @throws IOException if the body cannot be read
+         * @since 5.12
+         */
+        public static String readMessage(final InputStream body, final Charset charset) throws IOException {
+            final var head = body.readNBytes(MAX_MESSAGE_SIZE);
+            final var message = new String(head, charset);
+            return body.read() < 0 ? message : (message + "...");
         }
 
         /**
@@ -49,6 +49,9 @@
 package org.knime.rest.internals.kerberos;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.cxf.common.util.Base64Utility;
 import org.apache.cxf.common.util.PropertyUtils;
@@ -59,15 +62,24 @@
 import org.apache.cxf.transport.http.auth.HttpAuthSupplier;
 import org.ietf.jgss.GSSContext;
 import org.ietf.jgss.GSSCredential;
+import org.ietf.jgss.GSSException;
 import org.ietf.jgss.GSSManager;
 import org.ietf.jgss.GSSName;
 import org.ietf.jgss.Oid;
+import org.knime.core.node.NodeLogger;
 import org.knime.kerberos.api.KerberosDelegationProvider;
 import org.knime.kerberos.api.KerberosDelegationProvider.KerberosDelegationCallback;
 
 /**
  *{@link HttpAuthSupplier} implementation that uses the {@link KerberosDelegationProvider} to get the proper
  * service ticket and also supports user delegation if executed on the KNIME Server.
+ * <p>
+ * The credential obtained from the delegation provider, or without delegation an initiator credential acquired from
+ * the login context of the provider, is cached per service principal until shortly before its lifetime ends, such
+ * that concurrent requests do not queue up at the blocking provider. Each request still gets a
+ * token of its own, as servers reject replayed tokens. Requests to servers that established a session after the
+ * Negotiate handshake are sent with the {@link SessionCookies} instead of a token; if a server rejects the session,
+ * the token is sent in reply to its challenge.
  *
  * @author Bjoern Lohrmann, KNIME GmbH
  * @author Tobias Koetter, KNIME GmbH
@@ -84,9 +96,40 @@ public class KNIMEKerberosAuthSupplier extends AbstractSpnegoAuthSupplier implem
 
     private static final String SPNEGO_OID = "1.3.6.1.5.5.2";
 
+    /** The number of seconds before the end of its lifetime a cached credential is not used anymore. */
+    private static final int LIFETIME_MARGIN_SECONDS = 60;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(KNIMEKerberosAuthSupplier.class);
+
+    private final Map<String, CachedCredential> m_credentials = new ConcurrentHashMap<>();
+
+    private final SessionCookies m_sessionCookies = new SessionCookies();
+
+    /**
+     * A credential of the delegation provider together with the canonical name of the service it is used for.
+     *
+     * @param credential the credential
+     * @param serverName the canonical name of the service principal
+     * @param expiresAt the time in milliseconds after which the credential is not used anymore
+     */
+    private record CachedCredential(GSSCredential credential, GSSName serverName, long expiresAt) {
+
+        boolean isValid() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+
     @Override
     public boolean requiresRequestCaching() {
-        return false;
+        // a request sent with a session which the server rejects is sent again with a token
+        return m_sessionCookies.isInUse();
+    }
+
+    /**
+     * @return the cookies of the sessions established with the servers
+     */
+    SessionCookies getSessionCookies() {
+        return m_sessionCookies;
     }
 
     @Override
@@ -96,6 +139,10 @@ public String getAuthorization(final AuthorizationPolicy authPolicy, final URI c
         if (!HttpAuthHeader.AUTH_TYPE_NEGOTIATE.equals(authPolicy.getAuthorizationType())) {
             return null;
         }
+        if (fullHeader == null && m_sessionCookies.hasSession(currentURI)) {
+            // preemptively, the request is authenticated by its session cookie
+            return null;
+        }
         try {
             final String spn = getCompleteServicePrincipalName(currentURI);
 
@@ -110,20 +157,64 @@ public String getAuthorization(final AuthorizationPolicy authPolicy, final URI c
         }
     }
 
-    private static byte[] getToken(final String spn, final Oid oid) throws Exception {
+    private byte[] getToken(final String spn, final Oid oid) throws Exception {
+        final var key = oid + " " + spn;
+        final var cached = m_credentials.get(key);
+        if (cached != null && cached.isValid()) {
+            try {
+                return initSecContext(cached.credential(), cached.serverName(), oid);
+            } catch (GSSException e) {
+                // e.g. the ticket has been revoked, ask the delegation provider again
+                LOGGER.debug("Could not reuse the Kerberos credential for " + spn + ": " + e.getMessage(), e);
+                m_credentials.remove(key, cached);
+            }
+        }
 
         return KerberosDelegationProvider.doWithConstrainedDelegationBlocking(new KerberosDelegationCallback<byte[]>() {
             @Override
             public byte[] doAuthenticated(final GSSCredential credential) throws Exception {
 
                 final GSSManager manager = GSSManager.getInstance();
-                final GSSName serverName = manager.createName(spn, null);
-
-                final GSSContext context =
-                    manager.createContext(serverName.canonicalize(oid), oid, credential, GSSContext.DEFAULT_LIFETIME);
-
-                return context.initSecContext(new byte[0], 0, 0);
+                final GSSName serverName = manager.createName(spn, null).canonicalize(oid);
+
+                // Without delegation, the credential is null and the default credential of the login context would
+                // only be available within this callback. An explicit credential carries the ticket-granting ticket
+                // of the login context, hence it can also be used outside of the callback.
+                final GSSCredential initiator = credential != null ? credential
+                    : manager.createCredential(null, GSSCredential.DEFAULT_LIFETIME, oid, GSSCredential.INITIATE_ONLY);
+                final byte[] token = initSecContext(initiator, serverName, oid);
+                cache(key, initiator, serverName);
+                return token;
             }
         }, null);
     }
+
+    /**
+     * Caches the credential until shortly before the end of its lifetime.
+     */
+    private void cache(final String key, final GSSCredential credential, final GSSName serverName)
+        throws GSSException {
+        final int lifetime = credential.getRemainingLifetime();
+        if (lifetime == GSSCredential.INDEFINITE_LIFETIME) {
+            m_credentials.put(key, new CachedCredential(credential, serverName, Long.MAX_VALUE));
+        } else if (lifetime > LIFETIME_MARGIN_SECONDS) {
+            m_credentials.put(key, new CachedCredential(credential, serverName,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(lifetime - (long)LIFETIME_MARGIN_SECONDS)));
+        }
+    }
+
+    /**
+     * Creates the initial token of a new security context, which carries a fresh authenticator.
+     */
+    private static byte[] initSecContext(final GSSCredential credential, final GSSName serverName, final Oid oid)
+        throws GSSException {
+        final GSSContext context =
+            GSSManager.getInstance().createContext(serverName, oid, credential, GSSContext.DEFAULT_LIFETIME);
+        try {
+            return context.initSecContext(new byte[0], 0, 0);
+        } finally {
+            // the response token of the server is not processed
+            context.dispose();
+        }
+    }
 }
@@ -74,12 +74,17 @@
  */
 public class KerberosAuthentication extends EachRequestAuthentication {
 
+    /** Shared by all requests, such that they reuse its cached credentials and sessions. */
+    private final KNIMEKerberosAuthSupplier m_authSupplier = new KNIMEKerberosAuthSupplier();
+
     @Override
     public Builder updateRequest(final Builder request, final DataRow row, final CredentialsProvider credProvider,
         final Map<String, FlowVariable> flowVariables) {
 
-        WebClient.getConfig(request).getHttpConduit().setAuthSupplier(new KNIMEKerberosAuthSupplier());
-        WebClient.getConfig(request).getHttpConduit().getAuthorization().setAuthorizationType("Negotiate");
+        final var config = WebClient.getConfig(request);
+        config.getHttpConduit().setAuthSupplier(m_authSupplier);
+        config.getHttpConduit().getAuthorization().setAuthorizationType("Negotiate");
+        m_authSupplier.getSessionCookies().register(config);
         return request;
     }
 
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.internals.kerberos;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.jaxrs.client.ClientConfiguration;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+/**
+ * Remembers the cookies servers set in response to requests authenticated via Kerberos and sends them along with
+ * further requests to the same origin. Servers establishing a session after a successful Negotiate handshake then
+ * recognize the following requests by their session, such that no Kerberos token has to be created for them, see
+ * {@link KNIMEKerberosAuthSupplier}. Cookies are held per origin, i.e. scheme, host and port, their path and secure
+ * attributes are respected and expired ones are dropped.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SessionCookies {
+
+    /** The maximum number of origins whose cookies are remembered. */
+    private static final int MAX_ORIGINS = 256;
+
+    private static final String SET_COOKIE = "Set-Cookie";
+
+    private final Map<String, Map<String, HttpCookie>> m_cookies = new ConcurrentHashMap<>();
+
+    private final AbstractPhaseInterceptor<Message> m_sender = new AbstractPhaseInterceptor<>(Phase.PRE_LOGICAL) {
+        @Override
+        public void handleMessage(final Message message) {
+            final var uri = getURI(message);
+            final Map<String, List<String>> headers = CastUtils.cast((Map<?, ?>)message.get(Message.PROTOCOL_HEADERS));
+            if (uri == null || headers == null
+                || headers.keySet().stream().anyMatch(HttpHeaders.COOKIE::equalsIgnoreCase)) {
+                // cookies set by the user take precedence
+                return;
+            }
+            final var cookie = getCookieHeader(uri);
+            if (cookie != null) {
+                headers.put(HttpHeaders.COOKIE, new ArrayList<>(List.of(cookie)));
+            }
+        }
+    };
+
+    private final AbstractPhaseInterceptor<Message> m_receiver = new AbstractPhaseInterceptor<>(Phase.RECEIVE) {
+        @Override
+        public void handleMessage(final Message message) {
+            final var status = message.get(Message.RESPONSE_CODE);
+            final var uri = message.getExchange() == null ? null : getURI(message.getExchange().getOutMessage());
+            final Map<String, List<String>> headers = CastUtils.cast((Map<?, ?>)message.get(Message.PROTOCOL_HEADERS));
+            if (!(status instanceof Integer code) || code < 200 || code >= 300 || uri == null || headers == null) {
+                return;
+            }
+            headers.entrySet().stream().filter(e -> SET_COOKIE.equalsIgnoreCase(e.getKey()))
+                .flatMap(e -> e.getValue().stream()).forEach(value -> received(uri, value));
+        }
+    };
+
+    /**
+     * Makes the requests of the given client send the remembered cookies and remember the ones set by the server.
+     *
+     * @param config the configuration of the client of a request
+     */
+    void register(final ClientConfiguration config) {
+        config.getOutInterceptors().add(m_sender);
+        config.getInInterceptors().add(m_receiver);
+    }
+
+    /**
+     * @return whether any cookie is remembered, such that requests may be authenticated by a session
+     */
+    boolean isInUse() {
+        return !m_cookies.isEmpty();
+    }
+
+    /**
+     * @param uri the URI of a request
+     * @return whether cookies are sent along with the request
+     */
+    boolean hasSession(final URI uri) {
+        return getCookieHeader(uri) != null;
+    }
+
+    /**
+     * @param uri the URI of a request
+     * @return the value of the {@code Cookie} header of the request, {@code null} if there are no cookies to send
+     */
+    String getCookieHeader(final URI uri) {
+        final var cookies = m_cookies.get(getOrigin(uri));
+        if (cookies == null) {
+            return null;
+        }
+        cookies.values().removeIf(HttpCookie::hasExpired);
+        final var path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        final var secure = "https".equalsIgnoreCase(uri.getScheme());
+        final var header = cookies.values().stream()
+            .filter(c -> (c.getPath() == null || path.startsWith(c.getPath())) && (secure || !c.getSecure()))
+            .map(c -> c.getName() + "=" + c.getValue()).collect(Collectors.joining("; "));
+        return header.isEmpty() ? null : header;
+    }
+
+    /**
+     * @param uri the URI of the request the cookie was set in response to
+     * @param setCookie the value of a {@code Set-Cookie} header
+     */
+    void received(final URI uri, final String setCookie) {
+        final List<HttpCookie> cookies;
+        try {
+            cookies = HttpCookie.parse(setCookie);
+        } catch (IllegalArgumentException e) { // NOSONAR a malformed cookie is not sent back
+            return;
+        }
+        final var origin = getOrigin(uri);
+        if (!m_cookies.containsKey(origin) && m_cookies.size() >= MAX_ORIGINS) {
+            return;
+        }
+        final var originCookies = m_cookies.computeIfAbsent(origin, o -> new ConcurrentHashMap<>());
+        for (final HttpCookie cookie : cookies) {
+            if (cookie.hasExpired()) {
+                // e.g. the server ending the session
+                originCookies.remove(cookie.getName());
+            } else {
+                originCookies.put(cookie.getName(), cookie);
+            }
+        }
+    }
+
+    private static URI getURI(final Message message) {
+        if (message == null) {
+            return null;
+        }
+        // the address of a client request is the complete URI, including the query
+        final var address = message.get(Message.ENDPOINT_ADDRESS);
+        try {
+            final var uri = address instanceof String s ? URI.create(s) : null;
+            return uri != null && uri.isAbsolute() && uri.getHost() != null ? uri : null;
+        } catch (IllegalArgumentException e) { // NOSONAR the request fails anyway
+            return null;
+        }
+    }
+
+    private static String getOrigin(final URI uri) {
+        return (uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort()).toLowerCase(Locale.ROOT);
+    }
+}
@@ -49,15 +49,18 @@
 package org.knime.rest.nodes.common;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongPredicate;
 import java.util.regex.Pattern;
@@ -79,6 +82,7 @@
 import org.knime.core.util.ThreadPool;
 import org.knime.rest.util.CooldownContext;
 import org.knime.rest.util.DelayPolicy;
+import org.knime.rest.util.HttpResponseCache;
 import org.knime.rest.util.InvalidURLPolicy;
 import org.knime.rest.util.StatusOnlyResponse;
 
@@ -139,6 +143,10 @@
 
     private long m_tableSize = 1;
 
+    private RequestDeduplicator m_deduplicator;
+
+    private HttpResponseCache m_responseCache;
+
     /**
      * Default constructor, stores the needed execution context.
      */
@@ -258,6 +266,23 @@ private static void closeResponse(final Response response) {
     public abstract InvocationTriple createInvocationTriple(final DataRow row, boolean forceRefresh)
             throws InvalidSettingsException, IOException;
 
+    /**
+     * Creates a REST {@link Invocation} object which sends the given headers in addition to the configured ones.
+     * Used for conditional requests revalidating a cached response. The default implementation ignores the
+     * additional headers, such that cached responses are always fetched again once they are stale.
+     *
+     * @param row the data row currently processed
+     * @param forceRefresh whether to force refresh any access tokens, if supported
+     * @param additionalHeaders headers to add to the request
+     * @return the invocation and client object if successful
+     * @throws InvalidSettingsException if the invocation object could not be created
+     * @throws IOException if the invocation creation failed due to an invalid URL or refreshing the token failed
+     */
+    protected InvocationTriple createInvocationTriple(final DataRow row, final boolean forceRefresh,
+        final Map<String, String> additionalHeaders) throws InvalidSettingsException, IOException {
+        return createInvocationTriple(row, forceRefresh);
+    }
+
     /**
      * Analyzes the {@link Response} for implementation-specific exceptions holders,
      * which the JAX-RS specification does not provide. Re-throws as {@link ProcessingException}
@@ -268,6 +293,68 @@ public abstract InvocationTriple createInvocationTriple(final DataRow row, boole
      */
     public abstract void inspectAndThrowException(final Response response) throws ProcessingException;
 
+    /**
+     * Called if the server rejected the {@code Expect} request header with status 417 (Expectation Failed).
+     * Implementations can stop sending the header, in which case the request is repeated once.
+     *
+     * @return whether the request should be repeated
+     */
+    protected boolean handleExpectationFailed() {
+        return false;
+    }
+
+    /**
+     * Called with each response before it is handed to the response handler, e.g. to evaluate headers which are
+     * not part of the output. Must not consume the entity. Does nothing by default.
+     *
+     * @param row the data row the request was sent for
+     * @param response the received response
+     */
+    protected void inspectResponse(final DataRow row, final Response response) {
+        // nothing to inspect by default
+    }
+
+    /**
+     * Creates the key identifying the request for the given row. Rows with equal keys result in identical requests,
+     * such that only one of them has to be sent if a {@link #setRequestDeduplicator(RequestDeduplicator)
+     * deduplicator} is set.
+     *
+     * @param row the data row currently processed
+     * @return the key, or {@code null} if the request must be sent in any case
+     */
+    protected Object createRequestKey(final DataRow row) {
+        return null;
+    }
+
+    /**
+     * Sets the deduplicator used to avoid sending identical requests multiple times.
+     *
+     * @param deduplicator the deduplicator, or {@code null} to send all requests
+     */
+    void setRequestDeduplicator(final RequestDeduplicator deduplicator) {
+        m_deduplicator = deduplicator;
+    }
+
+    /**
+     * Creates the key identifying the request for the given row in the persistent {@link HttpResponseCache}. In
+     * contrast to {@link #createRequestKey(DataRow)}, the key must be stable across executions.
+     *
+     * @param row the data row currently processed
+     * @return the key, or {@code null} if the response must not be cached
+     */
+    protected String createCacheKey(final DataRow row) {
+        return null;
+    }
+
+    /**
+     * Sets the persistent cache answering requests without contacting the server.
+     *
+     * @param responseCache the cache, or {@code null} to send all requests
+     */
+    void setResponseCache(final HttpResponseCache responseCache) {
+        m_responseCache = responseCache;
+    }
+
     /**
      * Tells the executor how large the table to process is.
      * Progress updates will be adjusted accordingly.
@@ -362,6 +449,7 @@ private static <T> T invokeInvisible(final Callable<T> task) throws Exception {
      * dependent on the global configuration in the KNIMECXFBusFactory, and the local configuration in
      * {@link RestNodeModel#createClient()}.
      * @param forceRefresh whether to force refresh any access tokens, if supported
+     * @param additionalHeaders headers to send in addition to the configured ones, e.g. for conditional requests
      * @param spec
      * @param settings
      * @param invocation
@@ -371,10 +459,11 @@ private static <T> T invokeInvisible(final Callable<T> task) throws Exception {
      * @throws IOException if the invocation creation failed due to an invalid URL or refreshing the token failed
      */
     @SuppressWarnings("resource")
-    private ResultPair performSingleRequest(final DataRow row, final boolean forceRefresh)
-            throws InvalidSettingsException, IOException {
+    private ResultPair sendRequest(final DataRow row, final boolean forceRefresh,
+        final Map<String, String> additionalHeaders) throws InvalidSettingsException, IOException {
         // creating the request invocation can cause an ISE, see AP-20219
-        final var triple = createInvocationTriple(row, forceRefresh);
+        final var triple = additionalHeaders.isEmpty() ? createInvocationTriple(row, forceRefresh)
+            : createInvocationTriple(row, forceRefresh, additionalHeaders);
         Response response = null;
         MissingCell missing = null;
         try (var c = ThreadLocalHTTPAuthenticator.suppressAuthenticationPopups()) {
@@ -391,7 +480,14 @@ private ResultPair performSingleRequest(final DataRow row, final boolean forceRe
                     Status.UNAUTHORIZED.name(), //
                     Status.UNAUTHORIZED.getStatusCode());
 
-                return performSingleRequest(row, true);
+                return sendRequest(row, true, additionalHeaders);
+            }
+            if (response.getStatus() == Status.EXPECTATION_FAILED.getStatusCode() && handleExpectationFailed()) {
+                LOGGER.debugWithFormat("Received %s (%d) -- retrying without 'Expect: 100-continue'", //
+                    Status.EXPECTATION_FAILED.name(), //
+                    Status.EXPECTATION_FAILED.getStatusCode());
+                closeResponse(response);
+                return sendRequest(row, forceRefresh, additionalHeaders);
             }
         } catch (ProcessingException e) {
             LOGGER.warn("Call #%s failed: %s".formatted(m_consumedRows.get() + 1, e.getMessage()), e);
@@ -418,6 +514,62 @@ private ResultPair performSingleRequest(final DataRow row, final boolean forceRe
         return new ResultPair(response, missing);
     }
 
+    /**
+     * Performs the request for the given row, answering it from the {@link HttpResponseCache} if possible. Fresh
+     * cache entries are served without contacting the server, hence without being subject to rate limiting. Stale
+     * entries are revalidated with a conditional request, a {@code 304 Not Modified} answer is served from the cache.
+     * Storable responses are written to the cache before being handed to the response handler.
+     *
+     * @param row the data row currently processed
+     * @return the result of the request
+     * @throws InvalidSettingsException if the invocation object could not be created
+     * @throws IOException if the invocation creation failed due to an invalid URL or refreshing the token failed
+     */
+    @SuppressWarnings("resource")
+    private ResultPair performSingleRequest(final DataRow row) throws InvalidSettingsException, IOException {
+        final var key = m_responseCache == null ? null : createCacheKey(row);
+        if (key == null) {
+            return sendRequest(row, false, Map.of());
+        }
+        final var cached = m_responseCache.get(key).orElse(null);
+        if (cached != null && cached.isUsable(System.currentTimeMillis())) {
+            try {
+                return new ResultPair(cached.toResponse(), null, true);
+            } catch (IOException e) { // NOSONAR evicted meanwhile, send the request instead
+                LOGGER.debug("Could not read cached response: " + e.getMessage(), e);
+            }
+        }
+        final var result = sendRequest(row, false, cached == null ? Map.of() : cached.getConditionalHeaders());
+        final var response = result.response();
+        if (response == null || result.missing() != null) {
+            return result;
+        }
+        final var status = response.getStatus();
+        try {
+            if (cached != null && status == Status.NOT_MODIFIED.getStatusCode()) {
+                try {
+                    return new ResultPair(m_responseCache.update(cached, response.getStringHeaders()).toResponse(),
+                        null);
+                } finally {
+                    closeResponse(response);
+                }
+            }
+            if (HttpResponseCache.isStorable(status, response.getStringHeaders())) {
+                try (var body = response.hasEntity() ? response.readEntity(InputStream.class) : null) {
+                    final var stored = m_responseCache.put(key, status, response.getStatusInfo().getReasonPhrase(),
+                        response.getStringHeaders(), body);
+                    return new ResultPair(stored.toResponse(), null);
+                } finally {
+                    closeResponse(response);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Call #%s failed: %s".formatted(m_consumedRows.get() + 1, e.getMessage()), e);
+            return new ResultPair(new StatusOnlyResponse(status), new MissingCell(e.getMessage()));
+        }
+        return result;
+    }
+
     /**
      * First request to the REST API. This is a manual invocation of the request which can result
      * in any state, including errorneous ones. This is in constrast to {@link #makeFollowingCall(DataRow)}
@@ -432,7 +584,7 @@ private ResultPair performSingleRequest(final DataRow row, final boolean forceRe
     public DataCell[] makeFirstCall(final DataRow row) throws InvalidSettingsException, IOException {
         ResultPair result;
         try {
-            result = performSingleRequest(row, false);
+            result = performSingleRequest(row);
         } catch (MalformedURLException e) {
             // handle early abort due to invalid URL (throws exception if != MISSING)
             abortDueToInvalidURL(row, e);
@@ -440,13 +592,16 @@ public DataCell[] makeFirstCall(final DataRow row) throws InvalidSettingsExcepti
                 InvalidURLPolicy.INVALID_URL_ERROR, e.getMessage())));
 
         }
-        return firstResponseToDataCells(result);
+        return firstResponseToDataCells(result, row);
     }
 
     @SuppressWarnings("resource")
-    private DataCell[] firstResponseToDataCells(final ResultPair result) {
+    private DataCell[] firstResponseToDataCells(final ResultPair result, final DataRow row) {
         final var response = result.response();
         try {
+            if (response != null) {
+                inspectResponse(row, response);
+            }
             return m_responseHandler.handleFirstResponse(getTableSpec(), response, result.missing());
         } finally {
             closeResponse(response);
@@ -464,7 +619,20 @@ public DataCell[] getCells(final DataRow row) {
         if (cacheResult.isPresent()) {
             return cacheResult.get();
         }
-        return makeFollowingCall(row);
+        final var key = m_deduplicator == null ? null : createRequestKey(row);
+        if (key == null) {
+            return makeFollowingCall(row);
+        }
+        final var sent = new AtomicBoolean();
+        final var cells = m_deduplicator.get(key, () -> {
+            sent.set(true);
+            return makeFollowingCall(row);
+        });
+        if (!sent.get()) {
+            m_consumedRows.getAndIncrement();
+            addProgress(row);
+        }
+        return cells;
     }
 
     /**
@@ -477,7 +645,7 @@ public DataCell[] getCells(final DataRow row) {
     public DataCell[] makeFollowingCall(final DataRow row) {
         ResultPair result;
         try {
-            result = performSingleRequest(row, false);
+            result = performSingleRequest(row);
         } catch (MalformedURLException e1) {
             // handle early abort due to invalid URL
             try {
@@ -500,12 +668,15 @@ private DataCell[] followingResponseToDataCells(final ResultPair result, final D
         try {
             final var response = result.response();
             try {
+                if (response != null) {
+                    inspectResponse(row, response);
+                }
                 cells = m_responseHandler.handleFollowingResponse(getTableSpec(), response, result.missing());
             } finally {
                 closeResponse(response);
             }
             // future improvement: only when we are requesting from the same domain
-            if (m_settings.isUseDelay()) {
+            if (m_settings.isUseDelay() && !result.fromCache()) {
                 sleepWithMonitor(m_settings.getDelay(), t -> {
                     m_monitor.setMessage("Waiting until next call: %ss".formatted(TimeUnit.MILLISECONDS.toSeconds(t)));
                     return false; // wait entire time, no wake up condition
@@ -639,7 +810,12 @@ record InvocationTriple(Invocation invocation, URL url, Client client) {
      *
      * @param response the received HTTP response
      * @param missing nullable, data cell constructed from a possible error
+     * @param fromCache whether the response was served from the cache without contacting the server
      */
-    record ResultPair(Response response, MissingCell missing) {
+    record ResultPair(Response response, MissingCell missing, boolean fromCache) {
+
+        ResultPair(final Response response, final MissingCell missing) {
+            this(response, missing, false);
+        }
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.ProxyInputStream;
+import org.apache.commons.lang3.ArrayUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.blob.BinaryObjectCellFactory;
+import org.knime.core.data.blob.BinaryObjectDataCell;
+import org.knime.core.node.ExecutionContext;
+import org.knime.rest.generic.ResponseBodyParser;
+import org.knime.rest.util.ContentEncodings;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Parses response bodies into binary object cells without holding large bodies in memory. Bodies up to a threshold
+ * are read into a byte array, pre-sized by the {@code Content-Length} if it is known. Larger bodies are streamed
+ * through bounded buffers into a file store; if their {@code Content-Length} already exceeds the threshold, they are
+ * not buffered at all. The received bytes of all bodies are counted and reported as progress message.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BinaryBodyParser extends ResponseBodyParser.Default {
+
+    /** The system property overriding the maximum size of bodies which are kept in memory, in bytes. */
+    static final String PROPERTY_MEMORY_THRESHOLD = "org.knime.rest.binaryBodyMemoryThreshold";
+
+    private static final int DEFAULT_MEMORY_THRESHOLD = 1024 * 1024;
+
+    /** The number of received bytes after which the progress message is updated. */
+    private static final long PROGRESS_STEP = 1024L * 1024L;
+
+    private final int m_threshold;
+
+    private final ExecutionContext m_exec;
+
+    private final BinaryObjectCellFactory m_cellFactory;
+
+    private final AtomicLong m_receivedBytes = new AtomicLong();
+
+    /**
+     * Creates a parser whose threshold is determined by the system property {@value #PROPERTY_MEMORY_THRESHOLD}.
+     *
+     * @param mediaType the supported media type
+     * @param exec the execution context creating the file stores
+     */
+    BinaryBodyParser(final MediaType mediaType, final ExecutionContext exec) {
+        this(mediaType, exec, Integer.getInteger(PROPERTY_MEMORY_THRESHOLD, DEFAULT_MEMORY_THRESHOLD));
+    }
+
+    /**
+     * @param mediaType the supported media type
+     * @param exec the execution context creating the file stores
+     * @param threshold the maximum size of bodies which are kept in memory, in bytes
+     */
+    BinaryBodyParser(final MediaType mediaType, final ExecutionContext exec, final int threshold) {
+        super(mediaType, BinaryObjectDataCell.TYPE, exec);
+        m_threshold = Math.max(0, threshold);
+        m_exec = exec;
+        m_cellFactory = new BinaryObjectCellFactory(exec);
+    }
+
+    @Override
+    public DataCell create(final Response response) {
+        if (!response.hasEntity() || !supportedMediaType().isCompatible(response.getMediaType())) {
+            return super.create(response);
+        }
+        // the length of encoded bodies does not tell the decoded size
+        final long length = response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER) == null
+            ? response.getLength() : -1;
+        try (var body = new CountingInputStream(responseInputStream(response))) {
+            if (length > m_threshold) {
+                return m_cellFactory.create(body);
+            }
+            var head = length >= 0 ? readFully(body, (int)length) : body.readNBytes(m_threshold + 1);
+            if (head.length <= m_threshold) {
+                final var next = body.read();
+                if (next < 0) {
+                    return m_cellFactory.create(head);
+                }
+                head = ArrayUtils.add(head, (byte)next);
+            }
+            // longer than announced or than the threshold, the remainder is not buffered
+            return m_cellFactory.create(new SequenceInputStream(new ByteArrayInputStream(head), body));
+        } catch (IOException | RuntimeException e) {
+            return new MissingCell(e.getMessage());
+        }
+    }
+
+    /** Reads the announced number of bytes into an array of that size, shortened if the body ends earlier. */
+    private static byte[] readFully(final InputStream body, final int length) throws IOException {
+        final var bytes = new byte[length];
+        final var read = body.readNBytes(bytes, 0, length);
+        return read == length ? bytes : Arrays.copyOf(bytes, read);
+    }
+
+    /**
+     * @return the number of bytes of all bodies received so far
+     */
+    long getReceivedBytes() {
+        return m_receivedBytes.get();
+    }
+
+    /** Counts the received bytes and reports them once another {@link #PROGRESS_STEP} has been received. */
+    private final class CountingInputStream extends ProxyInputStream {
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        protected void afterRead(final int n) {
+            if (n <= 0) {
+                return;
+            }
+            final var total = m_receivedBytes.addAndGet(n);
+            if (m_exec != null && total / PROGRESS_STEP != (total - n) / PROGRESS_STEP) {
+                m_exec.setMessage("Received " + FileUtils.byteCountToDisplaySize(total) + " of binary response bodies");
+            }
+        }
+    }
+}
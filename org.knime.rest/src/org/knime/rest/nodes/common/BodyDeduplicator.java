@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.FileStoreCell;
+import org.knime.core.node.NodeLogger;
+import org.knime.rest.nodes.common.RestSettings.HttpMethod;
+import org.knime.rest.nodes.common.RestSettings.ResponseHeaderItem;
+import org.knime.rest.util.HashingInputStream;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Hashes the bodies of successful responses while they are parsed, such that identical bodies share a single cell
+ * and their SHA-256 hash can be output. Polling or lookup requests often receive the same documents over and over,
+ * e.g. "not found" documents or static configurations, which are then held and stored only once: a table stores a
+ * blob referenced by several rows a single time. The bodies are identified by the hash of their decoded content and
+ * their media type, since the same bytes of another media type result in another cell.
+ * <p>
+ * Only the cells of small bodies and cells referencing a file store are kept for sharing, such that the shared cells
+ * hold at most {@link #MAX_SHARED_BODIES} times {@link #MAX_SHARED_BODY_SIZE} bytes of bodies in memory.
+ * <p>
+ * A body is parsed before its hash is known, such that the file store of a large binary body duplicating an earlier
+ * one is written nevertheless, it remains unreferenced until the node is reset.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyDeduplicator {
+
+    /** The maximum number of distinct bodies whose cells are shared. */
+    static final int MAX_SHARED_BODIES = 1024;
+
+    /** The maximum decoded size of a body whose cell is held in memory for sharing. */
+    static final int MAX_SHARED_BODY_SIZE = 16 * 1024;
+
+    private static final String BODY_HASH = "Body SHA-256";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BodyDeduplicator.class);
+
+    private final boolean m_share;
+
+    private final List<ResponseHeaderItem> m_columns;
+
+    private final Map<String, DataCell> m_bodies = new ConcurrentHashMap<>();
+
+    private BodyDeduplicator(final boolean share, final boolean outputHash) {
+        m_share = share;
+        m_columns = outputHash ? List.of(new ResponseHeaderItem(BODY_HASH, StringCell.TYPE, BODY_HASH))
+            : Collections.emptyList();
+    }
+
+    /**
+     * @param settings the settings of the node
+     * @return the deduplicator, {@code null} if neither identical bodies are shared nor their hash is output
+     */
+    static BodyDeduplicator create(final RestSettings settings) {
+        if ((!settings.isDeduplicateBodies() && !settings.isOutputBodyHash())
+            || settings.getMethod().map(HttpMethod.HEAD::equals).orElse(false)) {
+            return null;
+        }
+        return new BodyDeduplicator(settings.isDeduplicateBodies(), settings.isOutputBodyHash());
+    }
+
+    /**
+     * @return the hash column if it is output, otherwise no columns
+     */
+    List<ResponseHeaderItem> getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * @return the number of distinct bodies whose cells are shared
+     */
+    int getSharedCount() {
+        return m_bodies.size();
+    }
+
+    /**
+     * Parses the body of the response, hashing it while it is read if the request was successful.
+     *
+     * @param response the response, {@code null} if the request failed
+     * @param parser parses the body cell, may return {@code null}
+     * @param successful whether the request was successful
+     * @return the body cell, possibly the one of an identical earlier body and {@code null} if the parser returns
+     *         {@code null}, followed by the hash cell if it is output
+     */
+    DataCell[] parse(final Response response, final Function<Response, DataCell> parser, final boolean successful) {
+        final var hashing = response != null && successful ? HashingInputStream.hash(response) : null;
+        final var body = parser.apply(response);
+        final var hash = hashing != null && body != null && !body.isMissing() ? finish(hashing) : null;
+        final var cell = hash != null && m_share ? share(response, hash, body, hashing.getLength()) : body;
+        if (m_columns.isEmpty()) {
+            return new DataCell[]{cell};
+        }
+        return new DataCell[]{cell, hash != null ? new StringCell(hash) : DataType.getMissingCell()};
+    }
+
+    /**
+     * @param hashing the stream the body has been read through
+     * @return the hash of the whole body, {@code null} if it could not be read completely
+     */
+    private static String finish(final HashingInputStream hashing) {
+        try {
+            // reads the rest of the body the parser did not need
+            hashing.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close the response body: " + e.getMessage(), e);
+        }
+        return hashing.getHash();
+    }
+
+    private DataCell share(final Response response, final String hash, final DataCell body, final long length) {
+        final var key = String.join("\n", hash, String.valueOf(response.getHeaderString(HttpHeaders.CONTENT_TYPE)));
+        final var shared = m_bodies.get(key);
+        if (shared != null) {
+            return shared;
+        }
+        // the cell of a large body is only kept if its content is held in a file store
+        if (m_bodies.size() < MAX_SHARED_BODIES && (length <= MAX_SHARED_BODY_SIZE || body instanceof FileStoreCell)) {
+            final var previous = m_bodies.putIfAbsent(key, body);
+            return previous != null ? previous : body;
+        }
+        return body;
+    }
+}
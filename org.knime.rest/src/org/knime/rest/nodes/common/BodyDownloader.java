@@ -0,0 +1,575 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.function.FailableFunction;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+import org.knime.rest.nodes.common.AbstractRequestExecutor.InvocationTriple;
+import org.knime.rest.nodes.common.RestSettings.HttpMethod;
+import org.knime.rest.nodes.common.RestSettings.ResponseHeaderItem;
+import org.knime.rest.util.ContentEncodings;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Writes response bodies directly to files instead of outputting them, such that they are neither held in memory nor
+ * copied into the table. Each body is streamed into a temporary file next to its target with a {@link FileChannel}
+ * and renamed to the target once it has been received completely, so that no partially written files are left
+ * behind under the final name. Existing files of earlier executions are replaced.
+ * <p>
+ * The file names are created from a template which may contain the placeholders {@value #ROW_PLACEHOLDER}, the key
+ * of the row, and {@value #NAME_PLACEHOLDER}, the file name sent in the {@code Content-Disposition} header or else
+ * the last segment of the URL path. Characters which are not allowed in file names are replaced in both. A downloader
+ * serves a single execution and does not let the bodies of different rows overwrite each other: if a file name has
+ * already been used, the key of the row is appended to it, and if that name has been used as well, the row fails.
+ * <p>
+ * Large bodies of {@code GET} requests can be downloaded in several byte ranges concurrently. The headers of the
+ * response serve as the probe: if the server accepts byte ranges ({@code Accept-Ranges: bytes}), announces the
+ * length of an unencoded body and sends a validator ({@code ETag} or {@code Last-Modified}), the response itself
+ * delivers the first range while the remaining ranges are requested with {@code Range} and {@code If-Range} headers
+ * and written to their positions in the temporary file. A failed range is requested again from the byte it stopped
+ * at; if a range cannot be received at all, the body is requested again and downloaded as a single stream.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyDownloader {
+
+    static final String ROW_PLACEHOLDER = "{row}";
+
+    static final String NAME_PLACEHOLDER = "{name}";
+
+    private static final Pattern CONTENT_DISPOSITION_FILE_NAME =
+        Pattern.compile("filename\\*?\\s*=\\s*(?:[\\w-]+'[\\w-]*')?(?:\"([^\"]*)\"|([^;\\s]+))",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern INVALID_FILE_NAME_CHARACTERS = Pattern.compile("[\\\\/:*?\"<>|\\x00-\\x1F]");
+
+    /** The maximum number of bytes transferred into the file at once. */
+    private static final long TRANSFER_SIZE = 8L * 1024L * 1024L;
+
+    /** The minimum size of a byte range, smaller bodies are downloaded in fewer ranges. */
+    static final long MIN_RANGE_SIZE = 8L * 1024L * 1024L;
+
+    /** The number of times a byte range is requested before giving up. */
+    private static final int MAX_RANGE_ATTEMPTS = 3;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BodyDownloader.class);
+
+    private final Path m_directory;
+
+    private final String m_fileName;
+
+    private final int m_ranges;
+
+    private final List<ResponseHeaderItem> m_columns;
+
+    /** The files written in this execution. */
+    private final Map<Path, Boolean> m_targets = new ConcurrentHashMap<>();
+
+    private BodyDownloader(final Path directory, final String fileName, final int ranges) {
+        m_directory = directory;
+        m_fileName = fileName;
+        m_ranges = ranges;
+        m_columns = List.of(new ResponseHeaderItem("Path", StringCell.TYPE, "Path"),
+            new ResponseHeaderItem("Size", LongCell.TYPE, "Size"));
+    }
+
+    /**
+     * @param settings the node settings
+     * @return the downloader configured in the settings, {@code null} if the bodies are not downloaded
+     * @throws InvalidSettingsException if the directory is invalid, blank or relative
+     */
+    static BodyDownloader create(final RestSettings settings) throws InvalidSettingsException {
+        if (!settings.isDownloadBodies() || settings.getMethod().map(HttpMethod.HEAD::equals).orElse(false)) {
+            return null;
+        }
+        CheckUtils.checkSetting(StringUtils.isNotBlank(settings.getDownloadDirectory()),
+            "The directory to download the response bodies to must not be empty.");
+        try {
+            // a relative path would resolve against the working directory of the application
+            final var path = Path.of(settings.getDownloadDirectory());
+            CheckUtils.checkSetting(path.isAbsolute(), "The download directory \"%s\" is not an absolute path.",
+                settings.getDownloadDirectory());
+            final var directory = path.normalize();
+            CheckUtils.checkSetting(!Files.exists(directory) || Files.isDirectory(directory),
+                "The download directory \"%s\" is not a directory.", directory);
+            // only the body of a GET request is a resource that can be requested in parts
+            final var ranges =
+                settings.getMethod().map(HttpMethod.GET::equals).orElse(false) ? settings.getDownloadRanges() : 1;
+            return new BodyDownloader(directory, settings.getDownloadFileName(), ranges);
+        } catch (InvalidPathException e) {
+            throw new InvalidSettingsException("Invalid download directory: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the output columns of the path and the size of the written files
+     */
+    List<ResponseHeaderItem> getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * @param cell the cell to output in all columns, e.g. the error of a failed request
+     * @return the cells of the columns
+     */
+    DataCell[] fill(final DataCell cell) {
+        return new DataCell[]{cell, cell};
+    }
+
+    /**
+     * Writes the body of a successful response to its file.
+     *
+     * @param response the response
+     * @param request the request the response was received for
+     * @return the path and the size of the file, missing cells if it could not be written
+     */
+    DataCell[] download(final Response response, final DownloadRequest request) {
+        if (!response.hasEntity()) {
+            return fill(new MissingCell("The response does not have a body"));
+        }
+        final Path target;
+        try {
+            target = claim(resolve(request.rowKey(), getFileName(response, request.url())), request.rowKey());
+        } catch (IOException | InvalidPathException e) {
+            return fill(new MissingCell(e.getMessage()));
+        }
+        try {
+            final var size = request.ranges() != null && getRangeCount(response, m_ranges) > 1
+                ? writeInRanges(response, target, request.ranges()) : write(response, target);
+            return new DataCell[]{new StringCell(target.toString()), new LongCell(size)};
+        } catch (IOException | RuntimeException e) {
+            // no file has been written under the name
+            m_targets.remove(target);
+            return fill(new MissingCell("Could not write the response body to \"" + target + "\": " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Reserves the path of a file for the given row, such that no other row of the execution writes to it.
+     *
+     * @param target the resolved path of the file
+     * @param rowKey the key of the row
+     * @return the path, with the row key appended to the file name if it has already been reserved
+     * @throws IOException if the path with the row key appended has been reserved as well
+     */
+    Path claim(final Path target, final String rowKey) throws IOException {
+        if (m_targets.putIfAbsent(target, Boolean.TRUE) == null) {
+            return target;
+        }
+        final var name = target.getFileName().toString();
+        final var extension = name.lastIndexOf('.');
+        final var row = sanitize(rowKey);
+        final var renamed = target.resolveSibling(extension > 0
+            ? (name.substring(0, extension) + "-" + row + name.substring(extension)) : (name + "-" + row));
+        if (m_targets.putIfAbsent(renamed, Boolean.TRUE) == null) {
+            return renamed;
+        }
+        throw new IOException("The files \"" + target + "\" and \"" + renamed
+            + "\" have already been written by other rows, consider adding " + ROW_PLACEHOLDER + " to the file name.");
+    }
+
+    /**
+     * Resolves the file name template.
+     *
+     * @param rowKey the key of the row
+     * @param name the name of the file sent by the server, {@code null} if unknown
+     * @return the path of the file
+     * @throws IOException if the path is not within the download directory
+     */
+    Path resolve(final String rowKey, final String name) throws IOException {
+        final var row = sanitize(rowKey);
+        final var fileName = m_fileName.replace(ROW_PLACEHOLDER, row)
+            .replace(NAME_PLACEHOLDER, StringUtils.isBlank(name) ? row : sanitize(name));
+        final var path = m_directory.resolve(fileName).normalize();
+        if (!path.startsWith(m_directory) || path.equals(m_directory)) {
+            throw new IOException(
+                "The file name \"" + fileName + "\" does not denote a file in the download directory");
+        }
+        return path;
+    }
+
+    /**
+     * Streams the body of the response into its file.
+     *
+     * @return the size of the file
+     */
+    private static long write(final Response response, final Path target) throws IOException {
+        try (var source = Channels.newChannel(ContentEncodings.decode(response.readEntity(InputStream.class),
+            response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER)))) {
+            return write(target, file -> transfer(source, file, 0L, Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Downloads the body in ranges, the response delivers the first one. If a range cannot be received, the whole
+     * body is requested again and streamed into the file.
+     *
+     * @return the size of the file
+     */
+    private long writeInRanges(final Response response, final Path target,
+        final FailableFunction<Map<String, String>, InvocationTriple, Exception> requests) throws IOException {
+        final var length = getLength(response);
+        final var count = getRangeCount(response, m_ranges);
+        final var validator = getValidator(response);
+        try (var source = Channels.newChannel(response.readEntity(InputStream.class))) {
+            return write(target, file -> writeRanges(source, file, length, count, requests, validator));
+        } catch (IOException e) {
+            LOGGER.debug("Could not download \"" + target + "\" in " + count + " ranges, downloading it at once: "
+                + e.getMessage(), e);
+            return send(requests, Map.of(), whole -> {
+                if (whole.getStatusInfo().getFamily() != Status.Family.SUCCESSFUL) {
+                    throw new IOException("Wrong status: " + whole.getStatus() + " "
+                        + whole.getStatusInfo().getReasonPhrase());
+                }
+                return write(whole, target);
+            });
+        }
+    }
+
+    /**
+     * Requests all but the first range concurrently and transfers the first one from the source meanwhile.
+     *
+     * @return the size of the file
+     */
+    private static long writeRanges(final ReadableByteChannel source, final FileChannel file, final long length,
+        final int count, final FailableFunction<Map<String, String>, InvocationTriple, Exception> requests,
+        final String validator) throws IOException {
+        final var rangeSize = length / count;
+        final List<Future<Void>> ranges = new ArrayList<>(count - 1);
+        try {
+            for (var i = 1; i < count; i++) {
+                final var start = i * rangeSize;
+                final var end = i == count - 1 ? (length - 1) : (start + rangeSize - 1);
+                ranges.add(KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(ThreadUtils.callableWithContext(() -> {
+                    writeRange(file, start, end, requests, validator);
+                    return null;
+                })));
+            }
+            // the waiting thread must not block a slot of the pool the ranges are requested in
+            final var pool = ThreadPool.currentPool();
+            if (pool != null) {
+                pool.runInvisible(() -> awaitRanges(source, file, rangeSize, ranges));
+            } else {
+                awaitRanges(source, file, rangeSize, ranges);
+            }
+            return length;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            // waiting invisibly wraps the failure of a range once more
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw cause instanceof IOException ioException ? ioException : new IOException(cause.getMessage(), cause);
+        } finally {
+            ranges.forEach(range -> range.cancel(true));
+        }
+    }
+
+    private static Void awaitRanges(final ReadableByteChannel source, final FileChannel file, final long rangeSize,
+        final List<Future<Void>> ranges) throws IOException, InterruptedException, ExecutionException {
+        final var received = transfer(source, file, 0L, rangeSize);
+        if (received < rangeSize) {
+            throw new IOException("The body ended after " + received + " of " + rangeSize + " bytes");
+        }
+        for (final var range : ranges) {
+            range.get();
+        }
+        return null;
+    }
+
+    /**
+     * Requests the bytes from {@code start} to {@code end} (inclusive) and writes them at their position. A failed
+     * attempt is resumed at the first byte that has not been received.
+     */
+    private static void writeRange(final FileChannel file, final long start, final long end,
+        final FailableFunction<Map<String, String>, InvocationTriple, Exception> requests, final String validator)
+        throws IOException {
+        final var position = new long[]{start};
+        for (var attempt = 1;; attempt++) {
+            try {
+                send(requests, Map.of("Range", "bytes=" + position[0] + "-" + end, "If-Range", validator), range -> {
+                    checkRange(range, position[0]);
+                    try (var source = Channels.newChannel(range.readEntity(InputStream.class))) {
+                        for (long n; position[0] <= end
+                            && (n = file.transferFrom(source, position[0], end + 1 - position[0])) > 0;) {
+                            position[0] += n;
+                        }
+                    }
+                    return null;
+                });
+                if (position[0] > end) {
+                    return;
+                }
+                throw new IOException("The range ended after " + (position[0] - start) + " of " + (end + 1 - start)
+                    + " bytes");
+            } catch (IOException e) {
+                if (attempt >= MAX_RANGE_ATTEMPTS || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                LOGGER.debug("Requesting the bytes " + position[0] + "-" + end + " again: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Checks that the response contains the unencoded bytes starting at the given position.
+     */
+    private static void checkRange(final Response range, final long position) throws IOException {
+        if (range.getStatus() != Status.PARTIAL_CONTENT.getStatusCode()) {
+            // e.g. 200 if the resource has changed in the meantime, which the ranges cannot recover from
+            throw new IOException("The server answered the range request with status " + range.getStatus() + " "
+                + range.getStatusInfo().getReasonPhrase());
+        }
+        final var encoding = range.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER);
+        final var contentRange = range.getHeaderString("Content-Range");
+        if ((encoding != null && !"identity".equalsIgnoreCase(encoding.strip())) || contentRange == null
+            || !StringUtils.startsWithIgnoreCase(contentRange.strip(), "bytes " + position + "-")) {
+            throw new IOException("The server answered the range request with the unexpected range \""
+                + contentRange + "\"");
+        }
+    }
+
+    /**
+     * Sends a request for the same resource with the given additional headers and closes the response and its
+     * client once it has been handled.
+     */
+    private static <T> T send(final FailableFunction<Map<String, String>, InvocationTriple, Exception> requests,
+        final Map<String, String> headers, final FailableFunction<Response, T, IOException> handler)
+        throws IOException {
+        final InvocationTriple triple;
+        try {
+            triple = requests.apply(headers);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) { // NOSONAR e.g. invalid settings, reported as a failed download
+            throw new IOException(e.getMessage(), e);
+        }
+        try (var response = triple.invocation().invoke(Response.class)) {
+            return handler.apply(response);
+        } catch (ProcessingException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            if (triple.client() != null) {
+                triple.client().close();
+            }
+        }
+    }
+
+    /**
+     * @return the number of ranges to download the body of the response in, 1 if it must be downloaded at once
+     */
+    static int getRangeCount(final Response response, final int maxRanges) {
+        final var encoding = response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER);
+        if (maxRanges < 2 || response.getStatus() != Status.OK.getStatusCode()
+            || !"bytes".equalsIgnoreCase(StringUtils.strip(response.getHeaderString("Accept-Ranges")))
+            || (encoding != null && !"identity".equalsIgnoreCase(encoding.strip()))
+            || getValidator(response) == null) {
+            return 1;
+        }
+        return getRangeCount(getLength(response), maxRanges);
+    }
+
+    /**
+     * @return the {@code Content-Length} of the response, -1 if unknown; {@link Response#getLength()} is limited to
+     *         integers
+     */
+    private static long getLength(final Response response) {
+        try {
+            return Long.parseLong(StringUtils.strip(response.getHeaderString(HttpHeaders.CONTENT_LENGTH)));
+        } catch (NumberFormatException e) { // NOSONAR unknown
+            return -1L;
+        }
+    }
+
+    /**
+     * @param length the length of the body, negative if unknown
+     * @param maxRanges the maximum number of ranges
+     * @return the number of ranges of at least {@link #MIN_RANGE_SIZE} bytes, at least 1
+     */
+    static int getRangeCount(final long length, final int maxRanges) {
+        return (int)Math.max(1L, Math.min(maxRanges, length / MIN_RANGE_SIZE));
+    }
+
+    /**
+     * @return the strong entity tag or else the modification date of the response, to be sent as {@code If-Range},
+     *         {@code null} if there is neither
+     */
+    private static String getValidator(final Response response) {
+        final var eTag = StringUtils.strip(response.getHeaderString(HttpHeaders.ETAG));
+        if (StringUtils.isNotEmpty(eTag) && !eTag.startsWith("W/")) {
+            return eTag;
+        }
+        return StringUtils.stripToNull(response.getHeaderString(HttpHeaders.LAST_MODIFIED));
+    }
+
+    /**
+     * Transfers at most {@code count} bytes from the source to the given position of the file.
+     *
+     * @return the number of transferred bytes, less than {@code count} if the source has ended
+     */
+    private static long transfer(final ReadableByteChannel source, final FileChannel file, final long position,
+        final long count) throws IOException {
+        var transferred = 0L;
+        // the source blocks until data is available, so nothing is transferred only at its end
+        for (long n; transferred < count
+            && (n = file.transferFrom(source, position + transferred, Math.min(TRANSFER_SIZE, count - transferred)))
+                > 0;) {
+            transferred += n;
+        }
+        return transferred;
+    }
+
+    /**
+     * Writes into a temporary file, which replaces the target once it has been written completely.
+     *
+     * @param writer writes the file and returns its size
+     * @return the size of the file
+     */
+    private static long write(final Path target, final FailableFunction<FileChannel, Long, IOException> writer)
+        throws IOException {
+        final var directory = target.getParent();
+        Files.createDirectories(directory);
+        final var part = Files.createTempFile(directory, target.getFileName().toString(), ".part");
+        try {
+            final long size;
+            try (var file = FileChannel.open(part, StandardOpenOption.WRITE)) {
+                size = writer.apply(file);
+            }
+            try {
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) { // NOSONAR fall back to a plain rename
+                Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return size;
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    /**
+     * @return the file name of the {@code Content-Disposition} header, else the last segment of the URL path,
+     *         {@code null} if neither exists
+     */
+    static String getFileName(final Response response, final URL url) {
+        final var disposition = response.getHeaderString("Content-Disposition");
+        if (disposition != null) {
+            final Matcher matcher = CONTENT_DISPOSITION_FILE_NAME.matcher(disposition);
+            if (matcher.find()) {
+                final var name = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                // extended values (filename*=UTF-8''...) are percent-encoded
+                return matcher.group().contains("*") ? URLDecoder.decode(name, StandardCharsets.UTF_8) : name;
+            }
+        }
+        if (url == null) {
+            return null;
+        }
+        final var path = url.getPath();
+        final var name = path.substring(path.lastIndexOf('/') + 1);
+        // a plus is no space in a path
+        return name.isEmpty() ? null : URLDecoder.decode(name.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The request whose response body is downloaded.
+     *
+     * @param rowKey the key of the row the request was sent for
+     * @param url the URL of the request, {@code null} if unknown
+     * @param ranges creates requests for the same resource with additional headers, used to request byte ranges,
+     *            {@code null} if the body must not be downloaded in ranges
+     */
+    record DownloadRequest(String rowKey, URL url,
+        FailableFunction<Map<String, String>, InvocationTriple, Exception> ranges) {
+    }
+
+    private static String sanitize(final String name) {
+        final var sanitized = INVALID_FILE_NAME_CHARACTERS.matcher(name).replaceAll("_");
+        return ".".equals(sanitized) || "..".equals(sanitized) ? "_" : sanitized;
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.function.FailableConsumer;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.json.JSONCell;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.core.data.xml.XMLCell;
+import org.knime.core.data.xml.XMLCellFactory;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.rest.util.BodyExplodeMode;
+import org.knime.rest.util.ContentEncodings;
+import org.xml.sax.SAXException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Splits response bodies into elements which become output rows of their own. While the requests are sent, the
+ * elements of each body are parsed from the response stream into a separate table, and the body cell only references
+ * that table. JSON and CSV bodies are parsed with a streaming JSON parser and XML bodies with StAX. Once all requests
+ * completed, {@link #expand(BufferedDataTable, int, ExecutionContext)} replaces each
+ * row by one row per element of its body. Neither a body nor its elements are ever held in memory as a whole.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyExploder {
+
+    /** The type of the body cells referencing the elements of a body until the rows are expanded. */
+    static final DataType REFERENCE_TYPE = LongCell.TYPE;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final BodyExplodeMode m_mode;
+
+    private final JsonPointer m_pointer;
+
+    private final XMLPath m_elementPath;
+
+    /** The type of the elements, XML for {@link BodyExplodeMode#XML_ELEMENTS} and JSON otherwise. */
+    private final DataType m_elementType;
+
+    private final DataTableSpec m_elementSpec;
+
+    private final ExecutionContext m_exec;
+
+    private final Map<Long, BufferedDataTable> m_elements = new ConcurrentHashMap<>();
+
+    private final AtomicLong m_nextReference = new AtomicLong();
+
+    private BodyExploder(final RestSettings settings, final ExecutionContext exec) throws InvalidSettingsException {
+        m_mode = settings.getExplodeBodyMode();
+        m_pointer = RequestBatches.compilePointer(settings.getExplodeBodyPointer(), "array pointer");
+        if (m_mode == BodyExplodeMode.XML_ELEMENTS) {
+            m_elementPath = XMLPath.compile(settings.getExplodeBodyElementPath(), "element path");
+            CheckUtils.checkSetting(m_elementPath.getAttribute() == null && !m_elementPath.isText(),
+                "The element path \"%s\" has to select elements, not attributes or text.", m_elementPath);
+            m_elementType = XMLCell.TYPE;
+        } else {
+            m_elementPath = null;
+            m_elementType = JSONCell.TYPE;
+        }
+        m_elementSpec = new DataTableSpec(new DataColumnSpecCreator("Element", m_elementType).createSpec());
+        m_exec = exec;
+    }
+
+    /**
+     * @param settings the node settings
+     * @param exec the execution context creating the tables of the elements
+     * @return the exploder configured in the settings, {@code null} if each body is output as a single cell
+     * @throws InvalidSettingsException if the array pointer or the element path is invalid
+     */
+    static BodyExploder create(final RestSettings settings, final ExecutionContext exec)
+        throws InvalidSettingsException {
+        return settings.getExplodeBodyMode() == BodyExplodeMode.NONE ? null : new BodyExploder(settings, exec);
+    }
+
+    /**
+     * Parses the elements of the body of a successful response into a table.
+     *
+     * @param response the response
+     * @return the cell referencing the elements, a missing cell if the body could not be parsed
+     */
+    DataCell explode(final Response response) {
+        if (!response.hasEntity()) {
+            return new MissingCell("The response does not have a body");
+        }
+        final var container = m_exec.createDataContainer(m_elementSpec, false, 0);
+        try (var body = ContentEncodings.decode(response.readEntity(InputStream.class),
+            response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER))) {
+            if (m_mode == BodyExplodeMode.XML_ELEMENTS) {
+                XMLStreams.split(body, m_elementPath, element -> container.addRowToTable(
+                    new DefaultRow(RowKey.createRowKey(container.size()), createXMLCell(element))));
+            } else {
+                split(m_mode, body, m_pointer, getCharset(response), element -> container.addRowToTable(
+                    new DefaultRow(RowKey.createRowKey(container.size()), JSONCellFactory.create(element, false))));
+            }
+        } catch (IOException | RuntimeException e) {
+            container.close();
+            m_exec.clearTable(container.getTable());
+            return new MissingCell("Could not split the response body: " + e.getMessage());
+        }
+        container.close();
+        final var reference = m_nextReference.getAndIncrement();
+        m_elements.put(reference, container.getTable());
+        return new LongCell(reference);
+    }
+
+    private static DataCell createXMLCell(final String element) throws IOException {
+        try {
+            return XMLCellFactory.create(element);
+        } catch (ParserConfigurationException | SAXException | XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Charset getCharset(final Response response) {
+        final var charset = response.getMediaType() == null ? null
+            : response.getMediaType().getParameters().get("charset");
+        try {
+            return StringUtils.isBlank(charset) ? StandardCharsets.UTF_8 : Charset.forName(charset.trim());
+        } catch (IllegalArgumentException e) { // NOSONAR fall back to the default of JSON and CSV
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * Replaces each row whose body cell references elements by one row per element, having the key of the row
+     * followed by {@code _<n>}. Rows of failed requests are kept as they are, rows of empty bodies are dropped.
+     *
+     * @param table the table with the body cells referencing the elements
+     * @param bodyColumn the index of the body column, -1 if there is none
+     * @param exec the execution context
+     * @return the table containing one row per element
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    BufferedDataTable expand(final BufferedDataTable table, final int bodyColumn, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        if (bodyColumn < 0 || bodyColumn >= table.getDataTableSpec().getNumColumns()) {
+            return table;
+        }
+        final var columns = table.getDataTableSpec().stream().toArray(DataColumnSpec[]::new);
+        columns[bodyColumn] = new DataColumnSpecCreator(columns[bodyColumn].getName(), m_elementType).createSpec();
+        final var container = exec.createDataContainer(new DataTableSpec(columns));
+        try (var rows = table.iterator()) {
+            var index = 0L;
+            while (rows.hasNext()) {
+                exec.checkCanceled();
+                exec.setProgress(index++ / (double)table.size());
+                final var row = rows.next();
+                final var cells = row.stream().toArray(DataCell[]::new);
+                final var elements = cells[bodyColumn] instanceof LongCell reference
+                    ? m_elements.get(reference.getLongValue()) : null;
+                if (elements == null) {
+                    container.addRowToTable(row);
+                    continue;
+                }
+                try (var elementRows = elements.iterator()) {
+                    var element = 0L;
+                    while (elementRows.hasNext()) {
+                        cells[bodyColumn] = elementRows.next().getCell(0);
+                        container.addRowToTable(
+                            new DefaultRow(new RowKey(row.getKey().getString() + "_" + ++element), cells.clone()));
+                    }
+                }
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    /**
+     * Deletes the tables of the elements.
+     */
+    void close() {
+        m_elements.values().forEach(m_exec::clearTable);
+        m_elements.clear();
+    }
+
+    /**
+     * Parses the elements of a body one after the other.
+     *
+     * @param mode how to split the body
+     * @param body the (decoded) body
+     * @param pointer the pointer to the array whose elements are returned in {@link BodyExplodeMode#JSON_ARRAY} mode
+     * @param charset the character set of CSV bodies, the one of JSON bodies is detected
+     * @param consumer consumes the JSON of each element
+     * @throws IOException if the body could not be read or parsed
+     */
+    static void split(final BodyExplodeMode mode, final InputStream body, final JsonPointer pointer,
+        final Charset charset, final FailableConsumer<String, IOException> consumer) throws IOException {
+        switch (mode) {
+            case NDJSON -> {
+                try (var parser = JSON_FACTORY.createParser(body)) {
+                    while (parser.nextToken() != null) {
+                        consumer.accept(copy(parser));
+                    }
+                }
+            }
+            case JSON_ARRAY -> {
+                try (var parser = JSON_FACTORY.createParser(body)) {
+                    parser.nextToken();
+                    if (!moveTo(parser, pointer) || parser.currentToken() != JsonToken.START_ARRAY) {
+                        throw new IOException("The body does not contain a JSON array at \"" + pointer + "\"");
+                    }
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        consumer.accept(copy(parser));
+                    }
+                }
+            }
+            case CSV -> splitCsv(new PushbackReader(new BufferedReader(new InputStreamReader(body, charset))),
+                consumer);
+            default -> throw new IllegalArgumentException("Cannot split the body in mode " + mode);
+        }
+    }
+
+    /** Copies the value the parser is positioned at. */
+    private static String copy(final JsonParser parser) throws IOException {
+        final var json = new StringWriter();
+        try (var generator = JSON_FACTORY.createGenerator(json)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Moves the parser from the start of a value to the start of the value referenced by the pointer, skipping all
+     * other values on the way.
+     *
+     * @return whether the referenced value exists
+     */
+    private static boolean moveTo(final JsonParser parser, final JsonPointer pointer) throws IOException {
+        for (var remaining = pointer; !remaining.matches(); remaining = remaining.tail()) {
+            final var token = parser.currentToken();
+            final boolean found;
+            if (token == JsonToken.START_OBJECT) {
+                found = moveToProperty(parser, remaining.getMatchingProperty());
+            } else {
+                found = token == JsonToken.START_ARRAY && remaining.getMatchingIndex() >= 0
+                    && moveToIndex(parser, remaining.getMatchingIndex());
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean moveToProperty(final JsonParser parser, final String property) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var name = parser.currentName();
+            parser.nextToken();
+            if (name.equals(property)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean moveToIndex(final JsonParser parser, final int index) throws IOException {
+        for (var i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+            if (i == index) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /** Converts each CSV record into a JSON object mapping the column names of the header to the values. */
+    private static void splitCsv(final PushbackReader reader, final FailableConsumer<String, IOException> consumer)
+        throws IOException {
+        final var header = readCsvRecord(reader);
+        if (header == null) {
+            return;
+        }
+        header.set(0, StringUtils.removeStart(header.get(0), "\uFEFF"));
+        List<String> record;
+        while ((record = readCsvRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                // blank line
+                continue;
+            }
+            final var json = new StringWriter();
+            try (var generator = JSON_FACTORY.createGenerator(json)) {
+                generator.writeStartObject();
+                for (var i = 0; i < record.size(); i++) {
+                    generator.writeStringField(i < header.size() ? header.get(i) : ("Column" + i), record.get(i));
+                }
+                generator.writeEndObject();
+            }
+            consumer.accept(json.toString());
+        }
+    }
+
+    /**
+     * Reads a record of comma-separated values as specified in RFC 4180, i.e. values can be enclosed in double quotes
+     * to contain commas, line breaks and escaped ({@code ""}) double quotes.
+     *
+     * @return the values of the record, {@code null} at the end of the input
+     */
+    private static List<String> readCsvRecord(final PushbackReader reader) throws IOException {
+        var c = reader.read();
+        if (c < 0) {
+            return null; // NOSONAR end of input
+        }
+        final List<String> values = new ArrayList<>();
+        final var value = new StringBuilder();
+        var quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("Unterminated quoted CSV value: " + StringUtils.abbreviate(value.toString(),
+                        50));
+                }
+                if (c != '"') {
+                    value.append((char)c);
+                } else if ((c = reader.read()) == '"') {
+                    value.append('"');
+                } else {
+                    // closing quote, the following character is processed as an unquoted one
+                    quoted = false;
+                    continue;
+                }
+            } else if (c == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\r' || c == '\n' || c < 0) {
+                if (c == '\r' && (c = reader.read()) != '\n' && c >= 0) {
+                    reader.unread(c);
+                }
+                values.add(value.toString());
+                return values;
+            } else {
+                value.append((char)c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.rest.generic.ResponseBodyParser;
+import org.knime.rest.generic.ResponseBodyParser.Default;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Resolves the parser of the response bodies once per distinct {@code Content-Type} header of an execution. Finding
+ * a parser walks the list of parsers comparing media types and data types, and the parsers parse the media type and
+ * look up its charset again, although an execution typically receives only a few distinct content types. The
+ * resolutions are cached by the raw header value, such that each body is handed to its parser after a single lookup.
+ * <p>
+ * The number of cached content types is limited by {@link #MAX_CACHED_CONTENT_TYPES}, as headers may differ per
+ * response, e.g. by the boundary of multipart bodies. Further content types are resolved without being cached.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BodyParserDispatch {
+
+    /** The maximum number of cached content types. */
+    static final int MAX_CACHED_CONTENT_TYPES = 64;
+
+    private final List<ResponseBodyParser> m_parsers;
+
+    private final List<ResponseBodyParser> m_errorParsers;
+
+    private final Map<Key, Resolution> m_resolutions = new ConcurrentHashMap<>();
+
+    /**
+     * @param parsers the parsers of successful responses, in the order of their precedence
+     * @param errorParsers the parsers of error responses, in the order of their precedence
+     */
+    BodyParserDispatch(final List<ResponseBodyParser> parsers, final List<ResponseBodyParser> errorParsers) {
+        m_parsers = List.copyOf(parsers);
+        m_errorParsers = List.copyOf(errorParsers);
+    }
+
+    /**
+     * Resolves the first parser supporting the content type and producing the expected type.
+     *
+     * @param contentType the value of the {@code Content-Type} header
+     * @param error whether the response is an error response
+     * @param expectedType the type the parser has to produce, {@code null} to accept any type
+     * @return the resolution, which does not hold a parser if none matches
+     */
+    Resolution resolve(final String contentType, final boolean error, final DataType expectedType) {
+        final var key = new Key(contentType, error, expectedType);
+        final var resolution = m_resolutions.get(key);
+        if (resolution != null) {
+            return resolution;
+        }
+        final var resolved = resolveUncached(key);
+        if (m_resolutions.size() < MAX_CACHED_CONTENT_TYPES) {
+            m_resolutions.putIfAbsent(key, resolved);
+        }
+        return resolved;
+    }
+
+    private Resolution resolveUncached(final Key key) {
+        final MediaType mediaType;
+        try {
+            mediaType = MediaType.valueOf(key.contentType());
+        } catch (IllegalArgumentException e) {
+            return new Resolution(null, null, "Invalid media type \"" + key.contentType() + "\": " + e.getMessage());
+        }
+        for (final var parser : key.error() ? m_errorParsers : m_parsers) {
+            if ((key.expectedType() == null
+                || parser.producedDataType().isCompatible(key.expectedType().getPreferredValueClass()))
+                && parser.supportedMediaType().isCompatible(mediaType)) {
+                return new Resolution(parser, Default.getCharset(mediaType), null);
+            }
+        }
+        return new Resolution(null, null, "Could not parse the body because the body was " + mediaType
+            + ", but was expecting: " + (key.expectedType() == null ? "any value" : key.expectedType().getName()));
+    }
+
+    /**
+     * @return the number of cached resolutions
+     */
+    int getCachedCount() {
+        return m_resolutions.size();
+    }
+
+    private record Key(String contentType, boolean error, DataType expectedType) {
+    }
+
+    /**
+     * The parser resolved for a content type.
+     *
+     * @param parser the parser, {@code null} if none supports the content type
+     * @param charset the supported charset specified by the content type, {@code null} if none
+     * @param error the error message if there is no parser
+     */
+    record Resolution(ResponseBodyParser parser, Charset charset, String error) {
+
+        /**
+         * @param response the response whose {@code Content-Type} header has been resolved
+         * @return the parsed body, a missing cell if there is no parser
+         */
+        DataCell parse(final Response response) {
+            if (parser == null) {
+                return new MissingCell(error);
+            }
+            // plain parsers are passed what has been resolved, specialized ones inspect the response themselves
+            return parser.getClass() == Default.class ? ((Default)parser).create(response, charset)
+                : parser.create(response);
+        }
+    }
+}
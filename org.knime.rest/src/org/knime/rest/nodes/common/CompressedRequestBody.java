@@ -0,0 +1,114 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Request body which is gzip-compressed on the fly while it is written to the connection, i.e. without materializing
+ * the compressed body in memory.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CompressedRequestBody implements StreamingOutput {
+
+    /** The value of the {@code Content-Encoding} header of compressed bodies. */
+    static final String CONTENT_ENCODING = "gzip";
+
+    /**
+     * Bodies with a known size below this threshold (in bytes) are not compressed, as the gain is negligible.
+     * Package scope for tests.
+     */
+    static int compressionThreshold = 1 << 10;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Object m_body;
+
+    private final Charset m_charset;
+
+    /**
+     * @param body the body object as created by {@link RestWithBodyNodeModel#createObjectFromCell}
+     * @param mediaType the media type of the body, used to determine the charset of textual bodies
+     */
+    CompressedRequestBody(final Object body, final MediaType mediaType) {
+        m_body = body;
+        m_charset = RequestBodies.charset(mediaType);
+    }
+
+    /**
+     * @param body the uncompressed body object
+     * @param knownLength the size of the body in bytes, if known, otherwise {@code -1}
+     * @return whether it is worth compressing the body, i.e. its size is unknown or above the threshold
+     */
+    static boolean isWorthCompressing(final Object body, final long knownLength) {
+        if (knownLength >= 0) {
+            return knownLength >= compressionThreshold;
+        } else if (body instanceof String string) {
+            return string.length() >= compressionThreshold;
+        }
+        return true;
+    }
+
+    @Override
+    public void write(final OutputStream output) throws IOException {
+        // the connection's output stream must not be closed here, CXF takes care of that
+        try (final var gzip = new GZIPOutputStream(CloseShieldOutputStream.wrap(output), BUFFER_SIZE)) {
+            RequestBodies.write(m_body, m_charset, gzip);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.transport.http.asyncclient.AsyncHTTPConduitFactory;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.nio.protocol.HttpAsyncRequestExecutor;
+
+/**
+ * Factory of asynchronous conduits whose HTTP client waits for a configurable time for the {@code 100 Continue}
+ * response of the server before the request body is sent anyway. The default client of CXF waits for 3 seconds.
+ * <p>
+ * Each factory owns an HTTP client with its own I/O threads, hence the factories are shared per bus and timeout.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ExpectContinueConduitFactory extends AsyncHTTPConduitFactory {
+
+    private record Key(Bus bus, int waitForContinue) {
+    }
+
+    private static final Map<Key, ExpectContinueConduitFactory> FACTORIES = new ConcurrentHashMap<>();
+
+    private final int m_waitForContinue;
+
+    private ExpectContinueConduitFactory(final Bus bus, final int waitForContinue) {
+        super(bus);
+        m_waitForContinue = waitForContinue;
+    }
+
+    /**
+     * @param bus the bus of the client
+     * @param timeoutInSeconds how long to wait for the {@code 100 Continue} response
+     * @return the factory of conduits which wait for the given time
+     */
+    static ExpectContinueConduitFactory get(final Bus bus, final int timeoutInSeconds) {
+        return FACTORIES.computeIfAbsent(new Key(bus, timeoutInSeconds * 1000),
+            k -> new ExpectContinueConduitFactory(k.bus(), k.waitForContinue()));
+    }
+
+    @Override
+    protected void adaptClientBuilder(final HttpAsyncClientBuilder httpAsyncClientBuilder) {
+        // the request executor switches the socket timeout to this value while waiting for the interim response
+        httpAsyncClientBuilder.setEventHandler(new HttpAsyncRequestExecutor(m_waitForContinue));
+    }
+}
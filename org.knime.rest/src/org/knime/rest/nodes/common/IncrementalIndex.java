@@ -0,0 +1,425 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataTableSpecCreator;
+import org.knime.core.data.DataTypeRegistry;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.filestore.FileStoreCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.UniqueNameGenerator;
+
+/**
+ * Index of the response cells of a previous execution, keyed by a fingerprint of the request sent for a row. Used to
+ * only send requests for new or changed rows when re-executing a node.
+ * <p>
+ * The index is persisted as a zipped table with one row per fingerprint (used as row key), the response columns and
+ * a timestamp column. The fingerprint of the settings the index was created with is stored as a table spec property,
+ * an index created with different settings is ignored. Only the position and timestamp of each fingerprint are kept
+ * in memory, the response cells are read from the table when they are reused.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class IncrementalIndex implements AutoCloseable {
+
+    /** Name of the file storing the index in the node internals. */
+    static final String FILE_NAME = "incremental-index.zip";
+
+    private static final String SETTINGS_FINGERPRINT = "knime.rest.settingsFingerprint";
+
+    private final ContainerTable m_table;
+
+    private final DataColumnSpec[] m_columns;
+
+    private final Map<String, Entry> m_entries;
+
+    private IncrementalIndex(final ContainerTable table, final DataColumnSpec[] columns,
+        final Map<String, Entry> entries) {
+        m_table = table;
+        m_columns = columns;
+        m_entries = entries;
+    }
+
+    /**
+     * Reads the index from a file.
+     *
+     * @param file the index file, may be {@code null}
+     * @param settingsFingerprint the fingerprint of the current settings
+     * @param minTimestamp entries stored before this time (in milliseconds) are ignored
+     * @return the index, empty if the file does not exist or the index was created with different settings
+     * @throws IOException if the file cannot be read
+     */
+    static IncrementalIndex read(final File file, final String settingsFingerprint, final long minTimestamp)
+        throws IOException {
+        if (file == null || !file.isFile()) {
+            return new IncrementalIndex(null, null, Map.of());
+        }
+        final var table = DataContainer.readFromZip(file);
+        final var spec = table.getDataTableSpec();
+        if (!settingsFingerprint.equals(spec.getProperties().get(SETTINGS_FINGERPRINT))) {
+            table.clear();
+            return new IncrementalIndex(null, null, Map.of());
+        }
+        final var columns = spec.stream().limit(spec.getNumColumns() - 1L).toArray(DataColumnSpec[]::new);
+        final Map<String, Entry> entries = new HashMap<>();
+        try (var rows = table.iterator()) {
+            for (long position = 0; rows.hasNext(); position++) {
+                final var row = rows.next();
+                final var timestamp = ((LongValue)row.getCell(columns.length)).getLongValue();
+                // indexes written by earlier versions might contain cells of disposed file stores
+                if (timestamp >= minTimestamp
+                    && row.stream().limit(columns.length).noneMatch(IncrementalIndex::containsFileStore)) {
+                    entries.put(row.getKey().getString(), new Entry(position, timestamp));
+                }
+            }
+        }
+        return new IncrementalIndex(table, columns, entries);
+    }
+
+    /**
+     * Creates a writer of a new index.
+     *
+     * @param settingsFingerprint the fingerprint of the settings the response cells were created with
+     * @param columns the specs of the response columns
+     * @return the writer
+     */
+    static Writer writer(final String settingsFingerprint, final DataColumnSpec[] columns) {
+        return new Writer(settingsFingerprint, columns);
+    }
+
+    /**
+     * @return the specs of the response columns, {@code null} if the index is empty
+     */
+    DataColumnSpec[] getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * @param fingerprint the fingerprint of a request, may be {@code null}
+     * @return the entry of the request, {@code null} if there is none
+     */
+    Entry get(final String fingerprint) {
+        return fingerprint == null ? null : m_entries.get(fingerprint);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    int size() {
+        return m_entries.size();
+    }
+
+    /**
+     * Reads the response cells of the given entries from the stored table. The stored table is read once, hence the
+     * cells are sorted on disk if the entries are not in the order of the stored table.
+     *
+     * @param entries the entries of this index, in the order of the returned rows; entries may occur multiple times
+     * @param exec to create the table and for cancellation
+     * @return a table with one row per entry, consisting of the response cells followed by the position of the entry
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    BufferedDataTable readCells(final List<Entry> entries, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final var responseSpec = new DataTableSpec(m_columns == null ? new DataColumnSpec[0] : m_columns);
+        final var positionColumn = new UniqueNameGenerator(responseSpec).newColumn("Position", LongCell.TYPE);
+        final var container = exec.createDataContainer(new DataTableSpec(responseSpec, new DataTableSpec(
+            positionColumn)));
+        final var order = IntStream.range(0, entries.size()).boxed()
+            .sorted(Comparator.comparingLong(i -> entries.get(i).position())).mapToInt(Integer::intValue).toArray();
+        try (var rows = entries.isEmpty() ? null : m_table.iterator()) {
+            DataRow row = null;
+            long position = -1;
+            for (final int i : order) {
+                exec.checkCanceled();
+                while (position < entries.get(i).position()) {
+                    row = rows.next();
+                    position++;
+                }
+                final var cells = new DataCell[m_columns.length + 1];
+                for (var c = 0; c < m_columns.length; c++) {
+                    cells[c] = row.getCell(c);
+                }
+                cells[m_columns.length] = new LongCell(i);
+                container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), cells));
+            }
+        } finally {
+            container.close();
+        }
+        final var table = container.getTable();
+        if (IntStream.range(0, order.length).allMatch(i -> order[i] == i)) {
+            return table;
+        }
+        return new BufferedDataTableSorter(table, List.of(positionColumn.getName()), new boolean[]{true}).sort(exec);
+    }
+
+    /**
+     * Releases the stored table.
+     */
+    @Override
+    public void close() {
+        if (m_table != null) {
+            m_table.clear();
+        }
+    }
+
+    /**
+     * Checks whether response cells can be reused in later executions. Cells containing an error (e.g. a failed
+     * request or an HTTP error status) are not, such that the request is sent again. Neither are cells stored in file
+     * stores (e.g. large binary bodies), as the file stores are disposed when the node is reset.
+     *
+     * @param cells the response cells
+     * @return whether the cells can be stored in the index
+     */
+    static boolean isReusable(final DataCell[] cells) {
+        return Arrays.stream(cells).noneMatch(c -> c instanceof MissingCell m && m.getError() != null)
+            && !containsFileStores(cells);
+    }
+
+    /**
+     * @param cells the cells
+     * @return whether any of the cells, or of the elements of collection cells, is stored in a file store
+     */
+    static boolean containsFileStores(final DataCell[] cells) {
+        return Arrays.stream(cells).anyMatch(IncrementalIndex::containsFileStore);
+    }
+
+    private static boolean containsFileStore(final DataCell cell) {
+        if (cell instanceof FileStoreCell) {
+            return true;
+        }
+        if (cell instanceof CollectionDataValue collection) {
+            for (final DataCell element : collection) {
+                if (containsFileStore(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes a fingerprint of the given values that is stable across sessions.
+     *
+     * @param parts the values; of cells their serialized content is part of the fingerprint, of other values their
+     *            string representation; the elements of collections are added individually
+     * @return the hex-encoded SHA-256 fingerprint
+     * @throws UncheckedIOException if the content of a cell cannot be read
+     */
+    static String fingerprint(final Object... parts) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            update(digest, Arrays.asList(parts));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final Object part) throws IOException {
+        if (part instanceof Collection<?> collection) {
+            digest.update((byte)'[');
+            for (final Object element : collection) {
+                update(digest, element);
+            }
+            digest.update((byte)']');
+            return;
+        }
+        if (part instanceof DataCell cell) {
+            updateCell(digest, cell);
+        } else {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte)0);
+    }
+
+    private static void updateCell(final MessageDigest digest, final DataCell cell) throws IOException {
+        digest.update(cell.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)0);
+        if (cell instanceof BinaryObjectDataValue binary) {
+            // the serialization of file store cells does not contain the content of the file
+            try (var input = binary.openInputStream();
+                    var output = new DigestOutputStream(NullOutputStream.INSTANCE, digest)) {
+                input.transferTo(output);
+            }
+        } else if (!serialize(cell, new DigestDataOutput(digest))) {
+            digest.update(cell.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends DataCell> boolean serialize(final T cell, final DataCellDataOutput output)
+        throws IOException {
+        final var serializer = DataTypeRegistry.getInstance().getSerializer((Class<T>)cell.getClass());
+        if (serializer.isEmpty()) {
+            return false;
+        }
+        serializer.get().serialize(cell, output);
+        return true;
+    }
+
+    /**
+     * Output which adds the serialized content of cells to a digest, including the content of nested cells.
+     */
+    private static final class DigestDataOutput extends DataOutputStream implements DataCellDataOutput {
+
+        private final MessageDigest m_digest;
+
+        DigestDataOutput(final MessageDigest digest) {
+            super(new DigestOutputStream(NullOutputStream.INSTANCE, digest));
+            m_digest = digest;
+        }
+
+        @Override
+        public void writeDataCell(final DataCell cell) throws IOException {
+            updateCell(m_digest, cell);
+        }
+    }
+
+    /**
+     * Entry of a request in the index.
+     *
+     * @param position the position of the response cells in the stored table
+     * @param timestamp the time the response was received, in milliseconds
+     */
+    record Entry(long position, long timestamp) {
+    }
+
+    /**
+     * Writes the entries of a new index, see {@link IncrementalIndex#writer(String, DataColumnSpec[])}.
+     */
+    static final class Writer {
+
+        private final DataContainer m_container;
+
+        private final int m_numColumns;
+
+        private final Set<String> m_fingerprints = new HashSet<>();
+
+        private Writer(final String settingsFingerprint, final DataColumnSpec[] columns) {
+            final var responseSpec = new DataTableSpec(columns);
+            final var creator = new DataTableSpecCreator(responseSpec);
+            creator.addColumns(new UniqueNameGenerator(responseSpec).newColumn("Timestamp", LongCell.TYPE));
+            creator.putProperty(SETTINGS_FINGERPRINT, settingsFingerprint);
+            m_container = new DataContainer(creator.createSpec());
+            m_numColumns = columns.length;
+        }
+
+        /**
+         * Adds the response cells of a request, unless there already is an entry for its fingerprint.
+         *
+         * @param fingerprint the fingerprint of the request
+         * @param cells the response cells
+         * @param timestamp the time the response was received, in milliseconds
+         */
+        void add(final String fingerprint, final DataCell[] cells, final long timestamp) {
+            if (m_fingerprints.add(fingerprint)) {
+                final var row = Arrays.copyOf(cells, m_numColumns + 1);
+                row[m_numColumns] = new LongCell(timestamp);
+                m_container.addRowToTable(new DefaultRow(new RowKey(fingerprint), row));
+            }
+        }
+
+        /**
+         * Writes the index to a file, replacing its content.
+         *
+         * @param file the index file
+         * @param exec for progress and cancellation
+         * @throws IOException if the file cannot be written
+         * @throws CanceledExecutionException if the execution has been canceled
+         */
+        void write(final File file, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            m_container.close();
+            final var table = m_container.getTable();
+            try {
+                DataContainer.writeToZip(table, file, exec);
+            } finally {
+                table.clear();
+            }
+        }
+    }
+}
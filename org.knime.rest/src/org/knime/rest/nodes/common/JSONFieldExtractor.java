@@ -0,0 +1,356 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.xml.XMLValue;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.rest.nodes.common.RestSettings.HttpMethod;
+import org.knime.rest.nodes.common.RestSettings.JSONField;
+import org.knime.rest.nodes.common.RestSettings.ResponseHeaderItem;
+import org.knime.rest.util.ContentEncodings;
+import org.knime.rest.util.JSONFieldType;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Extracts values of JSON response bodies into typed cells. The body is parsed in a single streaming pass which skips
+ * all objects and arrays not containing a requested value and stops as soon as all values have been found, so that
+ * neither the body nor a tree of it is held in memory. Only requested objects and arrays are read as a whole.
+ * <p>
+ * Values of XML bodies are referenced by fields having an {@link XMLPath XPath} instead, which are evaluated with
+ * StAX in the same manner. Fields referencing values of the other kind of body become missing cells.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONFieldExtractor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<JSONField> m_fields;
+
+    /** The indices of the fields by the (normalized) pointers of their values. */
+    private final Map<String, int[]> m_targets = new LinkedHashMap<>();
+
+    /** The pointers of the objects and arrays containing requested values. */
+    private final Set<String> m_containers = new HashSet<>();
+
+    /** The XPaths of the fields, {@code null} for the fields referencing values of JSON bodies. */
+    private final XMLPath[] m_xmlPaths;
+
+    /**
+     * @param fields the fields to extract
+     * @throws InvalidSettingsException if a JSON pointer or an XPath is invalid
+     */
+    JSONFieldExtractor(final List<JSONField> fields) throws InvalidSettingsException {
+        m_fields = List.copyOf(fields);
+        m_xmlPaths = new XMLPath[m_fields.size()];
+        for (var i = 0; i < m_fields.size(); i++) {
+            final var field = m_fields.get(i);
+            if (field.xpath()) {
+                m_xmlPaths[i] = XMLPath.compile(field.pointer(), "XPath of the field \"" + field.columnName() + "\"");
+                continue;
+            }
+            final var pointer = RequestBatches.compilePointer(field.pointer(), "JSON field pointer");
+            final var index = i;
+            m_targets.merge(pointer.toString(), new int[]{i},
+                (indices, ignored) -> ArrayUtils.add(indices, index));
+            for (var head = pointer.head(); head != null; head = head.head()) {
+                m_containers.add(head.toString());
+            }
+        }
+    }
+
+    /**
+     * @param settings the node settings
+     * @return the extractor of the JSON fields configured in the settings, {@code null} if there are none
+     * @throws InvalidSettingsException if a pointer is invalid
+     */
+    static JSONFieldExtractor create(final RestSettings settings) throws InvalidSettingsException {
+        if (settings.getJSONFields().isEmpty() || settings.getMethod().map(HttpMethod.HEAD::equals).orElse(false)) {
+            return null;
+        }
+        return new JSONFieldExtractor(settings.getJSONFields());
+    }
+
+    /**
+     * @return the output columns of the fields, keyed by their pointers
+     */
+    List<ResponseHeaderItem> getColumns() {
+        return m_fields.stream()
+            .map(f -> new ResponseHeaderItem(f.pointer(), f.type().getDataType(), f.columnName())).toList();
+    }
+
+    /**
+     * Extracts the fields while reading the body of a successful response which is not output as a whole.
+     *
+     * @param response the response
+     * @return the cells of the fields
+     */
+    DataCell[] extract(final Response response) {
+        if (!response.hasEntity()) {
+            return fill(new MissingCell("The response does not have a body"));
+        }
+        try (var body = ContentEncodings.decode(response.readEntity(InputStream.class),
+            response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER))) {
+            return isXML(response.getMediaType()) ? toCells(XMLStreams.extract(body, m_xmlPaths)) : extract(body);
+        } catch (IOException | RuntimeException e) {
+            return fill(new MissingCell("Could not read the response body: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Extracts the fields from a body cell.
+     *
+     * @param body the parsed body, a missing cell if the request failed
+     * @return the cells of the fields, all having the error of the body if it is missing
+     */
+    DataCell[] extract(final DataCell body) {
+        if (body.isMissing()) {
+            return fill(body);
+        }
+        if (body instanceof XMLValue && body instanceof StringValue xml) {
+            try {
+                return toCells(XMLStreams.extract(new StringReader(xml.getStringValue()), m_xmlPaths));
+            } catch (IOException e) {
+                return fill(new MissingCell("Could not parse the response body: " + e.getMessage()));
+            }
+        }
+        if (!(body instanceof StringValue json)) {
+            return fill(new MissingCell("The response body is not JSON but " + body.getType().getName()));
+        }
+        try (var parser = MAPPER.getFactory().createParser(json.getStringValue())) {
+            return extract(parser);
+        } catch (IOException e) {
+            return fill(new MissingCell("Could not parse the response body: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Extracts the fields from a JSON document.
+     *
+     * @param json the (decoded) JSON document, whose encoding is detected
+     * @return the cells of the fields, missing cells for the values which do not exist
+     * @throws IOException if the document could not be read
+     */
+    DataCell[] extract(final InputStream json) throws IOException {
+        try (var parser = MAPPER.getFactory().createParser(json)) {
+            return extract(parser);
+        }
+    }
+
+    private static boolean isXML(final MediaType mediaType) {
+        return mediaType != null
+            && ("xml".equalsIgnoreCase(mediaType.getSubtype()) || StringUtils.endsWithIgnoreCase(mediaType.getSubtype(),
+                "+xml"));
+    }
+
+    /** Converts the values of the XPaths into the cells of the fields. */
+    private DataCell[] toCells(final String[] values) {
+        final var cells = new DataCell[m_fields.size()];
+        for (var i = 0; i < cells.length; i++) {
+            final var pointer = m_fields.get(i).pointer();
+            if (m_xmlPaths[i] == null) {
+                cells[i] = new MissingCell("\"" + pointer + "\" is a JSON pointer, but the response body is XML");
+            } else if (values[i] == null) {
+                cells[i] = new MissingCell("The response body does not contain a match of \"" + pointer + "\"");
+            } else {
+                cells[i] = toCell(values[i], false, m_fields.get(i).type(), pointer);
+            }
+        }
+        return cells;
+    }
+
+    private DataCell[] extract(final JsonParser parser) {
+        final var cells = new DataCell[m_fields.size()];
+        var remaining = m_targets.size();
+        try {
+            JsonToken token;
+            while (remaining > 0 && (token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME || token.isStructEnd()) {
+                    continue;
+                }
+                // the context of a start token is the one of the new object or array, whose path is the value's one
+                final var pointer = parser.getParsingContext().pathAsPointer().toString();
+                if (m_targets.containsKey(pointer)) {
+                    if (token.isStructStart()) {
+                        // also resolves the requested values within the object or array
+                        remaining -= resolve(pointer, MAPPER.readTree(parser), cells);
+                    } else if (set(pointer, token == JsonToken.VALUE_NULL ? null : parser.getText(), false, cells)) {
+                        remaining--;
+                    }
+                } else if (token.isStructStart() && !m_containers.contains(pointer)) {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            final var error = new MissingCell("Could not parse the response body: " + e.getMessage());
+            fillUnset(cells, pointer -> error);
+            return fillXMLPaths(cells);
+        }
+        fillUnset(cells, pointer -> new MissingCell("The response body does not contain a value at \"" + pointer
+            + "\""));
+        return fillXMLPaths(cells);
+    }
+
+    /** Sets the cells of the fields having an XPath, which does not apply to JSON bodies. */
+    private DataCell[] fillXMLPaths(final DataCell[] cells) {
+        for (var i = 0; i < cells.length; i++) {
+            if (m_xmlPaths[i] != null) {
+                cells[i] = new MissingCell("\"" + m_fields.get(i).pointer() + "\" is an XPath, but the response body "
+                    + "is JSON");
+            }
+        }
+        return cells;
+    }
+
+    /** Sets the cells of the values within a requested object or array, returns the number of resolved pointers. */
+    private int resolve(final String pointer, final JsonNode node, final DataCell[] cells) {
+        var resolved = 0;
+        for (final var target : m_targets.keySet()) {
+            if (target.equals(pointer) || target.startsWith(pointer + "/")) {
+                final var value = node.at(target.substring(pointer.length()));
+                if (!value.isMissingNode() && set(target, value.isNull() ? null
+                    : (value.isContainerNode() ? value.toString() : value.asText()), value.isContainerNode(), cells)) {
+                    resolved++;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /** Sets the cells of the fields of a pointer unless a duplicate key already did, returns whether it did. */
+    private boolean set(final String pointer, final String value, final boolean container, final DataCell[] cells) {
+        final var indices = m_targets.get(pointer);
+        if (cells[indices[0]] != null) {
+            return false;
+        }
+        for (final int index : indices) {
+            cells[index] = value == null ? DataType.getMissingCell()
+                : toCell(value, container, m_fields.get(index).type(), pointer);
+        }
+        return true;
+    }
+
+    private void fillUnset(final DataCell[] cells, final Function<String, DataCell> missing) {
+        for (final var target : m_targets.entrySet()) {
+            for (final int index : target.getValue()) {
+                if (cells[index] == null) {
+                    cells[index] = missing.apply(target.getKey());
+                }
+            }
+        }
+    }
+
+    private DataCell[] fill(final DataCell cell) {
+        final var cells = new DataCell[m_fields.size()];
+        Arrays.fill(cells, cell);
+        return cells;
+    }
+
+    /**
+     * Converts a JSON value into a cell of the type of a field.
+     *
+     * @param value the text of a scalar value or the JSON text of an object or array, or the text of an XPath match
+     * @param container whether the value is an object or array
+     * @param type the type of the field
+     * @param pointer the pointer or XPath of the value for the error message
+     * @return the cell, a missing cell if the value cannot be converted
+     */
+    static DataCell toCell(final String value, final boolean container, final JSONFieldType type,
+        final String pointer) {
+        if (type == JSONFieldType.STRING) {
+            return new StringCell(value);
+        }
+        final var text = value.trim();
+        try {
+            final DataCell cell = container ? null : switch (type) {
+                case INT -> new IntCell(Integer.parseInt(text));
+                case LONG -> new LongCell(Long.parseLong(text));
+                case DOUBLE -> new DoubleCell(Double.parseDouble(text));
+                case BOOLEAN -> "true".equals(text) || "false".equals(text)
+                    ? BooleanCellFactory.create(Boolean.parseBoolean(text)) : null;
+                default -> new StringCell(value);
+            };
+            if (cell != null) {
+                return cell;
+            }
+        } catch (NumberFormatException e) { // NOSONAR the missing cell describes the problem
+        }
+        return new MissingCell("Cannot convert \"" + StringUtils.abbreviate(value, 50) + "\" at \"" + pointer
+            + "\" to " + type.getDataType().getName());
+    }
+}
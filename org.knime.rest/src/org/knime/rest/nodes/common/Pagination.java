@@ -0,0 +1,402 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.rest.util.PaginationMode;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Determines the requests for the pages of a paginated response. The pages of an input row are requested one after
+ * the other, the request of the next page being derived from the URL and the response of the current one.
+ * <p>
+ * Each page is represented by a {@link PageRow}, which delegates to the cells of the input row and records the URL
+ * and the response of its request.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class Pagination {
+
+    private static final Pattern LINK = Pattern.compile("<([^>]*)>([^<]*)");
+
+    private static final Pattern REL =
+        Pattern.compile("(?:^|;)\\s*rel\\s*=\\s*(?:\"([^\"]*)\"|([^;,\\s]+))", Pattern.CASE_INSENSITIVE);
+
+    private final PaginationMode m_mode;
+
+    private final String m_parameter;
+
+    private final String m_limitParameter;
+
+    private final int m_pageSize;
+
+    private final int m_firstPage;
+
+    private final JsonPointer m_cursorPointer;
+
+    private final JsonPointer m_itemsPointer;
+
+    private final int m_maxPages;
+
+    private Pagination(final RestSettings settings) throws InvalidSettingsException {
+        m_mode = settings.getPaginationMode();
+        m_parameter = StringUtils.defaultIfBlank(settings.getPaginationParameter(), m_mode.getDefaultParameter());
+        m_limitParameter = StringUtils.trimToNull(settings.getPaginationLimitParameter());
+        m_pageSize = settings.getPaginationPageSize();
+        m_firstPage = settings.getPaginationFirstPage();
+        m_cursorPointer = m_mode == PaginationMode.CURSOR
+            ? RequestBatches.compilePointer(settings.getPaginationCursorPointer(), "cursor pointer") : null;
+        // without items pointer, the Link header or the cursor alone determines the next page
+        m_itemsPointer = (m_mode == PaginationMode.LINK_HEADER || m_mode == PaginationMode.CURSOR)
+            && StringUtils.isBlank(settings.getPaginationItemsPointer()) ? null
+                : RequestBatches.compilePointer(settings.getPaginationItemsPointer(), "items pointer");
+        m_maxPages = settings.getPaginationMaxPages();
+    }
+
+    /**
+     * @param settings the node settings
+     * @return the pagination configured in the settings, {@code null} if only one request is sent per row
+     * @throws InvalidSettingsException if a JSON pointer is invalid
+     */
+    static Pagination create(final RestSettings settings) throws InvalidSettingsException {
+        return settings.getPaginationMode() == PaginationMode.NONE ? null : new Pagination(settings);
+    }
+
+    /**
+     * @return whether the next page is determined from the response body, which hence has to be output
+     */
+    boolean readsBody() {
+        return m_itemsPointer != null || m_cursorPointer != null;
+    }
+
+    /**
+     * @param row the input row
+     * @return the first page of the row, having the key of the row
+     */
+    PageRow firstPage(final DataRow row) {
+        return new PageRow(row, row.getKey(), 1, null, null);
+    }
+
+    /**
+     * Determines the URL of a page.
+     *
+     * @param url the URL of the input row
+     * @param page the page
+     * @return the URL to request the page from
+     * @throws MalformedURLException if the URL is invalid
+     */
+    URL getURL(final URL url, final PageRow page) throws MalformedURLException {
+        final var pageURL = switch (m_mode) {
+            case LINK_HEADER -> page.m_nextLink != null ? page.m_nextLink : url;
+            case CURSOR -> page.m_cursor != null ? withParameters(url, Map.of(m_parameter, page.m_cursor)) : url;
+            case OFFSET -> {
+                final Map<String, String> parameters = new LinkedHashMap<>();
+                parameters.put(m_parameter, Long.toString((page.m_page - 1L) * m_pageSize));
+                if (m_limitParameter != null) {
+                    parameters.put(m_limitParameter, Integer.toString(m_pageSize));
+                }
+                yield withParameters(url, parameters);
+            }
+            case PAGE_NUMBER -> withParameters(url, Map.of(m_parameter, Long.toString(m_firstPage + page.m_page - 1L)));
+            default -> url;
+        };
+        page.m_url = pageURL;
+        return pageURL;
+    }
+
+    /**
+     * Determines the next page from the response of a page. There is none if the maximum number of pages has been
+     * reached, the request failed, the page is empty or the response does not reference a next page.
+     *
+     * @param page the page whose response has been received
+     * @param cells the response cells of the page
+     * @param bodyIndex the index of the body cell within the response cells, -1 if there is none
+     * @return the next page, {@code null} if there is none
+     */
+    PageRow next(final PageRow page, final DataCell[] cells, final int bodyIndex) {
+        if ((m_maxPages > 0 && page.m_page >= m_maxPages) || page.m_status < 200 || page.m_status >= 300) {
+            return null;
+        }
+        final var bodyCell = bodyIndex >= 0 && bodyIndex < cells.length ? cells[bodyIndex] : null;
+        JsonNode body = null;
+        if (m_itemsPointer != null || m_cursorPointer != null) {
+            if (bodyCell == null || bodyCell.isMissing()) {
+                return null;
+            }
+            body = RequestBatches.toJson(bodyCell);
+        }
+        if (m_itemsPointer != null) {
+            final var items = m_itemsPointer.matches() ? findItems(body) : body.at(m_itemsPointer);
+            if (isEmpty(items) || (m_mode == PaginationMode.OFFSET && items.isArray() && items.size() < m_pageSize)) {
+                return null;
+            }
+        }
+        final var nextPage = page.m_page + 1;
+        final var nextKey = new RowKey(page.m_row.getKey().getString() + "#" + nextPage);
+        return switch (m_mode) {
+            case LINK_HEADER -> {
+                final var link = resolve(page.m_url, findNextLink(page.m_links));
+                yield link == null || link.toString().equals(String.valueOf(page.m_url)) ? null
+                    : new PageRow(page.m_row, nextKey, nextPage, link, null);
+            }
+            case CURSOR -> {
+                final var cursor = body.at(m_cursorPointer);
+                final var text = cursor.isValueNode() ? cursor.asText() : null;
+                yield StringUtils.isEmpty(text) || text.equals(page.m_cursor) ? null
+                    : new PageRow(page.m_row, nextKey, nextPage, null, text);
+            }
+            default -> new PageRow(page.m_row, nextKey, nextPage, null, null);
+        };
+    }
+
+    /**
+     * Finds the items of a page without items pointer.
+     *
+     * @param body the body of the page
+     * @return the body unless it is an object, otherwise its only array or a missing node if it has none or several,
+     *         such that a page whose items cannot be determined is the last one
+     */
+    static JsonNode findItems(final JsonNode body) {
+        if (!body.isObject()) {
+            return body;
+        }
+        JsonNode items = MissingNode.getInstance();
+        for (final var fields = body.elements(); fields.hasNext();) {
+            final var field = fields.next();
+            if (field.isArray()) {
+                if (!items.isMissingNode()) {
+                    return MissingNode.getInstance();
+                }
+                items = field;
+            }
+        }
+        return items;
+    }
+
+    private static boolean isEmpty(final JsonNode node) {
+        return node.isMissingNode() || node.isNull() || (node.isContainerNode() && node.isEmpty())
+            || (node.isTextual() && node.asText().isEmpty());
+    }
+
+    private static URL resolve(final URL base, final String link) {
+        if (link == null) {
+            return null;
+        }
+        try {
+            return base == null ? RestNodeModel.validateURLString(link)
+                : RestNodeModel.validateURLString(base.toURI().resolve(link).toString());
+        } catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) { // NOSONAR
+            return null;
+        }
+    }
+
+    /**
+     * Finds the target of the link with relation type {@code next} in {@code Link} header values.
+     *
+     * @param headerValues the values of the {@code Link} headers, each possibly containing multiple links
+     * @return the (possibly relative) target, {@code null} if there is no next link
+     */
+    static String findNextLink(final List<String> headerValues) {
+        for (final var value : headerValues) {
+            final var links = LINK.matcher(value);
+            while (links.find()) {
+                final var rel = REL.matcher(links.group(2));
+                if (rel.find()) {
+                    final var types = rel.group(1) != null ? rel.group(1) : rel.group(2);
+                    for (final var type : types.trim().split("\\s+")) {
+                        if ("next".equalsIgnoreCase(type)) {
+                            return links.group(1).trim();
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets query parameters of a URL, replacing existing values of the parameters.
+     *
+     * @param url the URL
+     * @param parameters the parameter names and (unencoded) values
+     * @return the URL with the parameters
+     * @throws MalformedURLException if the URL is invalid
+     */
+    static URL withParameters(final URL url, final Map<String, String> parameters) throws MalformedURLException {
+        final URI uri;
+        try {
+            uri = url.toURI();
+        } catch (URISyntaxException e) {
+            throw new MalformedURLException(e.getMessage());
+        }
+        final List<String> query = new ArrayList<>();
+        if (uri.getRawQuery() != null) {
+            for (final var parameter : uri.getRawQuery().split("&")) {
+                final var name = URLDecoder.decode(StringUtils.substringBefore(parameter, "="), StandardCharsets.UTF_8);
+                if (!parameter.isEmpty() && !parameters.containsKey(name)) {
+                    query.add(parameter);
+                }
+            }
+        }
+        parameters.forEach((name, value) -> query.add(
+            URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        final var result = new StringBuilder();
+        result.append(uri.getScheme()).append("://").append(uri.getRawAuthority())
+            .append(StringUtils.defaultString(uri.getRawPath())).append('?').append(String.join("&", query));
+        if (uri.getRawFragment() != null) {
+            result.append('#').append(uri.getRawFragment());
+        }
+        return RestNodeModel.validateURLString(result.toString());
+    }
+
+    /**
+     * A page of the response for an input row, delegating to the cells of the input row.
+     */
+    static final class PageRow implements DataRow {
+
+        private final DataRow m_row;
+
+        private final RowKey m_key;
+
+        private final int m_page;
+
+        private final URL m_nextLink;
+
+        private final String m_cursor;
+
+        // set by the thread requesting the page, read afterwards by the one determining the next page
+        private volatile URL m_url;
+
+        private volatile List<String> m_links = List.of();
+
+        private volatile int m_status;
+
+        private PageRow(final DataRow row, final RowKey key, final int page, final URL nextLink,
+            final String cursor) {
+            m_row = row;
+            m_key = key;
+            m_page = page;
+            m_nextLink = nextLink;
+            m_cursor = cursor;
+        }
+
+        /**
+         * @return the input row
+         */
+        DataRow getRow() {
+            return m_row;
+        }
+
+        /**
+         * @return the number of the page, starting at 1
+         */
+        int getPage() {
+            return m_page;
+        }
+
+        /**
+         * Records the status and the {@code Link} headers of the response of the page.
+         *
+         * @param response the response
+         */
+        void setResponse(final Response response) {
+            m_status = response.getStatus();
+            final List<String> links = new ArrayList<>();
+            response.getStringHeaders().forEach((name, values) -> {
+                if ("Link".equalsIgnoreCase(name) && values != null) {
+                    links.addAll(values);
+                }
+            });
+            m_links = links;
+        }
+
+        @Override
+        public int getNumCells() {
+            return m_row.getNumCells();
+        }
+
+        @Override
+        public RowKey getKey() {
+            return m_key;
+        }
+
+        @Override
+        public DataCell getCell(final int index) {
+            return m_row.getCell(index);
+        }
+
+        @Override
+        public Iterator<DataCell> iterator() {
+            return m_row.iterator();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.json.JSONValue;
+import org.knime.core.node.InvalidSettingsException;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Utilities for sending the bodies of multiple rows in one request and for splitting the response of such a batch
+ * request back into one JSON value per row.
+ * <p>
+ * The request body of a batch is a JSON array containing the bodies of its rows, optionally embedded into a template
+ * in place of {@value #ROWS_PLACEHOLDER}. The response elements are either assigned to the rows by their position in
+ * the response array or by a key, which is looked up via a JSON pointer in both the request and the response
+ * elements.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestBatches {
+
+    /** Placeholder in the batch template which is replaced by the JSON array of the row bodies. */
+    static final String ROWS_PLACEHOLDER = "$rows$";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private RequestBatches() {
+        // utility class
+    }
+
+    /**
+     * Compiles a JSON pointer setting, an empty pointer references the whole document.
+     *
+     * @param pointer the JSON pointer, e.g. {@code /items}
+     * @param name the name of the setting for the error message
+     * @return the compiled pointer
+     * @throws InvalidSettingsException if the pointer is not valid
+     */
+    static JsonPointer compilePointer(final String pointer, final String name) throws InvalidSettingsException {
+        try {
+            return JsonPointer.compile(StringUtils.defaultString(pointer).trim());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException(
+                "The " + name + " \"" + pointer + "\" is not a valid JSON pointer: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converts a body cell of a row to the JSON value used as element of the batch array. JSON cells and strings
+     * containing a JSON object or array are embedded as they are, other strings as JSON strings. Missing cells become
+     * {@code null}.
+     *
+     * @param cell the body cell of the row
+     * @return the JSON value representing the row
+     */
+    static JsonNode toJson(final DataCell cell) {
+        final var factory = JsonNodeFactory.instance;
+        if (cell.isMissing()) {
+            return factory.nullNode();
+        }
+        if (cell instanceof StringValue sv && (cell instanceof JSONValue || isJsonStructure(sv.getStringValue()))) {
+            try {
+                return MAPPER.readTree(sv.getStringValue());
+            } catch (IOException e) { // NOSONAR fall back to a JSON string
+                return factory.textNode(sv.getStringValue());
+            }
+        }
+        if (cell instanceof BooleanValue bv) {
+            return factory.booleanNode(bv.getBooleanValue());
+        }
+        if (cell instanceof IntValue iv) {
+            return factory.numberNode(iv.getIntValue());
+        }
+        if (cell instanceof LongValue lv) {
+            return factory.numberNode(lv.getLongValue());
+        }
+        if (cell instanceof DoubleValue dv) {
+            return factory.numberNode(dv.getDoubleValue());
+        }
+        return factory.textNode(cell instanceof StringValue sv ? sv.getStringValue() : cell.toString());
+    }
+
+    private static boolean isJsonStructure(final String text) {
+        final var trimmed = text.trim();
+        return trimmed.startsWith("{") || trimmed.startsWith("[");
+    }
+
+    /**
+     * Creates the request body of a batch.
+     *
+     * @param rows the JSON values of the rows in the batch
+     * @param template the template containing {@value #ROWS_PLACEHOLDER}, blank to send the plain array
+     * @return the request body
+     * @throws IOException if the rows cannot be serialized
+     */
+    static String createBody(final List<JsonNode> rows, final String template) throws IOException {
+        final var array = MAPPER.writeValueAsString(JsonNodeFactory.instance.arrayNode(rows.size()).addAll(rows));
+        return StringUtils.isBlank(template) ? array : template.replace(ROWS_PLACEHOLDER, array);
+    }
+
+    /**
+     * Splits the response of a batch request into the JSON values of the individual rows.
+     *
+     * @param response the response body
+     * @param arrayPointer the pointer to the array in the response
+     * @param rows the JSON values of the rows in the batch, in order
+     * @param keyPointer the pointer to the key within the request and response elements, or {@code null} to assign
+     *            the response elements by their position
+     * @return the JSON text of the response element for each row, {@code null} for rows without response element
+     * @throws IOException if the response cannot be parsed, does not contain an array at the pointer or if its size
+     *             does not match the number of rows (assignment by position only)
+     */
+    static List<String> split(final String response, final JsonPointer arrayPointer, final List<JsonNode> rows,
+        final JsonPointer keyPointer) throws IOException {
+        final var array = MAPPER.readTree(response).at(arrayPointer);
+        if (!array.isArray()) {
+            throw new IOException("The batch response does not contain an array at \"" + arrayPointer + "\"");
+        }
+        final List<String> result = new ArrayList<>(rows.size());
+        if (keyPointer == null) {
+            if (array.size() != rows.size()) {
+                throw new IOException(String.format("The batch response contains %d elements, expected %d",
+                    array.size(), rows.size()));
+            }
+            for (final var element : array) {
+                result.add(MAPPER.writeValueAsString(element));
+            }
+            return result;
+        }
+        final Map<String, JsonNode> byKey = new HashMap<>();
+        for (final var element : array) {
+            final var key = key(element, keyPointer);
+            if (key != null) {
+                byKey.putIfAbsent(key, element);
+            }
+        }
+        for (final var row : rows) {
+            final var key = key(row, keyPointer);
+            final var element = key == null ? null : byKey.get(key);
+            result.add(element == null ? null : MAPPER.writeValueAsString(element));
+        }
+        return result;
+    }
+
+    private static String key(final JsonNode element, final JsonPointer keyPointer) {
+        final var key = element.at(keyPointer);
+        if (key.isMissingNode() || key.isNull()) {
+            return null;
+        }
+        // compare scalar keys by their text, such that 1 and "1" match
+        return key.isValueNode() ? key.asText() : key.toString();
+    }
+}
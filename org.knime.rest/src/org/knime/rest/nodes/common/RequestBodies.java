@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.vector.bytevector.ByteVectorValue;
+import org.w3c.dom.Node;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Utility methods for writing the body objects created by {@link RestWithBodyNodeModel#createObjectFromCell}
+ * directly to an {@link OutputStream}, without intermediate copies.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestBodies {
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private RequestBodies() {
+        // utility class
+    }
+
+    /**
+     * @param mediaType the media type of the request body
+     * @return the charset of the media type, {@code UTF-8} if none or an unsupported one is specified
+     */
+    static Charset charset(final MediaType mediaType) {
+        final var charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset != null && Charset.isSupported(charset) ? Charset.forName(charset) : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Determines the size of the body in bytes if it is known without serializing the body.
+     *
+     * @param cell the cell the body was created from, {@code null} for constant bodies
+     * @param body the body object
+     * @return the size in bytes, or {@code -1} if unknown
+     */
+    static long knownLength(final DataCell cell, final Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (body instanceof InputStream && cell instanceof BinaryObjectDataValue bodv) {
+            return bodv.length();
+        } else if (body instanceof StreamingOutput && cell instanceof ByteVectorValue bvv) {
+            return bvv.length();
+        }
+        return -1;
+    }
+
+    /**
+     * Estimates the size of the body in bytes without serializing it. The length of strings is used as lower bound of
+     * their encoded size.
+     *
+     * @param body the body object
+     * @param knownLength the size of the body in bytes, if known, otherwise {@code -1}
+     * @return the (estimated) size in bytes, or {@code -1} if it cannot be estimated, e.g. for XML documents
+     */
+    static long estimatedLength(final Object body, final long knownLength) {
+        if (knownLength >= 0) {
+            return knownLength;
+        } else if (body instanceof String string) {
+            return string.length();
+        } else if (body instanceof Number || body instanceof Boolean) {
+            return String.valueOf(body).length();
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the body to the output stream. Input streams are closed afterwards, the output stream is not.
+     *
+     * @param body the body object
+     * @param charset the charset used for textual bodies
+     * @param output the stream to write to
+     * @throws IOException if reading or writing the body fails
+     */
+    static void write(final Object body, final Charset charset, final OutputStream output) throws IOException {
+        if (body instanceof byte[] bytes) {
+            output.write(bytes);
+        } else if (body instanceof InputStream is) {
+            try (is) {
+                is.transferTo(output);
+            }
+        } else if (body instanceof StreamingOutput so) {
+            so.write(output);
+        } else {
+            output.write(String.valueOf(body).getBytes(charset));
+        }
+    }
+
+    /**
+     * Determines the size of the serialized body by writing it to a stream which only counts the bytes, such that the
+     * serialized body is not kept in memory. Input streams are consumed.
+     *
+     * @param body the body object
+     * @param mediaType the media type of the body
+     * @return the size of the serialized body in bytes
+     * @throws IllegalStateException if the body cannot be serialized
+     */
+    static long serializedLength(final Object body, final MediaType mediaType) {
+        try (final var output = new CountingOutputStream(NullOutputStream.INSTANCE)) {
+            if (body instanceof String string) {
+                // encodes the string in small portions instead of copying it into a byte array
+                try (final var writer = new OutputStreamWriter(output, charset(mediaType))) {
+                    writer.write(string);
+                }
+            } else {
+                write(body, charset(mediaType), output);
+            }
+            return output.getByteCount();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a body which writes the bytes of the given byte vector, without copying it into an array first.
+     *
+     * @param vector the byte vector
+     * @return the streaming body
+     */
+    static StreamingOutput byteVectorBody(final ByteVectorValue vector) {
+        return output -> {
+            final var length = vector.length();
+            final var buffer = new byte[(int)Math.min(BUFFER_SIZE, length)];
+            for (long offset = 0; offset < length; offset += buffer.length) {
+                final var n = (int)Math.min(buffer.length, length - offset);
+                for (var i = 0; i < n; i++) {
+                    buffer[i] = (byte)vector.get(offset + i);
+                }
+                output.write(buffer, 0, n);
+            }
+        };
+    }
+
+    /**
+     * Serializes the XML node to the output stream. Meant to be called while holding the lock of the document
+     * supplier of an XML cell, such that the document does not have to be cloned.
+     *
+     * @param node the node to serialize
+     * @param output the stream to write to
+     * @return {@code null}
+     * @throws UncheckedIOException if serialization fails
+     */
+    static Void writeXml(final Node node, final OutputStream output) {
+        try {
+            TransformerFactory.newInstance().newTransformer().transform(new DOMSource(node), new StreamResult(output));
+        } catch (TransformerException e) {
+            throw new UncheckedIOException(
+                new IOException("Failed to serialize the XML request body: " + e.getMessage(), e));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataTableSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.UniqueNameGenerator;
+
+/**
+ * Checkpoints of the response cells of completed rows, written periodically during an execution such that a later
+ * execution with the same settings and input can resume where a failed or canceled one stopped.
+ * <p>
+ * Rows are completed in the order of the input table, so the checkpointed rows always form a prefix of it. Each
+ * checkpoint is stored as a zipped table (a chunk) in the checkpoint directory, with the input row key as row key,
+ * the response columns and a column holding the fingerprint of the request sent for the row. The fingerprint of the
+ * settings is stored as a table spec property, chunks created with different settings are discarded.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestCheckpoint {
+
+    private static final String SETTINGS_FINGERPRINT = "knime.rest.settingsFingerprint";
+
+    private static final String CHUNK_PREFIX = "chunk-";
+
+    private static final String CHUNK_SUFFIX = ".zip";
+
+    private final Path m_directory;
+
+    private final String m_settingsFingerprint;
+
+    private final List<Path> m_chunks;
+
+    private DataColumnSpec[] m_columns;
+
+    /** Whether a completed row could not be checkpointed, such that no later row is either. */
+    private boolean m_incomplete;
+
+    private RequestCheckpoint(final Path directory, final String settingsFingerprint, final List<Path> chunks,
+        final DataColumnSpec[] columns) {
+        m_directory = directory;
+        m_settingsFingerprint = settingsFingerprint;
+        m_chunks = chunks;
+        m_columns = columns;
+    }
+
+    /**
+     * Opens the checkpoints in a directory, discarding those written with different settings.
+     *
+     * @param directory the checkpoint directory, created if it does not exist
+     * @param settingsFingerprint the fingerprint of the current settings
+     * @return the checkpoints
+     * @throws IOException if the directory cannot be read
+     */
+    static RequestCheckpoint open(final Path directory, final String settingsFingerprint) throws IOException {
+        Files.createDirectories(directory);
+        final List<Path> chunks;
+        try (var files = Files.list(directory)) {
+            chunks = new ArrayList<>(files.filter(f -> {
+                final var name = f.getFileName().toString();
+                return name.startsWith(CHUNK_PREFIX) && name.endsWith(CHUNK_SUFFIX);
+            }).sorted().toList());
+        }
+        DataColumnSpec[] columns = null;
+        for (final var chunk : chunks) {
+            final var table = DataContainer.readFromZip(chunk.toFile());
+            final var spec = table.getDataTableSpec();
+            table.clear();
+            final var chunkColumns = spec.stream().limit(spec.getNumColumns() - 1L).toArray(DataColumnSpec[]::new);
+            if (!settingsFingerprint.equals(spec.getProperties().get(SETTINGS_FINGERPRINT))
+                || (columns != null && !Arrays.equals(columns, chunkColumns))) {
+                final var checkpoint = new RequestCheckpoint(directory, settingsFingerprint, chunks, null);
+                checkpoint.clear();
+                return checkpoint;
+            }
+            columns = chunkColumns;
+        }
+        return new RequestCheckpoint(directory, settingsFingerprint, chunks, columns);
+    }
+
+    /**
+     * @return the specs of the response columns, {@code null} if there are no checkpoints
+     */
+    DataColumnSpec[] getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * @return whether there are no checkpoints
+     */
+    boolean isEmpty() {
+        return m_chunks.isEmpty();
+    }
+
+    /**
+     * @return a reader of the checkpointed rows in input order
+     */
+    Reader read() {
+        return new Reader();
+    }
+
+    /**
+     * Writes a checkpoint of completed rows. Rows whose response cells are stored in file stores (e.g. large binary
+     * bodies) cannot be checkpointed, as the file stores are disposed when the node is reset. Neither the first such
+     * row nor any later row is checkpointed, such that a resumed execution sends their requests again.
+     *
+     * @param rows the completed rows, consisting of the input cells followed by the response cells
+     * @param numInputColumns the number of input columns
+     * @param fingerprints the request fingerprints of the rows, in the same order, may contain {@code null}
+     * @param exec for cancellation
+     * @throws IOException if the checkpoint cannot be written
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void write(final BufferedDataTable rows, final int numInputColumns, final List<String> fingerprints,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        if (m_incomplete) {
+            return;
+        }
+        final var container = new DataContainer(createChunkSpec());
+        try (var iterator = rows.iterator()) {
+            for (final var fingerprint : fingerprints) {
+                exec.checkCanceled();
+                final var row = iterator.next();
+                final var cells = new DataCell[m_columns.length + 1];
+                for (var i = 0; i < m_columns.length; i++) {
+                    cells[i] = row.getCell(numInputColumns + i);
+                }
+                if (IncrementalIndex.containsFileStores(cells)) {
+                    m_incomplete = true;
+                    break;
+                }
+                cells[m_columns.length] = fingerprint == null ? DataType.getMissingCell() : new StringCell(fingerprint);
+                container.addRowToTable(new DefaultRow(row.getKey(), cells));
+            }
+        } finally {
+            container.close();
+        }
+        if (container.size() == 0) {
+            return;
+        }
+        final var chunk = m_directory.resolve(String.format("%s%08d%s", CHUNK_PREFIX, m_chunks.size(), CHUNK_SUFFIX));
+        writeChunk(chunk, container.getTable(), exec);
+        m_chunks.add(chunk);
+    }
+
+    /**
+     * Sets the response columns of subsequent checkpoints, discarding all checkpoints if they differ from the
+     * columns of the existing ones.
+     *
+     * @param columns the specs of the response columns
+     * @return whether the existing checkpoints have been kept
+     * @throws IOException if a checkpoint cannot be deleted
+     */
+    boolean setColumns(final DataColumnSpec[] columns) throws IOException {
+        final var keep = m_columns == null || Arrays.equals(m_columns, columns);
+        if (!keep) {
+            clear();
+        }
+        m_columns = columns;
+        return keep;
+    }
+
+    /**
+     * Discards the checkpointed rows following the given number of rows.
+     *
+     * @param numRows the number of rows to keep
+     * @param exec for cancellation
+     * @throws IOException if the checkpoints cannot be rewritten
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void truncate(final long numRows, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        var remaining = numRows;
+        final var kept = new ArrayList<Path>();
+        for (final var chunk : m_chunks) {
+            if (remaining <= 0) {
+                Files.deleteIfExists(chunk);
+                continue;
+            }
+            final var table = DataContainer.readFromZip(chunk.toFile());
+            try {
+                if (table.size() > remaining) {
+                    writeChunk(chunk, head(table, remaining), exec);
+                }
+                remaining -= table.size();
+            } finally {
+                table.clear();
+            }
+            kept.add(chunk);
+        }
+        m_chunks.clear();
+        m_chunks.addAll(kept);
+        if (m_chunks.isEmpty()) {
+            m_columns = null;
+        }
+    }
+
+    private static DataTable head(final ContainerTable table, final long numRows) {
+        final var container = new DataContainer(table.getDataTableSpec());
+        try (var rows = table.iterator()) {
+            for (var i = 0L; i < numRows; i++) {
+                container.addRowToTable(rows.next());
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    /** Writes to a temporary file first, such that a chunk is either complete or absent. */
+    private void writeChunk(final Path chunk, final DataTable table, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        final var temp = Files.createTempFile(m_directory, CHUNK_PREFIX, ".tmp");
+        try {
+            DataContainer.writeToZip(table, temp.toFile(), exec);
+            Files.move(temp, chunk, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Deletes all checkpoints.
+     *
+     * @throws IOException if a checkpoint cannot be deleted
+     */
+    void clear() throws IOException {
+        for (final var chunk : m_chunks) {
+            Files.deleteIfExists(chunk);
+        }
+        m_chunks.clear();
+        m_columns = null;
+        m_incomplete = false;
+    }
+
+    private DataTableSpec createChunkSpec() {
+        final var responseSpec = new DataTableSpec(m_columns);
+        final var creator = new DataTableSpecCreator(responseSpec);
+        creator.addColumns(new UniqueNameGenerator(responseSpec).newColumn("Fingerprint", StringCell.TYPE));
+        creator.putProperty(SETTINGS_FINGERPRINT, m_settingsFingerprint);
+        return creator.createSpec();
+    }
+
+    /**
+     * A checkpointed row.
+     *
+     * @param key the key of the input row
+     * @param fingerprint the fingerprint of the request sent for the row, may be {@code null}
+     * @param cells the response cells
+     */
+    record Row(RowKey key, String fingerprint, DataCell[] cells) {
+    }
+
+    /**
+     * Reads the checkpointed rows of all chunks in input order.
+     */
+    final class Reader implements AutoCloseable {
+
+        private int m_nextChunk;
+
+        private ContainerTable m_table;
+
+        private CloseableRowIterator m_rows;
+
+        private Reader() {
+        }
+
+        /**
+         * @return whether there is another checkpointed row
+         * @throws IOException if a checkpoint cannot be read
+         */
+        boolean hasNext() throws IOException {
+            while (m_rows == null || !m_rows.hasNext()) {
+                close();
+                if (m_nextChunk >= m_chunks.size()) {
+                    return false;
+                }
+                m_table = DataContainer.readFromZip(m_chunks.get(m_nextChunk++).toFile());
+                m_rows = m_table.iterator();
+            }
+            return true;
+        }
+
+        /**
+         * @return the next checkpointed row
+         * @throws IOException if a checkpoint cannot be read
+         */
+        Row next() throws IOException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final var row = m_rows.next();
+            final var cells = new DataCell[row.getNumCells() - 1];
+            for (var i = 0; i < cells.length; i++) {
+                cells[i] = row.getCell(i);
+            }
+            final var fingerprint = row.getCell(cells.length);
+            return new Row(row.getKey(), fingerprint.isMissing() ? null : ((StringValue)fingerprint).getStringValue(),
+                cells);
+        }
+
+        /** Closes the current chunk, the cells of its rows cannot be read afterwards. */
+        @Override
+        public void close() {
+            if (m_rows != null) {
+                m_rows.close();
+                m_rows = null;
+            }
+            if (m_table != null) {
+                m_table.clear();
+                m_table = null;
+            }
+        }
+    }
+}
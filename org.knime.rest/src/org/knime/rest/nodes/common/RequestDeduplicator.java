@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.knime.core.data.DataCell;
+
+/**
+ * Avoids sending identical requests multiple times within one node execution. Concurrent requests with the same key
+ * wait for the single request in flight, later ones are answered from a bounded, least-recently-used cache of the
+ * parsed responses.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RequestDeduplicator {
+
+    private static final String PROPERTY_CACHE_SIZE = "org.knime.rest.deduplicationCacheSize";
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final Map<Object, CompletableFuture<DataCell[]>> m_inFlight = new ConcurrentHashMap<>();
+
+    private final Map<Object, DataCell[]> m_cache;
+
+    private final AtomicLong m_hits = new AtomicLong();
+
+    private final AtomicLong m_misses = new AtomicLong();
+
+    /**
+     * Creates a deduplicator whose cache size is determined by the system property {@value #PROPERTY_CACHE_SIZE}.
+     */
+    RequestDeduplicator() {
+        this(Integer.getInteger(PROPERTY_CACHE_SIZE, DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * @param cacheSize the maximum number of cached responses, non-positive values only coalesce concurrent requests
+     */
+    RequestDeduplicator(final int cacheSize) {
+        m_cache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, DataCell[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the response cells for the request with the given key, sending the request only if neither an
+     * identical request is in flight nor its response is cached.
+     *
+     * @param key the key identifying the request
+     * @param request sends the request and returns the response cells
+     * @return the response cells
+     */
+    DataCell[] get(final Object key, final Supplier<DataCell[]> request) {
+        var cells = lookup(key);
+        if (cells != null) {
+            return cells;
+        }
+        final var future = new CompletableFuture<DataCell[]>();
+        final var inFlight = m_inFlight.putIfAbsent(key, future);
+        if (inFlight != null) {
+            m_hits.incrementAndGet();
+            try {
+                return inFlight.join().clone();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+        }
+        try {
+            // the request might have completed between the lookup and registering this one
+            cells = lookup(key);
+            if (cells == null) {
+                m_misses.incrementAndGet();
+                cells = request.get();
+                synchronized (m_cache) {
+                    m_cache.put(key, cells);
+                }
+            }
+            future.complete(cells);
+            return cells.clone();
+        } catch (RuntimeException | Error e) { // NOSONAR waiting requests have to be released
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            m_inFlight.remove(key, future);
+        }
+    }
+
+    private DataCell[] lookup(final Object key) {
+        final DataCell[] cells;
+        synchronized (m_cache) {
+            cells = m_cache.get(key);
+        }
+        if (cells == null) {
+            return null;
+        }
+        m_hits.incrementAndGet();
+        return cells.clone();
+    }
+
+    /**
+     * @return the number of requests that have been answered without sending them
+     */
+    long getHits() {
+        return m_hits.get();
+    }
+
+    /**
+     * @return the number of requests that have been sent
+     */
+    long getMisses() {
+        return m_misses.get();
+    }
+}
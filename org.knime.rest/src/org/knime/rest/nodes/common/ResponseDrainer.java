@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.NodeLogger;
+import org.knime.rest.nodes.common.RestSettings.ResponseHeaderItem;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Discards the response bodies, such that only the status and the latency of each request are output. Meant for
+ * requests to write APIs, e.g. webhooks or event ingestion, whose answers are of no interest. The bodies are neither
+ * parsed nor stored but drained into a shared scratch buffer, which keeps the connection reusable without allocating
+ * per response. As the resulting rows are tiny, more of them can be kept in flight, see {@link #QUEUE_SIZE_FACTOR}.
+ * <p>
+ * The latency is the time from creating the request until its status and headers have been received, measured per
+ * thread since each request is sent and handled by the same thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ResponseDrainer {
+
+    /**
+     * The factor by which the number of rows in flight exceeds the number of concurrent requests. Finished rows wait
+     * for their predecessors to be written in order, which is cheap for rows without bodies.
+     */
+    static final int QUEUE_SIZE_FACTOR = 4;
+
+    private static final String LATENCY = "Latency (ms)";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ResponseDrainer.class);
+
+    private final List<ResponseHeaderItem> m_columns = List.of(new ResponseHeaderItem(LATENCY, LongCell.TYPE, LATENCY));
+
+    private final ThreadLocal<Long> m_sent = new ThreadLocal<>();
+
+    private final ThreadLocal<Long> m_latency = new ThreadLocal<>();
+
+    /**
+     * @return the columns added for the requests
+     */
+    List<ResponseHeaderItem> getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * Starts measuring the latency of the request about to be sent by the current thread.
+     */
+    void sending() {
+        m_sent.set(System.nanoTime());
+    }
+
+    /**
+     * Stops measuring the latency once the status and headers of the response have been received by the current
+     * thread.
+     */
+    void received() {
+        final var sent = m_sent.get();
+        if (sent != null) {
+            m_latency.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent));
+        }
+    }
+
+    /**
+     * Drains the body of the response and returns the latency of its request.
+     *
+     * @param response the response, {@code null} if the request failed
+     * @param missing the missing cell of a failed request
+     * @return the cells of the columns
+     */
+    DataCell[] drain(final Response response, final MissingCell missing) {
+        final var latency = m_latency.get();
+        m_sent.remove();
+        m_latency.remove();
+        if (response == null) {
+            return new DataCell[]{missing != null ? missing : DataType.getMissingCell()};
+        }
+        if (response.getEntity() instanceof InputStream body) {
+            try (body) {
+                // reads into the shared write-only buffer of commons-io instead of allocating one
+                IOUtils.skip(body, Long.MAX_VALUE);
+            } catch (IOException e) {
+                // the connection is not reused then, the status has been received anyway
+                LOGGER.debug("Could not drain the response body: " + e.getMessage(), e);
+            }
+        }
+        return new DataCell[]{latency != null ? new LongCell(latency) : DataType.getMissingCell()};
+    }
+}
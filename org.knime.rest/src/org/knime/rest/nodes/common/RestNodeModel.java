@@ -48,33 +48,47 @@
  */
 package org.knime.rest.nodes.common;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.KeyManagementException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.cxf.jaxrs.impl.ResponseImpl;
@@ -93,7 +107,9 @@
 import org.knime.core.data.IntValue;
 import org.knime.core.data.MissingCell;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
 import org.knime.core.data.blob.BinaryObjectDataCell;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
@@ -108,8 +124,10 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.context.NodeCreationConfiguration;
@@ -128,15 +146,17 @@
 import org.knime.core.node.streamable.StreamableOperatorInternals;
 import org.knime.core.node.streamable.simple.SimpleStreamableOperatorInternals;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.node.util.ClassUtils;
 import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.VariableType;
 import org.knime.core.node.workflow.VariableType.BooleanType;
 import org.knime.core.node.workflow.VariableType.DoubleType;
 import org.knime.core.node.workflow.VariableType.IntType;
 import org.knime.core.node.workflow.VariableType.LongType;
 import org.knime.core.node.workflow.VariableType.StringType;
+import org.knime.core.util.FileUtil;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 import org.knime.core.util.proxy.DisabledSchemesChecker;
 import org.knime.credentials.base.Credential;
@@ -148,15 +168,22 @@
 import org.knime.rest.generic.ResponseBodyParser;
 import org.knime.rest.generic.ResponseBodyParser.Default;
 import org.knime.rest.generic.ResponseBodyParser.Missing;
+import org.knime.rest.generic.TokenAuthentication;
+import org.knime.rest.generic.UsernamePasswordAuthentication;
 import org.knime.rest.internals.HttpAuthorizationHeaderAuthentication;
+import org.knime.rest.internals.NoAuthentication;
 import org.knime.rest.nodes.common.AbstractRequestExecutor.MultiResponseHandler;
 import org.knime.rest.nodes.common.RestSettings.HttpMethod;
 import org.knime.rest.nodes.common.RestSettings.ReferenceType;
 import org.knime.rest.nodes.common.RestSettings.RequestHeaderKeyItem;
 import org.knime.rest.nodes.common.RestSettings.ResponseHeaderItem;
 import org.knime.rest.nodes.common.proxy.ProxyMode;
+import org.knime.rest.util.BodyExplodeMode;
+import org.knime.rest.util.BodySizeLimits;
+import org.knime.rest.util.ContentEncodings;
 import org.knime.rest.util.CooldownContext;
 import org.knime.rest.util.DelegatingX509TrustManager;
+import org.knime.rest.util.HttpResponseCache;
 import org.knime.rest.util.InvalidURLPolicy;
 import org.knime.rest.util.RowFilterUtil;
 
@@ -207,6 +234,11 @@
 
     private final List<ResponseHeaderItem> m_responseHeaderKeys = new ArrayList<>();
 
+    /**
+     * The extractors of the cells of {@link #m_responseHeaderKeys}, compiled once the first response fixed them.
+     */
+    private HeaderExtractor[] m_headerExtractors = new HeaderExtractor[0];
+
     private ResponseHeaderItem m_bodyColumn;
 
     private boolean m_isContextSettingsFailed;
@@ -215,10 +247,18 @@
 
     private final List<ResponseBodyParser> m_errorBodyParsers = new ArrayList<>();
 
+    /**
+     * The parsers resolved per content type in the current execution, {@code null} before the parsers are created.
+     */
+    private BodyParserDispatch m_bodyParserDispatch;
+
     private final int m_credentialPortIdx;
 
     static final String STATUS = "Status";
 
+    /** The maximum number of distinct values of a header column whose cells are shared by the rows. */
+    static final int MAX_INTERNED_HEADER_VALUES = 256;
+
     /** Fallback for the {@link FromString} creating missing cells. */
     private static final FromString FALLBACK = new FromString() {
 
@@ -244,6 +284,67 @@ public DataCell createCell(final String input) {
      */
     private int m_rowLength = -1;
 
+    /**
+     * Avoids sending identical requests multiple times, {@code null} if disabled. Created freshly for each execution.
+     */
+    private RequestDeduplicator m_requestDeduplicator;
+
+    /**
+     * Persistent cache of responses to GET and HEAD requests, {@code null} if disabled. Created for each execution.
+     */
+    private HttpResponseCache m_responseCache;
+
+    /**
+     * Hash of the credentials the requests of the current execution are sent with, part of the keys of the
+     * {@link #m_responseCache}, empty if the requests are not authenticated.
+     */
+    private String m_credentialFingerprint = "";
+
+    /**
+     * File storing the {@link IncrementalIndex} of the last execution, {@code null} if there is none. Survives a
+     * reset such that re-executions only send requests for new or changed rows.
+     */
+    private File m_incrementalIndex;
+
+    /**
+     * Directory storing the {@link RequestCheckpoint}s of the current or last failed execution, {@code null} if there
+     * are none. Survives a reset such that the next execution can resume.
+     */
+    private File m_checkpointDirectory;
+
+    /**
+     * The pagination of the current execution, {@code null} if only one request is sent per row.
+     */
+    private Pagination m_pagination;
+
+    private BodyExploder m_bodyExploder;
+
+    /**
+     * The extractor of the JSON fields of the current execution, {@code null} if none are extracted.
+     */
+    private JSONFieldExtractor m_jsonFieldExtractor;
+
+    /**
+     * The downloader of the response bodies of the current execution, {@code null} if the bodies are output.
+     */
+    private BodyDownloader m_bodyDownloader;
+
+    /**
+     * The drainer of the response bodies of the current execution, {@code null} unless the bodies are discarded.
+     */
+    private ResponseDrainer m_responseDrainer;
+
+    /**
+     * The deduplicator of the response bodies of the current execution, {@code null} unless identical bodies are
+     * shared or their hash is output.
+     */
+    private BodyDeduplicator m_bodyDeduplicator;
+
+    /**
+     * The request of the row whose response is currently handled by this thread, set while downloading.
+     */
+    private final ThreadLocal<BodyDownloader.DownloadRequest> m_downloadedRow = new ThreadLocal<>();
+
     /**
      * Common constructor for descendent classes with the default optional input table and a single output table.
      * @param cfg The node creating configuration
@@ -445,6 +546,8 @@ protected DataTableSpec[] configure(final PortObjectSpec[] inSpecs) throws Inval
             }
         }
 
+        checkCompatibility(m_settings, false);
+
         // we do not know the exact columns (like type of body) without making a REST call, so return no table spec.
         return new DataTableSpec[]{null};
     }
@@ -459,16 +562,29 @@ protected DataTableSpec[] configure(final PortObjectSpec[] inSpecs) throws Inval
     protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
         final List<EachRequestAuthentication> enabledAuthentications = getAuthentications(getCredential(inData));
         createResponseBodyParsers(exec);
+        m_pagination = Pagination.create(m_settings);
+        m_bodyExploder = BodyExploder.create(m_settings, exec);
+        m_jsonFieldExtractor = JSONFieldExtractor.create(m_settings);
+        m_bodyDownloader = BodyDownloader.create(m_settings);
+        m_responseDrainer = isDiscardResponseBodies(m_settings) ? new ResponseDrainer() : null;
+        m_bodyDeduplicator = BodyDeduplicator.create(m_settings);
+        // the requests of the following pages differ from the one of the input row
+        m_requestDeduplicator =
+            m_settings.isDeduplicateRequests() && m_pagination == null ? new RequestDeduplicator() : null;
+        m_responseCache = createResponseCache(enabledAuthentications);
         // Issue a warning if no proxy config came in from the global settings.
         if (m_settings.getProxyManager().getProxyMode() == ProxyMode.GLOBAL
             && m_settings.getEffectiveProxyConfig(null).isEmpty()) {
             LOGGER.info("The KNIME-wide proxy settings are activated but none were specified. "
                 + "Defaulting to using no proxy.");
         }
+        if ((inData.length == 0 || inData[0] == null) && m_pagination != null) {
+            return new BufferedDataTable[]{executePaginated(null, enabledAuthentications, exec)};
+        }
         if (inData.length == 0 || inData[0] == null) {
             // Constant URL mode.
             makeFirstCall(null/*row*/, enabledAuthentications, null/*spec*/, exec);
-            return createTableFromFirstCallData(exec);
+            return new BufferedDataTable[]{explodeBodies(createTableFromFirstCallData(exec)[0], 0, exec)};
         }
         final var inTable = (BufferedDataTable)inData[0];
         if (inTable.size() == 0) {
@@ -481,15 +597,707 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         final var bufferedTable =
             (m_settings.isUseConstantURL() || m_settings.getInvalidURLPolicy() != InvalidURLPolicy.SKIP) //
                 ? inTable : RowFilterUtil.filterBufferedDataTable(inTable, getRowFilter(spec), exec);
-        try (var iterator = bufferedTable.iterator()) {
+        BufferedDataTable result;
+        if (m_pagination != null) {
+            result = executePaginated(bufferedTable, enabledAuthentications, exec);
+        } else if (m_settings.isIncrementalExecution()) {
+            result = executeIncrementally(bufferedTable, enabledAuthentications, exec);
+        } else {
+            deleteIncrementalIndex();
+            result = executeRequestsWithCheckpoints(bufferedTable, enabledAuthentications, exec);
+        }
+        result = explodeBodies(result, spec.getNumColumns(), exec);
+        if (m_requestDeduplicator != null) {
+            pushFlowVariable("requestCacheHits", LongType.INSTANCE, m_requestDeduplicator.getHits());
+            pushFlowVariable("requestCacheMisses", LongType.INSTANCE, m_requestDeduplicator.getMisses());
+        }
+        return new BufferedDataTable[]{result};
+    }
+
+    /**
+     * Sends one request per row of the given table and appends the response columns to it. Can be called multiple
+     * times per execution, e.g. for batches of rows and afterwards for the rows of failed batches.
+     *
+     * @param table the rows to send requests for, not empty
+     * @param enabledAuthentications the enabled authentications
+     * @param exec the execution context
+     * @return the input table with the response columns appended
+     * @throws InvalidSettingsException if a request could not be created
+     * @throws IOException if refreshing a token failed
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    BufferedDataTable executeRequests(final BufferedDataTable table,
+        final List<EachRequestAuthentication> enabledAuthentications, final ExecutionContext exec)
+        throws InvalidSettingsException, IOException, CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        // responses of previous calls are keyed by row keys which might re-appear in the given table
+        m_parsedResponseValues.clear();
+        try (var iterator = table.iterator()) {
             while (!m_readNonError && iterator.hasNext()) {
                 makeFirstCall(iterator.next(), enabledAuthentications, spec, exec);
                 m_consumedRows.getAndIncrement();
             }
         }
-        final var rearranger = createColumnRearranger(enabledAuthentications, spec, exec, bufferedTable.size());
-        return new BufferedDataTable[]{exec.createColumnRearrangeTable( //
-            bufferedTable, rearranger, exec)};
+        final var rearranger = createColumnRearranger(enabledAuthentications, spec, exec, table.size());
+        return exec.createColumnRearrangeTable(table, rearranger, exec);
+    }
+
+    /**
+     * Replaces each row by one row per element of its response body if splitting the body is enabled.
+     *
+     * @param table the table containing the input and response columns
+     * @param inputColumns the number of input columns preceding the response columns
+     * @param exec the execution context
+     * @return the table containing one row per element, the given table if bodies are not split
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    private BufferedDataTable explodeBodies(final BufferedDataTable table, final int inputColumns,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        if (m_bodyExploder == null) {
+            return table;
+        }
+        try {
+            final var bodyIndex = getBodyCellIndex();
+            return m_bodyExploder.expand(table, bodyIndex < 0 ? -1 : (inputColumns + bodyIndex), exec);
+        } finally {
+            m_bodyExploder.close();
+        }
+    }
+
+    /**
+     * Requests all pages of the paginated response of each row and outputs one row per page, consisting of the input
+     * cells, the response cells and the page number. The first page of a row keeps its key, the following ones get
+     * the page number appended. The pages of a row are requested one after the other, the next page being requested
+     * while the current one is added to the output.
+     *
+     * @param table the rows to send requests for, {@code null} if there is no input table
+     * @param enabledAuthentications the enabled authentications
+     * @param exec the execution context
+     * @return the table containing one row per page
+     * @throws InvalidSettingsException if a request could not be created
+     * @throws IOException if refreshing a token failed
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    private BufferedDataTable executePaginated(final BufferedDataTable table,
+        final List<EachRequestAuthentication> enabledAuthentications, final ExecutionContext exec)
+        throws InvalidSettingsException, IOException, CanceledExecutionException {
+        final var execution = new PaginatedExecution(table == null ? null : table.getDataTableSpec(),
+            enabledAuthentications, exec);
+        final Iterator<DataRow> rows = table == null
+            ? List.<DataRow> of(new DefaultRow(CONSTANT_URL_KEY, new DataCell[0])).iterator() : table.iterator();
+        try {
+            while (rows.hasNext()) {
+                var page = m_pagination.firstPage(rows.next());
+                var cells = execution.request(page);
+                while (page != null) {
+                    exec.checkCanceled();
+                    final var next = m_pagination.next(page, cells, getBodyCellIndex());
+                    final var prefetched = next == null ? null : execution.prefetch(next);
+                    execution.add(page, cells);
+                    page = next;
+                    if (next != null) {
+                        cells = prefetched != null ? execution.await(prefetched) : execution.request(next);
+                    }
+                }
+            }
+        } finally {
+            if (rows instanceof CloseableRowIterator closeable) {
+                closeable.close();
+            }
+        }
+        return execution.close();
+    }
+
+    /**
+     * State of a paginated execution. Pages received before the response columns are known are buffered, all
+     * following ones are added to the output directly.
+     */
+    private final class PaginatedExecution {
+
+        private final DataTableSpec m_spec;
+
+        private final List<EachRequestAuthentication> m_enabledAuthentications;
+
+        private final ExecutionContext m_exec;
+
+        private final List<Pair<Pagination.PageRow, DataCell[]>> m_pending = new ArrayList<>();
+
+        private RequestExecutor m_executor;
+
+        private BufferedDataContainer m_container;
+
+        PaginatedExecution(final DataTableSpec spec, final List<EachRequestAuthentication> enabledAuthentications,
+            final ExecutionContext exec) {
+            m_spec = spec;
+            m_enabledAuthentications = enabledAuthentications;
+            m_exec = exec;
+        }
+
+        DataCell[] request(final Pagination.PageRow page) throws InvalidSettingsException, IOException {
+            if (!m_readNonError) {
+                makeFirstCall(page, m_enabledAuthentications, m_spec, m_exec);
+                m_consumedRows.getAndIncrement();
+                return m_parsedResponseValues.remove(page.getKey());
+            }
+            return getExecutor().getCells(page);
+        }
+
+        /**
+         * @return the pending request of the page, {@code null} if the page has to be requested synchronously since
+         *         the response columns are not known yet
+         */
+        Future<DataCell[]> prefetch(final Pagination.PageRow page) {
+            if (!m_readNonError) {
+                return null;
+            }
+            final var executor = getExecutor();
+            return KNIMEConstants.GLOBAL_THREAD_POOL
+                .enqueue(ThreadUtils.callableWithContext(() -> executor.getCells(page)));
+        }
+
+        DataCell[] await(final Future<DataCell[]> request) throws IOException, CanceledExecutionException {
+            try {
+                while (true) {
+                    try {
+                        return request.get(100, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) { // NOSONAR check for cancellation while waiting
+                        m_exec.checkCanceled();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException(e.getMessage());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IOException(e.getCause());
+            } finally {
+                request.cancel(true);
+            }
+        }
+
+        private RequestExecutor getExecutor() {
+            if (m_executor == null) {
+                m_executor = new RequestExecutor(m_spec, m_enabledAuthentications, m_exec);
+                m_executor.setKnownTableSize(-1L);
+            }
+            return m_executor;
+        }
+
+        void add(final Pagination.PageRow page, final DataCell[] cells) {
+            if (cells == null || Arrays.equals(cells, AbstractRequestExecutor.EMPTY_RESPONSE)) {
+                // skipped due to an invalid URL
+                return;
+            }
+            if (m_container == null && !m_readNonError) {
+                m_pending.add(Pair.create(page, cells));
+                return;
+            }
+            write(page, cells);
+        }
+
+        BufferedDataTable close() {
+            if (m_container == null) {
+                createContainer();
+            }
+            m_container.close();
+            return m_container.getTable();
+        }
+
+        private void write(final Pagination.PageRow page, final DataCell[] cells) {
+            if (m_container == null) {
+                createContainer();
+            }
+            final var responseCells = formatDataCells(cells);
+            final var rowCells = new DataCell[page.getNumCells() + responseCells.length + 1];
+            for (var i = 0; i < page.getNumCells(); i++) {
+                rowCells[i] = page.getCell(i);
+            }
+            System.arraycopy(responseCells, 0, rowCells, page.getNumCells(), responseCells.length);
+            rowCells[rowCells.length - 1] = new IntCell(page.getPage());
+            m_container.addRowToTable(new DefaultRow(page.getKey(), rowCells));
+        }
+
+        private void createContainer() {
+            updateFirstCallColumnsOnHttpError(m_spec);
+            final var columns = m_newColumnsBasedOnFirstCalls != null ? m_newColumnsBasedOnFirstCalls
+                : new DataColumnSpec[0];
+            final var responseSpec = m_spec == null ? new DataTableSpec(columns)
+                : new DataTableSpec(m_spec, new DataTableSpec(columns));
+            final var pageColumn = new UniqueNameGenerator(responseSpec).newColumn("Page", IntCell.TYPE);
+            m_container = m_exec.createDataContainer(new DataTableSpec(responseSpec, new DataTableSpec(pageColumn)));
+            final var pending = new ArrayList<>(m_pending);
+            m_pending.clear();
+            pending.forEach(p -> write(p.getFirst(), p.getSecond()));
+        }
+    }
+
+    /**
+     * Sends the requests like {@link #executeRequests(BufferedDataTable, List, ExecutionContext)}, but if
+     * checkpoints are enabled, in chunks of rows whose responses are checkpointed once completed. If the last
+     * execution failed or was canceled, the checkpointed responses of rows with an unchanged request are reused
+     * (as long as they form a prefix of the table) and only the requests of the remaining rows are sent. Responses
+     * stored in file stores end the checkpointed prefix. The checkpoints are deleted once all requests completed.
+     *
+     * @param table the rows to send requests for, not empty
+     * @param enabledAuthentications the enabled authentications
+     * @param exec the execution context
+     * @return the input table with the response columns appended
+     * @throws InvalidSettingsException if a request could not be created
+     * @throws IOException if refreshing a token failed or the checkpoints could not be read or written
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    private BufferedDataTable executeRequestsWithCheckpoints(final BufferedDataTable table,
+        final List<EachRequestAuthentication> enabledAuthentications, final ExecutionContext exec)
+        throws InvalidSettingsException, IOException, CanceledExecutionException {
+        final var interval = m_settings.getCheckpointInterval();
+        if (interval <= 0) {
+            deleteCheckpoints();
+            return executeRequests(table, enabledAuthentications, exec);
+        }
+        final var spec = table.getDataTableSpec();
+        if (m_checkpointDirectory == null) {
+            m_checkpointDirectory = FileUtil.createTempDir("rest-checkpoints");
+        }
+        final var checkpoint = RequestCheckpoint.open(m_checkpointDirectory.toPath(), createSettingsFingerprint(spec));
+
+        BufferedDataContainer container = null;
+        var resumedRows = 0L;
+        try (var rows = table.iterator()) {
+            // resume from the checkpointed rows as long as their requests are unchanged
+            DataRow pending = null;
+            if (!checkpoint.isEmpty()) {
+                final var resumedSpec = new DataTableSpec(spec, new DataTableSpec(checkpoint.getColumns()));
+                try (var checkpointed = checkpoint.read()) {
+                    while (pending == null && rows.hasNext() && checkpointed.hasNext()) {
+                        exec.checkCanceled();
+                        final var row = rows.next();
+                        final var checkpointedRow = checkpointed.next();
+                        if (checkpointedRow.key().equals(row.getKey()) && Objects
+                            .equals(checkpointedRow.fingerprint(), createRowFingerprint(row, spec))) {
+                            if (container == null) {
+                                container = exec.createDataContainer(resumedSpec);
+                            }
+                            container.addRowToTable(new AppendedColumnRow(row, checkpointedRow.cells()));
+                            resumedRows++;
+                        } else {
+                            pending = row;
+                        }
+                    }
+                }
+                checkpoint.truncate(resumedRows, exec);
+                m_consumedRows.addAndGet(resumedRows);
+                if (resumedRows > 0) {
+                    LOGGER.info("Resuming from checkpoint, reusing the responses of " + resumedRows + " rows.");
+                }
+            }
+
+            // send the requests of the remaining rows in chunks of the checkpoint interval
+            while (pending != null || rows.hasNext()) {
+                final var chunk = exec.createDataContainer(spec);
+                final List<String> fingerprints = new ArrayList<>();
+                try {
+                    while (chunk.size() < interval && (pending != null || rows.hasNext())) {
+                        final var row = pending != null ? pending : rows.next();
+                        pending = null;
+                        chunk.addRowToTable(row);
+                        fingerprints.add(createRowFingerprint(row, spec));
+                    }
+                } finally {
+                    chunk.close();
+                }
+                final var chunkTable = chunk.getTable();
+                final var result = executeRequests(chunkTable, enabledAuthentications,
+                    exec.createSubExecutionContext(chunkTable.size() / (double)table.size()));
+                final var columns = result.getDataTableSpec().stream().skip(spec.getNumColumns())
+                    .toArray(DataColumnSpec[]::new);
+                if (!checkpoint.setColumns(columns)) {
+                    // the response columns differ from those of the resumed rows
+                    LOGGER.info("The response columns changed since the checkpoint, sending all requests.");
+                    container.close();
+                    m_consumedRows.addAndGet(-resumedRows);
+                    return executeRequestsWithCheckpoints(table, enabledAuthentications, exec);
+                }
+                if (container == null) {
+                    container = exec.createDataContainer(result.getDataTableSpec());
+                }
+                checkpoint.write(result, spec.getNumColumns(), fingerprints, exec);
+                try (var resultRows = result.iterator()) {
+                    while (resultRows.hasNext()) {
+                        container.addRowToTable(resultRows.next());
+                    }
+                }
+            }
+        } finally {
+            if (container != null) {
+                container.close();
+            }
+        }
+        pushFlowVariable("checkpointResumedRows", LongType.INSTANCE, resumedRows);
+        checkpoint.clear();
+        return container.getTable();
+    }
+
+    private void deleteCheckpoints() {
+        if (m_checkpointDirectory != null) {
+            FileUtil.deleteRecursively(m_checkpointDirectory);
+            m_checkpointDirectory = null;
+        }
+    }
+
+    /**
+     * Only sends requests for rows whose request changed since the last execution or whose response is older than
+     * the configured maximum age, the response cells of all other rows are taken from the {@link IncrementalIndex}.
+     * If the settings or the input columns changed, or the requests result in different response columns, all
+     * requests are sent. The index is replaced by the responses of this execution, except for failed requests and
+     * responses stored in file stores, which are disposed on reset.
+     *
+     * @param table the rows to send requests for, not empty
+     * @param enabledAuthentications the enabled authentications
+     * @param exec the execution context
+     * @return the input table with the response columns appended
+     * @throws InvalidSettingsException if a request could not be created
+     * @throws IOException if refreshing a token failed or the index could not be read or written
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    private BufferedDataTable executeIncrementally(final BufferedDataTable table,
+        final List<EachRequestAuthentication> enabledAuthentications, final ExecutionContext exec)
+        throws InvalidSettingsException, IOException, CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        final var settingsFingerprint = createSettingsFingerprint(spec);
+        final var now = System.currentTimeMillis();
+        final var maxAge = m_settings.getIncrementalMaxAge();
+        IncrementalIndex index;
+        try {
+            index = IncrementalIndex.read(m_incrementalIndex, settingsFingerprint,
+                maxAge > 0 ? (now - TimeUnit.HOURS.toMillis(maxAge)) : Long.MIN_VALUE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the responses of the previous execution, sending all requests.", e);
+            index = IncrementalIndex.read(null, settingsFingerprint, now);
+        }
+        try {
+            return executeIncrementally(table, index, settingsFingerprint, now, enabledAuthentications, exec);
+        } finally {
+            index.close();
+        }
+    }
+
+    private BufferedDataTable executeIncrementally(final BufferedDataTable table, final IncrementalIndex index,
+        final String settingsFingerprint, final long now, final List<EachRequestAuthentication> enabledAuthentications,
+        final ExecutionContext exec) throws InvalidSettingsException, IOException, CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        final List<String> fingerprints = new ArrayList<>();
+        final var changed = exec.createDataContainer(spec);
+        try (var rows = table.iterator()) {
+            while (rows.hasNext()) {
+                exec.checkCanceled();
+                final var row = rows.next();
+                final var fingerprint = createRowFingerprint(row, spec);
+                fingerprints.add(fingerprint);
+                if (index.get(fingerprint) == null) {
+                    changed.addRowToTable(row);
+                }
+            }
+        } finally {
+            changed.close();
+        }
+        final var changedTable = changed.getTable();
+        pushFlowVariable("incrementalReusedRows", LongType.INSTANCE, table.size() - changedTable.size());
+
+        BufferedDataTable requested = null;
+        var reuse = true;
+        var columns = index.getColumns();
+        if (changedTable.size() > 0) {
+            requested = executeRequestsWithCheckpoints(changedTable, enabledAuthentications,
+                exec.createSubExecutionContext(0.9));
+            final var requestedColumns = requested.getDataTableSpec().stream().skip(spec.getNumColumns())
+                .toArray(DataColumnSpec[]::new);
+            if (columns != null && !Arrays.equals(columns, requestedColumns)) {
+                LOGGER.info("The response columns changed since the last execution, sending all requests.");
+                reuse = false;
+                requested = executeRequests(table, enabledAuthentications, exec.createSubExecutionContext(0.0));
+            }
+            columns = requestedColumns;
+        }
+
+        final var mergeExec = exec.createSubExecutionContext(0.1);
+        // the response cells of the reused rows are read from the index in the order of the rows
+        final List<IncrementalIndex.Entry> reusedEntries = new ArrayList<>();
+        for (final var fingerprint : fingerprints) {
+            final var entry = reuse ? index.get(fingerprint) : null;
+            if (entry != null) {
+                reusedEntries.add(entry);
+            }
+        }
+        final var reused = index.readCells(reusedEntries, mergeExec.createSubExecutionContext(0.5));
+        final var writer = IncrementalIndex.writer(settingsFingerprint, columns);
+        final var container = exec.createDataContainer(new DataTableSpec(spec, new DataTableSpec(columns)));
+        try (var rows = table.iterator(); var requestedRows = requested == null ? null : requested.iterator();
+                var reusedRows = reused.iterator()) {
+            var nextRequested = requestedRows != null && requestedRows.hasNext() ? requestedRows.next() : null;
+            var rowIndex = 0;
+            while (rows.hasNext()) {
+                mergeExec.checkCanceled();
+                mergeExec.setProgress(rowIndex / (double)table.size());
+                final var row = rows.next();
+                final var fingerprint = fingerprints.get(rowIndex++);
+                final var entry = reuse ? index.get(fingerprint) : null;
+                if (entry != null) {
+                    final var cells = reusedRows.next().stream().limit(columns.length).toArray(DataCell[]::new);
+                    container.addRowToTable(new AppendedColumnRow(row, cells));
+                    writer.add(fingerprint, cells, entry.timestamp());
+                } else if (nextRequested != null && nextRequested.getKey().equals(row.getKey())) {
+                    container.addRowToTable(nextRequested);
+                    final var cells = nextRequested.stream().skip(spec.getNumColumns()).toArray(DataCell[]::new);
+                    if (fingerprint != null && IncrementalIndex.isReusable(cells)) {
+                        writer.add(fingerprint, cells, now);
+                    }
+                    nextRequested = requestedRows.hasNext() ? requestedRows.next() : null;
+                }
+            }
+        } finally {
+            container.close();
+        }
+        // the previous index is read until here, hence the new one is written to another file
+        final var indexFile = FileUtil.createTempFile("rest-incremental-index", ".zip");
+        writer.write(indexFile, mergeExec.createSubExecutionContext(0.5));
+        deleteIncrementalIndex();
+        m_incrementalIndex = indexFile;
+        return container.getTable();
+    }
+
+    /**
+     * @param spec the input table spec
+     * @return the fingerprint of the settings and input columns, which determine the response columns
+     * @throws IOException if the settings cannot be serialized
+     */
+    private String createSettingsFingerprint(final DataTableSpec spec) throws IOException {
+        final var settings = new NodeSettings("settings");
+        m_settings.saveSettings(settings);
+        final var xml = new ByteArrayOutputStream();
+        settings.saveToXML(xml);
+        return IncrementalIndex.fingerprint(xml.toString(StandardCharsets.UTF_8),
+            spec.stream().map(c -> c.getName() + ":" + c.getType().getName()).toList());
+    }
+
+    /**
+     * Computes the fingerprint of the request sent for a row, which in contrast to
+     * {@link #createRequestKey(DataRow, DataTableSpec)} also contains header values that might change between
+     * executions, e.g. those taken from flow variables.
+     *
+     * @param row the input row
+     * @param spec the input table spec
+     * @return the fingerprint, {@code null} if it cannot be determined and the request has to be sent
+     */
+    String createRowFingerprint(final DataRow row, final DataTableSpec spec) {
+        final var requestKey = createRequestKey(row, spec);
+        if (requestKey == null) {
+            return null;
+        }
+        final List<Object> parts = new ArrayList<>();
+        parts.add(requestKey);
+        try {
+            for (final RequestHeaderKeyItem headerItem : m_settings.getRequestHeaders()) {
+                if (headerItem.getKind() != ReferenceType.Column) {
+                    parts.add(headerItem.getKey() + ": " + extractHeaderValue(row, spec, headerItem));
+                }
+            }
+        } catch (RuntimeException e) { // NOSONAR the request itself will report the problem
+            return null;
+        }
+        return IncrementalIndex.fingerprint(parts.toArray());
+    }
+
+    private void deleteIncrementalIndex() {
+        if (m_incrementalIndex != null) {
+            m_incrementalIndex.delete(); // NOSONAR a temporary file, deleted on exit anyway
+            m_incrementalIndex = null;
+        }
+    }
+
+    /**
+     * Creates the key identifying the request for the given row, consisting of the method, the URL, the values of
+     * the request headers and the request body. Rows with equal keys result in identical requests.
+     *
+     * @param row the input row, {@code null} if no input table is connected
+     * @param spec the input table spec
+     * @return the key, or {@code null} if it cannot be determined (e.g. due to an invalid URL)
+     */
+    Object createRequestKey(final DataRow row, final DataTableSpec spec) {
+        final var targetKey = createRequestTargetKey(row, spec);
+        if (targetKey == null) {
+            return null;
+        }
+        final List<Object> key = new ArrayList<>();
+        key.add(m_settings.getMethod().orElse(null));
+        key.addAll(targetKey);
+        try {
+            key.add(createRequestBodyKey(row, spec));
+        } catch (UncheckedIOException e) { // NOSONAR the request itself will report the problem
+            return null;
+        }
+        return key;
+    }
+
+    /**
+     * Creates the key of the row-dependent parts of the request apart from its body, consisting of the URL and the
+     * values of the request headers taken from columns.
+     *
+     * @param row the input row, {@code null} if no input table is connected
+     * @param spec the input table spec
+     * @return the key, or {@code null} if it cannot be determined (e.g. due to an invalid URL)
+     */
+    List<Object> createRequestTargetKey(final DataRow row, final DataTableSpec spec) {
+        final List<Object> key = new ArrayList<>();
+        if (m_settings.isUseConstantURL()) {
+            key.add(m_settings.getConstantURL());
+        } else {
+            final var urlCell = row == null ? null : row.getCell(spec.findColumnIndex(m_settings.getURLColumn()));
+            if (urlCell == null || urlCell.isMissing()) {
+                return null;
+            }
+            key.add(urlCell.toString());
+        }
+        // only column values differ between rows, all other header values are constant during execution
+        for (final RequestHeaderKeyItem headerItem : m_settings.getRequestHeaders()) {
+            if (headerItem.getKind() == ReferenceType.Column) {
+                key.add(extractHeaderValue(row, spec, headerItem));
+            }
+        }
+        return key;
+    }
+
+    /**
+     * @param row the input row
+     * @param spec the input table spec
+     * @return the part of the request key identifying the request body, {@code null} if there is no row-dependent
+     *         body
+     * @throws UncheckedIOException if the body cannot be read
+     */
+    Object createRequestBodyKey(final DataRow row, final DataTableSpec spec) {
+        return null;
+    }
+
+    /**
+     * Creates the response cache and determines the fingerprint of the credentials its keys contain, such that a
+     * response received with the credentials of one user is never served to requests with other credentials.
+     *
+     * @param authentications the authentications the requests are sent with
+     * @return the response cache if enabled in the settings and the node sends GET or HEAD requests, else {@code null}
+     * @throws IOException if the cache directory cannot be created
+     * @throws InvalidSettingsException if the credentials are not available
+     */
+    private HttpResponseCache createResponseCache(final List<EachRequestAuthentication> authentications)
+        throws IOException, InvalidSettingsException {
+        m_credentialFingerprint = "";
+        final var method = m_settings.getMethod().orElse(null);
+        if (!m_settings.isUseResponseCache() || (method != HttpMethod.GET && method != HttpMethod.HEAD)) {
+            return null;
+        }
+        final var fingerprint = getCredentialFingerprint(authentications);
+        if (fingerprint.isEmpty()) {
+            setWarningMessage("Responses are not cached, as the identity of the authentication cannot be determined "
+                + "before the requests are sent.");
+            return null;
+        }
+        m_credentialFingerprint = fingerprint.get();
+        final var directory = StringUtils.isBlank(m_settings.getResponseCacheDirectory())
+            ? HttpResponseCache.getDefaultDirectory(getResponseCacheOwner())
+            : Path.of(m_settings.getResponseCacheDirectory().trim());
+        try {
+            return new HttpResponseCache(directory, m_settings.getResponseCacheMaxSize() * 1024L * 1024L);
+        } catch (InvalidPathException e) {
+            throw new IOException("The response cache directory is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param authentications the authentications the requests are sent with
+     * @return the SHA-256 hash of the credentials, an empty string if the requests are not authenticated, and empty
+     *         if the credentials are only determined while sending a request, e.g. a Kerberos ticket
+     * @throws InvalidSettingsException if the credentials are not available
+     */
+    private Optional<String> getCredentialFingerprint(final List<EachRequestAuthentication> authentications)
+        throws InvalidSettingsException {
+        final var identity = new StringBuilder();
+        for (final EachRequestAuthentication authentication : authentications) {
+            if (authentication instanceof NoAuthentication) {
+                continue;
+            }
+            identity.append(authentication.getClass().getName()).append('\n');
+            if (authentication instanceof HttpAuthorizationHeaderAuthentication header) {
+                identity.append(header.getCredential().getAuthScheme()).append(' ')
+                    .append(header.getCredential().getAuthParameters());
+            } else if (authentication instanceof UsernamePasswordAuthentication password) {
+                final var credentials = password.isUseCredentials() && StringUtils.isNotEmpty(password.getCredential())
+                    ? getCredentialsProvider().get(password.getCredential()) : null;
+                identity.append(credentials != null ? credentials.getLogin() : password.getUsername()).append('\n')
+                    .append(credentials != null ? credentials.getPassword() : password.getPassword());
+            } else if (authentication instanceof TokenAuthentication token) {
+                identity.append(token.isUseCredentials() && StringUtils.isNotEmpty(token.getCredential())
+                    ? getCredentialsProvider().get(token.getCredential()).getPassword() : token.getToken());
+            } else {
+                return Optional.empty();
+            }
+            identity.append('\n');
+        }
+        if (identity.isEmpty()) {
+            return Optional.of("");
+        }
+        try {
+            return Optional.of(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(identity.toString().getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the identity of the user and the workflow, which each have a default cache directory of their own
+     */
+    private static String getResponseCacheOwner() {
+        final var owner = new StringBuilder(System.getProperty("user.name", ""));
+        final var context = NodeContext.getContext();
+        final var workflowManager = context == null ? null : context.getWorkflowManager();
+        final var workflowContext = workflowManager == null ? null : workflowManager.getContextV2();
+        if (workflowContext != null) {
+            owner.append('\n').append(workflowContext.getExecutorInfo().getLocalWorkflowPath());
+        }
+        return owner.toString();
+    }
+
+    /**
+     * Creates the key identifying the request for the given row in the persistent response cache, consisting of the
+     * method, the URL, all request header values and the fingerprint of the credentials.
+     *
+     * @param row the input row, {@code null} if no input table is connected
+     * @param spec the input table spec
+     * @param url the URL of the request
+     * @return the key, or {@code null} if the request must not be answered from the cache
+     */
+    String createCacheKey(final DataRow row, final DataTableSpec spec, final URL url) {
+        final var key = new StringBuilder();
+        key.append(m_settings.getMethod().map(HttpMethod::name).orElse("")).append(' ').append(url).append('\n');
+        try {
+            for (final RequestHeaderKeyItem headerItem : m_settings.getRequestHeaders()) {
+                key.append(headerItem.getKey()).append(": ").append(extractHeaderValue(row, spec, headerItem))
+                    .append('\n');
+            }
+        } catch (RuntimeException e) { // NOSONAR the request itself will report the problem
+            return null;
+        }
+        if (!m_credentialFingerprint.isEmpty()) {
+            key.append("Credentials: ").append(m_credentialFingerprint).append('\n');
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the index of the body cell within the cells appended to each row, -1 if there is no body column
+     */
+    int getBodyCellIndex() {
+        return m_bodyColumn == null ? -1 : m_responseHeaderKeys.size();
     }
 
     private HttpAuthorizationHeaderCredentialValue getCredential(final PortObject[] portObjects) {
@@ -548,10 +1356,53 @@ protected void reset() {
         m_parsedResponseValues.clear();
         m_readNonError = false;
         m_responseHeaderKeys.clear();
+        m_headerExtractors = new HeaderExtractor[0];
         m_newColumnsBasedOnFirstCalls = null;
         m_isContextSettingsFailed = false;
         m_errorBodyParsers.clear();
+        m_bodyParserDispatch = null;
         m_rowLength = -1;
+        m_requestDeduplicator = null;
+        m_pagination = null;
+        m_bodyExploder = null;
+        m_jsonFieldExtractor = null;
+        m_bodyDownloader = null;
+        m_responseDrainer = null;
+        m_bodyDeduplicator = null;
+        m_responseCache = null;
+        m_credentialFingerprint = "";
+    }
+
+    /**
+     * Stops sending the {@code Expect: 100-continue} request header for the rest of the execution after the server
+     * rejected it. Only relevant for nodes sending a request body.
+     *
+     * @return whether the header has been sent so far, i.e. whether the rejected request should be repeated
+     */
+    boolean disableExpectContinue() {
+        return false;
+    }
+
+    /**
+     * Whether the response bodies are drained without being parsed, such that only the status and the latency of
+     * the requests are output. Only supported by nodes sending a request body, i.e. to write APIs.
+     *
+     * @param settings the settings of the node
+     * @return whether the response bodies are discarded
+     */
+    boolean isDiscardResponseBodies(final S settings) {
+        return false;
+    }
+
+    /**
+     * Whether the bodies of multiple rows are sent in one request and the response is split back into the rows. Only
+     * supported by nodes sending a request body.
+     *
+     * @param settings the settings of the node
+     * @return whether the requests are batched
+     */
+    boolean isBatching(final S settings) {
+        return false;
     }
 
     @Override
@@ -580,6 +1431,56 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         s.markForValidationOnly();
         s.loadSettingsFrom(settings);
         validateURLSettings(s);
+        checkCompatibility(s, false);
+    }
+
+    /**
+     * Checks that the features enabled in the settings can be combined with each other, such that incompatible
+     * settings are rejected when they are validated and configured instead of when the node is executed. Also
+     * validates the JSON pointers and the download directory of the features.
+     *
+     * @param settings the settings to check
+     * @param streaming whether the node is executed in streaming mode, which supports fewer features
+     * @throws InvalidSettingsException if features are enabled which cannot be combined or their settings are invalid
+     */
+    final void checkCompatibility(final S settings, final boolean streaming) throws InvalidSettingsException {
+        final var pagination = Pagination.create(settings);
+        final var pagesReadBody = pagination != null && pagination.readsBody();
+        final var explode = settings.getExplodeBodyMode() != BodyExplodeMode.NONE;
+        final var jsonFields = JSONFieldExtractor.create(settings) != null;
+        final var download = BodyDownloader.create(settings) != null;
+        final var discard = isDiscardResponseBodies(settings);
+        final var deduplicate = BodyDeduplicator.create(settings) != null;
+        final var batching = isBatching(settings);
+        final var incremental = settings.isIncrementalExecution();
+        final var checkpoints = settings.getCheckpointInterval() != 0;
+        if (streaming) {
+            CheckUtils.checkSetting(pagination == null, "Pagination is not supported in streaming mode.");
+            CheckUtils.checkSetting(!explode,
+                "Splitting the response body into rows is not supported in streaming mode.");
+            CheckUtils.checkSetting(!batching, "Batching is not supported in streaming mode.");
+            CheckUtils.checkSetting(!incremental && !checkpoints,
+                "Incremental execution and checkpoints are not supported in streaming mode.");
+        }
+        CheckUtils.checkSetting(!explode || (pagination == null && !batching && !incremental && !checkpoints),
+            "Splitting the response body into rows is not supported together with pagination, batching, incremental "
+                + "execution or checkpoints.");
+        CheckUtils.checkSetting(!jsonFields || (!explode && !batching),
+            "Extracting JSON fields is not supported together with splitting the response body into rows or "
+                + "batching.");
+        CheckUtils.checkSetting(settings.isOutputBody() || (!explode && !pagesReadBody && !batching),
+            "Splitting the response body into rows, paginating by the response body and batching require the body "
+                + "column.");
+        CheckUtils.checkSetting(!download || (!explode && !jsonFields && !pagesReadBody && !batching),
+            "Downloading the response bodies to files is not supported together with splitting the body into rows, "
+                + "JSON fields, paginating by the response body or batching.");
+        CheckUtils.checkSetting(!discard || (!explode && !jsonFields && !download && pagination == null && !batching),
+            "Discarding the response bodies is not supported together with splitting the body into rows, JSON fields, "
+                + "downloading the bodies to files, pagination or batching.");
+        CheckUtils.checkSetting(!deduplicate || (settings.isOutputBody() && !explode && !download && !discard
+            && !batching),
+            "Sharing identical bodies and hashing them require the body column and are not supported together with "
+                + "splitting the body into rows, downloading the bodies to files, discarding them or batching.");
     }
 
     /**
@@ -612,13 +1513,28 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
     @Override
     protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
-        //No internals
+        final var index = new File(nodeInternDir, IncrementalIndex.FILE_NAME);
+        if (index.isFile()) {
+            deleteIncrementalIndex();
+            m_incrementalIndex = FileUtil.createTempFile("rest-incremental-index", ".zip");
+            Files.copy(index.toPath(), m_incrementalIndex.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     @Override
     protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
-        //No internals
+        if (m_incrementalIndex != null && m_incrementalIndex.isFile()) {
+            Files.copy(m_incrementalIndex.toPath(), new File(nodeInternDir, IncrementalIndex.FILE_NAME).toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    protected void onDispose() {
+        deleteIncrementalIndex();
+        deleteCheckpoints();
+        super.onDispose();
     }
 
     // -- REQUEST PREPARATION --
@@ -646,10 +1562,10 @@ private void createResponseBodyParsers(final ExecutionContext exec) {
         }
         for (final MediaType mediaType : new MediaType[]{MediaType.APPLICATION_OCTET_STREAM_TYPE,
             MediaType.APPLICATION_FORM_URLENCODED_TYPE, MediaType.MULTIPART_FORM_DATA_TYPE}) {
-            m_responseBodyParsers.add(new Default(mediaType, BinaryObjectDataCell.TYPE, exec));
+            m_responseBodyParsers.add(new BinaryBodyParser(mediaType, exec));
         }
-        // everything else is a file
-        m_responseBodyParsers.add(new Default(MediaType.WILDCARD_TYPE, BinaryObjectDataCell.TYPE, exec));
+        // everything else is a file, large ones are kept in file stores
+        m_responseBodyParsers.add(new BinaryBodyParser(MediaType.WILDCARD_TYPE, exec));
 
         m_errorBodyParsers.addAll(m_responseBodyParsers.stream()
             .filter(parser -> (MediaType.TEXT_PLAIN_TYPE.isCompatible(parser.supportedMediaType()) //
@@ -665,6 +1581,7 @@ public DataCell create(final Response response) {
                 return new MissingCell(response.getStatusInfo().getReasonPhrase());
             }
         });
+        m_bodyParserDispatch = new BodyParserDispatch(m_responseBodyParsers, m_errorBodyParsers);
     }
 
     /**
@@ -685,6 +1602,11 @@ private Pair<Builder, Client> createRequest(final URI targetUri, // NOSONAR leav
         final boolean forceRefresh)
         throws InvalidSettingsException, IOException {
         final var client = createClient();
+        if (m_settings.getMaxBodySize() > 0 || m_settings.getMaxDecodedBodySize() > 0) {
+            // before creating the target, which takes over the configuration of the client
+            client.register(new BodySizeLimits(m_settings.getMaxBodySize() * 1024L,
+                m_settings.getMaxDecodedBodySize() * 1024L, m_settings.getOversizedBodyPolicy()));
+        }
         WebTarget target = client.target(targetUri);
         //Support relative redirects too, see https://tools.ietf.org/html/rfc7231#section-3.1.4.2
         target = target.property("http.redirect.relative.uri", true);
@@ -707,6 +1629,11 @@ private Pair<Builder, Client> createRequest(final URI targetUri, // NOSONAR leav
             }
             request.header(headerItem.getKey(), value);
         }
+        // Negotiate compressed responses unless the user takes care of it (e.g. "Accept-Encoding: identity").
+        if (m_settings.getRequestHeaders().stream()
+            .noneMatch(h -> ContentEncodings.ACCEPT_ENCODING_HEADER.equalsIgnoreCase(h.getKey()))) {
+            request.header(ContentEncodings.ACCEPT_ENCODING_HEADER, ContentEncodings.ACCEPT_ENCODING);
+        }
 
         // IMPORTANT: don't access the HttpConduit before the request has been updated by an EachRequestAuthentication!
         // Some implementations (e.g. NTLM) must configure the conduit but they cannot after it has been accessed.
@@ -724,6 +1651,7 @@ private Pair<Builder, Client> createRequest(final URI targetUri, // NOSONAR leav
             }
             era.updateRequest(request, row, getCredentialsProvider(), getAvailableFlowVariables());
         }
+        configureConduit(request);
 
         final var clientConfig = WebClient.getConfig(request);
 
@@ -740,6 +1668,16 @@ private Pair<Builder, Client> createRequest(final URI targetUri, // NOSONAR leav
         return Pair.create(request, client);
     }
 
+    /**
+     * Configures how the HTTP conduit of the request is created. Called before the conduit is accessed for the first
+     * time. Does nothing by default.
+     *
+     * @param request the request builder
+     */
+    protected void configureConduit(final Builder request) {
+        // the conduit of the bus is used
+    }
+
     /**
      * @return The client to be used for the request.
      */
@@ -878,12 +1816,23 @@ private class RequestExecutor extends AbstractRequestExecutor<S> {
             super(new ResponseHandler(), spec, createNewColumnsSpec(spec), m_settings, m_cooldownContext,
                 monitor, m_consumedRows);
             m_enabledAuthentications = enabledAuthentications;
+            // storing a response in the cache reads its body
+            setResponseCache(isHeadersOnly() || m_responseDrainer != null ? null : m_responseCache);
         }
 
-        @SuppressWarnings("resource")
         @Override
         public InvocationTriple createInvocationTriple(final DataRow row, final boolean forceRefresh)
                 throws InvalidSettingsException, IOException {
+            return createInvocationTriple(row, forceRefresh, Map.of());
+        }
+
+        @SuppressWarnings("resource")
+        @Override
+        protected InvocationTriple createInvocationTriple(final DataRow row, final boolean forceRefresh,
+            final Map<String, String> additionalHeaders) throws InvalidSettingsException, IOException {
+            if (m_responseDrainer != null) {
+                m_responseDrainer.sending();
+            }
             final var spec = getTableSpec();
             final var currentURL = getCurrentURL(spec, row);
             // need to convert to URI for request creation, CXF only accepts those
@@ -896,6 +1845,7 @@ public InvocationTriple createInvocationTriple(final DataRow row, final boolean
             // computing request builder and client on-demand for each new row
             // could be improved in the future by re-using one client per execution (not per row)
             final var builderClient = createRequest(currentURI, m_enabledAuthentications, row, spec, forceRefresh);
+            additionalHeaders.forEach(builderClient.getFirst()::header);
             return new InvocationTriple(
                 invocation(builderClient.getFirst(), row, spec),    // invocation
                 currentURL,                                         // URL
@@ -903,6 +1853,12 @@ public InvocationTriple createInvocationTriple(final DataRow row, final boolean
         }
 
         private URL getCurrentURL(final DataTableSpec spec, final DataRow row) throws MalformedURLException {
+            final var url = getRowURL(spec, row);
+            return m_pagination != null && row instanceof Pagination.PageRow page ? m_pagination.getURL(url, page)
+                : url;
+        }
+
+        private URL getRowURL(final DataTableSpec spec, final DataRow row) throws MalformedURLException {
             CheckUtils.checkState(m_settings.isUseConstantURL() || row != null,
                     "Without the constant URL and input, it is not possible to call a REST service!");
             if (!m_settings.isUseConstantURL()) {
@@ -914,6 +1870,47 @@ private URL getCurrentURL(final DataTableSpec spec, final DataRow row) throws Ma
             return validateURLString(m_settings.getConstantURL());
         }
 
+        @Override
+        protected boolean handleExpectationFailed() {
+            return disableExpectContinue();
+        }
+
+        @Override
+        protected void inspectResponse(final DataRow row, final Response response) {
+            if (row instanceof Pagination.PageRow page) {
+                page.setResponse(response);
+            }
+            if (m_responseDrainer != null) {
+                m_responseDrainer.received();
+            }
+            if (m_bodyDownloader != null) {
+                // the response handler only receives the response, it is called by the same thread
+                URL url;
+                try {
+                    url = getCurrentURL(getTableSpec(), row);
+                } catch (MalformedURLException | RuntimeException e) { // NOSONAR the file is named by the row
+                    url = null;
+                }
+                // further requests for the same resource fetch the byte ranges of large bodies
+                m_downloadedRow.set(new BodyDownloader.DownloadRequest(getRowKey(row).getString(), url,
+                    headers -> createInvocationTriple(row, false, headers)));
+            }
+        }
+
+        @Override
+        protected Object createRequestKey(final DataRow row) {
+            return RestNodeModel.this.createRequestKey(row, getTableSpec());
+        }
+
+        @Override
+        protected String createCacheKey(final DataRow row) {
+            try {
+                return RestNodeModel.this.createCacheKey(row, getTableSpec(), getCurrentURL(getTableSpec(), row));
+            } catch (MalformedURLException | RuntimeException e) { // NOSONAR the request itself will report it
+                return null;
+            }
+        }
+
         @Override
         public void inspectAndThrowException(final Response response) throws ProcessingException {
             if (response instanceof ResponseImpl cxfResponse) {
@@ -946,11 +1943,14 @@ private ColumnRearranger createColumnRearranger(final List<EachRequestAuthentica
         final DataTableSpec spec, final ExecutionMonitor exec, final long tableSize) {
         final var factory = new RequestExecutor(spec, enabledAuthentications, exec);
         factory.setKnownTableSize(tableSize);
+        factory.setRequestDeduplicator(m_requestDeduplicator);
         final int concurrency = Math.max(1, m_settings.getConcurrency());
         // queue size = parallel workers:
         // not 4x the queue size anymore, in order to avoid too many invisible threads executing HTTP requests
         // or holding request tickets, but waiting in the "done queue"
-        factory.setParallelProcessing(true, concurrency, concurrency);
+        // unless the bodies are discarded, then finished rows waiting in the "done queue" are tiny
+        factory.setParallelProcessing(true, concurrency,
+            m_responseDrainer != null ? ResponseDrainer.QUEUE_SIZE_FACTOR * concurrency : concurrency);
         final var rearranger = new ColumnRearranger(spec);
         rearranger.append(factory);
         return rearranger;
@@ -983,12 +1983,19 @@ public PortObjectSpec[] computeFinalOutputSpecs(final StreamableOperatorInternal
     @Override
     public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
         final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        checkCompatibility(m_settings, true);
         return new StreamableOperator() {
             @Override
             public void runIntermediate(final PortInput[] inputs, final ExecutionContext exec) throws Exception {
                 createResponseBodyParsers(exec);
-                DataTableSpec inputSpec = null;
+                m_jsonFieldExtractor = JSONFieldExtractor.create(m_settings);
+                m_bodyDownloader = BodyDownloader.create(m_settings);
+                m_responseDrainer = isDiscardResponseBodies(m_settings) ? new ResponseDrainer() : null;
+                m_bodyDeduplicator = BodyDeduplicator.create(m_settings);
+                m_requestDeduplicator = m_settings.isDeduplicateRequests() ? new RequestDeduplicator() : null;
                 var authentications = getAuthentications(getCredential(inputs));
+                m_responseCache = createResponseCache(authentications);
+                DataTableSpec inputSpec = null;
                 if (inputs.length > 0 && inputs[0] instanceof RowInput input) {
                     inputSpec = input.getDataTableSpec();
                     DataRow row;
@@ -1046,7 +2053,12 @@ private HttpAuthorizationHeaderCredentialValue getCredential(final PortInput[] i
     protected DataColumnSpec[] createNewColumnsSpec(final DataTableSpec spec) {
         var uniqueNameGenerator = new UniqueNameGenerator(spec);
         List<DataColumnSpec> specs = Stream
-            .concat(m_responseHeaderKeys.stream(), Optional.ofNullable(m_bodyColumn).stream())
+            .of(m_responseHeaderKeys.stream(), Optional.ofNullable(m_bodyColumn).stream(),
+                Optional.ofNullable(m_bodyDeduplicator).stream().flatMap(d -> d.getColumns().stream()),
+                Optional.ofNullable(m_jsonFieldExtractor).stream().flatMap(e -> e.getColumns().stream()),
+                Optional.ofNullable(m_bodyDownloader).stream().flatMap(d -> d.getColumns().stream()),
+                Optional.ofNullable(m_responseDrainer).stream().flatMap(d -> d.getColumns().stream()))
+            .flatMap(Function.identity())
             .map(rhi -> uniqueNameGenerator.newCreator(rhi.getOutputColumnName(), rhi.getType()))
             .map(DataColumnSpecCreator::createSpec).collect(Collectors.toCollection(ArrayList<DataColumnSpec>::new));
         updateErrorCauseColumnSpec(specs, uniqueNameGenerator);
@@ -1068,21 +2080,25 @@ protected DataCell parseBodyCell(final Response response) {
         if (response == null) {
             return null;
         }
-        final var mediaType = response.getMediaType();
-        if (mediaType == null) {
+        if (m_bodyExploder != null && !isHttpError(response)) {
+            return m_bodyExploder.explode(response);
+        }
+        // the parsers are resolved once per distinct header value instead of parsing the media type of each body
+        final var contentType = response.getHeaderString(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null) {
             return new MissingCell("Response does not have a media type");
         }
-        final var expectedType = Optional.ofNullable(m_bodyColumn)
-                .map(ResponseHeaderItem::getType).orElse(BinaryObjectDataCell.TYPE);
-        for (ResponseBodyParser parser : isHttpError(response) ? m_errorBodyParsers : m_responseBodyParsers) {
-            if (parser.producedDataType().isCompatible(expectedType.getPreferredValueClass())
-                && parser.supportedMediaType().isCompatible(response.getMediaType())) {
-                // we parse the body or error response if we initialized the body column before.
-                return parser.create(response);
+        if (m_bodyExploder != null) {
+            // error bodies only provide the error message of the missing cell
+            final var errorParser = m_bodyParserDispatch.resolve(contentType, true, null);
+            if (errorParser.parser() != null) {
+                return errorParser.parse(response);
             }
         }
-        return new MissingCell("Could not parse the body because the body was " + response.getMediaType()
-            + ", but was expecting: " + expectedType.getName());
+        final var expectedType = Optional.ofNullable(m_bodyColumn)
+                .map(ResponseHeaderItem::getType).orElse(BinaryObjectDataCell.TYPE);
+        // we parse the body or error response if we initialized the body column before.
+        return m_bodyParserDispatch.resolve(contentType, isHttpError(response), expectedType).parse(response);
     }
 
     /**
@@ -1104,43 +2120,97 @@ protected void updateErrorCauseColumnSpec(final List<DataColumnSpec> specs,
     /**
      * Computes the final list of {@link DataCell}s composing a table row. Receives the parsed header cells as
      * input, as well as additional cells labeled as body (could be parsed response or additional columns).
-     * This method additionally appends an error cause (if enabled) as the last column.
+     * This method additionally appends an error cause (if enabled) as the last column, collected while the cells are
+     * copied into the row.
      *
      * @param response the HTTP {@link Response}
      * @param headerCells list of parsed response headers
      * @param bodyCells additional parsed cells to be appended, dependent on request method set in {@link #m_settings}
-     * @return final table-row-representing list of table cells
+     * @return final table-row-representing list of table cells, backed by an array of the size of the row
      */
     protected List<DataCell> computeFinalOutputCells(final Response response, final List<DataCell> headerCells,
         final DataCell... bodyCells) {
-        List<DataCell> output = new ArrayList<>(headerCells);
-        if (m_bodyColumn != null) {
-            Collections.addAll(output, bodyCells);
+        final var outputBodyCells = m_bodyColumn != null || m_jsonFieldExtractor != null || m_bodyDownloader != null
+            || m_responseDrainer != null;
+        final var errorCauses =
+            m_settings.isOutputErrorCause().orElse(RestSettings.DEFAULT_OUTPUT_ERROR_CAUSE) ? new ErrorCauses() : null;
+        final var row = new DataCell[headerCells.size() + (outputBodyCells ? bodyCells.length : 0)
+            + (errorCauses != null ? 1 : 0)];
+        var i = 0;
+        for (final DataCell cell : headerCells) {
+            row[i++] = cell;
+            if (errorCauses != null) {
+                errorCauses.add(cell);
+            }
         }
-        if (m_settings.isOutputErrorCause().orElse(RestSettings.DEFAULT_OUTPUT_ERROR_CAUSE)) {
-            final List<String> errorCauses = Stream
-                .concat(headerCells.stream(), Stream.of(bodyCells))//
-                .flatMap(cell -> ClassUtils.castOptional(MissingCell.class, cell).stream())//
-                .map(MissingCell::getError)//
-                .toList();
-            if (!errorCauses.isEmpty()) {
-                String errorCausesReadable;
-                if (errorCauses.stream().allMatch(Objects::isNull)) {
-                    // We assume missing values always correspond to some error.
-                    errorCausesReadable = "Unknown error";
-                } else {
-                    // However, there are error scenarios in which only some columns have a missing value with a cause.
-                    // In this case we want to avoid printing "null" for the missing values with no associated cause,
-                    // but still do print all non-null causes.
-                    errorCausesReadable =
-                        errorCauses.stream().filter(Objects::nonNull).collect(Collectors.joining("\n"));
-                }
-                output.add(new StringCell(errorCausesReadable));
+        for (final DataCell cell : bodyCells) {
+            if (outputBodyCells) {
+                row[i++] = cell;
+            }
+            if (errorCauses != null) {
+                errorCauses.add(cell);
+            }
+        }
+        if (errorCauses != null) {
+            getDiscardedBodyError(response).ifPresent(errorCauses::add);
+            row[i] = errorCauses.toCell();
+        }
+        return Arrays.asList(row);
+    }
+
+    /**
+     * Collects the errors of the missing cells of a row in their order while it is assembled, allocating only once a
+     * cell with an error is added.
+     */
+    private static final class ErrorCauses {
+
+        private List<String> m_errors;
+
+        private boolean m_unknownError;
+
+        void add(final DataCell cell) {
+            if (!(cell instanceof MissingCell missing)) {
+                return;
+            }
+            final var error = missing.getError();
+            if (error == null) {
+                m_unknownError = true;
             } else {
-                output.add(DataType.getMissingCell());
+                if (m_errors == null) {
+                    m_errors = new ArrayList<>(2);
+                }
+                m_errors.add(error);
+            }
+        }
+
+        DataCell toCell() {
+            if (m_errors != null) {
+                // There are error scenarios in which only some columns have a missing value with a cause.
+                // In this case we want to avoid printing "null" for the missing values with no associated cause,
+                // but still do print all non-null causes.
+                return new StringCell(String.join("\n", m_errors));
             }
+            // We assume missing values always correspond to some error.
+            return m_unknownError ? new StringCell("Unknown error") : DataType.getMissingCell();
         }
-        return output;
+    }
+
+    /**
+     * @param response the response
+     * @return the error of a failed request whose body is discarded, which hence does not provide the error cause
+     */
+    private Optional<DataCell> getDiscardedBodyError(final Response response) {
+        return m_responseDrainer != null && response != null && isHttpError(response) ? Optional.of(new MissingCell(
+            "Wrong status: " + response.getStatus() + " " + response.getStatusInfo().getReasonPhrase()))
+            : Optional.empty();
+    }
+
+    /**
+     * @return whether only the status and the headers of the responses are output, such that their bodies are never
+     *         read
+     */
+    private boolean isHeadersOnly() {
+        return !m_settings.isOutputBody() && m_jsonFieldExtractor == null && m_bodyDownloader == null;
     }
 
     /**
@@ -1162,7 +2232,10 @@ public DataCell[] handleFirstResponse(final DataTableSpec spec, final Response r
             // when response keys are empty (first request) or of size 1 (previous request was not successful)
             if (m_responseHeaderKeys.size() <= 1) {
                 m_responseHeaderKeys.clear();
-                if (m_settings.isExtractAllResponseFields()) {
+                if (m_responseDrainer != null) {
+                    m_responseHeaderKeys
+                        .add(new ResponseHeaderItem(STATUS, IntCell.TYPE, nameGenerator.newName(STATUS)));
+                } else if (m_settings.isExtractAllResponseFields()) {
                     Stream
                         .concat(Stream.of(Pair.create(STATUS, IntCell.TYPE)),
                             (response == null ? Collections.<String> emptyList() : response.getStringHeaders().keySet())
@@ -1174,11 +2247,12 @@ public DataCell[] handleFirstResponse(final DataTableSpec spec, final Response r
                         m_settings.getExtractFields().stream().map(rhi -> new ResponseHeaderItem(rhi.getHeaderKey(),
                             rhi.getType(), nameGenerator.newName(rhi.getOutputColumnName()))).toList());
                 }
+                m_headerExtractors =
+                    m_responseHeaderKeys.stream().map(RestNodeModel::compileHeaderExtractor)
+                        .toArray(HeaderExtractor[]::new);
             }
             // parse content from response (data cells and specs)
-            final List<DataCell> headerCells = m_responseHeaderKeys.stream() //
-                    .map(rhi -> extractHeaderAsCell(response, rhi)) //
-                    .collect(Collectors.toCollection(ArrayList<DataCell>::new));
+            final List<DataCell> headerCells = extractHeaderCells(response);
             final List<DataColumnSpec> specs = m_responseHeaderKeys.stream() //
                     .map(rhi -> new DataColumnSpecCreator(rhi.getOutputColumnName(), rhi.getType()).createSpec()) //
                     .collect(Collectors.toCollection(ArrayList<DataColumnSpec>::new));
@@ -1189,8 +2263,23 @@ public DataCell[] handleFirstResponse(final DataTableSpec spec, final Response r
             if (m_bodyColumn != null) {
                 specs.add(nameGenerator.newColumn(m_bodyColumn.getOutputColumnName(), m_bodyColumn.getType()));
             }
-            final var parsedBody = parseBodyCell(response);
-            final var cells = computeFinalOutputCells(response, headerCells, parsedBody != null ? parsedBody : missing);
+            if (m_bodyDeduplicator != null) {
+                m_bodyDeduplicator.getColumns()
+                    .forEach(c -> specs.add(nameGenerator.newColumn(c.getOutputColumnName(), c.getType())));
+            }
+            if (m_jsonFieldExtractor != null) {
+                m_jsonFieldExtractor.getColumns()
+                    .forEach(c -> specs.add(nameGenerator.newColumn(c.getOutputColumnName(), c.getType())));
+            }
+            if (m_bodyDownloader != null) {
+                m_bodyDownloader.getColumns()
+                    .forEach(c -> specs.add(nameGenerator.newColumn(c.getOutputColumnName(), c.getType())));
+            }
+            if (m_responseDrainer != null) {
+                m_responseDrainer.getColumns()
+                    .forEach(c -> specs.add(nameGenerator.newColumn(c.getOutputColumnName(), c.getType())));
+            }
+            final var cells = computeFinalOutputCells(response, headerCells, parseBodyCells(response, missing));
             if (!m_readNonError && !httpError) {
                 // first time reading a successful response
                 m_readNonError = true;
@@ -1206,12 +2295,81 @@ public DataCell[] handleFollowingResponse(final DataTableSpec spec, final Respon
             CheckUtils.checkState(m_consumedRows.get() > 0,
                 "First response has not been processed yet, cannot continue");
             checkResponseStatus(response);
-            final List<DataCell> headerCells = m_responseHeaderKeys.stream() //
-                    .map(rhi -> extractHeaderAsCell(response, rhi)) //
-                    .collect(Collectors.toCollection(ArrayList<DataCell>::new));
-            final var parsedBody = parseBodyCell(response);
-            final var cells = computeFinalOutputCells(response, headerCells, parsedBody != null ? parsedBody : missing);
-            return cells.toArray(DataCell[]::new);
+            final var cells =
+                computeFinalOutputCells(response, extractHeaderCells(response), parseBodyCells(response, missing));
+            return cells.toArray(new DataCell[cells.size()]);
+        }
+
+        /**
+         * @param response the response, {@code null} if the request failed
+         * @return the header cells, a mutable list sized for them
+         */
+        private List<DataCell> extractHeaderCells(final Response response) {
+            final var extractors = m_headerExtractors;
+            final List<DataCell> cells = new ArrayList<>(extractors.length);
+            for (final HeaderExtractor extractor : extractors) {
+                cells.add(response == null ? DataType.getMissingCell() : extractor.extract(response));
+            }
+            return cells;
+        }
+
+        /**
+         * Parses the body cell followed by the cells of the JSON fields. If the body is not output, the fields are
+         * extracted while the body of a successful response is read and only they are returned. If the bodies are
+         * downloaded, the path and size of the written file are returned instead, if they are discarded, the
+         * latency of the request. If neither the body nor any field is output, the body is not read at all. If
+         * identical bodies are shared or hashed, the hash follows the body cell.
+         *
+         * @param response the response, {@code null} if the request failed
+         * @param missing the missing cell of a failed request
+         * @return the cells to append to the header cells
+         */
+        private DataCell[] parseBodyCells(final Response response, final MissingCell missing) {
+            if (m_responseDrainer != null) {
+                return m_responseDrainer.drain(response, missing);
+            }
+            if (m_bodyDownloader != null) {
+                final var row = m_downloadedRow.get();
+                m_downloadedRow.remove();
+                if (response == null) {
+                    return m_bodyDownloader.fill(missing != null ? missing : DataType.getMissingCell());
+                }
+                if (isHttpError(response)) {
+                    return m_bodyDownloader.fill(new MissingCell(
+                        "Wrong status: " + response.getStatus() + " " + response.getStatusInfo().getReasonPhrase()));
+                }
+                return m_bodyDownloader.download(response,
+                    row != null ? row : new BodyDownloader.DownloadRequest(CONSTANT_URL_KEY.getString(), null, null));
+            }
+            if (isHeadersOnly()) {
+                // the body is never read, closing the response releases the connection without receiving it
+                if (response == null) {
+                    return missing == null ? new DataCell[0] : new DataCell[]{missing};
+                }
+                return isHttpError(response) ? new DataCell[]{new MissingCell(
+                    "Wrong status: " + response.getStatus() + " " + response.getStatusInfo().getReasonPhrase())}
+                    : new DataCell[0];
+            }
+            if (m_bodyDeduplicator != null) {
+                // the body column is output, the hash follows the body
+                final var cells = m_bodyDeduplicator.parse(response, RestNodeModel.this::parseBodyCell,
+                    response != null && !isHttpError(response));
+                if (cells[0] == null) {
+                    cells[0] = missing;
+                }
+                return m_jsonFieldExtractor == null ? cells
+                    : ArrayUtils.addAll(cells, m_jsonFieldExtractor.extract(cells[0]));
+            }
+            if (m_settings.isOutputBody() || response == null || isHttpError(response)) {
+                final var parsedBody = parseBodyCell(response);
+                final DataCell body = parsedBody != null ? parsedBody : missing;
+                if (m_jsonFieldExtractor == null) {
+                    return new DataCell[]{body};
+                }
+                final var fields = m_jsonFieldExtractor.extract(body);
+                return m_bodyColumn != null ? ArrayUtils.insert(0, fields, body) : fields;
+            }
+            return m_jsonFieldExtractor == null ? new DataCell[0] : m_jsonFieldExtractor.extract(response);
         }
 
         @Override
@@ -1239,12 +2397,15 @@ private boolean checkResponseStatus(final Response response) {
                 || (m_settings.isFailOnServerErrors() && isServerError)) {
                 // throw exception, will not be caught in callee and cause node to fail (i think)
                 Object entity = response.getEntity();
-                if (entity instanceof InputStream is) {
-                    try {
+                if (isHeadersOnly() || m_responseDrainer != null) {
+                    getLogger().debug("Failed location: " + response.getLocation());
+                } else if (entity instanceof InputStream is) {
+                    // only the beginning of the error body is logged, the node fails anyway
+                    try (var body = ContentEncodings.decode(is,
+                        response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER))) {
                         getLogger().debug("Failed location: " + response.getLocation());
-                        getLogger().debug(IOUtils.toString(is,
-                            Charset.isSupported("UTF-8") ? StandardCharsets.UTF_8 : Charset.defaultCharset()));
-                    } catch (final IOException | NullPointerException e) { // NOSONAR - NPE in IOUtils#toString (CXF bug)
+                        getLogger().debug(Missing.readMessage(body, StandardCharsets.UTF_8));
+                    } catch (final IOException e) {
                         getLogger().debug(e.getMessage(), e);
                     }
                 } else {
@@ -1274,6 +2435,15 @@ private void initializeBodyCell(final Response response) {
                 // do not initialize body column, HEAD request does not use it
                 return;
             }
+            if (!m_settings.isOutputBody() || m_bodyDownloader != null || m_responseDrainer != null) {
+                m_bodyColumn = null;
+                return;
+            }
+            if (m_bodyExploder != null) {
+                // the body cells reference the elements of the bodies until the rows are expanded
+                m_bodyColumn = new ResponseHeaderItem(m_settings.getResponseBodyColumn(), BodyExploder.REFERENCE_TYPE);
+                return;
+            }
             if (response == null) {
                 m_bodyColumn = new ResponseHeaderItem(m_settings.getResponseBodyColumn(), BinaryObjectDataCell.TYPE);
                 return;
@@ -1289,27 +2459,65 @@ private void initializeBodyCell(final Response response) {
             }
             m_bodyColumn = new ResponseHeaderItem(m_settings.getResponseBodyColumn(), type);
         }
+    }
 
-        private DataCell extractHeaderAsCell(final Response response, final ResponseHeaderItem rhi) {
-            if (STATUS.equals(rhi.getHeaderKey()) && rhi.getType().isCompatible(IntValue.class)) {
-                return response == null ? DataType.getMissingCell() : new IntCell(response.getStatus());
-            }
-            if (rhi.getType().isCompatible(IntValue.class)) {
+    /**
+     * Extracts the cell of an output column from a response. Package scope for tests.
+     */
+    @FunctionalInterface
+    interface HeaderExtractor {
+
+        /**
+         * @param response the response, not {@code null}
+         * @return the cell
+         */
+        DataCell extract(Response response);
+    }
+
+    /**
+     * Compiles the extraction of a header column, such that its type and cell factory are resolved only once. Cells
+     * created from header values are interned per column, since headers like {@code Server}, {@code Content-Type} or
+     * {@code Vary} repeat the same few values in all rows, which then share a single cell. At most
+     * {@link #MAX_INTERNED_HEADER_VALUES} values are interned per column, as others, e.g. {@code Date}, differ in
+     * every row. The interned cells live as long as the extractors, i.e. for one execution.
+     *
+     * @param rhi the header column
+     * @return the extractor
+     */
+    static HeaderExtractor compileHeaderExtractor(final ResponseHeaderItem rhi) {
+        final var headerKey = rhi.getHeaderKey();
+        if (STATUS.equals(headerKey) && rhi.getType().isCompatible(IntValue.class)) {
+            return response -> new IntCell(response.getStatus());
+        }
+        if (rhi.getType().isCompatible(IntValue.class)) {
+            return response -> {
                 try {
-                    return response == null ? DataType.getMissingCell()
-                        : new IntCell(Integer.parseInt(response.getHeaderString(rhi.getHeaderKey())));
+                    return new IntCell(Integer.parseInt(response.getHeaderString(headerKey)));
                 } catch (RuntimeException e) { //NOSONAR
                     return new MissingCell(e.getMessage());
                 }
-            }
-            final var cellFactory = rhi.getType().getCellFactory(null).orElseGet(() -> FALLBACK);
-            if (cellFactory instanceof FromString fromString) {
-                final String value = response == null ? null : response.getHeaderString(rhi.getHeaderKey());
-                if (value != null) {
-                    return fromString.createCell(value);
+            };
+        }
+        final var cellFactory = rhi.getType().getCellFactory(null).orElseGet(() -> FALLBACK);
+        if (cellFactory instanceof FromString fromString) {
+            final Map<String, DataCell> interned = new ConcurrentHashMap<>();
+            return response -> {
+                final String value = response.getHeaderString(headerKey);
+                if (value == null) {
+                    return DataType.getMissingCell();
                 }
-            }
-            return DataType.getMissingCell();
+                final var cell = interned.get(value);
+                if (cell != null) {
+                    return cell;
+                }
+                final var created = fromString.createCell(value);
+                if (interned.size() < MAX_INTERNED_HEADER_VALUES) {
+                    final var previous = interned.putIfAbsent(value, created);
+                    return previous != null ? previous : created;
+                }
+                return created;
+            };
         }
+        return response -> DataType.getMissingCell();
     }
 }
@@ -78,8 +78,12 @@
 import org.knime.rest.internals.NoAuthentication;
 import org.knime.rest.nodes.common.proxy.RestProxyConfig;
 import org.knime.rest.nodes.common.proxy.RestProxyConfigManager;
+import org.knime.rest.util.BodyExplodeMode;
 import org.knime.rest.util.DelayPolicy;
 import org.knime.rest.util.InvalidURLPolicy;
+import org.knime.rest.util.JSONFieldType;
+import org.knime.rest.util.OversizedBodyPolicy;
+import org.knime.rest.util.PaginationMode;
 
 /**
  * Common settings for the REST nodes.
@@ -155,6 +159,126 @@ protected enum HttpMethod {
 
     private static final int DEFAULT_CONCURRENCY = 1;
 
+    private static final String DEDUPLICATE_REQUESTS = "deduplicateRequests";
+
+    private static final boolean DEFAULT_DEDUPLICATE_REQUESTS = false;
+
+    private static final String USE_RESPONSE_CACHE = "useResponseCache";
+
+    private static final boolean DEFAULT_USE_RESPONSE_CACHE = false;
+
+    private static final String RESPONSE_CACHE_DIRECTORY = "responseCacheDirectory";
+
+    private static final String DEFAULT_RESPONSE_CACHE_DIRECTORY = "";
+
+    private static final String RESPONSE_CACHE_MAX_SIZE = "responseCacheMaxSize";
+
+    private static final int DEFAULT_RESPONSE_CACHE_MAX_SIZE = 100;
+
+    private static final String INCREMENTAL_EXECUTION = "incrementalExecution";
+
+    private static final boolean DEFAULT_INCREMENTAL_EXECUTION = false;
+
+    private static final String INCREMENTAL_MAX_AGE = "incrementalMaxAge";
+
+    private static final int DEFAULT_INCREMENTAL_MAX_AGE = 0;
+
+    private static final String CHECKPOINT_INTERVAL = "checkpointInterval";
+
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 0;
+
+    private static final String PAGINATION_MODE = "paginationMode";
+
+    private static final PaginationMode DEFAULT_PAGINATION_MODE = PaginationMode.NONE;
+
+    private static final String PAGINATION_PARAMETER = "paginationParameter";
+
+    private static final String DEFAULT_PAGINATION_PARAMETER = "";
+
+    private static final String PAGINATION_CURSOR_POINTER = "paginationCursorPointer";
+
+    private static final String DEFAULT_PAGINATION_CURSOR_POINTER = "/next_cursor";
+
+    private static final String PAGINATION_LIMIT_PARAMETER = "paginationLimitParameter";
+
+    private static final String DEFAULT_PAGINATION_LIMIT_PARAMETER = "limit";
+
+    private static final String PAGINATION_PAGE_SIZE = "paginationPageSize";
+
+    private static final int DEFAULT_PAGINATION_PAGE_SIZE = 100;
+
+    private static final String PAGINATION_FIRST_PAGE = "paginationFirstPage";
+
+    private static final int DEFAULT_PAGINATION_FIRST_PAGE = 1;
+
+    private static final String PAGINATION_ITEMS_POINTER = "paginationItemsPointer";
+
+    private static final String DEFAULT_PAGINATION_ITEMS_POINTER = "";
+
+    private static final String PAGINATION_MAX_PAGES = "paginationMaxPages";
+
+    private static final int DEFAULT_PAGINATION_MAX_PAGES = 100;
+
+    private static final String EXPLODE_BODY_MODE = "explodeBodyMode";
+
+    private static final BodyExplodeMode DEFAULT_EXPLODE_BODY_MODE = BodyExplodeMode.NONE;
+
+    private static final String EXPLODE_BODY_POINTER = "explodeBodyPointer";
+
+    private static final String DEFAULT_EXPLODE_BODY_POINTER = "";
+
+    private static final String EXPLODE_BODY_ELEMENT_PATH = "explodeBodyElementPath";
+
+    private static final String DEFAULT_EXPLODE_BODY_ELEMENT_PATH = "";
+
+    private static final String JSON_FIELD_POINTERS = "jsonFieldPointers";
+
+    private static final String JSON_FIELD_COLUMN_NAMES = "jsonFieldColumnNames";
+
+    private static final String JSON_FIELD_TYPES = "jsonFieldTypes";
+
+    private static final String JSON_FIELD_XPATHS = "jsonFieldXPaths";
+
+    private static final String OUTPUT_BODY = "outputBody";
+
+    private static final boolean DEFAULT_OUTPUT_BODY = true;
+
+    private static final String DOWNLOAD_BODIES = "downloadBodies";
+
+    private static final boolean DEFAULT_DOWNLOAD_BODIES = false;
+
+    private static final String DOWNLOAD_DIRECTORY = "downloadDirectory";
+
+    private static final String DEFAULT_DOWNLOAD_DIRECTORY = "";
+
+    private static final String DOWNLOAD_FILE_NAME = "downloadFileName";
+
+    private static final String DEFAULT_DOWNLOAD_FILE_NAME = "{name}";
+
+    private static final String DOWNLOAD_RANGES = "downloadRanges";
+
+    private static final int DEFAULT_DOWNLOAD_RANGES = 1;
+
+    private static final String MAX_BODY_SIZE = "maxBodySize";
+
+    private static final long DEFAULT_MAX_BODY_SIZE = 0L;
+
+    private static final String MAX_DECODED_BODY_SIZE = "maxDecodedBodySize";
+
+    private static final long DEFAULT_MAX_DECODED_BODY_SIZE = 0L;
+
+    private static final String OVERSIZED_BODY_POLICY = "oversizedBodyPolicy";
+
+    private static final OversizedBodyPolicy DEFAULT_OVERSIZED_BODY_POLICY = OversizedBodyPolicy.MISSING;
+
+    private static final String DEDUPLICATE_BODIES = "deduplicateBodies";
+
+    private static final boolean DEFAULT_DEDUPLICATE_BODIES = false;
+
+    private static final String OUTPUT_BODY_HASH = "outputBodyHash";
+
+    private static final boolean DEFAULT_OUTPUT_BODY_HASH = false;
+
     private static final String SSL_IGNORE_HOSTNAME_ERRORS = "SSL ignore hostname errors";
 
     private static final boolean DEFAULT_IGNORE_HOSTNAME_ERRORS = false;
@@ -257,6 +381,64 @@ protected enum HttpMethod {
 
     private int m_concurrency = DEFAULT_CONCURRENCY;
 
+    private boolean m_deduplicateRequests = DEFAULT_DEDUPLICATE_REQUESTS;
+
+    private boolean m_useResponseCache = DEFAULT_USE_RESPONSE_CACHE;
+
+    private String m_responseCacheDirectory = DEFAULT_RESPONSE_CACHE_DIRECTORY;
+
+    private int m_responseCacheMaxSize = DEFAULT_RESPONSE_CACHE_MAX_SIZE;
+
+    private boolean m_incrementalExecution = DEFAULT_INCREMENTAL_EXECUTION;
+
+    private int m_incrementalMaxAge = DEFAULT_INCREMENTAL_MAX_AGE;
+
+    private int m_checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+
+    private PaginationMode m_paginationMode = DEFAULT_PAGINATION_MODE;
+
+    private String m_paginationParameter = DEFAULT_PAGINATION_PARAMETER;
+
+    private String m_paginationCursorPointer = DEFAULT_PAGINATION_CURSOR_POINTER;
+
+    private String m_paginationLimitParameter = DEFAULT_PAGINATION_LIMIT_PARAMETER;
+
+    private int m_paginationPageSize = DEFAULT_PAGINATION_PAGE_SIZE;
+
+    private int m_paginationFirstPage = DEFAULT_PAGINATION_FIRST_PAGE;
+
+    private String m_paginationItemsPointer = DEFAULT_PAGINATION_ITEMS_POINTER;
+
+    private int m_paginationMaxPages = DEFAULT_PAGINATION_MAX_PAGES;
+
+    private BodyExplodeMode m_explodeBodyMode = DEFAULT_EXPLODE_BODY_MODE;
+
+    private String m_explodeBodyPointer = DEFAULT_EXPLODE_BODY_POINTER;
+
+    private String m_explodeBodyElementPath = DEFAULT_EXPLODE_BODY_ELEMENT_PATH;
+
+    private final List<JSONField> m_jsonFields = new ArrayList<>();
+
+    private boolean m_outputBody = DEFAULT_OUTPUT_BODY;
+
+    private boolean m_downloadBodies = DEFAULT_DOWNLOAD_BODIES;
+
+    private String m_downloadDirectory = DEFAULT_DOWNLOAD_DIRECTORY;
+
+    private String m_downloadFileName = DEFAULT_DOWNLOAD_FILE_NAME;
+
+    private int m_downloadRanges = DEFAULT_DOWNLOAD_RANGES;
+
+    private long m_maxBodySize = DEFAULT_MAX_BODY_SIZE;
+
+    private long m_maxDecodedBodySize = DEFAULT_MAX_DECODED_BODY_SIZE;
+
+    private OversizedBodyPolicy m_oversizedBodyPolicy = DEFAULT_OVERSIZED_BODY_POLICY;
+
+    private boolean m_deduplicateBodies = DEFAULT_DEDUPLICATE_BODIES;
+
+    private boolean m_outputBodyHash = DEFAULT_OUTPUT_BODY_HASH;
+
     private boolean m_sslIgnoreHostNameErrors = DEFAULT_IGNORE_HOSTNAME_ERRORS;
 
     private boolean m_sslTrustAll = DEFAULT_SSL_TRUST_ALL;
@@ -580,6 +762,17 @@ public boolean equals(final Object obj) {
         }
     }
 
+    /**
+     * A value extracted from JSON or XML response bodies into a column of its own.
+     *
+     * @param pointer the JSON pointer to the value, e.g. {@code /data/id}, or the XPath if {@code xpath} is set
+     * @param columnName the name of the output column
+     * @param type the type of the output column
+     * @param xpath whether the value is referenced by an XPath in XML bodies instead of a JSON pointer in JSON bodies
+     */
+    record JSONField(String pointer, String columnName, JSONFieldType type, boolean xpath) {
+    }
+
     private final List<ResponseHeaderItem> m_extractFields = new ArrayList<>();
 
     private String m_responseBodyColumn = DEFAULT_BODY_COLUMN_NAME;
@@ -736,6 +929,411 @@ protected void setConcurrency(final int concurrency) {
         m_concurrency = concurrency;
     }
 
+    /**
+     * @return whether identical requests are only sent once per execution
+     */
+    protected boolean isDeduplicateRequests() {
+        return m_deduplicateRequests;
+    }
+
+    /**
+     * @param deduplicateRequests whether identical requests are only sent once per execution
+     */
+    protected void setDeduplicateRequests(final boolean deduplicateRequests) {
+        m_deduplicateRequests = deduplicateRequests;
+    }
+
+    /**
+     * @return whether responses to GET and HEAD requests are cached on disk across executions
+     */
+    protected boolean isUseResponseCache() {
+        return m_useResponseCache;
+    }
+
+    /**
+     * @param useResponseCache whether responses to GET and HEAD requests are cached on disk across executions
+     */
+    protected void setUseResponseCache(final boolean useResponseCache) {
+        m_useResponseCache = useResponseCache;
+    }
+
+    /**
+     * @return the directory of the response cache, empty for the default directory
+     */
+    protected String getResponseCacheDirectory() {
+        return m_responseCacheDirectory;
+    }
+
+    /**
+     * @param responseCacheDirectory the directory of the response cache, empty for the default directory
+     */
+    protected void setResponseCacheDirectory(final String responseCacheDirectory) {
+        m_responseCacheDirectory = responseCacheDirectory;
+    }
+
+    /**
+     * @return the maximum size of the response cache in megabytes
+     */
+    protected int getResponseCacheMaxSize() {
+        return m_responseCacheMaxSize;
+    }
+
+    /**
+     * @param responseCacheMaxSize the maximum size of the response cache in megabytes
+     */
+    protected void setResponseCacheMaxSize(final int responseCacheMaxSize) {
+        m_responseCacheMaxSize = responseCacheMaxSize;
+    }
+
+    /**
+     * @return whether only requests for new or changed rows are sent when re-executing
+     */
+    protected boolean isIncrementalExecution() {
+        return m_incrementalExecution;
+    }
+
+    /**
+     * @param incrementalExecution whether only requests for new or changed rows are sent when re-executing
+     */
+    protected void setIncrementalExecution(final boolean incrementalExecution) {
+        m_incrementalExecution = incrementalExecution;
+    }
+
+    /**
+     * @return the maximum age in hours of responses reused by an incremental execution, 0 for no limit
+     */
+    protected int getIncrementalMaxAge() {
+        return m_incrementalMaxAge;
+    }
+
+    /**
+     * @param incrementalMaxAge the maximum age in hours of responses reused by an incremental execution, 0 for no
+     *            limit
+     */
+    protected void setIncrementalMaxAge(final int incrementalMaxAge) {
+        m_incrementalMaxAge = incrementalMaxAge;
+    }
+
+    /**
+     * @return the number of rows after which the completed responses are checkpointed, 0 to disable checkpoints
+     */
+    protected int getCheckpointInterval() {
+        return m_checkpointInterval;
+    }
+
+    /**
+     * @param checkpointInterval the number of rows after which the completed responses are checkpointed, 0 to
+     *            disable checkpoints
+     */
+    protected void setCheckpointInterval(final int checkpointInterval) {
+        m_checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * @return how the following pages of a paginated response are requested
+     */
+    protected PaginationMode getPaginationMode() {
+        return m_paginationMode;
+    }
+
+    /**
+     * @param paginationMode how the following pages of a paginated response are requested
+     */
+    protected void setPaginationMode(final PaginationMode paginationMode) {
+        m_paginationMode = paginationMode;
+    }
+
+    /**
+     * @return the query parameter holding the cursor, offset or page number, empty for the default of the mode
+     */
+    protected String getPaginationParameter() {
+        return m_paginationParameter;
+    }
+
+    /**
+     * @param paginationParameter the query parameter holding the cursor, offset or page number, empty for the
+     *            default of the mode
+     */
+    protected void setPaginationParameter(final String paginationParameter) {
+        m_paginationParameter = paginationParameter;
+    }
+
+    /**
+     * @return the JSON pointer to the cursor of the next page in the response body
+     */
+    protected String getPaginationCursorPointer() {
+        return m_paginationCursorPointer;
+    }
+
+    /**
+     * @param paginationCursorPointer the JSON pointer to the cursor of the next page in the response body
+     */
+    protected void setPaginationCursorPointer(final String paginationCursorPointer) {
+        m_paginationCursorPointer = paginationCursorPointer;
+    }
+
+    /**
+     * @return the query parameter holding the page size in offset mode, empty to not send the page size
+     */
+    protected String getPaginationLimitParameter() {
+        return m_paginationLimitParameter;
+    }
+
+    /**
+     * @param paginationLimitParameter the query parameter holding the page size in offset mode, empty to not send
+     *            the page size
+     */
+    protected void setPaginationLimitParameter(final String paginationLimitParameter) {
+        m_paginationLimitParameter = paginationLimitParameter;
+    }
+
+    /**
+     * @return the number of items per page in offset mode
+     */
+    protected int getPaginationPageSize() {
+        return m_paginationPageSize;
+    }
+
+    /**
+     * @param paginationPageSize the number of items per page in offset mode
+     */
+    protected void setPaginationPageSize(final int paginationPageSize) {
+        m_paginationPageSize = paginationPageSize;
+    }
+
+    /**
+     * @return the number of the first page in page number mode
+     */
+    protected int getPaginationFirstPage() {
+        return m_paginationFirstPage;
+    }
+
+    /**
+     * @param paginationFirstPage the number of the first page in page number mode
+     */
+    protected void setPaginationFirstPage(final int paginationFirstPage) {
+        m_paginationFirstPage = paginationFirstPage;
+    }
+
+    /**
+     * @return the JSON pointer to the items of a page in the response body, pagination stops at an empty page
+     */
+    protected String getPaginationItemsPointer() {
+        return m_paginationItemsPointer;
+    }
+
+    /**
+     * @param paginationItemsPointer the JSON pointer to the items of a page in the response body, pagination stops
+     *            at an empty page
+     */
+    protected void setPaginationItemsPointer(final String paginationItemsPointer) {
+        m_paginationItemsPointer = paginationItemsPointer;
+    }
+
+    /**
+     * @return the maximum number of pages requested per row, 0 for no limit
+     */
+    protected int getPaginationMaxPages() {
+        return m_paginationMaxPages;
+    }
+
+    /**
+     * @param paginationMaxPages the maximum number of pages requested per row, 0 for no limit
+     */
+    protected void setPaginationMaxPages(final int paginationMaxPages) {
+        m_paginationMaxPages = paginationMaxPages;
+    }
+
+    /**
+     * @return how the response body is split into multiple output rows
+     */
+    protected BodyExplodeMode getExplodeBodyMode() {
+        return m_explodeBodyMode;
+    }
+
+    /**
+     * @param explodeBodyMode how the response body is split into multiple output rows
+     */
+    protected void setExplodeBodyMode(final BodyExplodeMode explodeBodyMode) {
+        m_explodeBodyMode = explodeBodyMode;
+    }
+
+    /**
+     * @return the JSON pointer to the array whose elements become output rows, empty for the whole body
+     */
+    protected String getExplodeBodyPointer() {
+        return m_explodeBodyPointer;
+    }
+
+    /**
+     * @param explodeBodyPointer the JSON pointer to the array whose elements become output rows, empty for the whole
+     *            body
+     */
+    protected void setExplodeBodyPointer(final String explodeBodyPointer) {
+        m_explodeBodyPointer = explodeBodyPointer;
+    }
+
+    /**
+     * @return the path to the XML elements which become output rows, e.g. {@code //item}
+     */
+    protected String getExplodeBodyElementPath() {
+        return m_explodeBodyElementPath;
+    }
+
+    /**
+     * @param explodeBodyElementPath the path to the XML elements which become output rows
+     */
+    protected void setExplodeBodyElementPath(final String explodeBodyElementPath) {
+        m_explodeBodyElementPath = explodeBodyElementPath;
+    }
+
+    /**
+     * @return the values extracted from JSON response bodies into columns of their own (mutable, be careful!)
+     */
+    protected List<JSONField> getJSONFields() {
+        return m_jsonFields;
+    }
+
+    /**
+     * @return whether the response body is output in a column
+     */
+    protected boolean isOutputBody() {
+        return m_outputBody;
+    }
+
+    /**
+     * @param outputBody whether the response body is output in a column
+     */
+    protected void setOutputBody(final boolean outputBody) {
+        m_outputBody = outputBody;
+    }
+
+    /**
+     * @return whether the response bodies are written to files instead of being output
+     */
+    protected boolean isDownloadBodies() {
+        return m_downloadBodies;
+    }
+
+    /**
+     * @param downloadBodies whether the response bodies are written to files instead of being output
+     */
+    protected void setDownloadBodies(final boolean downloadBodies) {
+        m_downloadBodies = downloadBodies;
+    }
+
+    /**
+     * @return the directory the response bodies are written to
+     */
+    protected String getDownloadDirectory() {
+        return m_downloadDirectory;
+    }
+
+    /**
+     * @param downloadDirectory the directory the response bodies are written to
+     */
+    protected void setDownloadDirectory(final String downloadDirectory) {
+        m_downloadDirectory = downloadDirectory;
+    }
+
+    /**
+     * @return the template of the file names of the response bodies, see {@link BodyDownloader}
+     */
+    protected String getDownloadFileName() {
+        return m_downloadFileName;
+    }
+
+    /**
+     * @param downloadFileName the template of the file names of the response bodies
+     */
+    protected void setDownloadFileName(final String downloadFileName) {
+        m_downloadFileName = downloadFileName;
+    }
+
+    /**
+     * @return the maximum number of byte ranges a large body is downloaded in concurrently, 1 to disable
+     */
+    protected int getDownloadRanges() {
+        return m_downloadRanges;
+    }
+
+    /**
+     * @param downloadRanges the maximum number of byte ranges a large body is downloaded in concurrently
+     */
+    protected void setDownloadRanges(final int downloadRanges) {
+        m_downloadRanges = downloadRanges;
+    }
+
+    /**
+     * @return the maximum number of kilobytes of a response body read from the connection, 0 for no limit
+     */
+    protected long getMaxBodySize() {
+        return m_maxBodySize;
+    }
+
+    /**
+     * @param maxBodySize the maximum number of kilobytes of a response body read from the connection, 0 for no limit
+     */
+    protected void setMaxBodySize(final long maxBodySize) {
+        m_maxBodySize = maxBodySize;
+    }
+
+    /**
+     * @return the maximum number of kilobytes of a decompressed response body, 0 for no limit
+     */
+    protected long getMaxDecodedBodySize() {
+        return m_maxDecodedBodySize;
+    }
+
+    /**
+     * @param maxDecodedBodySize the maximum number of kilobytes of a decompressed response body, 0 for no limit
+     */
+    protected void setMaxDecodedBodySize(final long maxDecodedBodySize) {
+        m_maxDecodedBodySize = maxDecodedBodySize;
+    }
+
+    /**
+     * @return what to do with response bodies exceeding a maximum size
+     */
+    protected OversizedBodyPolicy getOversizedBodyPolicy() {
+        return m_oversizedBodyPolicy;
+    }
+
+    /**
+     * @param oversizedBodyPolicy what to do with response bodies exceeding a maximum size
+     */
+    protected void setOversizedBodyPolicy(final OversizedBodyPolicy oversizedBodyPolicy) {
+        m_oversizedBodyPolicy = oversizedBodyPolicy;
+    }
+
+    /**
+     * @return whether identical response bodies share a single cell
+     */
+    protected boolean isDeduplicateBodies() {
+        return m_deduplicateBodies;
+    }
+
+    /**
+     * @param deduplicateBodies whether identical response bodies share a single cell
+     */
+    protected void setDeduplicateBodies(final boolean deduplicateBodies) {
+        m_deduplicateBodies = deduplicateBodies;
+    }
+
+    /**
+     * @return whether the SHA-256 hash of each response body is output in a column
+     */
+    protected boolean isOutputBodyHash() {
+        return m_outputBodyHash;
+    }
+
+    /**
+     * @param outputBodyHash whether the SHA-256 hash of each response body is output in a column
+     */
+    protected void setOutputBodyHash(final boolean outputBodyHash) {
+        m_outputBodyHash = outputBodyHash;
+    }
+
     /**
      * @return the sslIgnoreHostNameErrors
      */
@@ -983,6 +1581,45 @@ protected void saveSettings(final NodeSettingsWO settings) {
         settings.addBoolean(USE_DELAY, m_useDelay);
         settings.addLong(DELAY, m_delay);
         settings.addInt(CONCURRENCY, m_concurrency);
+        settings.addBoolean(DEDUPLICATE_REQUESTS, m_deduplicateRequests);
+        settings.addBoolean(USE_RESPONSE_CACHE, m_useResponseCache);
+        settings.addString(RESPONSE_CACHE_DIRECTORY, m_responseCacheDirectory);
+        settings.addInt(RESPONSE_CACHE_MAX_SIZE, m_responseCacheMaxSize);
+        settings.addBoolean(INCREMENTAL_EXECUTION, m_incrementalExecution);
+        settings.addInt(INCREMENTAL_MAX_AGE, m_incrementalMaxAge);
+        settings.addInt(CHECKPOINT_INTERVAL, m_checkpointInterval);
+        settings.addString(PAGINATION_MODE, m_paginationMode.name());
+        settings.addString(PAGINATION_PARAMETER, m_paginationParameter);
+        settings.addString(PAGINATION_CURSOR_POINTER, m_paginationCursorPointer);
+        settings.addString(PAGINATION_LIMIT_PARAMETER, m_paginationLimitParameter);
+        settings.addInt(PAGINATION_PAGE_SIZE, m_paginationPageSize);
+        settings.addInt(PAGINATION_FIRST_PAGE, m_paginationFirstPage);
+        settings.addString(PAGINATION_ITEMS_POINTER, m_paginationItemsPointer);
+        settings.addInt(PAGINATION_MAX_PAGES, m_paginationMaxPages);
+        settings.addString(EXPLODE_BODY_MODE, m_explodeBodyMode.name());
+        settings.addString(EXPLODE_BODY_POINTER, m_explodeBodyPointer);
+        settings.addString(EXPLODE_BODY_ELEMENT_PATH, m_explodeBodyElementPath);
+        settings.addStringArray(JSON_FIELD_POINTERS,
+            m_jsonFields.stream().map(JSONField::pointer).toArray(String[]::new));
+        settings.addStringArray(JSON_FIELD_COLUMN_NAMES,
+            m_jsonFields.stream().map(JSONField::columnName).toArray(String[]::new));
+        settings.addStringArray(JSON_FIELD_TYPES,
+            m_jsonFields.stream().map(f -> f.type().name()).toArray(String[]::new));
+        final var jsonFieldXPaths = new boolean[m_jsonFields.size()];
+        for (var i = 0; i < jsonFieldXPaths.length; i++) {
+            jsonFieldXPaths[i] = m_jsonFields.get(i).xpath();
+        }
+        settings.addBooleanArray(JSON_FIELD_XPATHS, jsonFieldXPaths);
+        settings.addBoolean(OUTPUT_BODY, m_outputBody);
+        settings.addBoolean(DOWNLOAD_BODIES, m_downloadBodies);
+        settings.addString(DOWNLOAD_DIRECTORY, m_downloadDirectory);
+        settings.addString(DOWNLOAD_FILE_NAME, m_downloadFileName);
+        settings.addInt(DOWNLOAD_RANGES, m_downloadRanges);
+        settings.addLong(MAX_BODY_SIZE, m_maxBodySize);
+        settings.addLong(MAX_DECODED_BODY_SIZE, m_maxDecodedBodySize);
+        settings.addString(OVERSIZED_BODY_POLICY, m_oversizedBodyPolicy.name());
+        settings.addBoolean(DEDUPLICATE_BODIES, m_deduplicateBodies);
+        settings.addBoolean(OUTPUT_BODY_HASH, m_outputBodyHash);
         settings.addBoolean(SSL_IGNORE_HOSTNAME_ERRORS, m_sslIgnoreHostNameErrors);
         settings.addBoolean(SSL_TRUST_ALL, m_sslTrustAll);
         settings.addBoolean(FAIL_ON_CONNECTION_PROBLEMS, m_failOnConnectionProblems);
@@ -1031,6 +1668,93 @@ protected void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSet
         m_useDelay = settings.getBoolean(USE_DELAY);
         m_delay = settings.getLong(DELAY);
         m_concurrency = settings.getInt(CONCURRENCY);
+        // added with 5.12
+        m_deduplicateRequests = settings.getBoolean(DEDUPLICATE_REQUESTS, DEFAULT_DEDUPLICATE_REQUESTS);
+        m_useResponseCache = settings.getBoolean(USE_RESPONSE_CACHE, DEFAULT_USE_RESPONSE_CACHE);
+        m_responseCacheDirectory = settings.getString(RESPONSE_CACHE_DIRECTORY, DEFAULT_RESPONSE_CACHE_DIRECTORY);
+        m_responseCacheMaxSize = settings.getInt(RESPONSE_CACHE_MAX_SIZE, DEFAULT_RESPONSE_CACHE_MAX_SIZE);
+        CheckUtils.checkSetting(m_responseCacheMaxSize > 0,
+            "The maximum size of the response cache must be positive: " + m_responseCacheMaxSize);
+        m_incrementalExecution = settings.getBoolean(INCREMENTAL_EXECUTION, DEFAULT_INCREMENTAL_EXECUTION);
+        m_incrementalMaxAge = settings.getInt(INCREMENTAL_MAX_AGE, DEFAULT_INCREMENTAL_MAX_AGE);
+        CheckUtils.checkSetting(m_incrementalMaxAge >= 0,
+            "The maximum age of reused responses must not be negative: " + m_incrementalMaxAge);
+        m_checkpointInterval = settings.getInt(CHECKPOINT_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL);
+        CheckUtils.checkSetting(m_checkpointInterval >= 0,
+            "The checkpoint interval must not be negative: " + m_checkpointInterval);
+        try {
+            m_paginationMode =
+                PaginationMode.valueOf(settings.getString(PAGINATION_MODE, DEFAULT_PAGINATION_MODE.name()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown pagination mode: " + e.getMessage(), e);
+        }
+        m_paginationParameter = settings.getString(PAGINATION_PARAMETER, DEFAULT_PAGINATION_PARAMETER);
+        m_paginationCursorPointer = settings.getString(PAGINATION_CURSOR_POINTER, DEFAULT_PAGINATION_CURSOR_POINTER);
+        m_paginationLimitParameter =
+            settings.getString(PAGINATION_LIMIT_PARAMETER, DEFAULT_PAGINATION_LIMIT_PARAMETER);
+        m_paginationPageSize = settings.getInt(PAGINATION_PAGE_SIZE, DEFAULT_PAGINATION_PAGE_SIZE);
+        CheckUtils.checkSetting(m_paginationPageSize > 0,
+            "The page size must be positive: " + m_paginationPageSize);
+        m_paginationFirstPage = settings.getInt(PAGINATION_FIRST_PAGE, DEFAULT_PAGINATION_FIRST_PAGE);
+        CheckUtils.checkSetting(m_paginationFirstPage >= 0,
+            "The first page number must not be negative: " + m_paginationFirstPage);
+        m_paginationItemsPointer = settings.getString(PAGINATION_ITEMS_POINTER, DEFAULT_PAGINATION_ITEMS_POINTER);
+        m_paginationMaxPages = settings.getInt(PAGINATION_MAX_PAGES, DEFAULT_PAGINATION_MAX_PAGES);
+        CheckUtils.checkSetting(m_paginationMaxPages >= 0,
+            "The maximum number of pages must not be negative: " + m_paginationMaxPages);
+        try {
+            m_explodeBodyMode =
+                BodyExplodeMode.valueOf(settings.getString(EXPLODE_BODY_MODE, DEFAULT_EXPLODE_BODY_MODE.name()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown body explode mode: " + e.getMessage(), e);
+        }
+        m_explodeBodyPointer = settings.getString(EXPLODE_BODY_POINTER, DEFAULT_EXPLODE_BODY_POINTER);
+        m_explodeBodyElementPath = settings.getString(EXPLODE_BODY_ELEMENT_PATH, DEFAULT_EXPLODE_BODY_ELEMENT_PATH);
+        m_jsonFields.clear();
+        final var jsonFieldPointers = settings.getStringArray(JSON_FIELD_POINTERS, new String[0]);
+        final var jsonFieldColumnNames = settings.getStringArray(JSON_FIELD_COLUMN_NAMES, new String[0]);
+        final var jsonFieldTypes = settings.getStringArray(JSON_FIELD_TYPES, new String[0]);
+        final var jsonFieldXPaths = settings.getBooleanArray(JSON_FIELD_XPATHS, new boolean[jsonFieldPointers.length]);
+        CheckUtils.checkSetting(jsonFieldPointers.length == jsonFieldColumnNames.length
+            && jsonFieldPointers.length == jsonFieldTypes.length && jsonFieldPointers.length == jsonFieldXPaths.length,
+            "JSON field pointers, column names, types and XPath flags have different lengths: "
+                + jsonFieldPointers.length + " <> " + jsonFieldColumnNames.length + " <> " + jsonFieldTypes.length
+                + " <> " + jsonFieldXPaths.length);
+        for (var i = 0; i < jsonFieldPointers.length; ++i) {
+            CheckUtils.checkSetting(!jsonFieldColumnNames[i].isBlank(),
+                "The column name of the JSON field \"" + jsonFieldPointers[i] + "\" must not be empty");
+            try {
+                m_jsonFields.add(new JSONField(jsonFieldPointers[i], jsonFieldColumnNames[i],
+                    JSONFieldType.valueOf(jsonFieldTypes[i]), jsonFieldXPaths[i]));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSettingsException("Unknown JSON field type: " + e.getMessage(), e);
+            }
+        }
+        m_outputBody = settings.getBoolean(OUTPUT_BODY, DEFAULT_OUTPUT_BODY);
+        m_downloadBodies = settings.getBoolean(DOWNLOAD_BODIES, DEFAULT_DOWNLOAD_BODIES);
+        m_downloadDirectory = settings.getString(DOWNLOAD_DIRECTORY, DEFAULT_DOWNLOAD_DIRECTORY);
+        m_downloadFileName = settings.getString(DOWNLOAD_FILE_NAME, DEFAULT_DOWNLOAD_FILE_NAME);
+        CheckUtils.checkSetting(!m_downloadBodies || !m_downloadDirectory.isBlank(),
+            "The directory to download the response bodies to must not be empty.");
+        CheckUtils.checkSetting(!m_downloadBodies || !m_downloadFileName.isBlank(),
+            "The file name of the downloaded response bodies must not be empty.");
+        m_downloadRanges = settings.getInt(DOWNLOAD_RANGES, DEFAULT_DOWNLOAD_RANGES);
+        CheckUtils.checkSetting(m_downloadRanges > 0,
+            "The number of download ranges must be positive: " + m_downloadRanges);
+        m_maxBodySize = settings.getLong(MAX_BODY_SIZE, DEFAULT_MAX_BODY_SIZE);
+        CheckUtils.checkSetting(m_maxBodySize >= 0,
+            "The maximum body size must not be negative: " + m_maxBodySize);
+        m_maxDecodedBodySize = settings.getLong(MAX_DECODED_BODY_SIZE, DEFAULT_MAX_DECODED_BODY_SIZE);
+        CheckUtils.checkSetting(m_maxDecodedBodySize >= 0,
+            "The maximum decompressed body size must not be negative: " + m_maxDecodedBodySize);
+        try {
+            m_oversizedBodyPolicy = OversizedBodyPolicy
+                .valueOf(settings.getString(OVERSIZED_BODY_POLICY, DEFAULT_OVERSIZED_BODY_POLICY.name()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown policy for oversized bodies: " + e.getMessage(), e);
+        }
+        m_deduplicateBodies = settings.getBoolean(DEDUPLICATE_BODIES, DEFAULT_DEDUPLICATE_BODIES);
+        m_outputBodyHash = settings.getBoolean(OUTPUT_BODY_HASH, DEFAULT_OUTPUT_BODY_HASH);
         m_sslIgnoreHostNameErrors = settings.getBoolean(SSL_IGNORE_HOSTNAME_ERRORS);
         m_sslTrustAll = settings.getBoolean(SSL_TRUST_ALL);
         m_failOnConnectionProblems = settings.getBoolean(FAIL_ON_CONNECTION_PROBLEMS);
@@ -1119,6 +1843,66 @@ protected void loadSettingsForDialog(final NodeSettingsRO settings, final Creden
         m_useDelay = settings.getBoolean(USE_DELAY, DEFAULT_USE_DELAY);
         m_delay = settings.getLong(DELAY, DEFAULT_DELAY);
         m_concurrency = settings.getInt(CONCURRENCY, DEFAULT_CONCURRENCY);
+        m_deduplicateRequests = settings.getBoolean(DEDUPLICATE_REQUESTS, DEFAULT_DEDUPLICATE_REQUESTS);
+        m_useResponseCache = settings.getBoolean(USE_RESPONSE_CACHE, DEFAULT_USE_RESPONSE_CACHE);
+        m_responseCacheDirectory = settings.getString(RESPONSE_CACHE_DIRECTORY, DEFAULT_RESPONSE_CACHE_DIRECTORY);
+        m_responseCacheMaxSize = settings.getInt(RESPONSE_CACHE_MAX_SIZE, DEFAULT_RESPONSE_CACHE_MAX_SIZE);
+        m_incrementalExecution = settings.getBoolean(INCREMENTAL_EXECUTION, DEFAULT_INCREMENTAL_EXECUTION);
+        m_incrementalMaxAge = settings.getInt(INCREMENTAL_MAX_AGE, DEFAULT_INCREMENTAL_MAX_AGE);
+        m_checkpointInterval = settings.getInt(CHECKPOINT_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL);
+        try {
+            m_paginationMode =
+                PaginationMode.valueOf(settings.getString(PAGINATION_MODE, DEFAULT_PAGINATION_MODE.name()));
+        } catch (IllegalArgumentException e) { // NOSONAR fall back to the default in the dialog
+            m_paginationMode = DEFAULT_PAGINATION_MODE;
+        }
+        m_paginationParameter = settings.getString(PAGINATION_PARAMETER, DEFAULT_PAGINATION_PARAMETER);
+        m_paginationCursorPointer = settings.getString(PAGINATION_CURSOR_POINTER, DEFAULT_PAGINATION_CURSOR_POINTER);
+        m_paginationLimitParameter =
+            settings.getString(PAGINATION_LIMIT_PARAMETER, DEFAULT_PAGINATION_LIMIT_PARAMETER);
+        m_paginationPageSize = settings.getInt(PAGINATION_PAGE_SIZE, DEFAULT_PAGINATION_PAGE_SIZE);
+        m_paginationFirstPage = settings.getInt(PAGINATION_FIRST_PAGE, DEFAULT_PAGINATION_FIRST_PAGE);
+        m_paginationItemsPointer = settings.getString(PAGINATION_ITEMS_POINTER, DEFAULT_PAGINATION_ITEMS_POINTER);
+        m_paginationMaxPages = settings.getInt(PAGINATION_MAX_PAGES, DEFAULT_PAGINATION_MAX_PAGES);
+        try {
+            m_explodeBodyMode =
+                BodyExplodeMode.valueOf(settings.getString(EXPLODE_BODY_MODE, DEFAULT_EXPLODE_BODY_MODE.name()));
+        } catch (IllegalArgumentException e) { // NOSONAR fall back to the default in the dialog
+            m_explodeBodyMode = DEFAULT_EXPLODE_BODY_MODE;
+        }
+        m_explodeBodyPointer = settings.getString(EXPLODE_BODY_POINTER, DEFAULT_EXPLODE_BODY_POINTER);
+        m_explodeBodyElementPath = settings.getString(EXPLODE_BODY_ELEMENT_PATH, DEFAULT_EXPLODE_BODY_ELEMENT_PATH);
+        m_jsonFields.clear();
+        final var jsonFieldPointers = settings.getStringArray(JSON_FIELD_POINTERS, new String[0]);
+        final var jsonFieldColumnNames = settings.getStringArray(JSON_FIELD_COLUMN_NAMES, new String[0]);
+        final var jsonFieldTypes = settings.getStringArray(JSON_FIELD_TYPES, new String[0]);
+        final var jsonFieldXPaths = settings.getBooleanArray(JSON_FIELD_XPATHS, new boolean[0]);
+        for (var i = 0; i < jsonFieldPointers.length && i < jsonFieldColumnNames.length
+            && i < jsonFieldTypes.length; ++i) {
+            JSONFieldType type;
+            try {
+                type = JSONFieldType.valueOf(jsonFieldTypes[i]);
+            } catch (IllegalArgumentException e) { // NOSONAR fall back to the default in the dialog
+                type = JSONFieldType.STRING;
+            }
+            m_jsonFields.add(new JSONField(jsonFieldPointers[i], jsonFieldColumnNames[i], type,
+                i < jsonFieldXPaths.length && jsonFieldXPaths[i]));
+        }
+        m_outputBody = settings.getBoolean(OUTPUT_BODY, DEFAULT_OUTPUT_BODY);
+        m_downloadBodies = settings.getBoolean(DOWNLOAD_BODIES, DEFAULT_DOWNLOAD_BODIES);
+        m_downloadDirectory = settings.getString(DOWNLOAD_DIRECTORY, DEFAULT_DOWNLOAD_DIRECTORY);
+        m_downloadFileName = settings.getString(DOWNLOAD_FILE_NAME, DEFAULT_DOWNLOAD_FILE_NAME);
+        m_downloadRanges = Math.max(1, settings.getInt(DOWNLOAD_RANGES, DEFAULT_DOWNLOAD_RANGES));
+        m_maxBodySize = Math.max(0L, settings.getLong(MAX_BODY_SIZE, DEFAULT_MAX_BODY_SIZE));
+        m_maxDecodedBodySize = Math.max(0L, settings.getLong(MAX_DECODED_BODY_SIZE, DEFAULT_MAX_DECODED_BODY_SIZE));
+        try {
+            m_oversizedBodyPolicy = OversizedBodyPolicy
+                .valueOf(settings.getString(OVERSIZED_BODY_POLICY, DEFAULT_OVERSIZED_BODY_POLICY.name()));
+        } catch (IllegalArgumentException e) { // NOSONAR fall back to the default in the dialog
+            m_oversizedBodyPolicy = DEFAULT_OVERSIZED_BODY_POLICY;
+        }
+        m_deduplicateBodies = settings.getBoolean(DEDUPLICATE_BODIES, DEFAULT_DEDUPLICATE_BODIES);
+        m_outputBodyHash = settings.getBoolean(OUTPUT_BODY_HASH, DEFAULT_OUTPUT_BODY_HASH);
         m_sslIgnoreHostNameErrors = settings.getBoolean(SSL_IGNORE_HOSTNAME_ERRORS, DEFAULT_IGNORE_HOSTNAME_ERRORS);
         m_sslTrustAll = settings.getBoolean(SSL_TRUST_ALL, DEFAULT_SSL_TRUST_ALL);
         m_failOnConnectionProblems =
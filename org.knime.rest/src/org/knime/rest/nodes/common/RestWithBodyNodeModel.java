@@ -49,36 +49,63 @@
 package org.knime.rest.nodes.common;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.client.WebClient;
+import org.apache.cxf.transport.http.HTTPConduitFactory;
+import org.apache.cxf.transport.http.asyncclient.AsyncHTTPConduit;
 import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
 import org.knime.base.data.xml.SvgValue;
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.IntValue;
 import org.knime.core.data.LongValue;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.StringValue;
+import org.knime.core.data.append.AppendedColumnRow;
 import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.data.image.png.PNGImageValue;
 import org.knime.core.data.json.JSONCellFactory;
 import org.knime.core.data.json.JSONValue;
 import org.knime.core.data.vector.bitvector.BitVectorValue;
 import org.knime.core.data.vector.bytevector.ByteVectorValue;
 import org.knime.core.data.xml.XMLValue;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.context.NodeCreationConfiguration;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.rest.generic.EachRequestAuthentication;
 import org.knime.rest.nodes.common.RestSettings.ReferenceType;
 import org.knime.rest.nodes.common.RestSettings.RequestHeaderKeyItem;
 import org.w3c.dom.Document;
 
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.Invocation.Builder;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Variant;
 
 /**
@@ -95,6 +122,13 @@
      */
     static int chunkingThreshold = 1 << 20;
 
+    private static final String EXPECT = "Expect";
+
+    private static final String EXPECT_CONTINUE = "100-continue";
+
+    /** Set once the server rejected the {@code Expect} header, reset with each execution. */
+    private final AtomicBoolean m_expectContinueRejected = new AtomicBoolean();
+
     /**
      * @param cfg The node creation configuration.
      */
@@ -130,6 +164,10 @@ protected DataTableSpec[] configure(final PortObjectSpec[] inSpecs) throws Inval
                             + "'" + requestBodyColumn + "' of the input table.");
                 }
             }
+            if (m_settings.isUseBatching()) {
+                RequestBatches.compilePointer(m_settings.getBatchResponsePointer(), "response array path");
+                RequestBatches.compilePointer(m_settings.getBatchKeyPointer(), "key path");
+            }
         }
 
         return super.configure(inSpecs);
@@ -153,17 +191,20 @@ protected Object createObjectFromCell(final DataCell cell) {
         }
         if (cell instanceof PNGImageValue) {
             PNGImageValue pngv = (PNGImageValue)cell;
-            return pngv.getImageContent().getByteArray();
+            return (StreamingOutput)output -> pngv.getImageContent().save(output);
         }
         if (cell instanceof StringValue) {
             StringValue sv = (StringValue)cell;
             return sv.getStringValue();
         }
+        // serialize while holding the document lock instead of deep-cloning the DOM
         if (cell instanceof SvgValue) {
-            return ((SvgValue) cell).getDocumentSupplier().compute(doc -> doc.cloneNode(true));
+            return (StreamingOutput)output -> writeXml(
+                () -> ((SvgValue)cell).getDocumentSupplier().compute(doc -> RequestBodies.writeXml(doc, output)));
         }
         if (cell instanceof XMLValue) {
-            return ((XMLValue<Document>) cell).getDocumentSupplier().compute(doc -> doc.cloneNode(true));
+            return (StreamingOutput)output -> writeXml(() -> ((XMLValue<Document>)cell).getDocumentSupplier()
+                .compute(doc -> RequestBodies.writeXml(doc, output)));
         }
         if (cell instanceof BooleanValue) {
             BooleanValue bv = (BooleanValue)cell;
@@ -190,17 +231,7 @@ protected Object createObjectFromCell(final DataCell cell) {
             }
         }
         if (cell instanceof ByteVectorValue) {
-            ByteVectorValue bvv = (ByteVectorValue)cell;
-            if (bvv.length() > Integer.MAX_VALUE) {
-                throw new IllegalStateException("Too large byte-vector: " + bvv.length());
-            }
-            byte[] ret = new byte[(int)bvv.length()];
-            for (int i = ret.length; i-- > 0;) {
-                int v = bvv.get(i);
-                v &= 0xff;
-                ret[i] = (byte)v;
-            }
-            return ret;
+            return RequestBodies.byteVectorBody((ByteVectorValue)cell);
         }
         //TODO how to represent?
         if (cell instanceof BitVectorValue) {
@@ -212,6 +243,33 @@ protected Object createObjectFromCell(final DataCell cell) {
         return cell.toString();
     }
 
+    private static void writeXml(final Runnable serialization) throws IOException {
+        try {
+            serialization.run();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean isExpectContinue() {
+        return getSettings().isExpectContinue() && !m_expectContinueRejected.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If large bodies are only sent after the confirmation of the server, the asynchronous conduit waits for the
+     * configured time for it.
+     */
+    @Override
+    protected void configureConduit(final Builder request) {
+        if (isExpectContinue()) {
+            final var config = WebClient.getConfig(request);
+            config.getEndpoint().getEndpointInfo().setProperty(HTTPConduitFactory.class.getName(),
+                ExpectContinueConduitFactory.get(config.getBus(), getSettings().getExpectContinueTimeoutInSeconds()));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -223,37 +281,313 @@ protected Invocation invocation(final Builder request, final DataRow row, final
             settings.getRequestHeaders().stream().filter(v -> "Content-Type".equals(v.getKey())).findAny()
                 .orElse(new RequestHeaderKeyItem("Content-Type", "application/json", ReferenceType.Constant))));
 
-        Variant variant = new Variant(mediaType, (String)null, null);
-        Object o = settings.isUseConstantRequestBody()
-                ? settings.getConstantRequestBody() : createObjectFromCell(row.getCell(bodyColumn));
-        Entity<?> entity = Entity.entity(o, variant);
+        final DataCell bodyCell = settings.isUseConstantRequestBody() ? null : row.getCell(bodyColumn);
+        final Object o = bodyCell == null ? settings.getConstantRequestBody() : createObjectFromCell(bodyCell);
+        final boolean allowChunking = m_settings.isAllowChunking().orElse(RestSettings.DEFAULT_ALLOW_CHUNKING);
+        final long contentLength = RequestBodies.knownLength(bodyCell, o);
+        final boolean compress =
+            settings.isCompressRequestBody() && CompressedRequestBody.isWorthCompressing(o, contentLength);
+        Object body = compress ? new CompressedRequestBody(o, mediaType) : o;
+        long sentLength = compress ? -1 : contentLength;
+        if (!allowChunking && sentLength < 0) {
+            // the Content-Length has to be known up-front, hence serialize the body once only to count its bytes
+            sentLength = RequestBodies.serializedLength(body, mediaType);
+            if (o instanceof InputStream) {
+                // the stream of the binary object was consumed while counting
+                body = new CompressedRequestBody(createObjectFromCell(bodyCell), mediaType);
+            }
+        }
+        Variant variant =
+            new Variant(mediaType, (String)null, compress ? CompressedRequestBody.CONTENT_ENCODING : null);
+        Entity<?> entity = Entity.entity(body, variant);
+
+        final long estimatedLength = RequestBodies.estimatedLength(o, contentLength);
+        if (isExpectContinue() && (estimatedLength < 0 || estimatedLength >= chunkingThreshold)) {
+            // the server can reject the request (e.g. 401, 413) before the large body is transmitted
+            request.header(EXPECT, EXPECT_CONTINUE);
+            // The java.net.http client of the default conduit drops the header as it is restricted, and CXF does not
+            // enable its HttpRequest.Builder#expectContinue. The Apache HttpClient of the asynchronous conduit sends
+            // the header and only transmits the body after the interim response or the configured timeout, see
+            // #configureConduit.
+            WebClient.getConfig(request).getRequestContext().put(AsyncHTTPConduit.USE_ASYNC, Boolean.TRUE);
+        }
 
         HTTPClientPolicy clientPolicy = WebClient.getConfig(request).getHttpConduit().getClient();
+        if (allowChunking) {
+            // bodies larger than a moderately sized buffer of 1 MB are sent in chunks
+            clientPolicy.setAllowChunking(true);
+            clientPolicy.setChunkingThreshold(chunkingThreshold);
+        } else {
+            // Without chunking, CXF only determines the Content-Length by buffering the complete body. As its length
+            // is known, set the header instead such that the body is streamed regardless of its size.
+            clientPolicy.setAllowChunking(false);
+            request.header(HttpHeaders.CONTENT_LENGTH, sentLength);
+        }
 
-        // We always have to allow chunking because otherwise the content length cannot be determined. If chunking
-        // should be disabled we have to set the buffer large enough so that it can hold the complete body. Then the
-        // Content-Length header will be set accordingly.
-        clientPolicy.setAllowChunking(true);
+        return invocationWithEntity(request, entity);
+    }
 
-        int bufferSize;
-        if (m_settings.isAllowChunking().orElse(RestSettings.DEFAULT_ALLOW_CHUNKING)) {
-            // chunk allowed => use a moderately sized buffer of 1 MB.
-            bufferSize = chunkingThreshold;
-        } else {
-            // chunking should not happen, try to guess the size of the body
-            if (o instanceof byte[]) {
-                bufferSize = ((byte[]) o).length;
-            } else if (o instanceof String) {
-                // we don't know the string's encoding, if it's UTF it can be larger than the string length
-                bufferSize = ((String) o).length() * 2;
-            } else {
-                // use 16 MB in all other cases
-                bufferSize = 16 << 20;
+    @Override
+    boolean isBatching(final S settings) {
+        return settings.isUseBatching() && !settings.isUseConstantRequestBody() && settings.getBatchSize() > 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If batching is enabled, the bodies of multiple rows are sent in one request and the response is split back into
+     * the rows. Batching is not supported in streaming mode.
+     */
+    @Override
+    BufferedDataTable executeRequests(final BufferedDataTable table,
+        final List<EachRequestAuthentication> enabledAuthentications, final ExecutionContext exec)
+        throws InvalidSettingsException, IOException, CanceledExecutionException {
+        final var settings = getSettings();
+        if (!isBatching(settings)) {
+            return super.executeRequests(table, enabledAuthentications, exec);
+        }
+        final var spec = table.getDataTableSpec();
+        final int bodyColumn = spec.findColumnIndex(settings.getRequestBodyColumn());
+        final List<Integer> batchSizes = new ArrayList<>();
+        final var batches = createBatchTable(table, bodyColumn, batchSizes, exec.createSubExecutionContext(0.05));
+        final var batchResults =
+            super.executeRequests(batches, enabledAuthentications, exec.createSubExecutionContext(0.75));
+
+        final var resultColumns = batchResults.getDataTableSpec().stream().skip(spec.getNumColumns())
+            .toArray(DataColumnSpec[]::new);
+        final var outSpec = new DataTableSpec(spec, new DataTableSpec(resultColumns));
+        final var splitExec = exec.createSubExecutionContext(0.1);
+        final var batched = exec.createDataContainer(outSpec);
+        final var fallback = exec.createDataContainer(spec);
+        final var splitter = new BatchSplitter(settings, bodyColumn, resultColumns.length);
+        try (var rows = table.iterator(); var results = batchResults.iterator()) {
+            var batchIndex = 0;
+            while (results.hasNext()) {
+                splitExec.checkCanceled();
+                splitExec.setProgress(batchIndex / (double)batchResults.size());
+                final var result = results.next();
+                final int batchSize = batchSizes.get(batchIndex++);
+                final List<DataRow> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize) {
+                    batch.add(rows.next());
+                }
+                final var newCells = new DataCell[resultColumns.length];
+                for (var i = 0; i < newCells.length; i++) {
+                    newCells[i] = result.getCell(spec.getNumColumns() + i);
+                }
+                splitter.split(batch, newCells, batched, fallback);
             }
+        } finally {
+            batched.close();
+            fallback.close();
         }
-        clientPolicy.setChunkingThreshold(bufferSize);
+        final var fallbackTable = fallback.getTable();
+        if (fallbackTable.size() == 0) {
+            return batched.getTable();
+        }
+        final var fallbackResults = super.executeRequests(fallbackTable, enabledAuthentications,
+            exec.createSubExecutionContext(0.1));
+        if (batched.getTable().size() == 0) {
+            return fallbackResults;
+        }
+        return mergeInInputOrder(table, batched.getTable(), fallbackResults, outSpec, exec);
+    }
 
-        return invocationWithEntity(request, entity);
+    /**
+     * Creates one row per batch, consisting of the cells of the batch's first row (e.g. URL and request header
+     * columns) and the batch request body in the body column. A batch only contains consecutive rows with the same
+     * URL and request header values, a row whose request differs in these starts a new batch.
+     *
+     * @param batchSizes the list the number of rows of each batch is added to
+     */
+    private BufferedDataTable createBatchTable(final BufferedDataTable table, final int bodyColumn,
+        final List<Integer> batchSizes, final ExecutionContext exec) throws IOException, CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        final var columns = spec.stream().toArray(DataColumnSpec[]::new);
+        final var bodySpec = new DataColumnSpecCreator(columns[bodyColumn]);
+        bodySpec.setType(StringCell.TYPE);
+        columns[bodyColumn] = bodySpec.createSpec();
+        final var container = exec.createDataContainer(new DataTableSpec(columns));
+        final int batchSize = getSettings().getBatchSize();
+        final List<JsonNode> bodies = new ArrayList<>(batchSize);
+        try (var rows = table.iterator()) {
+            DataRow first = null;
+            Object firstKey = null;
+            while (rows.hasNext()) {
+                exec.checkCanceled();
+                final var row = rows.next();
+                final var key = createRequestTargetKey(row, spec);
+                if (first != null && !Objects.equals(firstKey, key)) {
+                    addBatch(container, first, bodyColumn, bodies, batchSizes);
+                    first = null;
+                }
+                if (first == null) {
+                    first = row;
+                    firstKey = key;
+                }
+                bodies.add(RequestBatches.toJson(row.getCell(bodyColumn)));
+                if (bodies.size() == batchSize) {
+                    addBatch(container, first, bodyColumn, bodies, batchSizes);
+                    first = null;
+                }
+            }
+            if (first != null) {
+                addBatch(container, first, bodyColumn, bodies, batchSizes);
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    private void addBatch(final BufferedDataContainer container, final DataRow first, final int bodyColumn,
+        final List<JsonNode> bodies, final List<Integer> batchSizes) throws IOException {
+        final var cells = first.stream().toArray(DataCell[]::new);
+        cells[bodyColumn] = new StringCell(RequestBatches.createBody(bodies, getSettings().getBatchTemplate()));
+        container.addRowToTable(new DefaultRow(new RowKey("Batch " + batchSizes.size()), cells));
+        batchSizes.add(bodies.size());
+        bodies.clear();
+    }
+
+    /**
+     * Combines the rows of successful batches and the rows of failed batches, which have been requested separately,
+     * in the order of the input table.
+     */
+    private static BufferedDataTable mergeInInputOrder(final BufferedDataTable table,
+        final BufferedDataTable batched, final BufferedDataTable fallback, final DataTableSpec outSpec,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        final var container = exec.createDataContainer(outSpec);
+        try (var rows = table.iterator(); var batchedRows = batched.iterator();
+                var fallbackRows = fallback.iterator()) {
+            var nextBatched = batchedRows.hasNext() ? batchedRows.next() : null;
+            while (rows.hasNext()) {
+                exec.checkCanceled();
+                final var key = rows.next().getKey();
+                if (nextBatched != null && nextBatched.getKey().equals(key)) {
+                    container.addRowToTable(nextBatched);
+                    nextBatched = batchedRows.hasNext() ? batchedRows.next() : null;
+                } else {
+                    container.addRowToTable(fallbackRows.next());
+                }
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    /**
+     * Assigns the response of a batch request to the rows of the batch.
+     */
+    private final class BatchSplitter {
+
+        private final int m_bodyColumn;
+
+        private final int m_bodyCell;
+
+        private final int m_errorCauseCell;
+
+        private final JsonPointer m_responsePointer;
+
+        private final JsonPointer m_keyPointer;
+
+        private final boolean m_fallback;
+
+        BatchSplitter(final RestWithBodySettings settings, final int bodyColumn, final int newCellCount)
+            throws InvalidSettingsException {
+            m_bodyColumn = bodyColumn;
+            m_bodyCell = getBodyCellIndex();
+            m_errorCauseCell =
+                settings.isOutputErrorCause().orElse(RestSettings.DEFAULT_OUTPUT_ERROR_CAUSE) ? newCellCount - 1 : -1;
+            m_responsePointer =
+                RequestBatches.compilePointer(settings.getBatchResponsePointer(), "response array path");
+            m_keyPointer = StringUtils.isBlank(settings.getBatchKeyPointer()) ? null
+                : RequestBatches.compilePointer(settings.getBatchKeyPointer(), "key path");
+            m_fallback = settings.isBatchFallbackToSingleRequests();
+        }
+
+        void split(final List<DataRow> batch, final DataCell[] batchCells, final BufferedDataContainer batched,
+            final BufferedDataContainer fallback) {
+            final List<JsonNode> bodies = batch.stream().map(r -> RequestBatches.toJson(r.getCell(m_bodyColumn)))
+                .toList();
+            List<String> elements;
+            try {
+                elements = RequestBatches.split(responseBody(batchCells), m_responsePointer, bodies, m_keyPointer);
+            } catch (IOException e) {
+                if (m_fallback) {
+                    batch.forEach(fallback::addRowToTable);
+                    return;
+                }
+                // keep the original cause if the request itself failed
+                final var body = m_bodyCell >= 0 && batchCells[m_bodyCell].isMissing() ? batchCells[m_bodyCell]
+                    : new MissingCell("Batch request failed: " + e.getMessage());
+                batch.forEach(row -> batched.addRowToTable(new AppendedColumnRow(row, withBody(batchCells, body))));
+                return;
+            }
+            for (var i = 0; i < batch.size(); i++) {
+                final var element = elements.get(i);
+                DataCell body;
+                try {
+                    body = element == null
+                        ? new MissingCell("The batch response does not contain an element for this row")
+                        : JSONCellFactory.create(element, false);
+                } catch (IOException e) {
+                    body = new MissingCell(e.getMessage());
+                }
+                batched.addRowToTable(new AppendedColumnRow(batch.get(i), withBody(batchCells, body)));
+            }
+        }
+
+        private String responseBody(final DataCell[] batchCells) throws IOException {
+            if (m_bodyCell < 0) {
+                throw new IOException("The response does not have a body");
+            }
+            final var body = batchCells[m_bodyCell];
+            if (body instanceof MissingCell missing) {
+                throw new IOException(missing.getError() != null ? missing.getError() : "Missing response body");
+            }
+            if (!(body instanceof JSONValue) || !(body instanceof StringValue)) {
+                throw new IOException("The response body is not JSON but " + body.getType().getName());
+            }
+            return ((StringValue)body).getStringValue();
+        }
+
+        private DataCell[] withBody(final DataCell[] batchCells, final DataCell body) {
+            if (m_bodyCell < 0) {
+                return batchCells;
+            }
+            final var cells = Arrays.copyOf(batchCells, batchCells.length);
+            cells[m_bodyCell] = body;
+            if (m_errorCauseCell >= 0 && body instanceof MissingCell missing && missing.getError() != null
+                && cells[m_errorCauseCell].isMissing()) {
+                cells[m_errorCauseCell] = new StringCell(missing.getError());
+            }
+            return cells;
+        }
+    }
+
+    @Override
+    Object createRequestBodyKey(final DataRow row, final DataTableSpec spec) {
+        final RestWithBodySettings settings = getSettings();
+        // the keys are kept by the deduplicator, hence only a digest of the (possibly large) body
+        return settings.isUseConstantRequestBody() ? null
+            : IncrementalIndex.fingerprint(row.getCell(spec.findColumnIndex(settings.getRequestBodyColumn())));
+    }
+
+    @Override
+    boolean disableExpectContinue() {
+        return getSettings().isExpectContinue() && m_expectContinueRejected.compareAndSet(false, true);
+    }
+
+    @Override
+    boolean isDiscardResponseBodies(final S settings) {
+        return settings.isDiscardResponseBodies();
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        m_expectContinueRejected.set(false);
     }
 
     /**
@@ -73,12 +73,72 @@ public class RestWithBodySettings extends RestSettings {
 
     private static final String DEFAULT_REQUEST_BODY_COLUMN = null;
 
+    private static final String COMPRESS_REQUEST_BODY = "compressRequestBody";
+
+    private static final boolean DEFAULT_COMPRESS_REQUEST_BODY = false;
+
+    private static final String EXPECT_CONTINUE = "expectContinue";
+
+    private static final boolean DEFAULT_EXPECT_CONTINUE = false;
+
+    private static final String EXPECT_CONTINUE_TIMEOUT = "expectContinueTimeout";
+
+    private static final int DEFAULT_EXPECT_CONTINUE_TIMEOUT = 3;
+
+    private static final String USE_BATCHING = "useBatching";
+
+    private static final boolean DEFAULT_USE_BATCHING = false;
+
+    private static final String BATCH_SIZE = "batchSize";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    private static final String BATCH_TEMPLATE = "batchTemplate";
+
+    private static final String DEFAULT_BATCH_TEMPLATE = "";
+
+    private static final String BATCH_RESPONSE_POINTER = "batchResponsePointer";
+
+    private static final String DEFAULT_BATCH_RESPONSE_POINTER = "";
+
+    private static final String BATCH_KEY_POINTER = "batchKeyPointer";
+
+    private static final String DEFAULT_BATCH_KEY_POINTER = "";
+
+    private static final String BATCH_FALLBACK_TO_SINGLE_REQUESTS = "batchFallbackToSingleRequests";
+
+    private static final boolean DEFAULT_BATCH_FALLBACK_TO_SINGLE_REQUESTS = false;
+
+    private static final String DISCARD_RESPONSE_BODIES = "discardResponseBodies";
+
+    private static final boolean DEFAULT_DISCARD_RESPONSE_BODIES = false;
+
     private boolean m_useConstantRequestBody = DEFAULT_USE_CONSTANT_REQUEST_BODY;
 
     private String m_constantRequestBody = DEFAULT_CONSTANT_REQUEST_BODY;
 
     private String m_requestBodyColumn = DEFAULT_REQUEST_BODY_COLUMN;
 
+    private boolean m_compressRequestBody = DEFAULT_COMPRESS_REQUEST_BODY;
+
+    private boolean m_expectContinue = DEFAULT_EXPECT_CONTINUE;
+
+    private int m_expectContinueTimeout = DEFAULT_EXPECT_CONTINUE_TIMEOUT;
+
+    private boolean m_useBatching = DEFAULT_USE_BATCHING;
+
+    private int m_batchSize = DEFAULT_BATCH_SIZE;
+
+    private String m_batchTemplate = DEFAULT_BATCH_TEMPLATE;
+
+    private String m_batchResponsePointer = DEFAULT_BATCH_RESPONSE_POINTER;
+
+    private String m_batchKeyPointer = DEFAULT_BATCH_KEY_POINTER;
+
+    private boolean m_batchFallbackToSingleRequests = DEFAULT_BATCH_FALLBACK_TO_SINGLE_REQUESTS;
+
+    private boolean m_discardResponseBodies = DEFAULT_DISCARD_RESPONSE_BODIES;
+
     /**
      * Constructs the settings with defaults.
      */
@@ -137,6 +197,153 @@ protected void setRequestBodyColumn(final String requestBodyColumn) {
         m_requestBodyColumn = requestBodyColumn;
     }
 
+    /**
+     * @return whether the request body should be sent gzip-compressed
+     */
+    protected boolean isCompressRequestBody() {
+        return m_compressRequestBody;
+    }
+
+    /**
+     * @param compressRequestBody whether the request body should be sent gzip-compressed
+     */
+    protected void setCompressRequestBody(final boolean compressRequestBody) {
+        m_compressRequestBody = compressRequestBody;
+    }
+
+    /**
+     * @return whether large request bodies are only sent after the server confirmed the request headers
+     */
+    protected boolean isExpectContinue() {
+        return m_expectContinue;
+    }
+
+    /**
+     * @param expectContinue whether large request bodies are only sent after the server confirmed the request
+     *            headers
+     */
+    protected void setExpectContinue(final boolean expectContinue) {
+        m_expectContinue = expectContinue;
+    }
+
+    /**
+     * @return how long to wait for the confirmation of the server before the body is sent anyway, in seconds
+     */
+    protected int getExpectContinueTimeoutInSeconds() {
+        return m_expectContinueTimeout;
+    }
+
+    /**
+     * @param expectContinueTimeout how long to wait for the confirmation of the server before the body is sent
+     *            anyway, in seconds
+     */
+    protected void setExpectContinueTimeoutInSeconds(final int expectContinueTimeout) {
+        m_expectContinueTimeout = expectContinueTimeout;
+    }
+
+    /**
+     * @return whether the bodies of multiple rows are sent in one request (body column only)
+     */
+    protected boolean isUseBatching() {
+        return m_useBatching;
+    }
+
+    /**
+     * @param useBatching whether the bodies of multiple rows are sent in one request (body column only)
+     */
+    protected void setUseBatching(final boolean useBatching) {
+        m_useBatching = useBatching;
+    }
+
+    /**
+     * @return the maximum number of rows sent in one request
+     */
+    protected int getBatchSize() {
+        return m_batchSize;
+    }
+
+    /**
+     * @param batchSize the maximum number of rows sent in one request
+     */
+    protected void setBatchSize(final int batchSize) {
+        m_batchSize = batchSize;
+    }
+
+    /**
+     * @return the template of the batch request body, blank to send the plain JSON array of the row bodies
+     */
+    protected String getBatchTemplate() {
+        return m_batchTemplate;
+    }
+
+    /**
+     * @param batchTemplate the template of the batch request body, blank to send the plain JSON array of the row
+     *            bodies
+     */
+    protected void setBatchTemplate(final String batchTemplate) {
+        m_batchTemplate = batchTemplate;
+    }
+
+    /**
+     * @return the JSON pointer to the array in the batch response, empty if the response is the array
+     */
+    protected String getBatchResponsePointer() {
+        return m_batchResponsePointer;
+    }
+
+    /**
+     * @param batchResponsePointer the JSON pointer to the array in the batch response, empty if the response is the
+     *            array
+     */
+    protected void setBatchResponsePointer(final String batchResponsePointer) {
+        m_batchResponsePointer = batchResponsePointer;
+    }
+
+    /**
+     * @return the JSON pointer to the key matching request and response elements, empty to match them by position
+     */
+    protected String getBatchKeyPointer() {
+        return m_batchKeyPointer;
+    }
+
+    /**
+     * @param batchKeyPointer the JSON pointer to the key matching request and response elements, empty to match them
+     *            by position
+     */
+    protected void setBatchKeyPointer(final String batchKeyPointer) {
+        m_batchKeyPointer = batchKeyPointer;
+    }
+
+    /**
+     * @return whether the rows of a failed batch are sent again with one request per row
+     */
+    protected boolean isBatchFallbackToSingleRequests() {
+        return m_batchFallbackToSingleRequests;
+    }
+
+    /**
+     * @param batchFallbackToSingleRequests whether the rows of a failed batch are sent again with one request per row
+     */
+    protected void setBatchFallbackToSingleRequests(final boolean batchFallbackToSingleRequests) {
+        m_batchFallbackToSingleRequests = batchFallbackToSingleRequests;
+    }
+
+    /**
+     * @return whether the response bodies are drained without being parsed, such that only the status and the
+     *         latency of the requests are output
+     */
+    protected boolean isDiscardResponseBodies() {
+        return m_discardResponseBodies;
+    }
+
+    /**
+     * @param discardResponseBodies whether the response bodies are drained without being parsed, such that only the
+     *            status and the latency of the requests are output
+     */
+    protected void setDiscardResponseBodies(final boolean discardResponseBodies) {
+        m_discardResponseBodies = discardResponseBodies;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -146,6 +353,16 @@ protected void saveSettings(final NodeSettingsWO settings) {
         settings.addBoolean(USE_CONSTANT_REQUEST_BODY, m_useConstantRequestBody);
         settings.addString(CONSTANT_REQUEST_BODY, m_constantRequestBody);
         settings.addString(REQUEST_BODY_COLUMN, m_requestBodyColumn);
+        settings.addBoolean(COMPRESS_REQUEST_BODY, m_compressRequestBody);
+        settings.addBoolean(EXPECT_CONTINUE, m_expectContinue);
+        settings.addInt(EXPECT_CONTINUE_TIMEOUT, m_expectContinueTimeout);
+        settings.addBoolean(USE_BATCHING, m_useBatching);
+        settings.addInt(BATCH_SIZE, m_batchSize);
+        settings.addString(BATCH_TEMPLATE, m_batchTemplate);
+        settings.addString(BATCH_RESPONSE_POINTER, m_batchResponsePointer);
+        settings.addString(BATCH_KEY_POINTER, m_batchKeyPointer);
+        settings.addBoolean(BATCH_FALLBACK_TO_SINGLE_REQUESTS, m_batchFallbackToSingleRequests);
+        settings.addBoolean(DISCARD_RESPONSE_BODIES, m_discardResponseBodies);
     }
 
     /**
@@ -165,6 +382,19 @@ protected void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSet
             m_constantRequestBody = settings.getString(CONSTANT_REQUEST_BODY);
             m_requestBodyColumn = settings.getString(REQUEST_BODY_COLUMN);
         }
+        // added with 5.12
+        m_compressRequestBody = settings.getBoolean(COMPRESS_REQUEST_BODY, DEFAULT_COMPRESS_REQUEST_BODY);
+        m_expectContinue = settings.getBoolean(EXPECT_CONTINUE, DEFAULT_EXPECT_CONTINUE);
+        m_expectContinueTimeout = settings.getInt(EXPECT_CONTINUE_TIMEOUT, DEFAULT_EXPECT_CONTINUE_TIMEOUT);
+        m_discardResponseBodies = settings.getBoolean(DISCARD_RESPONSE_BODIES, DEFAULT_DISCARD_RESPONSE_BODIES);
+        loadBatchSettings(settings);
+        if (m_expectContinueTimeout < 1) {
+            throw new InvalidSettingsException("The timeout for the confirmation of the server must be at least "
+                + "1 second: " + m_expectContinueTimeout);
+        }
+        if (m_batchSize < 1) {
+            throw new InvalidSettingsException("The number of rows per request must be at least 1: " + m_batchSize);
+        }
     }
 
     /**
@@ -181,6 +411,21 @@ private void loadSettingsWithDefaults(final NodeSettingsRO settings) {
         m_useConstantRequestBody = settings.getBoolean(USE_CONSTANT_REQUEST_BODY, DEFAULT_USE_CONSTANT_REQUEST_BODY);
         m_constantRequestBody = settings.getString(CONSTANT_REQUEST_BODY, DEFAULT_CONSTANT_REQUEST_BODY);
         m_requestBodyColumn = settings.getString(REQUEST_BODY_COLUMN, DEFAULT_REQUEST_BODY_COLUMN);
+        m_compressRequestBody = settings.getBoolean(COMPRESS_REQUEST_BODY, DEFAULT_COMPRESS_REQUEST_BODY);
+        m_expectContinue = settings.getBoolean(EXPECT_CONTINUE, DEFAULT_EXPECT_CONTINUE);
+        m_expectContinueTimeout = settings.getInt(EXPECT_CONTINUE_TIMEOUT, DEFAULT_EXPECT_CONTINUE_TIMEOUT);
+        m_discardResponseBodies = settings.getBoolean(DISCARD_RESPONSE_BODIES, DEFAULT_DISCARD_RESPONSE_BODIES);
+        loadBatchSettings(settings);
+    }
+
+    private void loadBatchSettings(final NodeSettingsRO settings) {
+        m_useBatching = settings.getBoolean(USE_BATCHING, DEFAULT_USE_BATCHING);
+        m_batchSize = settings.getInt(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        m_batchTemplate = settings.getString(BATCH_TEMPLATE, DEFAULT_BATCH_TEMPLATE);
+        m_batchResponsePointer = settings.getString(BATCH_RESPONSE_POINTER, DEFAULT_BATCH_RESPONSE_POINTER);
+        m_batchKeyPointer = settings.getString(BATCH_KEY_POINTER, DEFAULT_BATCH_KEY_POINTER);
+        m_batchFallbackToSingleRequests =
+            settings.getBoolean(BATCH_FALLBACK_TO_SINGLE_REQUESTS, DEFAULT_BATCH_FALLBACK_TO_SINGLE_REQUESTS);
     }
 
 }
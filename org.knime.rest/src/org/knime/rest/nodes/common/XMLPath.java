@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * A restricted XPath which can be evaluated while an XML document is streamed, i.e. without building a DOM. Supported
+ * are absolute paths of element steps separated by {@code /} or {@code //} (descendant), each being a local name or
+ * {@code *} optionally followed by a position predicate like {@code [2]}, and an optional final {@code @attribute} or
+ * {@code text()} step. Namespace prefixes are ignored, elements are matched by their local names.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class XMLPath {
+
+    private static final Pattern STEP = Pattern.compile("(?:[\\w.\\-]+:)?([\\w.\\-]+|\\*)(?:\\[\\s*(\\d+)\\s*\\])?");
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("@(?:[\\w.\\-]+:)?([\\w.\\-]+)");
+
+    /**
+     * An element of the path from the root of the document to the current element.
+     *
+     * @param localName the local name of the element
+     * @param position the 1-based position among the sibling elements having the same name
+     * @param index the 1-based position among all sibling elements
+     */
+    record Element(String localName, int position, int index) {
+    }
+
+    private record Step(String name, int position, boolean descendant) {
+
+        boolean matches(final Element element) {
+            if (name == null) {
+                return position == 0 || element.index() == position;
+            }
+            return name.equals(element.localName()) && (position == 0 || element.position() == position);
+        }
+    }
+
+    private final String m_expression;
+
+    private final List<Step> m_steps;
+
+    private final String m_attribute;
+
+    private final boolean m_text;
+
+    private XMLPath(final String expression, final List<Step> steps, final String attribute, final boolean text) {
+        m_expression = expression;
+        m_steps = steps;
+        m_attribute = attribute;
+        m_text = text;
+    }
+
+    /**
+     * @param expression the XPath, e.g. {@code /Envelope/Body//item[1]/@id}
+     * @param name the name of the setting for the error message
+     * @return the compiled path
+     * @throws InvalidSettingsException if the XPath is empty, not absolute or not supported
+     */
+    static XMLPath compile(final String expression, final String name) throws InvalidSettingsException {
+        final var trimmed = StringUtils.trimToEmpty(expression);
+        if (!trimmed.startsWith("/") || trimmed.endsWith("/")) {
+            throw new InvalidSettingsException(
+                "The " + name + " \"" + trimmed + "\" is not an absolute XPath like /root/element.");
+        }
+        final List<Step> steps = new ArrayList<>();
+        String attribute = null;
+        var text = false;
+        var descendant = false;
+        var i = 0;
+        while (i < trimmed.length()) {
+            if (attribute != null || text) {
+                throw unsupported(trimmed, name, "attributes and text() have to be the last step");
+            }
+            if (trimmed.startsWith("//", i)) {
+                descendant = true;
+                i += 2;
+            } else if (trimmed.charAt(i) == '/') {
+                descendant = false;
+                i++;
+            }
+            final var end = nextSeparator(trimmed, i);
+            final var step = trimmed.substring(i, end).trim();
+            i = end;
+            final var attributeMatcher = ATTRIBUTE.matcher(step);
+            final var stepMatcher = STEP.matcher(step);
+            if (attributeMatcher.matches()) {
+                attribute = attributeMatcher.group(1);
+            } else if ("text()".equals(step)) {
+                text = true;
+            } else if (stepMatcher.matches()) {
+                final var position = stepMatcher.group(2) == null ? 0 : Integer.parseInt(stepMatcher.group(2));
+                if (stepMatcher.group(2) != null && position == 0) {
+                    throw unsupported(trimmed, name, "positions start at 1");
+                }
+                steps.add(new Step("*".equals(stepMatcher.group(1)) ? null : stepMatcher.group(1), position,
+                    descendant));
+            } else {
+                throw unsupported(trimmed, name, "\"" + step + "\" is not a supported step");
+            }
+            if ((attribute != null || text) && descendant) {
+                throw unsupported(trimmed, name, "attributes and text() have to be children of an element");
+            }
+        }
+        if (steps.isEmpty()) {
+            throw unsupported(trimmed, name, "it does not select an element");
+        }
+        return new XMLPath(trimmed, List.copyOf(steps), attribute, text);
+    }
+
+    private static int nextSeparator(final String expression, final int from) {
+        var inPredicate = false;
+        for (var i = from; i < expression.length(); i++) {
+            final var c = expression.charAt(i);
+            if (c == '[') {
+                inPredicate = true;
+            } else if (c == ']') {
+                inPredicate = false;
+            } else if (c == '/' && !inPredicate) {
+                return i;
+            }
+        }
+        return expression.length();
+    }
+
+    private static InvalidSettingsException unsupported(final String expression, final String name,
+        final String reason) {
+        return new InvalidSettingsException("The " + name + " \"" + expression + "\" is not supported: " + reason
+            + ". Only absolute paths of element names or *, positions like [1], // and a final @attribute or text() "
+            + "are supported.");
+    }
+
+    /**
+     * @param elements the path from the root of the document to the current element
+     * @return whether the element steps of this path select the current element
+     */
+    boolean matches(final List<Element> elements) {
+        return matches(0, elements, 0);
+    }
+
+    private boolean matches(final int stepIndex, final List<Element> elements, final int elementIndex) {
+        if (stepIndex == m_steps.size()) {
+            return elementIndex == elements.size();
+        }
+        final var step = m_steps.get(stepIndex);
+        if (!step.descendant()) {
+            return elementIndex < elements.size() && step.matches(elements.get(elementIndex))
+                && matches(stepIndex + 1, elements, elementIndex + 1);
+        }
+        // the remaining steps need at least one element each
+        for (var i = elementIndex; i <= elements.size() - (m_steps.size() - stepIndex); i++) {
+            if (step.matches(elements.get(i)) && matches(stepIndex + 1, elements, i + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the local name of the selected attribute of the matched elements, {@code null} if the elements
+     *         themselves are selected
+     */
+    String getAttribute() {
+        return m_attribute;
+    }
+
+    /**
+     * @return whether only the text directly contained in the matched elements is selected
+     */
+    boolean isText() {
+        return m_text;
+    }
+
+    @Override
+    public String toString() {
+        return m_expression;
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.function.FailableConsumer;
+
+/**
+ * Evaluates {@link XMLPath XMLPaths} while an XML document is read with StAX, such that neither the document nor a DOM
+ * of it is held in memory. Only the selected elements are copied.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class XMLStreams {
+
+    // the factories of the JDK are not thread-safe
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY =
+        ThreadLocal.withInitial(XMLStreams::createInputFactory);
+
+    private static final ThreadLocal<XMLOutputFactory> OUTPUT_FACTORY =
+        ThreadLocal.withInitial(XMLOutputFactory::newFactory);
+
+    private XMLStreams() {
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        final var factory = XMLInputFactory.newFactory();
+        // responses must not make the node read local files or contact other hosts
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Copies the elements selected by a path one after the other. Matches within a selected element are part of it.
+     *
+     * @param body the XML document, whose encoding is detected
+     * @param path the path selecting the elements
+     * @param consumer consumes the XML of each selected element, declaring all namespaces it uses
+     * @throws IOException if the document could not be read or parsed
+     */
+    static void split(final InputStream body, final XMLPath path, final FailableConsumer<String, IOException> consumer)
+        throws IOException {
+        try {
+            final var reader = INPUT_FACTORY.get().createXMLStreamReader(body);
+            try {
+                final var elements = new ElementPath();
+                while (reader.hasNext()) {
+                    final var event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        elements.push(reader);
+                        if (path.matches(elements.m_elements)) {
+                            consumer.accept(copy(reader, elements));
+                            elements.pop();
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        elements.pop();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Determines the values of the first matches of paths. The value of an element is its text including the one of
+     * all descendants, or only its own text for a path ending with {@code text()}. Reading stops as soon as all values
+     * have been found.
+     *
+     * @param body the XML document
+     * @param paths the paths, {@code null} ones are ignored
+     * @return the values of the paths, {@code null} for the ones without match
+     * @throws IOException if the document could not be read or parsed
+     */
+    static String[] extract(final Reader body, final XMLPath[] paths) throws IOException {
+        try {
+            return extract(INPUT_FACTORY.get().createXMLStreamReader(body), paths);
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param body the XML document, whose encoding is detected
+     * @param paths the paths, {@code null} ones are ignored
+     * @return the values of the paths, {@code null} for the ones without match
+     * @throws IOException if the document could not be read or parsed
+     * @see #extract(Reader, XMLPath[])
+     */
+    static String[] extract(final InputStream body, final XMLPath[] paths) throws IOException {
+        try {
+            return extract(INPUT_FACTORY.get().createXMLStreamReader(body), paths);
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static String[] extract(final XMLStreamReader reader, final XMLPath[] paths) throws XMLStreamException {
+        final var values = new String[paths.length];
+        // the texts of the matched elements being read, by the indices of their paths
+        final Map<Integer, StringBuilder> texts = new LinkedHashMap<>();
+        final Map<Integer, Integer> depths = new HashMap<>();
+        var remaining = (int)Arrays.stream(paths).filter(Objects::nonNull).count();
+        try {
+            final var elements = new ElementPath();
+            while ((remaining > 0 || !texts.isEmpty()) && reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        elements.push(reader);
+                        for (var i = 0; i < paths.length; i++) {
+                            if (paths[i] == null || values[i] != null || texts.containsKey(i)
+                                || !paths[i].matches(elements.m_elements)) {
+                                continue;
+                            }
+                            if (paths[i].getAttribute() == null) {
+                                texts.put(i, new StringBuilder());
+                                depths.put(i, elements.m_elements.size());
+                                remaining--;
+                            } else {
+                                values[i] = getAttribute(reader, paths[i].getAttribute());
+                                remaining -= values[i] == null ? 0 : 1;
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                        for (final var text : texts.entrySet()) {
+                            if (!paths[text.getKey()].isText()
+                                || depths.get(text.getKey()) == elements.m_elements.size()) {
+                                text.getValue().append(reader.getText());
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        final var depth = elements.m_elements.size();
+                        final var completed = texts.entrySet().iterator();
+                        while (completed.hasNext()) {
+                            final var text = completed.next();
+                            if (depths.get(text.getKey()) == depth) {
+                                values[text.getKey()] = text.getValue().toString();
+                                completed.remove();
+                            }
+                        }
+                        elements.pop();
+                    }
+                    default -> {
+                        // comments and processing instructions are not part of values
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return values;
+    }
+
+    private static String getAttribute(final XMLStreamReader reader, final String localName) {
+        for (var i = 0; i < reader.getAttributeCount(); i++) {
+            if (localName.equals(reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /** Copies the element the reader is positioned at, leaves the reader at its end. */
+    private static String copy(final XMLStreamReader reader, final ElementPath elements) throws XMLStreamException {
+        final var xml = new StringWriter();
+        final var writer = OUTPUT_FACTORY.get().createXMLStreamWriter(xml);
+        var depth = 0;
+        for (var event = reader.getEventType();; event = reader.next()) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    writeStartElement(reader, writer, depth == 0 ? elements.getInheritedNamespaces() : Map.of());
+                    depth++;
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    writer.writeEndElement();
+                    depth--;
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE ->
+                    writer.writeCharacters(reader.getText());
+                case XMLStreamConstants.CDATA -> writer.writeCData(reader.getText());
+                case XMLStreamConstants.COMMENT -> writer.writeComment(reader.getText());
+                case XMLStreamConstants.PROCESSING_INSTRUCTION -> writer.writeProcessingInstruction(
+                    reader.getPITarget(), StringUtils.defaultString(reader.getPIData()));
+                default -> {
+                    // entity references are not resolved without DTD support
+                }
+            }
+            if (depth == 0) {
+                break;
+            }
+        }
+        writer.close();
+        return xml.toString();
+    }
+
+    private static void writeStartElement(final XMLStreamReader reader, final XMLStreamWriter writer,
+        final Map<String, String> inheritedNamespaces) throws XMLStreamException {
+        final var prefix = StringUtils.defaultString(reader.getPrefix());
+        final var namespace = StringUtils.defaultString(reader.getNamespaceURI());
+        if (prefix.isEmpty() && namespace.isEmpty()) {
+            writer.writeStartElement(reader.getLocalName());
+        } else {
+            writer.writeStartElement(prefix, reader.getLocalName(), namespace);
+        }
+        final Map<String, String> namespaces = new LinkedHashMap<>(inheritedNamespaces);
+        for (var i = 0; i < reader.getNamespaceCount(); i++) {
+            namespaces.put(StringUtils.defaultString(reader.getNamespacePrefix(i)),
+                StringUtils.defaultString(reader.getNamespaceURI(i)));
+        }
+        for (final var declaration : namespaces.entrySet()) {
+            if (declaration.getKey().isEmpty()) {
+                writer.writeDefaultNamespace(declaration.getValue());
+            } else {
+                writer.writeNamespace(declaration.getKey(), declaration.getValue());
+            }
+        }
+        for (var i = 0; i < reader.getAttributeCount(); i++) {
+            final var attributeNamespace = StringUtils.defaultString(reader.getAttributeNamespace(i));
+            if (attributeNamespace.isEmpty()) {
+                writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            } else {
+                writer.writeAttribute(StringUtils.defaultString(reader.getAttributePrefix(i)), attributeNamespace,
+                    reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    /** The path from the root of the document to the current element and the namespaces declared along it. */
+    private static final class ElementPath {
+
+        private final List<XMLPath.Element> m_elements = new ArrayList<>();
+
+        /** The numbers of child elements by name of the document and the open elements. */
+        private final List<Map<String, Integer>> m_childCounts = new ArrayList<>(List.of(new HashMap<>()));
+
+        private final List<Map<String, String>> m_namespaces = new ArrayList<>();
+
+        void push(final XMLStreamReader reader) {
+            final var siblings = m_childCounts.get(m_childCounts.size() - 1);
+            final var position = siblings.merge(reader.getLocalName(), 1, Integer::sum);
+            // the empty name is not a valid element name, hence it can count all elements
+            final var index = siblings.merge("", 1, Integer::sum);
+            m_elements.add(new XMLPath.Element(reader.getLocalName(), position, index));
+            m_childCounts.add(new HashMap<>());
+            final Map<String, String> namespaces = new LinkedHashMap<>();
+            for (var i = 0; i < reader.getNamespaceCount(); i++) {
+                namespaces.put(StringUtils.defaultString(reader.getNamespacePrefix(i)),
+                    StringUtils.defaultString(reader.getNamespaceURI(i)));
+            }
+            m_namespaces.add(namespaces);
+        }
+
+        void pop() {
+            m_elements.remove(m_elements.size() - 1);
+            m_childCounts.remove(m_childCounts.size() - 1);
+            m_namespaces.remove(m_namespaces.size() - 1);
+        }
+
+        /** The namespaces declared by the ancestors of the current element, the innermost declaration winning. */
+        Map<String, String> getInheritedNamespaces() {
+            final Map<String, String> namespaces = new LinkedHashMap<>();
+            m_namespaces.subList(0, m_namespaces.size() - 1).forEach(namespaces::putAll);
+            return namespaces;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common.webui;
+
+import java.util.List;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.webui.node.dialog.defaultdialog.internal.persistence.ArrayPersistor;
+import org.knime.core.webui.node.dialog.defaultdialog.internal.persistence.ElementFieldPersistor;
+import org.knime.core.webui.node.dialog.defaultdialog.internal.persistence.PersistArrayElement;
+import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.layout.HorizontalLayout;
+import org.knime.node.parameters.layout.Layout;
+import org.knime.rest.util.JSONFieldType;
+
+/**
+ * {@link NodeParameters} representing a value extracted from JSON or XML response bodies into a column of its own.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("restriction")
+final class JSONFieldItem implements NodeParameters {
+
+    private static final String POINTERS_KEY = "jsonFieldPointers";
+
+    private static final String COLUMN_NAMES_KEY = "jsonFieldColumnNames";
+
+    private static final String TYPES_KEY = "jsonFieldTypes";
+
+    private static final String XPATHS_KEY = "jsonFieldXPaths";
+
+    @Widget(title = "Path", description = """
+            JSON pointer to the value in JSON bodies, e.g. <tt>/data/id</tt> or <tt>/items/0/name</tt>. An empty
+            pointer references the whole body. If <b>XPath</b> is checked, an XPath to the first matching element,
+            attribute or text in XML bodies instead, e.g. <tt>//item[2]/@id</tt> or
+            <tt>/Envelope/Body/Response/total/text()</tt>. The value of an element is its text including the one of
+            all descendants. Namespace prefixes are ignored.
+            """)
+    @PersistArrayElement(JSONFieldPointerPersistor.class)
+    String m_pointer = "";
+
+    @Widget(title = "XPath", description = """
+            If checked, the path is an XPath evaluated on XML response bodies, otherwise a JSON pointer evaluated on
+            JSON response bodies. The value of a body of the other kind is missing.
+            """)
+    @PersistArrayElement(JSONFieldXPathPersistor.class)
+    boolean m_xpath;
+
+    @HorizontalLayout
+    interface ColumnNameAndTypeLayout {
+    }
+
+    @Layout(ColumnNameAndTypeLayout.class)
+    @Widget(title = "Column name", description = "The name of the output column.")
+    @PersistArrayElement(JSONFieldColumnNamePersistor.class)
+    String m_columnName = "";
+
+    @Layout(ColumnNameAndTypeLayout.class)
+    @Widget(title = "Column type", description = """
+            The type of the output column. Values which cannot be converted into it become missing values.
+            """)
+    @PersistArrayElement(JSONFieldTypePersistor.class)
+    JSONFieldType m_type = JSONFieldType.STRING;
+
+    static final class JSONFieldPointerPersistor implements ElementFieldPersistor<String, Integer, JSONFieldItem> {
+
+        @Override
+        public String load(final NodeSettingsRO nodeSettings, final Integer loadContext)
+            throws InvalidSettingsException {
+            final var pointers = nodeSettings.getStringArray(POINTERS_KEY, new String[0]);
+            return loadContext < pointers.length ? pointers[loadContext] : "";
+        }
+
+        @Override
+        public void save(final String param, final JSONFieldItem saveDTO) {
+            saveDTO.m_pointer = param;
+        }
+
+        @Override
+        public String[][] getConfigPaths() {
+            return new String[][]{{POINTERS_KEY}};
+        }
+
+    }
+
+    static final class JSONFieldXPathPersistor implements ElementFieldPersistor<Boolean, Integer, JSONFieldItem> {
+
+        @Override
+        public Boolean load(final NodeSettingsRO nodeSettings, final Integer loadContext)
+            throws InvalidSettingsException {
+            final var xpaths = nodeSettings.getBooleanArray(XPATHS_KEY, new boolean[0]);
+            return loadContext < xpaths.length && xpaths[loadContext];
+        }
+
+        @Override
+        public void save(final Boolean param, final JSONFieldItem saveDTO) {
+            saveDTO.m_xpath = param;
+        }
+
+        @Override
+        public String[][] getConfigPaths() {
+            return new String[][]{{XPATHS_KEY}};
+        }
+
+    }
+
+    static final class JSONFieldColumnNamePersistor
+        implements ElementFieldPersistor<String, Integer, JSONFieldItem> {
+
+        @Override
+        public String load(final NodeSettingsRO nodeSettings, final Integer loadContext)
+            throws InvalidSettingsException {
+            final var columnNames = nodeSettings.getStringArray(COLUMN_NAMES_KEY, new String[0]);
+            return loadContext < columnNames.length ? columnNames[loadContext] : "";
+        }
+
+        @Override
+        public void save(final String param, final JSONFieldItem saveDTO) {
+            saveDTO.m_columnName = param;
+        }
+
+        @Override
+        public String[][] getConfigPaths() {
+            return new String[][]{{COLUMN_NAMES_KEY}};
+        }
+
+    }
+
+    static final class JSONFieldTypePersistor
+        implements ElementFieldPersistor<JSONFieldType, Integer, JSONFieldItem> {
+
+        @Override
+        public JSONFieldType load(final NodeSettingsRO nodeSettings, final Integer loadContext)
+            throws InvalidSettingsException {
+            final var types = nodeSettings.getStringArray(TYPES_KEY, new String[0]);
+            if (loadContext >= types.length) {
+                return JSONFieldType.STRING;
+            }
+            try {
+                return JSONFieldType.valueOf(types[loadContext]);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSettingsException("Unknown JSON field type: " + types[loadContext], e);
+            }
+        }
+
+        @Override
+        public void save(final JSONFieldType param, final JSONFieldItem saveDTO) {
+            saveDTO.m_type = param;
+        }
+
+        @Override
+        public String[][] getConfigPaths() {
+            return new String[][]{{TYPES_KEY}};
+        }
+
+    }
+
+    static final class JSONFieldsArrayPersistor implements ArrayPersistor<Integer, JSONFieldItem> {
+
+        @Override
+        public int getArrayLength(final NodeSettingsRO nodeSettings) {
+            return nodeSettings.getStringArray(POINTERS_KEY, new String[0]).length;
+        }
+
+        @Override
+        public Integer createElementLoadContext(final int index) {
+            return index;
+        }
+
+        @Override
+        public JSONFieldItem createElementSaveDTO(final int index) {
+            return new JSONFieldItem();
+        }
+
+        @Override
+        public void save(final List<JSONFieldItem> savedElements, final NodeSettingsWO nodeSettings) {
+            nodeSettings.addStringArray(POINTERS_KEY,
+                savedElements.stream().map(item -> item.m_pointer).toArray(String[]::new));
+            nodeSettings.addStringArray(COLUMN_NAMES_KEY,
+                savedElements.stream().map(item -> item.m_columnName).toArray(String[]::new));
+            nodeSettings.addStringArray(TYPES_KEY,
+                savedElements.stream().map(item -> item.m_type.name()).toArray(String[]::new));
+            final var xpaths = new boolean[savedElements.size()];
+            for (var i = 0; i < xpaths.length; i++) {
+                xpaths[i] = savedElements.get(i).m_xpath;
+            }
+            nodeSettings.addBooleanArray(XPATHS_KEY, xpaths);
+        }
+    }
+
+}
@@ -73,6 +73,8 @@
 import org.knime.node.parameters.widget.choices.util.ColumnSelectionUtil;
 import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider;
 import org.knime.node.parameters.widget.message.TextMessage;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 import org.knime.node.parameters.widget.text.TextAreaWidget;
 import org.knime.rest.nodes.common.webui.RestNodeParameters.NoTableInputSummary;
 
@@ -118,12 +120,122 @@ public RequestBodyParameters() {
     @Effect(predicate = IsColumnRequestBodyMode.class, type = EffectType.SHOW)
     Void m_noColumnRequestBodySummary;
 
+    @Widget(title = "Compress request body", description = """
+            If enabled, the request body is compressed with gzip while it is sent to the server and the
+            <tt>Content-Encoding: gzip</tt> header is added to the request. Bodies smaller than 1 KB are sent
+            uncompressed. Only enable this option if the server accepts compressed request bodies.
+            """)
+    @Persist(configKey = "compressRequestBody")
+    @Migrate(loadDefaultIfAbsent=true)
+    boolean m_compressRequestBody;
+
+    @Widget(title = "Wait for server confirmation before sending large bodies", description = """
+            If enabled, requests with a body larger than 1 MB (or of unknown size, e.g. XML documents) are sent
+            with the <tt>Expect: 100-continue</tt> header. The body is only transmitted once the server confirmed
+            the request headers, such that requests rejected by the server (e.g. due to missing authorization or a
+            too large body) do not upload the body. If the server does not support the header, the request is
+            repeated without it.
+            """)
+    @Persist(configKey = "expectContinue")
+    @ValueReference(ExpectContinueRef.class)
+    @Migrate(loadDefaultIfAbsent=true)
+    boolean m_expectContinue;
+
+    @Widget(title = "Confirmation timeout (s)", description = """
+            How long to wait for the confirmation of the server before the body is sent anyway, as some servers do
+            not send a confirmation. This timeout is set in seconds.
+            """)
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Persist(configKey = "expectContinueTimeout")
+    @Effect(predicate = IsExpectContinueEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    int m_expectContinueTimeout = 3;
+
+    @Widget(title = "Send multiple rows per request", description = """
+            If enabled, the bodies of multiple rows are combined into a JSON array which is sent in a single
+            request, e.g. for bulk endpoints of an API. The response has to contain a JSON array which is split
+            back into the rows. A batch only contains consecutive rows with the same URL and request header values,
+            a row with a different URL or header value starts a new batch. Not supported when the node is executed
+            in streaming mode.
+            """)
+    @Persist(configKey = "useBatching")
+    @Effect(predicate = IsColumnRequestBodyMode.class, type = EffectType.SHOW)
+    @ValueReference(UseBatchingRef.class)
+    @Migrate(loadDefaultIfAbsent=true)
+    boolean m_useBatching;
+
+    @Widget(title = "Rows per request", description = "The maximum number of rows sent in one request.")
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Persist(configKey = "batchSize")
+    @Effect(predicate = IsBatchingEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    int m_batchSize = 100;
+
+    @Widget(title = "Batch body template", description = """
+            The body of a batch request, in which <tt>$rows$</tt> is replaced by the JSON array of the row bodies,
+            e.g. <tt>{"items": $rows$}</tt>. If empty, the array itself is sent. JSON cells and strings containing a
+            JSON object or array are inserted as they are, other values as JSON strings, numbers or booleans.
+            """)
+    @TextAreaWidget(rows = 3)
+    @Persist(configKey = "batchTemplate")
+    @Effect(predicate = IsBatchingEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    String m_batchTemplate = "";
+
+    @Widget(title = "Path to response array", description = """
+            The JSON pointer to the array in the response, e.g. <tt>/results</tt>. If empty, the response itself
+            has to be the array.
+            """)
+    @Persist(configKey = "batchResponsePointer")
+    @Effect(predicate = IsBatchingEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    String m_batchResponsePointer = "";
+
+    @Widget(title = "Path to key", description = """
+            The JSON pointer to a key, e.g. <tt>/id</tt>, which is looked up in the row bodies and in the
+            elements of the response array to assign the response elements to the rows. Rows without a matching
+            element get a missing value. If empty, the elements are assigned by their position, which requires the
+            response array to have one element per row.
+            """)
+    @Persist(configKey = "batchKeyPointer")
+    @Effect(predicate = IsBatchingEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    String m_batchKeyPointer = "";
+
+    @Widget(title = "Repeat failed batches row by row", description = """
+            If enabled, the rows of a batch whose request failed or whose response could not be split are sent
+            again with one request per row. Otherwise, all rows of such a batch get the status of the batch request
+            and a missing body.
+            """)
+    @Persist(configKey = "batchFallbackToSingleRequests")
+    @Effect(predicate = IsBatchingEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    boolean m_batchFallbackToSingleRequests;
+
+    @Widget(title = "Discard response bodies", description = """
+            If enabled, the response bodies are read and discarded without being parsed, e.g. for webhooks or event
+            ingestion whose answers are of no interest. Only the status and the latency of each request, i.e. the
+            time in milliseconds until its status and headers were received, are output, as well as the error cause
+            if enabled. As the resulting rows are small, up to four times as many rows as the concurrency are kept
+            in flight, such that a slow request holds back fewer finished ones. Not supported together with
+            splitting the body into rows, JSON fields, downloading the bodies to files, pagination or batching.
+            """)
+    @Persist(configKey = "discardResponseBodies")
+    @Migrate(loadDefaultIfAbsent=true)
+    boolean m_discardResponseBodies;
+
     static final class DataOrBodyContentTypeRef implements ParameterReference<DataOrBodyContentType>{
     }
 
     static final class BodyColumnRef implements ParameterReference<String> {
     }
 
+    static final class ExpectContinueRef implements ParameterReference<Boolean> {
+    }
+
+    static final class UseBatchingRef implements ParameterReference<Boolean> {
+    }
+
     static final class BodyColumnChoicesProvider extends CompatibleColumnsProvider {
 
         protected BodyColumnChoicesProvider() {
@@ -166,6 +278,24 @@ public EffectPredicate init(final PredicateInitializer i) {
 
     }
 
+    static final class IsExpectContinueEnabled implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getBoolean(ExpectContinueRef.class).isTrue();
+        }
+
+    }
+
+    static final class IsBatchingEnabled implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getPredicate(IsColumnRequestBodyMode.class).and(i.getBoolean(UseBatchingRef.class).isTrue());
+        }
+
+    }
+
     static final class RequestBodyDataOrBodyContentTypePersistor extends EnumBooleanPersistor<DataOrBodyContentType> {
 
         protected RequestBodyDataOrBodyContentTypePersistor() {
@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.nodes.common.webui;
+
+import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.migration.Migrate;
+import org.knime.node.parameters.persistence.Persist;
+import org.knime.node.parameters.updates.Effect;
+import org.knime.node.parameters.updates.Effect.EffectType;
+import org.knime.node.parameters.updates.EffectPredicate;
+import org.knime.node.parameters.updates.EffectPredicateProvider;
+import org.knime.node.parameters.updates.ParameterReference;
+import org.knime.node.parameters.updates.ValueReference;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
+
+/**
+ * Node parameters for the persistent response cache of the GET and HEAD request nodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ResponseCacheParameters implements NodeParameters {
+
+    /**
+     * Constructor.
+     */
+    public ResponseCacheParameters() {
+        // default constructor
+    }
+
+    @Widget(title = "Cache responses on disk", description = """
+            If enabled, responses are stored in a cache directory and reused by later executions as long as they
+            are fresh according to their <tt>Cache-Control</tt> (<tt>max-age</tt>, <tt>stale-while-revalidate</tt>)
+            or <tt>Expires</tt> headers. Reused responses are not sent to the server and do not count towards the
+            delay and rate limits. Stale responses with an <tt>ETag</tt> or <tt>Last-Modified</tt> header are
+            revalidated with a conditional request, a <tt>304 Not Modified</tt> answer reuses the cached body.
+            Responses with <tt>Cache-Control: no-store</tt> are never cached. The cache key consists of the URL, the
+            request headers and a hash of the credentials, such that responses are only reused for requests with the
+            same credentials. Responses to requests authenticated via Kerberos are not cached, as their credentials
+            are only known once a request is sent.
+            """)
+    @Persist(configKey = "useResponseCache")
+    @ValueReference(UseResponseCacheRef.class)
+    @Migrate(loadDefaultIfAbsent=true)
+    boolean m_useResponseCache;
+
+    @Widget(title = "Cache directory", description = """
+            The local directory storing the cached responses. If empty, a directory of the current user and workflow
+            within the directory <tt>knime-rest-cache</tt> in the temporary directory is used.
+            """)
+    @Persist(configKey = "responseCacheDirectory")
+    @Effect(predicate = IsResponseCacheEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    String m_responseCacheDirectory = "";
+
+    @Widget(title = "Maximum cache size (MB)", description = """
+            The maximum total size of the cache directory. If it is exceeded, the least recently used responses are
+            removed.
+            """)
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Persist(configKey = "responseCacheMaxSize")
+    @Effect(predicate = IsResponseCacheEnabled.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent=true)
+    int m_responseCacheMaxSize = 100;
+
+    static final class UseResponseCacheRef implements ParameterReference<Boolean> {
+    }
+
+    static final class IsResponseCacheEnabled implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getBoolean(UseResponseCacheRef.class).isTrue();
+        }
+
+    }
+}
@@ -110,7 +110,10 @@
 import org.knime.rest.nodes.common.webui.BearerAuthenticationParameters.IsBearerAuth;
 import org.knime.rest.nodes.common.webui.CredentialsType.CredentialsTypePersistor;
 import org.knime.rest.nodes.common.webui.RestAuthenticationParameters.RestAuthenticationParametersModification;
+import org.knime.rest.util.BodyExplodeMode;
 import org.knime.rest.util.InvalidURLPolicy;
+import org.knime.rest.util.OversizedBodyPolicy;
+import org.knime.rest.util.PaginationMode;
 
 /**
  * Node parameters for request nodes.
@@ -141,6 +144,17 @@ public static class RemoveResponseBodyColumnNameModification implements Modifica
         @Override
         public void modify(final WidgetGroupModifier group) {
             group.find(ResponseBodyColumnModRef.class).removeAnnotation(Widget.class);
+            group.find(JSONFieldsModRef.class).removeAnnotation(Widget.class);
+            group.find(OutputBodyModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadBodiesModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadDirectoryModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadFileNameModRef.class).removeAnnotation(Widget.class);
+            group.find(DownloadRangesModRef.class).removeAnnotation(Widget.class);
+            group.find(MaxBodySizeModRef.class).removeAnnotation(Widget.class);
+            group.find(MaxDecodedBodySizeModRef.class).removeAnnotation(Widget.class);
+            group.find(OversizedBodyPolicyModRef.class).removeAnnotation(Widget.class);
+            group.find(DeduplicateBodiesModRef.class).removeAnnotation(Widget.class);
+            group.find(OutputBodyHashModRef.class).removeAnnotation(Widget.class);
         }
 
     }
@@ -182,10 +196,13 @@ interface ProxySectionFromProxyAuth {
 
     }
 
+    /**
+     * Performance and rate control section, also used for the response cache of the GET and HEAD nodes.
+     */
     @Section(title = "Performance and Rate Control")
     // @After(ProxySection.class)
     @After(AuthenticationSection.class)
-    interface PerformanceAndRateControlSection {
+    protected interface PerformanceAndRateControlSection {
     }
 
     @Advanced
@@ -237,9 +254,14 @@ interface RetryOnServerErrorsLayout {
     public interface OutputSection {
     }
 
+    @Section(title = "Pagination")
+    @After(OutputSection.class)
+    interface PaginationSection {
+    }
+
     @Advanced
     @Section(title = "Advanced Connection Options")
-    @After(OutputSection.class)
+    @After(PaginationSection.class)
     interface AdvancedConnectionOptionsSection {
     }
 
@@ -856,6 +878,54 @@ protected ProxyAuthCredentialsTypePersistor() {
     @Effect(predicate = UseDelayPredicate.class, type = EffectType.SHOW)
     long m_delay;
 
+    @Layout(PerformanceAndRateControlSection.class)
+    @Widget(title = "Send identical requests only once", description = """
+            If enabled, requests with the same method, URL, request headers and body are only sent once per
+            execution. Rows with an identical request receive the response of the first one, also if they are
+            processed concurrently. The number of reused and sent requests is available as the flow variables
+            <tt>requestCacheHits</tt> and <tt>requestCacheMisses</tt>. Only enable this option for requests without
+            side effects.
+            """)
+    @Persist(configKey = "deduplicateRequests")
+    boolean m_deduplicateRequests;
+
+    @Layout(PerformanceAndRateControlSection.class)
+    @Widget(title = "Only request new or changed rows", description = """
+            If enabled, a re-execution of the node only sends requests for rows whose request (URL, request headers
+            and body) changed since the last execution. All other rows receive the response of the last execution.
+            Failed requests are always sent again, as are requests whose response contains a large binary body stored
+            in a file store. The responses are saved with the workflow, changing any other setting or the input columns
+            sends all requests again. The number of reused responses is available as the flow variable
+            <tt>incrementalReusedRows</tt>. Not supported when the node is executed in streaming mode.
+            """)
+    @Persist(configKey = "incrementalExecution")
+    @ValueReference(IncrementalExecutionRef.class)
+    boolean m_incrementalExecution;
+
+    @Layout(PerformanceAndRateControlSection.class)
+    @Widget(title = "Maximum age of reused responses (h)", description = """
+            Responses received more than this number of hours ago are requested again. A value of 0 reuses responses
+            regardless of their age.
+            """)
+    @NumberInputWidget(minValidation = IsNonNegativeValidation.class)
+    @Persist(configKey = "incrementalMaxAge")
+    @Effect(predicate = IsIncrementalExecution.class, type = EffectType.SHOW)
+    int m_incrementalMaxAge;
+
+    @Layout(PerformanceAndRateControlSection.class)
+    @Widget(title = "Checkpoint interval (rows)", description = """
+            If positive, the responses of completed rows are checkpointed each time this number of rows has been
+            processed. If the execution fails or is canceled, the next execution with unchanged settings resumes
+            from the last checkpoint and only sends the requests of the remaining rows. Checkpoints end before the
+            first response containing a large binary body stored in a file store. Checkpoints are kept as long as the
+            workflow is open and deleted once the node executed successfully. The number of resumed rows is available
+            as the flow variable <tt>checkpointResumedRows</tt>. A value of 0 disables checkpoints. Not supported when
+            the node is executed in streaming mode.
+            """)
+    @NumberInputWidget(minValidation = IsNonNegativeValidation.class)
+    @Persist(configKey = "checkpointInterval")
+    int m_checkpointInterval;
+
     @Layout(AdvancedConnectionOptionsSection.class)
     //@Layout(PerformanceAndRateControlSection.class)
     @Widget(title = "Connect timeout (s)", description = """
@@ -1144,6 +1214,336 @@ public interface ResponseBodyColumnModRef extends ParameterReference<String>, Mo
 
     // TODO Missing option to rename error cause column
 
+    @Layout(OutputSection.class)
+    @Widget(title = "Split body into rows", description = """
+            Splits the body of each successful response into elements which become output rows of their own,
+            replacing the row of the request. The elements are parsed while the response is received, so that large
+            bodies are never held in memory as a whole. Each element row has the key of the input row followed by
+            <tt>_&lt;n&gt;</tt> and contains the element as JSON, or as XML for XML elements, in the body column.
+            Rows of failed requests are kept with a missing body, rows of empty bodies are dropped. Not supported
+            together with pagination, batching, incremental execution or checkpoints, and not when the node is executed
+            in streaming mode.
+            """)
+    @Persist(configKey = "explodeBodyMode")
+    @ValueReference(ExplodeBodyModeRef.class)
+    @Modification.WidgetReference(ExplodeBodyModeModRef.class)
+    BodyExplodeMode m_explodeBodyMode = BodyExplodeMode.NONE;
+
+    /**
+     * Reference to the body splitting widget for use in modifications.
+     */
+    public interface ExplodeBodyModeModRef extends ParameterReference<BodyExplodeMode>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Array pointer", description = """
+            JSON pointer to the array whose elements become rows, e.g. <tt>/data/items</tt>. If empty, the body itself
+            has to be a JSON array.
+            """)
+    @Persist(configKey = "explodeBodyPointer")
+    @Effect(predicate = IsJSONArrayExplodeMode.class, type = EffectType.SHOW)
+    @Modification.WidgetReference(ExplodeBodyPointerModRef.class)
+    String m_explodeBodyPointer = "";
+
+    /**
+     * Reference to the array pointer widget for use in modifications.
+     */
+    public interface ExplodeBodyPointerModRef extends ParameterReference<String>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Element path", description = """
+            XPath selecting the XML elements which become rows, e.g. <tt>//item</tt> or
+            <tt>/Envelope/Body/Response/item</tt>. Only a subset of XPath can be evaluated while the body is read:
+            absolute location paths of <tt>/</tt> and <tt>//</tt> steps with element names or <tt>*</tt> and an
+            optional position such as <tt>[2]</tt>. Namespace prefixes are ignored.
+            """)
+    @Persist(configKey = "explodeBodyElementPath")
+    @Effect(predicate = IsXMLExplodeMode.class, type = EffectType.SHOW)
+    @Modification.WidgetReference(ExplodeBodyElementPathModRef.class)
+    String m_explodeBodyElementPath = "";
+
+    /**
+     * Reference to the element path widget for use in modifications.
+     */
+    public interface ExplodeBodyElementPathModRef extends ParameterReference<String>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "JSON fields", description = """
+            Extracts values of JSON response bodies into typed columns of their own, which are appended after the
+            body column. The values are referenced by JSON pointers and are extracted in a single pass while the body
+            is read, skipping all parts of the body which do not contain a value. Values of XML bodies are referenced
+            by XPaths instead. Values which do not exist, cannot be converted into the type of their column or belong
+            to failed requests become missing values.
+            """)
+    @ArrayWidget(elementLayout = ElementLayout.VERTICAL_CARD, addButtonText = "Add JSON field",
+        elementTitle = "JSON field")
+    @PersistArray(JSONFieldItem.JSONFieldsArrayPersistor.class)
+    @Modification.WidgetReference(JSONFieldsModRef.class)
+    JSONFieldItem[] m_jsonFields = new JSONFieldItem[0];
+
+    /**
+     * Reference to the JSON fields widget for use in modifications.
+     */
+    public interface JSONFieldsModRef extends ParameterReference<String>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Output body column", description = """
+            If unchecked, the response body is not output. Together with JSON fields, only the extracted values are
+            kept and the body is never held in memory as a whole. Without JSON fields or downloads, only the status
+            and the headers are output: no body is read, not even the one of a failed request, whose error cause is
+            its status line, and responses are not stored in the response cache. This makes checking the status of
+            many URLs cheap. Splitting the body into rows, pagination by the response body and batching require the
+            body column.
+            """)
+    @Persist(configKey = "outputBody")
+    @Modification.WidgetReference(OutputBodyModRef.class)
+    boolean m_outputBody = true;
+
+    /**
+     * Reference to the output body column widget for use in modifications.
+     */
+    public interface OutputBodyModRef extends ParameterReference<Boolean>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Download bodies to files", description = """
+            If checked, the response bodies are written to files in the download directory instead of being output.
+            Each body is streamed into a temporary file, which is renamed once the body has been received completely,
+            and the output contains the <tt>Path</tt> and the <tt>Size</tt> of the file. The status of the response
+            is output in the response header columns. Existing files are replaced. Not supported together with
+            splitting the body into rows, JSON fields, pagination by the response body or batching.
+            """)
+    @Persist(configKey = "downloadBodies")
+    @ValueReference(DownloadBodiesRef.class)
+    @Modification.WidgetReference(DownloadBodiesModRef.class)
+    boolean m_downloadBodies;
+
+    /**
+     * Reference to the download widget for use in modifications.
+     */
+    public interface DownloadBodiesModRef extends ParameterReference<Boolean>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Download directory", description = """
+            The absolute path of the local directory the response bodies are written to. It is created if it does
+            not exist.
+            """)
+    @Persist(configKey = "downloadDirectory")
+    @Effect(predicate = IsDownloadBodies.class, type = EffectType.SHOW)
+    @Modification.WidgetReference(DownloadDirectoryModRef.class)
+    String m_downloadDirectory = "";
+
+    /**
+     * Reference to the download directory widget for use in modifications.
+     */
+    public interface DownloadDirectoryModRef extends ParameterReference<String>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "File name", description = """
+            The name of the file of each body, relative to the download directory. <tt>{row}</tt> is replaced by the
+            row key and <tt>{name}</tt> by the file name sent in the <tt>Content-Disposition</tt> header, or else
+            by the last segment of the URL path. If a row results in the name of a file already written in the same
+            execution, its row key is appended to the name. Files of earlier executions are replaced.
+            """)
+    @Persist(configKey = "downloadFileName")
+    @Effect(predicate = IsDownloadBodies.class, type = EffectType.SHOW)
+    @Modification.WidgetReference(DownloadFileNameModRef.class)
+    String m_downloadFileName = "{name}";
+
+    /**
+     * Reference to the file name widget for use in modifications.
+     */
+    public interface DownloadFileNameModRef extends ParameterReference<String>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Parallel ranges", description = """
+            The maximum number of byte ranges a large body of a GET request is downloaded in concurrently. Ranges
+            are only requested if the server accepts them and sends the length and an entity tag or modification
+            date of the body; each range is at least 8 MB. A failed range is requested again, if a range cannot be
+            received the body is downloaded at once. 1 downloads every body as a single stream.
+            """)
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Persist(configKey = "downloadRanges")
+    @Effect(predicate = IsDownloadBodies.class, type = EffectType.SHOW)
+    @Modification.WidgetReference(DownloadRangesModRef.class)
+    int m_downloadRanges = 1;
+
+    /**
+     * Reference to the parallel ranges widget for use in modifications.
+     */
+    public interface DownloadRangesModRef extends ParameterReference<Integer>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Maximum body size (KB)", description = """
+            The maximum number of kilobytes of a response body received from the server, including error responses.
+            Bodies announcing a larger <tt>Content-Length</tt> are rejected before they are read. A value of 0 does
+            not limit the size.
+            """)
+    @NumberInputWidget(minValidation = IsNonNegativeValidation.class)
+    @Persist(configKey = "maxBodySize")
+    @Modification.WidgetReference(MaxBodySizeModRef.class)
+    long m_maxBodySize;
+
+    /**
+     * Reference to the maximum body size widget for use in modifications.
+     */
+    public interface MaxBodySizeModRef extends ParameterReference<Long>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Maximum decompressed body size (KB)", description = """
+            The maximum number of kilobytes of a response body after decompressing it according to its
+            <tt>Content-Encoding</tt>. A value of 0 does not limit the size.
+            """)
+    @NumberInputWidget(minValidation = IsNonNegativeValidation.class)
+    @Persist(configKey = "maxDecodedBodySize")
+    @Modification.WidgetReference(MaxDecodedBodySizeModRef.class)
+    long m_maxDecodedBodySize;
+
+    /**
+     * Reference to the maximum decompressed body size widget for use in modifications.
+     */
+    public interface MaxDecodedBodySizeModRef extends ParameterReference<Long>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Oversized bodies", description = """
+            What to do with a response body exceeding one of the maximum sizes. Truncating a compressed body at its
+            received size usually makes decompressing it fail, limit the decompressed size to truncate those.
+            """)
+    @ValueSwitchWidget
+    @Persist(configKey = "oversizedBodyPolicy")
+    @Modification.WidgetReference(OversizedBodyPolicyModRef.class)
+    OversizedBodyPolicy m_oversizedBodyPolicy = OversizedBodyPolicy.MISSING;
+
+    /**
+     * Reference to the oversized bodies widget for use in modifications.
+     */
+    public interface OversizedBodyPolicyModRef extends
+        ParameterReference<OversizedBodyPolicy>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Share identical bodies", description = """
+            If checked, identical response bodies share a single cell. The decoded body of each successful response
+            is hashed while it is read, and a body with the same SHA-256 hash and media type as an earlier body of the
+            execution reuses the cell of that body, such that its content is held and stored only once. This saves
+            memory and disk space for polling or lookup requests receiving the same documents over and over. Only
+            bodies of up to 16 KB and binary bodies stored in files are shared, at most 1024 distinct ones. Requires
+            the body column and is not supported together with splitting the body into rows, downloading the bodies
+            to files, discarding them or batching.
+            """)
+    @Persist(configKey = "deduplicateBodies")
+    @Modification.WidgetReference(DeduplicateBodiesModRef.class)
+    boolean m_deduplicateBodies;
+
+    /**
+     * Reference to the share identical bodies widget for use in modifications.
+     */
+    public interface DeduplicateBodiesModRef extends ParameterReference<Boolean>, Modification.Reference {
+    }
+
+    @Layout(OutputSection.class)
+    @Widget(title = "Output body hash", description = """
+            If checked, the SHA-256 hash of the body of each successful response is output as hexadecimal string in
+            the additional column <tt>Body SHA-256</tt>, such that identical bodies can be detected downstream without
+            comparing them. The hash is computed while the body is read, after it is decompressed according to its
+            <tt>Content-Encoding</tt>, such that it does not depend on the encoding negotiated with the server.
+            Failed requests have a missing hash. Has the same restrictions as sharing identical bodies.
+            """)
+    @Persist(configKey = "outputBodyHash")
+    @Modification.WidgetReference(OutputBodyHashModRef.class)
+    boolean m_outputBodyHash;
+
+    /**
+     * Reference to the output body hash widget for use in modifications.
+     */
+    public interface OutputBodyHashModRef extends ParameterReference<Boolean>, Modification.Reference {
+    }
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Pagination", description = """
+            Defines how further pages of a paginated response are requested. If enabled, the requests of a row are
+            repeated until the last page has been received and each page results in one output row with the row key
+            <tt>&lt;key&gt;#&lt;page&gt;</tt> and its number in the additional column <tt>Page</tt>. Pagination stops
+            once a page is empty, a request fails or the maximum number of pages has been reached. Identical requests
+            are not deduplicated while paginating. Not supported when the node is executed in streaming mode.
+            """)
+    @Persist(configKey = "paginationMode")
+    @ValueReference(PaginationModeRef.class)
+    PaginationMode m_paginationMode = PaginationMode.NONE;
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Cursor pointer", description = """
+            JSON pointer to the cursor of the next page in the response body, e.g. <tt>/meta/next_cursor</tt>.
+            Pagination stops once the cursor is missing, empty or unchanged.
+            """)
+    @Persist(configKey = "paginationCursorPointer")
+    @Effect(predicate = IsCursorPagination.class, type = EffectType.SHOW)
+    String m_paginationCursorPointer = "/next_cursor";
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Query parameter", description = """
+            Name of the query parameter carrying the cursor, offset or page number. If empty, <tt>cursor</tt>,
+            <tt>offset</tt> or <tt>page</tt> is used.
+            """)
+    @Persist(configKey = "paginationParameter")
+    @Effect(predicate = IsParameterPagination.class, type = EffectType.SHOW)
+    String m_paginationParameter = "";
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Limit parameter", description = """
+            Name of the query parameter carrying the page size. If empty, no page size is sent.
+            """)
+    @Persist(configKey = "paginationLimitParameter")
+    @Effect(predicate = IsOffsetPagination.class, type = EffectType.SHOW)
+    String m_paginationLimitParameter = "limit";
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Page size", description = """
+            Number of items requested per page. A page with fewer items is considered the last one.
+            """)
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Persist(configKey = "paginationPageSize")
+    @Effect(predicate = IsOffsetPagination.class, type = EffectType.SHOW)
+    int m_paginationPageSize = 100;
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "First page number", description = """
+            Number of the first page, usually 0 or 1.
+            """)
+    @NumberInputWidget(minValidation = IsNonNegativeValidation.class)
+    @Persist(configKey = "paginationFirstPage")
+    @Effect(predicate = IsPageNumberPagination.class, type = EffectType.SHOW)
+    int m_paginationFirstPage = 1;
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Items pointer", description = """
+            JSON pointer to the array of items in the response body, e.g. <tt>/data</tt>. A page whose array is
+            missing or empty is considered the last one. If empty, the body itself is used if it is an array, and
+            otherwise the only array among its fields, a page with none or several such arrays being the last one.
+            With Link header or cursor pagination, an empty pointer makes the body not be inspected for items.
+            """)
+    @Persist(configKey = "paginationItemsPointer")
+    @Effect(predicate = IsPaginationEnabled.class, type = EffectType.SHOW)
+    String m_paginationItemsPointer = "";
+
+    @Layout(PaginationSection.class)
+    @Widget(title = "Maximum number of pages", description = """
+            Maximum number of pages requested per row. A value of 0 requests pages until the last one.
+            """)
+    @NumberInputWidget(minValidation = IsNonNegativeValidation.class)
+    @Persist(configKey = "paginationMaxPages")
+    @Effect(predicate = IsPaginationEnabled.class, type = EffectType.SHOW)
+    int m_paginationMaxPages = 100;
+
     static final class URLModeRef implements ParameterReference<URLMode> {
     }
 
@@ -1171,9 +1571,21 @@ static final class ProxyExcludedHostsRef implements ParameterReference<ProxyExcl
     static final class UseDelayRef implements ParameterReference<Boolean> {
     }
 
+    static final class IncrementalExecutionRef implements ParameterReference<Boolean> {
+    }
+
     static final class RequestHeaderItemRef implements ParameterReference<RequestHeaderItem[]> {
     }
 
+    static final class PaginationModeRef implements ParameterReference<PaginationMode> {
+    }
+
+    static final class ExplodeBodyModeRef implements ParameterReference<BodyExplodeMode> {
+    }
+
+    static final class DownloadBodiesRef implements ParameterReference<Boolean> {
+    }
+
     static final class PauseOnRateLimitRef implements ParameterReference<RateLimitingRetryPolicy> {
     }
 
@@ -1250,6 +1662,89 @@ public EffectPredicate init(final PredicateInitializer i) {
 
     }
 
+    static final class IsIncrementalExecution implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getBoolean(IncrementalExecutionRef.class).isTrue();
+        }
+
+    }
+
+    static final class IsJSONArrayExplodeMode implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(ExplodeBodyModeRef.class).isOneOf(BodyExplodeMode.JSON_ARRAY);
+        }
+
+    }
+
+    static final class IsDownloadBodies implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getBoolean(DownloadBodiesRef.class).isTrue();
+        }
+
+    }
+
+    static final class IsXMLExplodeMode implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(ExplodeBodyModeRef.class).isOneOf(BodyExplodeMode.XML_ELEMENTS);
+        }
+
+    }
+
+    static final class IsPaginationEnabled implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(PaginationModeRef.class).isOneOf(PaginationMode.LINK_HEADER, PaginationMode.CURSOR,
+                PaginationMode.OFFSET, PaginationMode.PAGE_NUMBER);
+        }
+
+    }
+
+    static final class IsParameterPagination implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(PaginationModeRef.class).isOneOf(PaginationMode.CURSOR, PaginationMode.OFFSET,
+                PaginationMode.PAGE_NUMBER);
+        }
+
+    }
+
+    static final class IsCursorPagination implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(PaginationModeRef.class).isOneOf(PaginationMode.CURSOR);
+        }
+
+    }
+
+    static final class IsOffsetPagination implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(PaginationModeRef.class).isOneOf(PaginationMode.OFFSET);
+        }
+
+    }
+
+    static final class IsPageNumberPagination implements EffectPredicateProvider {
+
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(PaginationModeRef.class).isOneOf(PaginationMode.PAGE_NUMBER);
+        }
+
+    }
+
     static final class IsPauseOnRateLimitEnabled implements EffectPredicateProvider {
 
         @Override
@@ -69,7 +69,6 @@
 import org.knime.node.impl.description.ExternalResource;
 import org.knime.node.impl.description.PortDescription;
 import org.knime.rest.nodes.common.RestNodeFactory;
-import org.knime.rest.nodes.common.webui.RestNodeParameters;
 
 /**
  * Node factory for the node of GET http method.
@@ -144,7 +143,7 @@ public NodeDialogPane createNodeDialogPane(final NodeCreationConfiguration cfg)
 
     @Override
     public NodeDialog createNodeDialog() {
-        return new DefaultNodeDialog(SettingsType.MODEL, RestNodeParameters.class);
+        return new DefaultNodeDialog(SettingsType.MODEL, RestGetNodeParameters.class);
     }
 
     @Override
@@ -157,7 +156,7 @@ public NodeDescription createNodeDescription() {
             SHORT_DESCRIPTION,
             FULL_DESCRIPTION,
             LINKS,
-            RestNodeParameters.class,
+            RestGetNodeParameters.class,
             null,
             NodeType.Manipulator,
             List.of(),
@@ -167,7 +166,7 @@ public NodeDescription createNodeDescription() {
 
     @Override
     public KaiNodeInterface createKaiNodeInterface() {
-        return new DefaultKaiNodeInterface(Map.of(SettingsType.MODEL, RestNodeParameters.class));
+        return new DefaultKaiNodeInterface(Map.of(SettingsType.MODEL, RestGetNodeParameters.class));
     }
 
 
@@ -48,8 +48,11 @@
  */
 package org.knime.rest.nodes.head;
 
+import org.knime.core.webui.node.dialog.defaultdialog.internal.widget.PersistWithin;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.Modification;
+import org.knime.node.parameters.layout.Layout;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
+import org.knime.rest.nodes.common.webui.ResponseCacheParameters;
 import org.knime.rest.nodes.common.webui.RestNodeParameters;
 import org.knime.rest.nodes.common.webui.RestNodeParameters.RemoveResponseBodyColumnNameModification;
 
@@ -68,4 +71,8 @@ class RestHeadNodeParameters extends RestNodeParameters {
         super();
     }
 
+    @Layout(PerformanceAndRateControlSection.class)
+    @PersistWithin.PersistEmbedded
+    ResponseCacheParameters m_responseCacheParameters = new ResponseCacheParameters();
+
 }
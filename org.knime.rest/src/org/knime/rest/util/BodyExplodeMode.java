@@ -0,0 +1,84 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import org.knime.node.parameters.widget.choices.Label;
+
+/**
+ * Describes whether and how the REST client nodes split a response body into multiple output rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public enum BodyExplodeMode {
+        /** The response body becomes a single cell. */
+        @Label(value = "None", description = "The response body is output as a single cell.")
+        NONE,
+        /** Each line of the body is a JSON value (newline-delimited JSON, JSON Lines). */
+        @Label(value = "NDJSON", description = """
+                Each JSON value of a newline-delimited JSON (JSON Lines) body becomes a row.
+                """)
+        NDJSON,
+        /** Each element of a JSON array within the body becomes a row. */
+        @Label(value = "JSON array", description = """
+                Each element of the JSON array referenced by the array pointer becomes a row.
+                """)
+        JSON_ARRAY,
+        /** Each record of a CSV body becomes a row. */
+        @Label(value = "CSV", description = """
+                Each record of a comma-separated body with a header line becomes a row, containing a JSON object that
+                maps the column names of the header to the values of the record.
+                """)
+        CSV,
+        /** Each element of an XML body matching an element path becomes a row. */
+        @Label(value = "XML elements", description = """
+                Each element of an XML body matching the element path becomes a row, containing the element as XML.
+                """)
+        XML_ELEMENTS;
+}
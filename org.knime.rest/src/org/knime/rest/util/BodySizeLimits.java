@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+
+/**
+ * Limits the size of the response bodies read by the REST client nodes, such that a single misbehaving endpoint
+ * cannot exhaust memory or disk. Registered at a client, it limits the number of bytes read from the connection;
+ * {@link ContentEncodings#decode(InputStream, String)} additionally limits the number of decompressed bytes of such a
+ * body.
+ * <p>
+ * Bodies announcing a {@code Content-Length} beyond the limit are rejected before any byte is read, unless they are
+ * truncated. Exceeding a limit either makes reading fail with an {@link IOException} stating the limit, which the
+ * nodes output as a missing value, or ends the body at the limit. Note that truncating a compressed body at its
+ * received size usually makes decompressing it fail, the decompressed size should be limited for those instead.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class BodySizeLimits implements ClientResponseFilter {
+
+    private final long m_maxBodySize;
+
+    private final long m_maxDecodedSize;
+
+    private final boolean m_truncate;
+
+    /**
+     * @param maxBodySize the maximum number of bytes read from the connection, non-positive for no limit
+     * @param maxDecodedSize the maximum number of decompressed bytes, non-positive for no limit
+     * @param policy what to do with oversized bodies
+     */
+    public BodySizeLimits(final long maxBodySize, final long maxDecodedSize, final OversizedBodyPolicy policy) {
+        m_maxBodySize = maxBodySize > 0 ? maxBodySize : Long.MAX_VALUE;
+        m_maxDecodedSize = maxDecodedSize > 0 ? maxDecodedSize : Long.MAX_VALUE;
+        m_truncate = policy == OversizedBodyPolicy.TRUNCATE;
+    }
+
+    @Override
+    public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext)
+        throws IOException {
+        if (!responseContext.hasEntity()) {
+            return;
+        }
+        final var length = getContentLength(responseContext);
+        if (length > m_maxBodySize) {
+            // the announced length does not describe the body that is going to be read anymore
+            responseContext.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            if (!m_truncate) {
+                // abort without reading, the consumers fail with the reason once they start reading
+                responseContext.getEntityStream().close();
+                responseContext.setEntityStream(new RejectedInputStream(
+                    "The response body of " + length + " bytes exceeds the maximum size of " + m_maxBodySize
+                        + " bytes"));
+                return;
+            }
+        }
+        responseContext.setEntityStream(new LimitedInputStream(responseContext.getEntityStream(), m_maxBodySize,
+            m_truncate, "The response body", m_maxDecodedSize));
+    }
+
+    private static long getContentLength(final ClientResponseContext responseContext) {
+        try {
+            return Long.parseLong(StringUtils.strip(responseContext.getHeaderString(HttpHeaders.CONTENT_LENGTH)));
+        } catch (NumberFormatException e) { // NOSONAR unknown
+            return -1L;
+        }
+    }
+
+    /**
+     * Applies the limit of decompressed bytes of the body the given stream was read from, if any.
+     *
+     * @param encoded the stream of the body as received
+     * @param decoded the decoded stream
+     * @return the decoded stream, limited if the body is limited
+     */
+    static InputStream limitDecoded(final InputStream encoded, final InputStream decoded) {
+        if (encoded instanceof LimitedInputStream limited && limited.m_maxDecodedSize < Long.MAX_VALUE) {
+            return new LimitedInputStream(decoded, limited.m_maxDecodedSize, limited.m_truncate,
+                "The decompressed response body", Long.MAX_VALUE);
+        }
+        return decoded;
+    }
+
+    /**
+     * Ends or fails reading after the given number of bytes.
+     */
+    static final class LimitedInputStream extends FilterInputStream {
+
+        private final long m_limit;
+
+        private final boolean m_truncate;
+
+        private final String m_description;
+
+        private final long m_maxDecodedSize;
+
+        private long m_remaining;
+
+        private LimitedInputStream(final InputStream in, final long limit, final boolean truncate,
+            final String description, final long maxDecodedSize) {
+            super(in);
+            m_limit = limit;
+            m_remaining = limit;
+            m_truncate = truncate;
+            m_description = description;
+            m_maxDecodedSize = maxDecodedSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (m_remaining <= 0) {
+                return exceeded();
+            }
+            final var b = super.read();
+            if (b >= 0) {
+                m_remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (m_remaining <= 0) {
+                return exceeded();
+            }
+            final var n = super.read(b, off, (int)Math.min(len, m_remaining));
+            if (n > 0) {
+                m_remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(Math.min(n, m_remaining));
+            m_remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int)Math.min(super.available(), m_remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * @return the end of the stream if it is truncated or has ended exactly at the limit
+         * @throws IOException if there are more bytes than allowed
+         */
+        private int exceeded() throws IOException {
+            if (m_truncate || super.read() < 0) {
+                return -1;
+            }
+            throw new IOException(m_description + " exceeds the maximum size of " + m_limit + " bytes");
+        }
+    }
+
+    /**
+     * Fails reading with the reason of the rejection.
+     */
+    private static final class RejectedInputStream extends InputStream {
+
+        private final String m_reason;
+
+        RejectedInputStream(final String reason) {
+            m_reason = reason;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException(m_reason);
+        }
+    }
+}
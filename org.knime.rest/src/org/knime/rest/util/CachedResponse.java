@@ -0,0 +1,324 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Link.Builder;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.NewCookie;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Response read from the {@link HttpResponseCache}. The body is streamed from the cache file exactly as it was
+ * received, i.e. still in its {@code Content-Encoding}, such that it can be processed like a response received from
+ * the server.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CachedResponse extends Response {
+
+    private final StatusType m_status;
+
+    private final MultivaluedMap<String, String> m_headers;
+
+    private InputStream m_entity;
+
+    private final long m_length;
+
+    private final Path m_deleteOnClose;
+
+    private boolean m_closed;
+
+    /**
+     * @param status the status code
+     * @param reasonPhrase the reason phrase, {@code null} for the default one of the status code
+     * @param headers the response headers
+     * @param entity the opened (encoded) response body
+     * @param length the number of bytes of the body
+     * @param deleteOnClose file which is deleted when the response is closed, may be {@code null}
+     */
+    CachedResponse(final int status, final String reasonPhrase, final MultivaluedMap<String, String> headers,
+        final InputStream entity, final long length, final Path deleteOnClose) {
+        m_status = new StatusOnlyResponse(status, reasonPhrase).getStatusInfo();
+        m_headers = headers;
+        m_entity = entity;
+        m_length = length;
+        m_deleteOnClose = deleteOnClose;
+    }
+
+    /**
+     * @param entity the stream to read the body from instead, which reads and closes the current one
+     */
+    void setEntity(final InputStream entity) {
+        m_entity = entity;
+    }
+
+    private InputStream entityStream() {
+        if (m_closed) {
+            throw new IllegalStateException("The response has already been closed");
+        }
+        return m_entity;
+    }
+
+    @Override
+    public int getStatus() {
+        return m_status.getStatusCode();
+    }
+
+    @Override
+    public StatusType getStatusInfo() {
+        return m_status;
+    }
+
+    @Override
+    public Object getEntity() {
+        return hasEntity() ? entityStream() : null;
+    }
+
+    @Override
+    public <T> T readEntity(final Class<T> entityType) {
+        if (entityType.isAssignableFrom(InputStream.class)) {
+            return entityType.cast(entityStream());
+        }
+        try {
+            final var bytes = entityStream().readAllBytes();
+            if (entityType == byte[].class) {
+                return entityType.cast(bytes);
+            }
+            if (entityType == String.class) {
+                return entityType.cast(new String(bytes, getCharset()));
+            }
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+        throw new ProcessingException("A cached response body cannot be read as " + entityType.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T readEntity(final GenericType<T> entityType) {
+        return (T)readEntity(entityType.getRawType());
+    }
+
+    @Override
+    public <T> T readEntity(final Class<T> entityType, final Annotation[] annotations) {
+        return readEntity(entityType);
+    }
+
+    @Override
+    public <T> T readEntity(final GenericType<T> entityType, final Annotation[] annotations) {
+        return readEntity(entityType);
+    }
+
+    private Charset getCharset() {
+        final var mediaType = getMediaType();
+        final var charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset != null && Charset.isSupported(charset) ? Charset.forName(charset) : StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public boolean hasEntity() {
+        return !m_closed && m_length > 0;
+    }
+
+    @Override
+    public boolean bufferEntity() {
+        // the entity is already stored in a file
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        try {
+            m_entity.close();
+            if (m_deleteOnClose != null) {
+                Files.deleteIfExists(m_deleteOnClose);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        final var contentType = getHeaderString(HttpHeaders.CONTENT_TYPE);
+        try {
+            return contentType == null ? null : MediaType.valueOf(contentType);
+        } catch (IllegalArgumentException e) { // NOSONAR same as a response without media type
+            return null;
+        }
+    }
+
+    @Override
+    public Locale getLanguage() {
+        final var language = getHeaderString(HttpHeaders.CONTENT_LANGUAGE);
+        return language == null ? null : Locale.forLanguageTag(language);
+    }
+
+    @Override
+    public int getLength() {
+        try {
+            return Integer.parseInt(StringUtils.trim(getHeaderString(HttpHeaders.CONTENT_LENGTH)));
+        } catch (NumberFormatException e) { // NOSONAR unknown length
+            return -1;
+        }
+    }
+
+    @Override
+    public Set<String> getAllowedMethods() {
+        final var allow = getHeaderString(HttpHeaders.ALLOW);
+        if (allow == null) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(allow.split(",")).map(String::trim).filter(StringUtils::isNotEmpty)
+            .map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Map<String, NewCookie> getCookies() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public EntityTag getEntityTag() {
+        final var etag = getHeaderString(HttpHeaders.ETAG);
+        try {
+            return etag == null ? null : EntityTag.valueOf(etag);
+        } catch (IllegalArgumentException e) { // NOSONAR malformed header
+            return null;
+        }
+    }
+
+    @Override
+    public Date getDate() {
+        return HttpResponseCache.parseDate(getHeaderString(HttpHeaders.DATE)).map(Date::from).orElse(null);
+    }
+
+    @Override
+    public Date getLastModified() {
+        return HttpResponseCache.parseDate(getHeaderString(HttpHeaders.LAST_MODIFIED)).map(Date::from).orElse(null);
+    }
+
+    @Override
+    public URI getLocation() {
+        final var location = getHeaderString(HttpHeaders.LOCATION);
+        try {
+            return location == null ? null : URI.create(location);
+        } catch (IllegalArgumentException e) { // NOSONAR malformed header
+            return null;
+        }
+    }
+
+    @Override
+    public Set<Link> getLinks() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean hasLink(final String relation) {
+        return false;
+    }
+
+    @Override
+    public Link getLink(final String relation) {
+        return null;
+    }
+
+    @Override
+    public Builder getLinkBuilder(final String relation) {
+        return null;
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getMetadata() {
+        final var metadata = new MultivaluedHashMap<String, Object>();
+        m_headers.forEach((name, values) -> metadata.addAll(name, values.toArray()));
+        return metadata;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getStringHeaders() {
+        return new MultivaluedHashMap<>(m_headers);
+    }
+
+    @Override
+    public String getHeaderString(final String name) {
+        return HttpResponseCache.getHeader(m_headers, name);
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Utility for negotiating and decoding HTTP {@code Content-Encoding}s of response bodies.
+ * <p>
+ * Only encodings which can be decoded here are advertised via {@link #ACCEPT_ENCODING}, so a compliant server will
+ * never send anything else. Encodings that cannot be decoded (e.g. {@code br} or {@code zstd} if a server ignores the
+ * request header) result in an {@link IOException} instead of an unchecked exception, such that callers can produce
+ * a missing value for the affected row.
+ * <p>
+ * Decoded streams are guarded against decompression bombs: if the decoded size exceeds the encoded size by more than
+ * the configured ratio (system property {@value #PROPERTY_MAX_DECOMPRESSION_RATIO}, default
+ * {@value #DEFAULT_MAX_DECOMPRESSION_RATIO}, non-positive values disable the check), reading fails. Bodies received
+ * through {@link BodySizeLimits} are additionally limited to its maximum decompressed size.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class ContentEncodings {
+
+    /** Value of the {@code Accept-Encoding} header which is sent if the user did not specify one. */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    /** The name of the {@code Accept-Encoding} header. */
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+
+    /** The name of the {@code Content-Encoding} header. */
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    static final String PROPERTY_MAX_DECOMPRESSION_RATIO = "org.knime.rest.maxDecompressionRatio";
+
+    static final int DEFAULT_MAX_DECOMPRESSION_RATIO = 1000;
+
+    /** Decoded sizes below this limit are never considered to be a decompression bomb. */
+    static final long RATIO_CHECK_THRESHOLD = 1L << 20;
+
+    /** Buffer size of the (de)compressing streams, large enough for multi-megabyte bodies. */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int MAX_RATIO = Integer.getInteger(PROPERTY_MAX_DECOMPRESSION_RATIO,
+        DEFAULT_MAX_DECOMPRESSION_RATIO);
+
+    private ContentEncodings() {
+        // utility class
+    }
+
+    /**
+     * Wraps the given (encoded) input stream such that reading from it yields the decoded body.
+     * <p>
+     * Multiple, comma-separated encodings are supported and are decoded in reverse order of their application, as
+     * defined in RFC 9110, section 8.4.
+     *
+     * @param encoded the raw input stream as received from the server
+     * @param contentEncoding the value of the {@code Content-Encoding} header, may be {@code null}
+     * @return the decoding input stream, or a buffered version of {@code encoded} if no decoding is necessary
+     * @throws IOException if the encoding is not supported or the stream header cannot be read
+     */
+    public static InputStream decode(final InputStream encoded, final String contentEncoding) throws IOException {
+        if (encoded instanceof HashingInputStream hashing && hashing.isUndecoded()) {
+            // the decoded body is hashed, it does not depend on the encoding negotiated with the server
+            return hashing.decoded(decode(hashing.getSource(), contentEncoding));
+        }
+        final var counting = new CountingInputStream(encoded);
+        InputStream result = new BufferedInputStream(counting, BUFFER_SIZE);
+        if (StringUtils.isBlank(contentEncoding)) {
+            return BodySizeLimits.limitDecoded(encoded, result);
+        }
+        final var codings = contentEncoding.split(",");
+        var decoded = false;
+        for (var i = codings.length - 1; i >= 0; i--) {
+            final var coding = codings[i].trim().toLowerCase(Locale.ROOT);
+            switch (coding) {
+                case "gzip", "x-gzip":
+                    result = gunzip(result);
+                    decoded = true;
+                    break;
+                case "deflate":
+                    result = inflate(result);
+                    decoded = true;
+                    break;
+                case "identity", "":
+                    break;
+                default:
+                    throw new IOException("Not supported content encoding: " + contentEncoding);
+            }
+        }
+        return BodySizeLimits.limitDecoded(encoded,
+            decoded ? new RatioGuardInputStream(result, counting, MAX_RATIO) : result);
+    }
+
+    private static InputStream gunzip(final InputStream in) throws IOException {
+        final var buffered = in.markSupported() ? in : new BufferedInputStream(in, BUFFER_SIZE);
+        buffered.mark(BUFFER_SIZE);
+        try {
+            return new GZIPInputStream(buffered, BUFFER_SIZE);
+        } catch (final IOException e) {
+            // seen this with some web pages - claiming gzip in header but really aren't.
+            buffered.reset();
+            return buffered;
+        }
+    }
+
+    private static InputStream inflate(final InputStream in) throws IOException {
+        final var buffered = in.markSupported() ? in : new BufferedInputStream(in, BUFFER_SIZE);
+        // "deflate" should be zlib-wrapped (RFC 1950), but some servers send raw deflate data (RFC 1951)
+        buffered.mark(2);
+        final var cmf = buffered.read();
+        final var flg = buffered.read();
+        buffered.reset();
+        final var zlibWrapped = cmf >= 0 && flg >= 0 && (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+        return new InflaterInputStream(buffered, new Inflater(!zlibWrapped), BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    // the inflater was not created by the stream, hence it does not free its native memory
+                    inf.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Counts the bytes read from the underlying (encoded) stream.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long m_count;
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b >= 0) {
+                m_count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var n = super.read(b, off, len);
+            if (n > 0) {
+                m_count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(n);
+            m_count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * Fails reading if the decoded stream grows unreasonably large compared to the encoded one.
+     */
+    static final class RatioGuardInputStream extends FilterInputStream {
+
+        private final CountingInputStream m_encoded;
+
+        private final int m_maxRatio;
+
+        private long m_decoded;
+
+        private RatioGuardInputStream(final InputStream decoded, final CountingInputStream encoded,
+            final int maxRatio) {
+            super(decoded);
+            m_encoded = encoded;
+            m_maxRatio = maxRatio;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(final long n) throws IOException {
+            m_decoded += n;
+            if (m_maxRatio > 0 && m_decoded > RATIO_CHECK_THRESHOLD
+                && m_decoded / Math.max(1L, m_encoded.m_count) > m_maxRatio) {
+                throw new IOException(String.format(
+                    "Decompressed response body exceeds the maximum compression ratio of %d:1 (system property \"%s\")",
+                    m_maxRatio, PROPERTY_MAX_DECOMPRESSION_RATIO));
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.impl.ResponseImpl;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Computes the SHA-256 hash of a response body while it is read by its consumer, such that identical bodies can be
+ * recognized without reading them twice. The hash is computed from the decoded body, i.e. after it is decompressed
+ * according to its {@code Content-Encoding}, such that it does not depend on the encoding negotiated with the server:
+ * {@link ContentEncodings#decode(InputStream, String)} decodes the body underneath the hashing stream. Closing the
+ * stream reads the rest of the body, which its consumer may not have needed, as the hash covers the whole body.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class HashingInputStream extends DigestInputStream {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final int DRAIN_BUFFER_SIZE = 8192;
+
+    private final String m_contentEncoding;
+
+    private String m_hash;
+
+    private long m_length;
+
+    private boolean m_read;
+
+    private boolean m_decoded;
+
+    private boolean m_closed;
+
+    private HashingInputStream(final InputStream in, final String contentEncoding) {
+        super(in, createDigest());
+        m_contentEncoding = contentEncoding;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Makes the body of the given response be hashed while it is read. Responses without a body have the hash of
+     * the empty body.
+     *
+     * @param response the response, whose body has not been read yet
+     * @return the stream the body is read through, or {@code null} if the body of the response cannot be hashed
+     */
+    public static HashingInputStream hash(final Response response) {
+        final var entity = response.getEntity();
+        if (entity == null) {
+            return new HashingInputStream(InputStream.nullInputStream(), null);
+        }
+        if (!(entity instanceof InputStream body)) {
+            return null;
+        }
+        final var hashing =
+            new HashingInputStream(body, response.getHeaderString(ContentEncodings.CONTENT_ENCODING_HEADER));
+        if (response instanceof ResponseImpl cxfResponse) {
+            cxfResponse.setEntity(hashing, null);
+        } else if (response instanceof CachedResponse cachedResponse) {
+            cachedResponse.setEntity(hashing);
+        } else {
+            return null;
+        }
+        return hashing;
+    }
+
+    /**
+     * @return the stream the body is read from
+     */
+    InputStream getSource() {
+        return in;
+    }
+
+    /**
+     * @return whether the body has neither been read nor decoded yet, such that it can be decoded before it is hashed
+     */
+    boolean isUndecoded() {
+        return !m_read && !m_decoded;
+    }
+
+    /**
+     * Continues reading and hashing from the decoded body.
+     *
+     * @param decoded the decoded stream of the {@linkplain #getSource() source}
+     * @return this stream
+     */
+    HashingInputStream decoded(final InputStream decoded) {
+        in = decoded;
+        m_decoded = true;
+        return this;
+    }
+
+    /**
+     * @return the number of decoded bytes hashed so far
+     */
+    public long getLength() {
+        return m_length;
+    }
+
+    /**
+     * @return the hexadecimal SHA-256 hash once the body has been read to its end, {@code null} if it has not, reading
+     *         it failed or its consumer read it without decoding it
+     */
+    public String getHash() {
+        return m_hash;
+    }
+
+    @Override
+    public int read() throws IOException {
+        m_read = true;
+        final var b = super.read();
+        if (b < 0) {
+            completed();
+        } else {
+            m_length++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        m_read = true;
+        final var n = super.read(b, off, len);
+        if (n < 0) {
+            completed();
+        } else {
+            m_length += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        // skipped bytes are part of the hash as well
+        final var buffer = new byte[(int)Math.min(n, DRAIN_BUFFER_SIZE)];
+        var skipped = 0L;
+        while (skipped < n) {
+            final var read = read(buffer, 0, (int)Math.min(n - skipped, buffer.length));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // resetting would hash the same bytes twice
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        try {
+            if (isUndecoded()) {
+                // the consumer did not read the body at all
+                decoded(ContentEncodings.decode(in, m_contentEncoding));
+            }
+            if (m_hash == null) {
+                // not a shared buffer, the bytes are read by the digest
+                final var buffer = new byte[DRAIN_BUFFER_SIZE];
+                while (read(buffer, 0, buffer.length) >= 0) { // NOSONAR only the hash is of interest
+                }
+            }
+        } catch (IOException e) { // NOSONAR the body has been consumed already, the hash remains unknown
+            // e.g. the body exceeds its maximum size
+        } finally {
+            super.close();
+        }
+    }
+
+    private void completed() {
+        // a body read as received has another hash unless it is not encoded
+        if (m_hash == null && (m_decoded || isIdentity(m_contentEncoding))) {
+            m_hash = HexFormat.of().formatHex(getMessageDigest().digest());
+        }
+    }
+
+    private static boolean isIdentity(final String contentEncoding) {
+        return StringUtils.isBlank(contentEncoding) || Arrays.stream(contentEncoding.split(","))
+            .map(String::trim).allMatch(coding -> coding.isEmpty() || "identity".equalsIgnoreCase(coding));
+    }
+}
@@ -0,0 +1,567 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.node.NodeLogger;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Persistent cache of HTTP responses, stored as files in a directory. The cache is meant to be used for safe
+ * requests only (GET and HEAD), the caller is responsible for computing a key which identifies the request (method,
+ * URL, request headers and credentials), such that responses are never served to requests of other users.
+ * <p>
+ * Freshness is computed from the {@code Cache-Control} directives {@code max-age}, {@code no-cache},
+ * {@code must-revalidate} and {@code stale-while-revalidate}, or from the {@code Expires} header (RFC 9111). Responses
+ * with {@code Cache-Control: no-store} are never stored, responses without freshness information are only stored if
+ * they can be revalidated via {@code ETag} or {@code Last-Modified}. Stale entries are revalidated with a conditional
+ * request (see {@link Entry#getConditionalHeaders()}), a {@code 304 Not Modified} answer refreshes them via
+ * {@link #update(Entry, MultivaluedMap)}.
+ * <p>
+ * Bodies are stored as received, i.e. still in their {@code Content-Encoding}. If the total size of the cache exceeds
+ * the configured maximum, the least recently used entries are removed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class HttpResponseCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HttpResponseCache.class);
+
+    /** Name of the default cache directory within the temporary directory. */
+    public static final String DEFAULT_DIRECTORY_NAME = "knime-rest-cache";
+
+    /** Status codes of responses that are stored, see RFC 9110, section 15.1. */
+    private static final Set<Integer> CACHEABLE_STATUS_CODES = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414,
+        501);
+
+    /** Headers of a {@code 304} response which must not replace the stored ones. */
+    private static final Set<String> NON_UPDATABLE_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    static {
+        NON_UPDATABLE_HEADERS.addAll(List.of(HttpHeaders.CONTENT_LENGTH, ContentEncodings.CONTENT_ENCODING_HEADER,
+            "Transfer-Encoding", "Connection", "Keep-Alive"));
+    }
+
+    private static final String META_SUFFIX = ".properties";
+
+    private static final String BODY_SUFFIX = ".body";
+
+    private static final String STATUS = "status";
+
+    private static final String REASON = "reason";
+
+    private static final String STORED_AT = "storedAt";
+
+    private static final String HEADER_NAME = "header.%d.name";
+
+    private static final String HEADER_VALUE = "header.%d.value";
+
+    private final Path m_directory;
+
+    private final long m_maxSize;
+
+    /**
+     * @param directory the directory storing the cached responses, created if it does not exist
+     * @param maxSize the maximum total size of the cache in bytes
+     * @throws IOException if the directory cannot be created
+     */
+    public HttpResponseCache(final Path directory, final long maxSize) throws IOException {
+        m_directory = Files.createDirectories(directory);
+        m_maxSize = maxSize;
+    }
+
+    /**
+     * The temporary directory is shared by all users and workflows of a machine, each owner hence gets a directory of
+     * its own within {@link #DEFAULT_DIRECTORY_NAME}.
+     *
+     * @param owner identifies the user and workflow using the cache
+     * @return the directory used if none is configured, located in the temporary directory
+     */
+    public static Path getDefaultDirectory(final String owner) {
+        return Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY_NAME, hash(owner).substring(0, 16));
+    }
+
+    /**
+     * Checks whether a response can be stored at all. The status must be cacheable by default, {@code no-store} must
+     * not be set and the response must either be fresh for some time or carry a validator.
+     *
+     * @param status the status code of the response
+     * @param headers the response headers
+     * @return whether the response can be stored
+     */
+    public static boolean isStorable(final int status, final MultivaluedMap<String, String> headers) {
+        if (!CACHEABLE_STATUS_CODES.contains(status)) {
+            return false;
+        }
+        final var cacheControl = CacheControl.parse(getHeader(headers, HttpHeaders.CACHE_CONTROL));
+        if (cacheControl.containsKey("no-store")) {
+            return false;
+        }
+        return freshnessLifetime(headers) > 0 || getHeader(headers, HttpHeaders.ETAG) != null
+            || getHeader(headers, HttpHeaders.LAST_MODIFIED) != null;
+    }
+
+    /**
+     * Looks up the entry stored for a request and marks it as recently used.
+     *
+     * @param key the key identifying the request
+     * @return the entry, empty if none is stored or it cannot be read
+     */
+    public synchronized Optional<Entry> get(final String key) {
+        final var hash = hash(key);
+        final var meta = m_directory.resolve(hash + META_SUFFIX);
+        final var body = m_directory.resolve(hash + BODY_SUFFIX);
+        if (!Files.exists(meta) || !Files.exists(body)) {
+            return Optional.empty();
+        }
+        final var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            final var status = Integer.parseInt(properties.getProperty(STATUS));
+            final var storedAt = Long.parseLong(properties.getProperty(STORED_AT));
+            final var headers = new MultivaluedHashMap<String, String>();
+            for (var i = 0; properties.containsKey(HEADER_NAME.formatted(i)); i++) {
+                headers.add(properties.getProperty(HEADER_NAME.formatted(i)),
+                    properties.getProperty(HEADER_VALUE.formatted(i), ""));
+            }
+            Files.setLastModifiedTime(meta, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(new Entry(hash, status, properties.getProperty(REASON), headers, storedAt, body));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not read cached response, it is removed from the cache: " + e.getMessage(), e);
+            remove(hash);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a response, replacing any previously stored entry for the same key. The body is copied to the cache as
+     * is.
+     *
+     * @param key the key identifying the request
+     * @param status the status code
+     * @param reasonPhrase the reason phrase, may be {@code null}
+     * @param headers the response headers
+     * @param body the raw response body, {@code null} if the response has no body
+     * @return the stored entry
+     * @throws IOException if reading the body or writing to the cache failed
+     */
+    public Entry put(final String key, final int status, final String reasonPhrase,
+        final MultivaluedMap<String, String> headers, final InputStream body) throws IOException {
+        final var hash = hash(key);
+        final var temp = Files.createTempFile(m_directory, hash, ".tmp");
+        try {
+            if (body != null) {
+                Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        final var entry = new Entry(hash, status, reasonPhrase, new MultivaluedHashMap<>(headers),
+            System.currentTimeMillis(), m_directory.resolve(hash + BODY_SUFFIX));
+        synchronized (this) {
+            try {
+                move(temp, entry.m_body);
+            } catch (IOException e) {
+                // e.g. the previous body is still being read on a platform that does not allow replacing open files,
+                // the response is then served once from the temporary file without being stored
+                LOGGER.debug("Could not store response in the cache: " + e.getMessage(), e);
+                return new Entry(hash, status, reasonPhrase, entry.m_headers, entry.m_storedAt, temp, true);
+            }
+            writeMeta(entry);
+            evict(hash);
+        }
+        return entry;
+    }
+
+    /**
+     * Refreshes a stored entry after the server confirmed with {@code 304 Not Modified} that it is still valid. The
+     * headers of the {@code 304} response replace the stored ones, except for those describing the body encoding.
+     *
+     * @param entry the revalidated entry
+     * @param headers the headers of the {@code 304} response
+     * @return the updated entry
+     * @throws IOException if the entry could not be written
+     */
+    public synchronized Entry update(final Entry entry, final MultivaluedMap<String, String> headers)
+        throws IOException {
+        final var merged = new MultivaluedHashMap<String, String>();
+        entry.m_headers.forEach((name, values) -> {
+            if (NON_UPDATABLE_HEADERS.contains(name) || getHeader(headers, name) == null) {
+                merged.put(name, values);
+            }
+        });
+        headers.forEach((name, values) -> {
+            if (!NON_UPDATABLE_HEADERS.contains(name)) {
+                merged.put(name, values);
+            }
+        });
+        final var updated = new Entry(entry.m_hash, entry.m_status, entry.m_reasonPhrase, merged,
+            System.currentTimeMillis(), entry.m_body);
+        writeMeta(updated);
+        return updated;
+    }
+
+    private void writeMeta(final Entry entry) throws IOException {
+        final var properties = new Properties();
+        properties.setProperty(STATUS, Integer.toString(entry.m_status));
+        if (entry.m_reasonPhrase != null) {
+            properties.setProperty(REASON, entry.m_reasonPhrase);
+        }
+        properties.setProperty(STORED_AT, Long.toString(entry.m_storedAt));
+        var i = 0;
+        for (final var header : entry.m_headers.entrySet()) {
+            for (final var value : header.getValue()) {
+                properties.setProperty(HEADER_NAME.formatted(i), header.getKey());
+                properties.setProperty(HEADER_VALUE.formatted(i), value == null ? "" : value);
+                i++;
+            }
+        }
+        final var temp = Files.createTempFile(m_directory, entry.m_hash, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        move(temp, m_directory.resolve(entry.m_hash + META_SUFFIX));
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) { // NOSONAR fall back to a non-atomic move
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the total size is below the maximum.
+     *
+     * @param keep hash of the entry which must not be removed (the one just stored)
+     */
+    private void evict(final String keep) throws IOException {
+        record Usage(String hash, long size, long lastUsed) {
+        }
+        final List<Usage> usages = new ArrayList<>();
+        var total = 0L;
+        try (var files = Files.list(m_directory)) {
+            for (final var meta : (Iterable<Path>)files.filter(p -> p.toString().endsWith(META_SUFFIX))::iterator) {
+                final var fileName = meta.getFileName().toString();
+                final var hash = fileName.substring(0, fileName.length() - META_SUFFIX.length());
+                try {
+                    final var body = m_directory.resolve(hash + BODY_SUFFIX);
+                    final var size = Files.size(meta) + (Files.exists(body) ? Files.size(body) : 0L);
+                    usages.add(new Usage(hash, size, Files.getLastModifiedTime(meta).toMillis()));
+                    total += size;
+                } catch (NoSuchFileException e) { // NOSONAR removed concurrently
+                }
+            }
+        }
+        if (total <= m_maxSize) {
+            return;
+        }
+        usages.sort(Comparator.comparingLong(Usage::lastUsed));
+        for (final var usage : usages) {
+            if (total <= m_maxSize) {
+                break;
+            }
+            if (!usage.hash().equals(keep)) {
+                remove(usage.hash());
+                total -= usage.size();
+            }
+        }
+    }
+
+    private void remove(final String hash) {
+        try {
+            Files.deleteIfExists(m_directory.resolve(hash + META_SUFFIX));
+            Files.deleteIfExists(m_directory.resolve(hash + BODY_SUFFIX));
+        } catch (IOException e) {
+            LOGGER.debug("Could not remove cached response: " + e.getMessage(), e);
+        }
+    }
+
+    private static String hash(final String key) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Returns the value of a header, ignoring the case of its name. Multiple values are joined by commas.
+     *
+     * @param headers the headers
+     * @param name the header name
+     * @return the value or {@code null} if the header is absent
+     */
+    static String getHeader(final MultivaluedMap<String, String> headers, final String name) {
+        List<String> values = null;
+        for (final var header : headers.entrySet()) {
+            if (header.getKey() != null && header.getKey().equalsIgnoreCase(name) && header.getValue() != null) {
+                if (values == null) {
+                    values = new ArrayList<>();
+                }
+                values.addAll(header.getValue());
+            }
+        }
+        return values == null ? null : String.join(",", values);
+    }
+
+    /**
+     * @param value an HTTP date, may be {@code null}
+     * @return the parsed date, empty if absent or malformed
+     */
+    static Optional<Instant> parseDate(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+        } catch (DateTimeParseException e) { // NOSONAR malformed dates are treated as absent
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param headers the response headers
+     * @return the freshness lifetime in seconds, 0 if the response is stale immediately
+     */
+    private static long freshnessLifetime(final MultivaluedMap<String, String> headers) {
+        final var cacheControl = CacheControl.parse(getHeader(headers, HttpHeaders.CACHE_CONTROL));
+        if (cacheControl.containsKey("no-cache")) {
+            return 0;
+        }
+        final var maxAge = CacheControl.seconds(cacheControl, "max-age");
+        if (maxAge >= 0) {
+            return maxAge;
+        }
+        final var expires = getHeader(headers, HttpHeaders.EXPIRES);
+        if (expires == null) {
+            return 0;
+        }
+        final var date = parseDate(getHeader(headers, HttpHeaders.DATE)).orElseGet(Instant::now);
+        // invalid dates (e.g. "0") mean "already expired"
+        return parseDate(expires).map(e -> Math.max(0, e.getEpochSecond() - date.getEpochSecond())).orElse(0L);
+    }
+
+    /**
+     * Parsing of {@code Cache-Control} header values.
+     */
+    private static final class CacheControl {
+
+        private CacheControl() {
+            // utility class
+        }
+
+        /**
+         * @param value the header value, may be {@code null}
+         * @return the directives with their (unquoted) arguments, {@code null} for directives without argument
+         */
+        static Map<String, String> parse(final String value) {
+            final Map<String, String> directives = new LinkedHashMap<>();
+            if (value == null) {
+                return directives;
+            }
+            for (final var directive : value.split(",")) {
+                final var parts = directive.split("=", 2);
+                final var name = parts[0].trim().toLowerCase(Locale.ROOT);
+                if (!name.isEmpty()) {
+                    directives.put(name, parts.length > 1 ? StringUtils.strip(parts[1].trim(), "\"") : null);
+                }
+            }
+            return directives;
+        }
+
+        /**
+         * @param directives the parsed directives
+         * @param name the name of a directive with a delta-seconds argument
+         * @return the argument, -1 if absent or malformed
+         */
+        static long seconds(final Map<String, String> directives, final String name) {
+            try {
+                return Math.max(0, Long.parseLong(directives.get(name)));
+            } catch (NumberFormatException e) { // NOSONAR treat as absent
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * A response stored in the cache.
+     */
+    public static final class Entry {
+
+        private final String m_hash;
+
+        private final int m_status;
+
+        private final String m_reasonPhrase;
+
+        private final MultivaluedMap<String, String> m_headers;
+
+        private final long m_storedAt;
+
+        private final Path m_body;
+
+        private final boolean m_temporary;
+
+        private Entry(final String hash, final int status, final String reasonPhrase,
+            final MultivaluedMap<String, String> headers, final long storedAt, final Path body) {
+            this(hash, status, reasonPhrase, headers, storedAt, body, false);
+        }
+
+        private Entry(final String hash, final int status, final String reasonPhrase, // NOSONAR
+            final MultivaluedMap<String, String> headers, final long storedAt, final Path body,
+            final boolean temporary) {
+            m_hash = hash;
+            m_status = status;
+            m_reasonPhrase = reasonPhrase;
+            m_headers = headers;
+            m_storedAt = storedAt;
+            m_body = body;
+            m_temporary = temporary;
+        }
+
+        /**
+         * @param now the current time in milliseconds
+         * @return the age of the response in seconds, including the {@code Age} reported by the server
+         */
+        private long age(final long now) {
+            var initialAge = 0L;
+            try {
+                initialAge = Math.max(0, Long.parseLong(StringUtils.trim(getHeader(m_headers, "Age"))));
+            } catch (NumberFormatException e) { // NOSONAR no or malformed Age header
+            }
+            return initialAge + Math.max(0, now - m_storedAt) / 1000;
+        }
+
+        /**
+         * Checks whether the entry can be used without contacting the server, i.e. it is fresh or stale for less
+         * than the {@code stale-while-revalidate} period.
+         *
+         * @param now the current time in milliseconds
+         * @return whether the entry can be used as is
+         */
+        public boolean isUsable(final long now) {
+            final var age = age(now);
+            final var lifetime = freshnessLifetime(m_headers);
+            if (age < lifetime) {
+                return true;
+            }
+            final var cacheControl = CacheControl.parse(getHeader(m_headers, HttpHeaders.CACHE_CONTROL));
+            if (cacheControl.containsKey("must-revalidate") || cacheControl.containsKey("no-cache")) {
+                return false;
+            }
+            return age < lifetime + Math.max(0, CacheControl.seconds(cacheControl, "stale-while-revalidate"));
+        }
+
+        /**
+         * @return the headers to add to a request for revalidating this entry, empty if it has no validators
+         */
+        public Map<String, String> getConditionalHeaders() {
+            final Map<String, String> conditional = new LinkedHashMap<>();
+            final var etag = getHeader(m_headers, HttpHeaders.ETAG);
+            if (etag != null) {
+                conditional.put(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            final var lastModified = getHeader(m_headers, HttpHeaders.LAST_MODIFIED);
+            if (lastModified != null) {
+                conditional.put(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+            return conditional;
+        }
+
+        /**
+         * Creates a response serving the stored status, headers and body. The response must be closed after use.
+         *
+         * @return the response
+         * @throws IOException if the stored body cannot be read, e.g. because the entry was evicted meanwhile
+         */
+        @SuppressWarnings("resource") // closed by the response
+        public Response toResponse() throws IOException {
+            final var entity = Files.newInputStream(m_body);
+            return new CachedResponse(m_status, m_reasonPhrase, new MultivaluedHashMap<>(m_headers), entity,
+                Files.size(m_body), m_temporary ? m_body : null);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.node.parameters.widget.choices.Label;
+
+/**
+ * The types of the columns the REST client nodes extract values of JSON response bodies into.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public enum JSONFieldType {
+        /** Strings and numbers as text, objects and arrays as JSON text. */
+        @Label(value = "String", description = "Any value; objects and arrays are output as JSON text.")
+        STRING(StringCell.TYPE),
+        /** Integral numbers within the range of an integer. */
+        @Label(value = "Number (Integer)", description = "Integral numbers, also if they are quoted.")
+        INT(IntCell.TYPE),
+        /** Integral numbers within the range of a long. */
+        @Label(value = "Number (Long)", description = "Large integral numbers, also if they are quoted.")
+        LONG(LongCell.TYPE),
+        /** Any number. */
+        @Label(value = "Number (Double)", description = "Any numbers, also if they are quoted.")
+        DOUBLE(DoubleCell.TYPE),
+        /** The literals {@code true} and {@code false}. */
+        @Label(value = "Boolean", description = """
+                The literals <tt>true</tt> and <tt>false</tt>, also if they are quoted.
+                """)
+        BOOLEAN(BooleanCell.TYPE);
+
+    private final DataType m_dataType;
+
+    JSONFieldType(final DataType dataType) {
+        m_dataType = dataType;
+    }
+
+    /**
+     * @return the type of the output column
+     */
+    public DataType getDataType() {
+        return m_dataType;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG): created
+ */
+package org.knime.rest.util;
+
+import org.knime.node.parameters.widget.choices.Label;
+
+/**
+ * Describes how the REST client nodes request the following pages of a paginated response.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public enum PaginationMode {
+        /** Only the first page is requested. */
+        @Label(value = "None", description = "Only one request is sent per row.")
+        NONE,
+        /** Follows the {@code Link} header with {@code rel="next"} (RFC 8288, formerly RFC 5988). */
+        @Label(value = "Link header", description = """
+                The URL of the next page is taken from the <tt>Link</tt> response header with
+                <tt>rel="next"</tt>.
+                """)
+        LINK_HEADER,
+        /** Sends a cursor token taken from the response body as query parameter. */
+        @Label(value = "Cursor", description = """
+                A cursor token is taken from the JSON response body and sent as query parameter of the next request.
+                """)
+        CURSOR,
+        /** Increments an offset query parameter by the page size. */
+        @Label(value = "Offset", description = """
+                An offset query parameter is incremented by the page size, which is sent as limit parameter.
+                """)
+        OFFSET,
+        /** Increments a page number query parameter. */
+        @Label(value = "Page number", description = "A page number query parameter is incremented by one.")
+        PAGE_NUMBER;
+
+    /**
+     * @return the name of the query parameter used if none is configured, {@code null} if the mode does not use a
+     *         query parameter
+     */
+    public String getDefaultParameter() {
+        return switch (this) {
+            case CURSOR -> "cursor";
+            case OFFSET -> "offset";
+            case PAGE_NUMBER -> "page";
+            default -> null;
+        };
+    }
+}